@@ -0,0 +1,64 @@
+package com.accounting.benchmarks;
+
+import com.accounting.model.Currency;
+import com.accounting.service.CurrencyService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CurrencyConversionBenchmark {
+
+    private CurrencyService currencyService;
+    private Currency usd;
+    private Currency eur;
+    private Currency jpy;
+    private final BigDecimal amount = new BigDecimal("12345.67");
+
+    @Setup
+    public void setUp() {
+        currencyService = new CurrencyService(null, null);
+        usd = currency(1L, "USD", BigDecimal.ONE, true);
+        eur = currency(2L, "EUR", new BigDecimal("0.921500"), false);
+        jpy = currency(3L, "JPY", new BigDecimal("149.870000"), false);
+    }
+
+    private Currency currency(Long id, String code, BigDecimal rate, boolean isBase) {
+        Currency currency = new Currency();
+        currency.setId(id);
+        currency.setCode(code);
+        currency.setExchangeRate(rate);
+        currency.setIsBase(isBase);
+        return currency;
+    }
+
+    @Benchmark
+    public BigDecimal convertCrossRate() {
+        return currencyService.convert(amount, eur, jpy);
+    }
+
+    @Benchmark
+    public BigDecimal convertSameCurrency() {
+        return currencyService.convert(amount, usd, usd);
+    }
+
+    @Benchmark
+    public BigDecimal convertToBase() {
+        return currencyService.convertToBase(amount, eur);
+    }
+}
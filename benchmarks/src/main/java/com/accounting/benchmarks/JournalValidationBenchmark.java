@@ -0,0 +1,64 @@
+package com.accounting.benchmarks;
+
+import com.accounting.model.Account;
+import com.accounting.model.AccountType;
+import com.accounting.model.JournalEntry;
+import com.accounting.model.JournalEntryLine;
+import com.accounting.service.JournalService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JournalValidationBenchmark {
+
+    @Param({"2", "20", "200"})
+    private int lines;
+
+    private JournalService journalService;
+    private JournalEntry entry;
+
+    @Setup
+    public void setUp() {
+        journalService = new JournalService(null, null, null, null, null, null);
+
+        Account debitAccount = LedgerFixture.account(1L, "5000", "Rent Expense", AccountType.EXPENSE);
+        Account creditAccount = LedgerFixture.account(2L, "1000", "Cash", AccountType.ASSET);
+
+        entry = new JournalEntry();
+        for (int i = 0; i < lines / 2; i++) {
+            BigDecimal amount = BigDecimal.valueOf(100 + i, 2);
+            JournalEntryLine debit = new JournalEntryLine();
+            debit.setAccount(debitAccount);
+            debit.setDebitAmount(amount);
+            entry.addLine(debit);
+
+            JournalEntryLine credit = new JournalEntryLine();
+            credit.setAccount(creditAccount);
+            credit.setCreditAmount(amount);
+            entry.addLine(credit);
+        }
+    }
+
+    @Benchmark
+    public JournalEntry validateEntry() {
+        journalService.validateEntry(entry);
+        return entry;
+    }
+}
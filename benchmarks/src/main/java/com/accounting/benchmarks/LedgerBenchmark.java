@@ -0,0 +1,103 @@
+package com.accounting.benchmarks;
+
+import com.accounting.dto.LedgerDTO;
+import com.accounting.model.Account;
+import com.accounting.model.AccountType;
+import com.accounting.model.EntryStatus;
+import com.accounting.model.JournalEntry;
+import com.accounting.model.JournalEntryLine;
+import com.accounting.repository.AccountRepository;
+import com.accounting.repository.JournalEntryLineRepository;
+import com.accounting.service.LedgerArchiveService;
+import com.accounting.service.LedgerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LedgerBenchmark {
+
+    @Param({"1000", "100000"})
+    private int postings;
+
+    private LedgerService ledgerService;
+    private final LocalDate startDate = LocalDate.of(2026, 1, 1);
+    private final LocalDate endDate = LocalDate.of(2026, 12, 31);
+
+    @Setup
+    public void setUp() {
+        Account cash = LedgerFixture.account(1L, "1000", "Cash", AccountType.ASSET);
+        List<JournalEntryLine> ledgerLines = new ArrayList<>(postings);
+        Random random = new Random(42);
+        for (int i = 0; i < postings; i++) {
+            JournalEntry entry = new JournalEntry();
+            entry.setId((long) i);
+            entry.setEntryNumber(String.format("JE-%08d", i));
+            entry.setEntryDate(startDate.plusDays(i % 365));
+            entry.setDescription("Synthetic entry " + i);
+            entry.setStatus(EntryStatus.POSTED);
+
+            JournalEntryLine line = new JournalEntryLine();
+            line.setJournalEntry(entry);
+            line.setAccount(cash);
+            BigDecimal amount = BigDecimal.valueOf(random.nextInt(1_000_000) + 1, 2);
+            if (random.nextBoolean()) {
+                line.setDebitAmount(amount);
+            } else {
+                line.setCreditAmount(amount);
+            }
+            ledgerLines.add(line);
+        }
+
+        AccountRepository accountRepository = stub(AccountRepository.class, (method, args) ->
+                "findById".equals(method) ? Optional.of(cash) : null);
+        JournalEntryLineRepository lineRepository = stub(JournalEntryLineRepository.class, (method, args) -> switch (method) {
+            case "findByAccountIdAndPostedBetweenDates" -> ledgerLines;
+            case "sumDebitByAccountIdBeforeDate", "sumCreditByAccountIdBeforeDate" -> BigDecimal.ZERO;
+            default -> null;
+        });
+        LedgerArchiveService noArchive = new LedgerArchiveService(null, null, null, "target/archive") {
+            @Override
+            public LocalDate getArchivedThrough() {
+                return null;
+            }
+        };
+        ledgerService = new LedgerService(accountRepository, lineRepository, null, noArchive);
+    }
+
+    @Benchmark
+    public LedgerDTO generateLedger() {
+        return ledgerService.generateLedger(1L, startDate, endDate);
+    }
+
+    private interface Answer {
+        Object answer(String method, Object[] args);
+    }
+
+    private static <T> T stub(Class<T> type, Answer answer) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> answer.answer(method.getName(), args)));
+    }
+}
@@ -0,0 +1,102 @@
+package com.accounting.benchmarks;
+
+import com.accounting.model.Account;
+import com.accounting.model.AccountType;
+import com.accounting.service.LedgerEventService;
+import com.accounting.service.ProjectionService;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class LedgerFixture {
+
+    static final int ACCOUNTS_PER_TYPE = 40;
+    static final int BATCH_SIZE = 10_000;
+    static final LocalDate FIRST_DATE = LocalDate.now().minusYears(3).withDayOfYear(1);
+
+    public static Account account(Long id, String code, String name, AccountType type) {
+        Account account = new Account();
+        account.setId(id);
+        account.setCode(code);
+        account.setName(name);
+        account.setAccountType(type);
+        account.setIsActive(true);
+        return account;
+    }
+
+    public static void seed(ApplicationContext context, long lines) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM journal_entry_lines", Long.class);
+        if (existing != null && existing == lines) {
+            return;
+        }
+        jdbcTemplate.update("DELETE FROM ledger_events");
+        jdbcTemplate.update("DELETE FROM journal_entry_lines");
+        jdbcTemplate.update("DELETE FROM journal_entries");
+        jdbcTemplate.update("DELETE FROM accounts");
+
+        List<Long> accountIds = seedAccounts(jdbcTemplate);
+        seedEntries(jdbcTemplate, accountIds, lines / 2);
+
+        // The dashboard reads projections, so the entries need their events and a replay like any bulk load
+        context.getBean(LedgerEventService.class).appendLoaded(0, 0);
+        context.getBean(ProjectionService.class).rebuildAll();
+    }
+
+    private static List<Long> seedAccounts(JdbcTemplate jdbcTemplate) {
+        List<Object[]> rows = new ArrayList<>();
+        List<Long> ids = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long id = 1;
+        for (AccountType type : AccountType.values()) {
+            int base = (type.ordinal() + 1) * 1000;
+            for (int i = 0; i < ACCOUNTS_PER_TYPE; i++) {
+                rows.add(new Object[]{id, String.valueOf(base + i * 10), type.getDisplayName() + " " + i,
+                        type.name(), true, now});
+                ids.add(id++);
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO accounts (id, code, name, account_type, is_active, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", rows);
+        return ids;
+    }
+
+    private static void seedEntries(JdbcTemplate jdbcTemplate, List<Long> accountIds, long entries) {
+        Random random = new Random(42);
+        int days = (int) (LocalDate.now().toEpochDay() - FIRST_DATE.toEpochDay());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> entryRows = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> lineRows = new ArrayList<>(BATCH_SIZE * 2);
+        long lineId = 1;
+        for (long entryId = 1; entryId <= entries; entryId++) {
+            Date entryDate = Date.valueOf(FIRST_DATE.plusDays(random.nextInt(days + 1)));
+            BigDecimal amount = BigDecimal.valueOf(random.nextInt(1_000_000) + 1, 2);
+            long debitAccount = accountIds.get(random.nextInt(accountIds.size()));
+            long creditAccount = accountIds.get(random.nextInt(accountIds.size()));
+
+            entryRows.add(new Object[]{entryId, String.format("JE-%010d", entryId), entryDate,
+                    "Synthetic entry", "POSTED", now, now});
+            lineRows.add(new Object[]{lineId++, entryId, debitAccount, amount, BigDecimal.ZERO, entryDate});
+            lineRows.add(new Object[]{lineId++, entryId, creditAccount, BigDecimal.ZERO, amount, entryDate});
+
+            if (entryRows.size() == BATCH_SIZE || entryId == entries) {
+                jdbcTemplate.batchUpdate("INSERT INTO journal_entries " +
+                        "(id, entry_number, entry_date, description, status, created_at, posted_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?)", entryRows);
+                jdbcTemplate.batchUpdate("INSERT INTO journal_entry_lines " +
+                        "(id, journal_entry_id, account_id, debit_amount, credit_amount, exchange_rate, " +
+                        "entry_date, posted) VALUES (?, ?, ?, ?, ?, 1, ?, TRUE)", lineRows);
+                entryRows.clear();
+                lineRows.clear();
+            }
+        }
+    }
+}
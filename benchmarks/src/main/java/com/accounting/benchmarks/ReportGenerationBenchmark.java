@@ -0,0 +1,83 @@
+package com.accounting.benchmarks;
+
+import com.accounting.AccountingApplication;
+import com.accounting.dto.BalanceSheetDTO;
+import com.accounting.dto.DashboardDTO;
+import com.accounting.dto.ProfitLossDTO;
+import com.accounting.dto.TrialBalanceDTO;
+import com.accounting.service.ReportService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ReportGenerationBenchmark {
+
+    @Param({"10000", "1000000", "10000000"})
+    private long ledgerLines;
+
+    private ConfigurableApplicationContext context;
+    private ReportService reportService;
+    private final LocalDate today = LocalDate.now();
+    private final LocalDate startOfYear = LocalDate.now().withDayOfYear(1);
+
+    @Setup
+    public void setUp() {
+        Path database = Path.of("target", "benchmark-db", "ledger-" + ledgerLines).toAbsolutePath();
+        context = new SpringApplicationBuilder(AccountingApplication.class)
+                .run("--spring.datasource.url=jdbc:h2:file:" + database + ";DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.h2.console.enabled=false",
+                        "--spring.main.banner-mode=off",
+                        "--server.port=0",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.springframework.security=WARN",
+                        "--logging.level.com.accounting=WARN");
+        LedgerFixture.seed(context, ledgerLines);
+        reportService = context.getBean(ReportService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TrialBalanceDTO trialBalance() {
+        return reportService.generateTrialBalance(today);
+    }
+
+    @Benchmark
+    public ProfitLossDTO profitLoss() {
+        return reportService.generateProfitLoss(startOfYear, today);
+    }
+
+    @Benchmark
+    public BalanceSheetDTO balanceSheet() {
+        return reportService.generateBalanceSheet(today);
+    }
+
+    @Benchmark
+    public DashboardDTO dashboard() {
+        return reportService.generateDashboard();
+    }
+}
@@ -0,0 +1,116 @@
+package com.accounting.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StartupBenchmark {
+
+    private static final Duration TIMEOUT = Duration.ofMinutes(3);
+    // The prod profile refuses to start without a shared token key; any 32 bytes will do here
+    private static final String JWT_SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+
+    @Param({"jar", "aot", "aot-cds"})
+    private String mode;
+
+    private Path appDirectory;
+    private Path database;
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    @Setup
+    public void setUp() {
+        appDirectory = Path.of(System.getProperty("startup.app", "../target/app")).toAbsolutePath().normalize();
+        if (!Files.exists(appDirectory.resolve("application.jar")) || !Files.exists(appDirectory.resolve("application.jsa"))) {
+            throw new IllegalStateException("Build the application with mvn -Pprod package first: " + appDirectory);
+        }
+        // Shared by every run, so only the first one migrates and the rest boot against an existing schema
+        database = Path.of("target", "benchmark-db", "startup").toAbsolutePath();
+    }
+
+    @Benchmark
+    public int timeToFirstRequest() throws Exception {
+        int port = freePort();
+        Process process = new ProcessBuilder(command(port))
+                .directory(appDirectory.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            return awaitFirstResponse(process, port);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private List<String> command(int port) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (mode.equals("aot-cds")) {
+            command.add("-XX:SharedArchiveFile=application.jsa");
+        }
+        if (!mode.equals("jar")) {
+            command.add("-Dspring.aot.enabled=true");
+        }
+        command.addAll(List.of("-jar", "application.jar",
+                "--spring.profiles.active=prod",
+                "--spring.datasource.url=jdbc:h2:file:" + database + ";DB_CLOSE_ON_EXIT=FALSE",
+                "--server.port=" + port,
+                "--accounting.archive.directory=" + database.resolveSibling("startup-archive"),
+                "--accounting.security.jwt.secret=" + JWT_SECRET));
+        return command;
+    }
+
+    private int awaitFirstResponse(Process process, int port) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/login")).GET().build();
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with " + process.exitValue() + " before serving a request");
+            }
+            try {
+                return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (ConnectException e) {
+                Thread.sleep(10);
+            }
+        }
+        throw new IllegalStateException("No response within " + TIMEOUT);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.accounting.benchmarks;
+
+import com.accounting.dto.TrialBalanceDTO;
+import com.accounting.model.AccountType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrialBalanceBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int accounts;
+
+    private String[] codes;
+    private AccountType[] types;
+    private BigDecimal[] balances;
+    private final LocalDate asOfDate = LocalDate.of(2026, 12, 31);
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        AccountType[] allTypes = AccountType.values();
+        codes = new String[accounts];
+        types = new AccountType[accounts];
+        balances = new BigDecimal[accounts];
+        for (int i = 0; i < accounts; i++) {
+            codes[i] = String.valueOf(10000 + i);
+            types[i] = allTypes[i % allTypes.length];
+            balances[i] = BigDecimal.valueOf(random.nextInt(2_000_000) - 500_000, 2);
+        }
+    }
+
+    @Benchmark
+    public TrialBalanceDTO buildTrialBalance() {
+        TrialBalanceDTO trialBalance = new TrialBalanceDTO();
+        trialBalance.setAsOfDate(asOfDate);
+        for (int i = 0; i < accounts; i++) {
+            trialBalance.addLine(new TrialBalanceDTO.TrialBalanceLineDTO(
+                    (long) i, codes[i], codes[i], types[i], balances[i]));
+        }
+        return trialBalance;
+    }
+}
@@ -15,7 +15,7 @@ import java.util.Map;
 @Slf4j
 public class AccountApiClient extends BaseApiClient {
 
-    private static final String ACCOUNTS_PATH = "/api/accounts";
+    private static final String ACCOUNTS_PATH = API_PATH + "/accounts";
     private static final String ACCOUNTS_WEB_PATH = "/accounts";
 
     // API Endpoints (JSON)
@@ -32,7 +32,9 @@ public class AccountApiClient extends BaseApiClient {
     }
 
     public Response getAccountsByType(String type) {
-        return get(ACCOUNTS_PATH + "/type/" + type);
+        Map<String, String> params = new HashMap<>();
+        params.put("type", type);
+        return get(ACCOUNTS_PATH, params);
     }
 
     public Response createAccount(AccountDTO account) {
@@ -43,10 +45,6 @@ public class AccountApiClient extends BaseApiClient {
         return put(ACCOUNTS_PATH + "/" + id, account);
     }
 
-    public Response deleteAccount(Long id) {
-        return delete(ACCOUNTS_PATH + "/" + id);
-    }
-
     public Response activateAccount(Long id) {
         return post(ACCOUNTS_PATH + "/" + id + "/activate", null);
     }
@@ -20,6 +20,7 @@ public class AuthApiClient extends BaseApiClient {
     private static final String LOGIN_PATH = "/login";
     private static final String LOGOUT_PATH = "/logout";
     private static final String DASHBOARD_PATH = "/dashboard";
+    private static final String TOKEN_PATH = "/api/auth/token";
 
     private String sessionCookie;
     private String csrfToken;
@@ -81,6 +82,32 @@ public class AuthApiClient extends BaseApiClient {
         return response;
     }
 
+    public Response requestToken(String username, String password) {
+        log.info("Requesting API token for: {}", username);
+
+        Map<String, String> body = new HashMap<>();
+        body.put("username", username);
+        body.put("password", password);
+
+        Response response = RestAssured.given()
+                .baseUri(BASE_URL)
+                .contentType(ContentType.JSON)
+                .accept(ContentType.JSON)
+                .body(body)
+                .when()
+                .post(TOKEN_PATH)
+                .then()
+                .extract()
+                .response();
+
+        if (response.getStatusCode() == 200) {
+            setSharedAccessToken(response.jsonPath().getString("accessToken"));
+        } else {
+            log.warn("Token request failed with status: {}", response.getStatusCode());
+        }
+        return response;
+    }
+
     private String extractCsrfToken(String html) {
         // Pattern to match CSRF token in hidden input field
         Pattern pattern = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
@@ -22,6 +22,9 @@ public abstract class BaseApiClient {
     // Shared session cookie for authenticated requests
     private static String sharedSessionCookie;
 
+    // Shared bearer token for /api requests
+    private static String sharedAccessToken;
+
     public static void setSharedSessionCookie(String cookie) {
         sharedSessionCookie = cookie;
     }
@@ -30,12 +33,20 @@ public abstract class BaseApiClient {
         return sharedSessionCookie;
     }
 
+    public static void setSharedAccessToken(String token) {
+        sharedAccessToken = token;
+    }
+
+    public static String getSharedAccessToken() {
+        return sharedAccessToken;
+    }
+
     protected RequestSpecification given() {
-        return RestAssured.given()
+        RequestSpecification spec = RestAssured.given()
                 .baseUri(BASE_URL)
                 .contentType(ContentType.JSON)
-                .accept(ContentType.JSON)
-                .log().all();
+                .accept(ContentType.JSON);
+        return logRequest(spec);
     }
 
     protected RequestSpecification givenAuthenticated() {
@@ -43,14 +54,17 @@ public abstract class BaseApiClient {
         if (sharedSessionCookie != null && !sharedSessionCookie.isEmpty()) {
             spec.cookie("JSESSIONID", sharedSessionCookie);
         }
+        if (sharedAccessToken != null && !sharedAccessToken.isEmpty()) {
+            spec.header("Authorization", "Bearer " + sharedAccessToken);
+        }
         return spec;
     }
 
     protected RequestSpecification givenForm() {
-        return RestAssured.given()
+        RequestSpecification spec = RestAssured.given()
                 .baseUri(BASE_URL)
-                .contentType(ContentType.URLENC)
-                .log().all();
+                .contentType(ContentType.URLENC);
+        return logRequest(spec);
     }
 
     protected RequestSpecification givenFormAuthenticated() {
@@ -61,91 +75,92 @@ public abstract class BaseApiClient {
         return spec;
     }
 
+    // Request/response logging follows log.requests and log.responses so load runs can switch it off
+    private RequestSpecification logRequest(RequestSpecification spec) {
+        return TestConfig.isRequestLoggingEnabled() ? spec.log().all() : spec;
+    }
+
+    private Response logResponse(Response response) {
+        if (TestConfig.isResponseLoggingEnabled()) {
+            response.then().log().all();
+        }
+        return response;
+    }
+
     // GET request
     protected Response get(String path) {
-        log.info("GET request to: {}", path);
-        return givenAuthenticated()
+        if (TestConfig.isRequestLoggingEnabled()) {
+            log.info("GET request to: {}", path);
+        }
+        return logResponse(givenAuthenticated()
                 .when()
-                .get(path)
-                .then()
-                .log().all()
-                .extract()
-                .response();
+                .get(path));
     }
 
     protected Response get(String path, Map<String, ?> queryParams) {
-        log.info("GET request to: {} with params: {}", path, queryParams);
-        return givenAuthenticated()
+        if (TestConfig.isRequestLoggingEnabled()) {
+            log.info("GET request to: {} with params: {}", path, queryParams);
+        }
+        return logResponse(givenAuthenticated()
                 .queryParams(queryParams)
                 .when()
-                .get(path)
-                .then()
-                .log().all()
-                .extract()
-                .response();
+                .get(path));
     }
 
     // POST request with JSON body
     protected Response post(String path, Object body) {
-        log.info("POST request to: {} with body: {}", path, body);
-        return givenAuthenticated()
-                .body(body)
+        if (TestConfig.isRequestLoggingEnabled()) {
+            log.info("POST request to: {} with body: {}", path, body);
+        }
+        RequestSpecification spec = givenAuthenticated();
+        if (body != null) {
+            spec.body(body);
+        }
+        return logResponse(spec
                 .when()
-                .post(path)
-                .then()
-                .log().all()
-                .extract()
-                .response();
+                .post(path));
     }
 
     // POST request with form data
     protected Response postForm(String path, Map<String, ?> formParams) {
-        log.info("POST form request to: {} with params: {}", path, formParams);
-        return givenFormAuthenticated()
+        if (TestConfig.isRequestLoggingEnabled()) {
+            log.info("POST form request to: {} with params: {}", path, formParams);
+        }
+        return logResponse(givenFormAuthenticated()
                 .formParams(formParams)
                 .when()
-                .post(path)
-                .then()
-                .log().all()
-                .extract()
-                .response();
+                .post(path));
     }
 
     // PUT request
     protected Response put(String path, Object body) {
-        log.info("PUT request to: {} with body: {}", path, body);
-        return givenAuthenticated()
+        if (TestConfig.isRequestLoggingEnabled()) {
+            log.info("PUT request to: {} with body: {}", path, body);
+        }
+        return logResponse(givenAuthenticated()
                 .body(body)
                 .when()
-                .put(path)
-                .then()
-                .log().all()
-                .extract()
-                .response();
+                .put(path));
     }
 
     // DELETE request
     protected Response delete(String path) {
-        log.info("DELETE request to: {}", path);
-        return givenAuthenticated()
+        if (TestConfig.isRequestLoggingEnabled()) {
+            log.info("DELETE request to: {}", path);
+        }
+        return logResponse(givenAuthenticated()
                 .when()
-                .delete(path)
-                .then()
-                .log().all()
-                .extract()
-                .response();
+                .delete(path));
     }
 
     // PATCH request
     protected Response patch(String path, Object body) {
-        log.info("PATCH request to: {} with body: {}", path, body);
-        return givenAuthenticated()
+        if (TestConfig.isRequestLoggingEnabled()) {
+            log.info("PATCH request to: {} with body: {}", path, body);
+        }
+        return logResponse(givenAuthenticated()
                 .body(body)
                 .when()
-                .patch(path)
-                .then()
-                .log().all()
-                .extract()
-                .response();
+                .patch(path));
     }
 }
\ No newline at end of file
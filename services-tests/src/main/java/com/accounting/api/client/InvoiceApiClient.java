@@ -16,7 +16,8 @@ import java.util.Map;
 @Slf4j
 public class InvoiceApiClient extends BaseApiClient {
 
-    private static final String INVOICES_API_PATH = "/api/invoices";
+    private static final String INVOICES_API_PATH = API_PATH + "/invoices";
+    private static final String CUSTOMERS_API_PATH = API_PATH + "/customers";
     private static final String INVOICES_WEB_PATH = "/invoices";
 
     // API Endpoints (JSON)
@@ -48,10 +49,6 @@ public class InvoiceApiClient extends BaseApiClient {
         return put(INVOICES_API_PATH + "/" + id, invoice);
     }
 
-    public Response deleteInvoice(Long id) {
-        return delete(INVOICES_API_PATH + "/" + id);
-    }
-
     public Response sendInvoice(Long id) {
         return post(INVOICES_API_PATH + "/" + id + "/send", null);
     }
@@ -68,15 +65,15 @@ public class InvoiceApiClient extends BaseApiClient {
 
     // Customer endpoints
     public Response getAllCustomers() {
-        return get(INVOICES_API_PATH + "/customers");
+        return get(CUSTOMERS_API_PATH);
     }
 
     public Response getCustomerById(Long id) {
-        return get(INVOICES_API_PATH + "/customers/" + id);
+        return get(CUSTOMERS_API_PATH + "/" + id);
     }
 
     public Response createCustomer(Map<String, Object> customer) {
-        return post(INVOICES_API_PATH + "/customers", customer);
+        return post(CUSTOMERS_API_PATH, customer);
     }
 
     // Web Endpoints
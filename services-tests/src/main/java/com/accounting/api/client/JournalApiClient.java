@@ -15,7 +15,7 @@ import java.util.Map;
 @Slf4j
 public class JournalApiClient extends BaseApiClient {
 
-    private static final String JOURNAL_API_PATH = "/api/journal";
+    private static final String JOURNAL_API_PATH = API_PATH + "/journal";
     private static final String JOURNAL_WEB_PATH = "/journal";
 
     // API Endpoints (JSON)
@@ -15,7 +15,7 @@ import java.util.Map;
 @Slf4j
 public class ReportApiClient extends BaseApiClient {
 
-    private static final String REPORTS_API_PATH = "/api/reports";
+    private static final String REPORTS_API_PATH = API_PATH + "/reports";
     private static final String REPORTS_WEB_PATH = "/reports";
 
     // API Endpoints (JSON)
@@ -47,7 +47,7 @@ public class TestConfig {
     }
 
     public static String getApiBasePath() {
-        return getProperty("api.base.path", "/api");
+        return getProperty("api.base.path", "/api/v1");
     }
 
     public static String getUsername() {
@@ -66,6 +66,14 @@ public class TestConfig {
         return Integer.parseInt(getProperty("read.timeout", "30000"));
     }
 
+    public static boolean isRequestLoggingEnabled() {
+        return Boolean.parseBoolean(getProperty("log.requests", "true"));
+    }
+
+    public static boolean isResponseLoggingEnabled() {
+        return Boolean.parseBoolean(getProperty("log.responses", "true"));
+    }
+
     public static String getProperty(String key) {
         return properties.getProperty(key);
     }
@@ -0,0 +1,52 @@
+package com.accounting.api.load;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+
+/**
+ * Latency and throughput summary for one endpoint
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class EndpointStats {
+
+    private String endpoint;
+    private long requests;
+    private long errors;
+    private double throughput;
+    private double p50Ms;
+    private double p95Ms;
+    private double p99Ms;
+    private double maxMs;
+
+    public static EndpointStats of(String endpoint, Histogram histogram, long errors, Duration elapsed) {
+        double seconds = Math.max(elapsed.toNanos() / 1_000_000_000.0, 0.001);
+        return EndpointStats.builder()
+                .endpoint(endpoint)
+                .requests(histogram.getTotalCount())
+                .errors(errors)
+                .throughput(round(histogram.getTotalCount() / seconds))
+                .p50Ms(toMillis(histogram.getValueAtPercentile(50)))
+                .p95Ms(toMillis(histogram.getValueAtPercentile(95)))
+                .p99Ms(toMillis(histogram.getValueAtPercentile(99)))
+                .maxMs(toMillis(histogram.getMaxValue()))
+                .build();
+    }
+
+    private static double toMillis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,51 @@
+package com.accounting.api.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms (microsecond resolution) and error counts
+ */
+public class LatencyRecorder {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long latencyNanos, boolean success) {
+        long micros = Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(latencyNanos), 1), MAX_LATENCY_MICROS);
+        histograms.computeIfAbsent(endpoint, key -> new ConcurrentHistogram(MAX_LATENCY_MICROS, 3))
+                .recordValue(micros);
+        if (!success) {
+            errors.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+        }
+    }
+
+    public Map<String, EndpointStats> snapshot(Duration elapsed) {
+        Map<String, EndpointStats> stats = new TreeMap<>();
+        Histogram total = new Histogram(MAX_LATENCY_MICROS, 3);
+        long totalErrors = 0;
+        for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+            Histogram histogram = entry.getValue().copy();
+            long endpointErrors = errors.containsKey(entry.getKey()) ? errors.get(entry.getKey()).sum() : 0;
+            stats.put(entry.getKey(), EndpointStats.of(entry.getKey(), histogram, endpointErrors, elapsed));
+            total.add(histogram);
+            totalErrors += endpointErrors;
+        }
+        stats.put(LoadReport.ALL_ENDPOINTS, EndpointStats.of(LoadReport.ALL_ENDPOINTS, total, totalErrors, elapsed));
+        return stats;
+    }
+
+    public void reset() {
+        histograms.clear();
+        errors.clear();
+    }
+}
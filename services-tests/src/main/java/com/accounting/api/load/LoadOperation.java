@@ -0,0 +1,44 @@
+package com.accounting.api.load;
+
+import java.util.Arrays;
+
+/**
+ * Load Test Operations
+ * One entry per endpoint the load suite can drive, keyed by the name used in load.mix
+ */
+public enum LoadOperation {
+
+    CREATE_ENTRY("create-entry", "POST /journal"),
+    POST_ENTRY("post-entry", "POST /journal/{id}/post"),
+    LIST_ENTRIES("list-entries", "GET /journal"),
+    CREATE_INVOICE("create-invoice", "POST /invoices"),
+    SEND_INVOICE("send-invoice", "POST /invoices/{id}/send"),
+    LIST_ACCOUNTS("list-accounts", "GET /accounts"),
+    TRIAL_BALANCE("trial-balance", "GET /reports/trial-balance"),
+    PROFIT_LOSS("profit-loss", "GET /reports/profit-loss"),
+    BALANCE_SHEET("balance-sheet", "GET /reports/balance-sheet"),
+    GENERAL_LEDGER("general-ledger", "GET /reports/general-ledger");
+
+    private final String key;
+    private final String endpoint;
+
+    LoadOperation(String key, String endpoint) {
+        this.key = key;
+        this.endpoint = endpoint;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public static LoadOperation fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.key.equals(key.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown load operation: " + key));
+    }
+}
@@ -0,0 +1,75 @@
+package com.accounting.api.load;
+
+import com.accounting.api.config.TestConfig;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load Test Profile
+ * Number of clients, target request rate, run length, request mix and regression thresholds
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadProfile {
+
+    private static final String DEFAULT_MIX = "create-entry:25,post-entry:15,list-entries:10,create-invoice:10,"
+            + "send-invoice:5,list-accounts:10,trial-balance:10,profit-loss:5,balance-sheet:5,general-ledger:5";
+
+    // Concurrent closed-loop clients; each waits for its response before issuing the next request
+    private int users;
+
+    // Combined request rate across all clients; 0 runs every client flat out
+    private double targetRps;
+
+    private Duration warmup;
+    private Duration duration;
+    private Map<LoadOperation, Integer> mix;
+
+    // Allowed regression against the baseline, as a fraction of the baseline value
+    private double p95Tolerance;
+    private double p99Tolerance;
+    private double throughputTolerance;
+
+    // Latency growth below this many milliseconds is never reported as a regression
+    private double minRegressionMs;
+
+    public static LoadProfile fromConfig() {
+        return LoadProfile.builder()
+                .users(Integer.parseInt(TestConfig.getProperty("load.users", "4")))
+                .targetRps(Double.parseDouble(TestConfig.getProperty("load.target-rps", "10")))
+                .warmup(Duration.parse(TestConfig.getProperty("load.warmup", "PT15S")))
+                .duration(Duration.parse(TestConfig.getProperty("load.duration", "PT60S")))
+                .mix(parseMix(TestConfig.getProperty("load.mix", DEFAULT_MIX)))
+                .p95Tolerance(Double.parseDouble(TestConfig.getProperty("load.tolerance.p95", "0.25")))
+                .p99Tolerance(Double.parseDouble(TestConfig.getProperty("load.tolerance.p99", "0.50")))
+                .throughputTolerance(Double.parseDouble(TestConfig.getProperty("load.tolerance.throughput", "0.10")))
+                .minRegressionMs(Double.parseDouble(TestConfig.getProperty("load.tolerance.min-ms", "5")))
+                .build();
+    }
+
+    public static Map<LoadOperation, Integer> parseMix(String mix) {
+        Map<LoadOperation, Integer> weights = new EnumMap<>(LoadOperation.class);
+        for (String entry : mix.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.split(":");
+            int weight = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1;
+            if (weight > 0) {
+                weights.put(LoadOperation.fromKey(parts[0]), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Load mix has no operations: " + mix);
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,93 @@
+package com.accounting.api.load;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Load Test Report
+ * Results of one load run, stored as JSON and compared against a baseline run
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class LoadReport {
+
+    public static final String ALL_ENDPOINTS = "ALL";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private String baseUrl;
+    private int users;
+    private double targetRps;
+    private long durationSeconds;
+    private Map<String, EndpointStats> endpoints;
+
+    public EndpointStats total() {
+        return endpoints.get(ALL_ENDPOINTS);
+    }
+
+    public List<String> regressionsAgainst(LoadReport baseline, LoadProfile profile) {
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, EndpointStats> entry : baseline.getEndpoints().entrySet()) {
+            EndpointStats expected = entry.getValue();
+            EndpointStats actual = endpoints.get(entry.getKey());
+            if (actual == null || actual.getRequests() == 0) {
+                continue;
+            }
+            checkLatency(regressions, entry.getKey(), "p95", expected.getP95Ms(), actual.getP95Ms(),
+                    profile.getP95Tolerance(), profile.getMinRegressionMs());
+            checkLatency(regressions, entry.getKey(), "p99", expected.getP99Ms(), actual.getP99Ms(),
+                    profile.getP99Tolerance(), profile.getMinRegressionMs());
+            double minThroughput = expected.getThroughput() * (1 - profile.getThroughputTolerance());
+            if (entry.getKey().equals(ALL_ENDPOINTS) && actual.getThroughput() < minThroughput) {
+                regressions.add(String.format("%s throughput %.2f req/s is below %.2f req/s (baseline %.2f req/s)",
+                        entry.getKey(), actual.getThroughput(), minThroughput, expected.getThroughput()));
+            }
+        }
+        return regressions;
+    }
+
+    private void checkLatency(List<String> regressions, String endpoint, String percentile, double expectedMs,
+                              double actualMs, double tolerance, double minRegressionMs) {
+        double limit = Math.max(expectedMs * (1 + tolerance), expectedMs + minRegressionMs);
+        if (actualMs > limit) {
+            regressions.add(String.format("%s %s %.2f ms exceeds %.2f ms (baseline %.2f ms)",
+                    endpoint, percentile, actualMs, limit, expectedMs));
+        }
+    }
+
+    public String summary() {
+        StringBuilder summary = new StringBuilder(String.format("%-32s %8s %6s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        endpoints.values().forEach(stats -> summary.append(String.format("%-32s %8d %6d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                stats.getEndpoint(), stats.getRequests(), stats.getErrors(), stats.getThroughput(),
+                stats.getP50Ms(), stats.getP95Ms(), stats.getP99Ms(), stats.getMaxMs())));
+        return summary.toString();
+    }
+
+    public void write(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        MAPPER.writeValue(path.toFile(), this);
+    }
+
+    public static LoadReport read(InputStream input) throws IOException {
+        return MAPPER.readValue(input, LoadReport.class);
+    }
+}
@@ -0,0 +1,212 @@
+package com.accounting.api.load;
+
+import com.accounting.api.client.AccountApiClient;
+import com.accounting.api.client.InvoiceApiClient;
+import com.accounting.api.client.JournalApiClient;
+import com.accounting.api.client.ReportApiClient;
+import com.accounting.api.config.TestConfig;
+import com.accounting.api.model.InvoiceDTO;
+import com.accounting.api.model.JournalEntryDTO;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load Runner
+ * Drives a weighted mix of API calls from a fixed number of closed-loop clients paced to a target rate.
+ * Latency is measured from each request's scheduled start, so time spent queued behind a slow
+ * response counts against the endpoint instead of silently lowering the request rate.
+ */
+@Slf4j
+public class LoadRunner {
+
+    private static final String DEBIT_ACCOUNT = "5200";
+    private static final String CREDIT_ACCOUNT = "1000";
+
+    private final LoadProfile profile;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final AccountApiClient accountClient = new AccountApiClient();
+    private final JournalApiClient journalClient = new JournalApiClient();
+    private final InvoiceApiClient invoiceClient = new InvoiceApiClient();
+    private final ReportApiClient reportClient = new ReportApiClient();
+
+    private final Queue<Long> draftEntries = new ConcurrentLinkedQueue<>();
+    private final Queue<Long> draftInvoices = new ConcurrentLinkedQueue<>();
+    private final LoadOperation[] operations;
+    private final int[] cumulativeWeights;
+
+    private Long customerId;
+    private Long ledgerAccountId;
+
+    public LoadRunner(LoadProfile profile) {
+        this.profile = profile;
+        this.operations = profile.getMix().keySet().toArray(new LoadOperation[0]);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += profile.getMix().get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    public LoadReport run() throws Exception {
+        prepare();
+        if (!profile.getWarmup().isZero()) {
+            log.info("Warming up for {}", profile.getWarmup());
+            runPhase(profile.getWarmup());
+            recorder.reset();
+        }
+        log.info("Running {} clients at {} req/s for {}", profile.getUsers(), profile.getTargetRps(), profile.getDuration());
+        long started = System.nanoTime();
+        runPhase(profile.getDuration());
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        return LoadReport.builder()
+                .baseUrl(TestConfig.getBaseUrl())
+                .users(profile.getUsers())
+                .targetRps(profile.getTargetRps())
+                .durationSeconds(elapsed.toSeconds())
+                .endpoints(recorder.snapshot(elapsed))
+                .build();
+    }
+
+    private void prepare() {
+        Response account = accountClient.getAccountByCode(CREDIT_ACCOUNT);
+        if (account.getStatusCode() != 200) {
+            throw new IllegalStateException("Account " + CREDIT_ACCOUNT + " is missing; start the app with the default data");
+        }
+        ledgerAccountId = account.jsonPath().getLong("id");
+
+        Map<String, Object> customer = new HashMap<>();
+        customer.put("code", "LOAD" + System.currentTimeMillis() % 100_000_000L);
+        customer.put("name", "Load Test Customer");
+        Response created = invoiceClient.createCustomer(customer);
+        if (created.getStatusCode() != 201) {
+            throw new IllegalStateException("Could not create load test customer: " + created.getStatusCode());
+        }
+        customerId = created.jsonPath().getLong("id");
+    }
+
+    private void runPhase(Duration length) throws Exception {
+        int users = profile.getUsers();
+        long intervalNanos = profile.getTargetRps() > 0 ? (long) (users * 1_000_000_000L / profile.getTargetRps()) : 0;
+        long phaseStart = System.nanoTime();
+        long phaseEnd = phaseStart + length.toNanos();
+
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        try {
+            List<Future<?>> clients = new ArrayList<>();
+            for (int i = 0; i < users; i++) {
+                long firstStart = phaseStart + (intervalNanos * i) / users;
+                clients.add(executor.submit(() -> runClient(firstStart, intervalNanos, phaseEnd)));
+            }
+            for (Future<?> client : clients) {
+                client.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void runClient(long firstStart, long intervalNanos, long phaseEnd) {
+        long scheduled = firstStart;
+        while (scheduled < phaseEnd) {
+            long now = System.nanoTime();
+            if (intervalNanos > 0 && scheduled > now) {
+                LockSupport.parkNanos(scheduled - now);
+            }
+            long start = intervalNanos > 0 ? scheduled : System.nanoTime();
+            LoadOperation operation = nextOperation();
+            Long draftId = null;
+            if (operation == LoadOperation.POST_ENTRY) {
+                draftId = draftEntries.poll();
+                operation = draftId != null ? operation : LoadOperation.CREATE_ENTRY;
+            } else if (operation == LoadOperation.SEND_INVOICE) {
+                draftId = draftInvoices.poll();
+                operation = draftId != null ? operation : LoadOperation.CREATE_INVOICE;
+            }
+            boolean success;
+            try {
+                success = execute(operation, draftId);
+            } catch (RuntimeException e) {
+                log.debug("{} failed", operation.getEndpoint(), e);
+                success = false;
+            }
+            recorder.record(operation.getEndpoint(), System.nanoTime() - start, success);
+            scheduled = intervalNanos > 0 ? scheduled + intervalNanos : System.nanoTime();
+        }
+    }
+
+    private LoadOperation nextOperation() {
+        int pick = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private boolean execute(LoadOperation operation, Long draftId) {
+        LocalDate today = LocalDate.now();
+        return switch (operation) {
+            case CREATE_ENTRY -> createEntry();
+            case POST_ENTRY -> isSuccess(journalClient.postEntry(draftId));
+            case LIST_ENTRIES -> isSuccess(journalClient.getAllEntries());
+            case CREATE_INVOICE -> createInvoice();
+            case SEND_INVOICE -> isSuccess(invoiceClient.sendInvoice(draftId));
+            case LIST_ACCOUNTS -> isSuccess(accountClient.getAllAccounts());
+            case TRIAL_BALANCE -> isSuccess(reportClient.getTrialBalance(today));
+            case PROFIT_LOSS -> isSuccess(reportClient.getProfitLoss(today.withDayOfYear(1), today));
+            case BALANCE_SHEET -> isSuccess(reportClient.getBalanceSheet(today));
+            case GENERAL_LEDGER -> isSuccess(reportClient.getGeneralLedger(ledgerAccountId, today.withDayOfMonth(1), today));
+        };
+    }
+
+    private boolean createEntry() {
+        BigDecimal amount = BigDecimal.valueOf(ThreadLocalRandom.current().nextInt(100, 100_000), 2);
+        Response response = journalClient.createEntry(
+                JournalEntryDTO.createSimpleEntry("Load test entry", DEBIT_ACCOUNT, CREDIT_ACCOUNT, amount));
+        if (response.getStatusCode() == 201) {
+            draftEntries.add(response.jsonPath().getLong("id"));
+        }
+        return isSuccess(response);
+    }
+
+    private boolean createInvoice() {
+        InvoiceDTO invoice = InvoiceDTO.builder()
+                .customerId(customerId)
+                .invoiceDate(LocalDate.now())
+                .dueDate(LocalDate.now().plusDays(30))
+                .build();
+        invoice.addItem(InvoiceDTO.InvoiceItemDTO.builder()
+                .description("Load test service")
+                .quantity(ThreadLocalRandom.current().nextInt(1, 10))
+                .unitPrice(BigDecimal.valueOf(ThreadLocalRandom.current().nextInt(1_000, 50_000), 2))
+                .build());
+        Response response = invoiceClient.createInvoice(invoice);
+        if (response.getStatusCode() == 201) {
+            draftInvoices.add(response.jsonPath().getLong("id"));
+        }
+        return isSuccess(response);
+    }
+
+    private boolean isSuccess(Response response) {
+        int status = response.getStatusCode();
+        return (status >= 200 && status < 300) || status == 304;
+    }
+}
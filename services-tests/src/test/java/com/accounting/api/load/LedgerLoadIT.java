@@ -0,0 +1,67 @@
+package com.accounting.api.load;
+
+import com.accounting.api.client.AuthApiClient;
+import com.accounting.api.config.TestConfig;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Ledger Load Test
+ *
+ * Run against a started app with: mvn verify -Pload
+ * Refresh the stored baseline with: mvn verify -Pload -Dload.update-baseline=true
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "load", matches = "true")
+@DisplayName("Ledger Load Test")
+class LedgerLoadIT {
+
+    private static final String BASELINE_RESOURCE = "load/baseline.json";
+    private static final Path BASELINE_SOURCE = Path.of("src/test/resources", BASELINE_RESOURCE);
+    private static final Path REPORT_PATH = Path.of("target/load/load-report.json");
+
+    @Test
+    @DisplayName("Mixed data entry and reporting load stays within the baseline")
+    void mixedLoad_StaysWithinBaseline() throws Exception {
+        Response token = new AuthApiClient().requestToken(TestConfig.getUsername(), TestConfig.getPassword());
+        assertThat(token.getStatusCode()).as("token request").isEqualTo(200);
+
+        LoadProfile profile = LoadProfile.fromConfig();
+        LoadReport report = new LoadRunner(profile).run();
+        report.write(REPORT_PATH);
+        log.info("Load results ({}):\n{}", REPORT_PATH, report.summary());
+
+        assertThat(report.total().getRequests()).as("requests completed").isPositive();
+        assertThat(report.total().getErrors()).as("failed requests").isZero();
+
+        if (Boolean.parseBoolean(TestConfig.getProperty("load.update-baseline", "false"))) {
+            report.write(BASELINE_SOURCE);
+            log.info("Baseline updated: {}", BASELINE_SOURCE);
+            return;
+        }
+
+        try (InputStream input = getClass().getClassLoader().getResourceAsStream(BASELINE_RESOURCE)) {
+            if (input == null) {
+                log.warn("No baseline at {}; run with -Dload.update-baseline=true to record one", BASELINE_RESOURCE);
+                return;
+            }
+            LoadReport baseline = LoadReport.read(input);
+            if (baseline.getUsers() != profile.getUsers() || baseline.getTargetRps() != profile.getTargetRps()) {
+                log.warn("Baseline was recorded with {} users at {} req/s; skipping comparison",
+                        baseline.getUsers(), baseline.getTargetRps());
+                return;
+            }
+            List<String> regressions = report.regressionsAgainst(baseline, profile);
+            assertThat(regressions).as("regressions against %s", BASELINE_RESOURCE).isEmpty();
+        }
+    }
+}
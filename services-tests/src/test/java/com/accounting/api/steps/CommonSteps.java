@@ -54,12 +54,14 @@ public class CommonSteps {
                 .isTrue();
         // Share session cookie with all API clients
         BaseApiClient.setSharedSessionCookie(authClient.getSessionCookie());
-        log.info("Authenticated as admin, session shared");
+        authClient.requestToken(TestConfig.getUsername(), TestConfig.getPassword());
+        log.info("Authenticated as admin, session and API token shared");
     }
 
     @Given("I am not authenticated")
     public void iAmNotAuthenticated() {
         authClient.clearSession();
+        BaseApiClient.setSharedAccessToken(null);
         assertThat(authClient.isLoggedIn())
                 .as("Should not be logged in")
                 .isFalse();
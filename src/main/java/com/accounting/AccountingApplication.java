@@ -1,9 +1,12 @@
 package com.accounting;
 
+import com.accounting.config.AccountingRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(AccountingRuntimeHints.class)
 public class AccountingApplication {
 
     public static void main(String[] args) {
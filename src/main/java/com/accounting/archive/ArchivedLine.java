@@ -0,0 +1,23 @@
+package com.accounting.archive;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public final class ArchivedLine {
+
+    private final long id;
+    private final long journalEntryId;
+    private final long accountId;
+    private final LocalDate entryDate;
+    private final BigDecimal debitAmount;
+    private final BigDecimal creditAmount;
+    private final Long currencyId;
+    private final BigDecimal exchangeRate;
+    private final Long customerId;
+    private final String description;
+}
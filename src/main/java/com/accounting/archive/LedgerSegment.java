@@ -0,0 +1,314 @@
+package com.accounting.archive;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+public final class LedgerSegment {
+
+    static final int MAGIC = 0x4C534547;
+    static final int VERSION = 1;
+    static final int BLOCK_ROWS = 4096;
+    static final int RATE_SCALE = 6;
+    static final long NULL = Long.MIN_VALUE;
+    static final int TRAILER_LENGTH = 12;
+    static final int ID = 0, ENTRY = 1, DAY = 2, DEBIT = 3, CREDIT = 4, CURRENCY = 5, RATE = 6, CUSTOMER = 7,
+            DESCRIPTION = 8, COLUMN_COUNT = 9;
+    static final int BLOCK_ENTRY_LENGTH = 8 + COLUMN_COUNT * 16;
+    static final int ACCOUNT_ENTRY_LENGTH = 40;
+    private static final long MAX_REGION = 1L << 30;
+
+    private final Path path;
+    private final long fiscalYearId;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final int rowCount;
+    private final int blockRows;
+
+    private final int[] blockMinDay;
+    private final int[] blockMaxDay;
+    private final long[] columnOffsets;
+    private final int[] columnLengths;
+    private final int[] rawLengths;
+    private final MappedByteBuffer[] regions;
+    private final long[] regionStarts;
+    private final int[] blockRegions;
+
+    private final long[] accountIds;
+    private final int[] accountFirstRows;
+    private final int[] accountRows;
+    private final int[] accountFirstDays;
+    private final int[] accountLastDays;
+    private final long[] accountDebits;
+    private final long[] accountCredits;
+
+    private LedgerSegment(Path path, FileChannel channel) throws IOException {
+        this.path = path;
+        long size = channel.size();
+        if (size < TRAILER_LENGTH) {
+            throw new IllegalStateException("Archive segment " + path + " is truncated");
+        }
+        ByteBuffer trailer = channel.map(FileChannel.MapMode.READ_ONLY, size - TRAILER_LENGTH, TRAILER_LENGTH);
+        long footerOffset = trailer.getLong();
+        if (trailer.getInt() != MAGIC || footerOffset < 0 || footerOffset > size - TRAILER_LENGTH) {
+            throw new IllegalStateException(path + " is not an archive segment");
+        }
+        ByteBuffer footer = channel.map(FileChannel.MapMode.READ_ONLY, footerOffset, size - TRAILER_LENGTH - footerOffset);
+        if (footer.getInt() != MAGIC || footer.getInt() != VERSION) {
+            throw new IllegalStateException("Unsupported archive segment version in " + path);
+        }
+        fiscalYearId = footer.getLong();
+        startDate = LocalDate.ofEpochDay(footer.getInt());
+        endDate = LocalDate.ofEpochDay(footer.getInt());
+        rowCount = footer.getInt();
+        blockRows = footer.getInt();
+        int blockCount = footer.getInt();
+        int accountCount = footer.getInt();
+
+        blockMinDay = new int[blockCount];
+        blockMaxDay = new int[blockCount];
+        columnOffsets = new long[blockCount * COLUMN_COUNT];
+        columnLengths = new int[blockCount * COLUMN_COUNT];
+        rawLengths = new int[blockCount * COLUMN_COUNT];
+        for (int b = 0; b < blockCount; b++) {
+            blockMinDay[b] = footer.getInt();
+            blockMaxDay[b] = footer.getInt();
+            for (int c = 0; c < COLUMN_COUNT; c++) {
+                int index = b * COLUMN_COUNT + c;
+                columnOffsets[index] = footer.getLong();
+                columnLengths[index] = footer.getInt();
+                rawLengths[index] = footer.getInt();
+            }
+        }
+
+        accountIds = new long[accountCount];
+        accountFirstRows = new int[accountCount];
+        accountRows = new int[accountCount];
+        accountFirstDays = new int[accountCount];
+        accountLastDays = new int[accountCount];
+        accountDebits = new long[accountCount];
+        accountCredits = new long[accountCount];
+        for (int a = 0; a < accountCount; a++) {
+            accountIds[a] = footer.getLong();
+            accountFirstRows[a] = footer.getInt();
+            accountRows[a] = footer.getInt();
+            accountFirstDays[a] = footer.getInt();
+            accountLastDays[a] = footer.getInt();
+            accountDebits[a] = footer.getLong();
+            accountCredits[a] = footer.getLong();
+        }
+
+        blockRegions = new int[blockCount];
+        List<MappedByteBuffer> mapped = new ArrayList<>();
+        List<Long> starts = new ArrayList<>();
+        long regionStart = 0;
+        long regionEnd = 0;
+        for (int b = 0; b < blockCount; b++) {
+            long blockStart = columnOffsets[b * COLUMN_COUNT];
+            int last = b * COLUMN_COUNT + COLUMN_COUNT - 1;
+            long blockEnd = columnOffsets[last] + columnLengths[last];
+            if (b > 0 && blockEnd - regionStart > MAX_REGION) {
+                mapped.add(channel.map(FileChannel.MapMode.READ_ONLY, regionStart, regionEnd - regionStart));
+                starts.add(regionStart);
+                regionStart = blockStart;
+            }
+            regionEnd = blockEnd;
+            blockRegions[b] = mapped.size();
+        }
+        if (blockCount > 0) {
+            mapped.add(channel.map(FileChannel.MapMode.READ_ONLY, regionStart, regionEnd - regionStart));
+            starts.add(regionStart);
+        }
+        regions = mapped.toArray(new MappedByteBuffer[0]);
+        regionStarts = starts.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    public static LedgerSegment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new LedgerSegment(path, channel);
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public long getFiscalYearId() {
+        return fiscalYearId;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public void sum(long accountId, LocalDate from, LocalDate to, Totals totals) {
+        int a = Arrays.binarySearch(accountIds, accountId);
+        int fromDay = (int) from.toEpochDay();
+        int toDay = (int) to.toEpochDay();
+        if (a < 0 || accountLastDays[a] < fromDay || accountFirstDays[a] > toDay) {
+            return;
+        }
+        if (fromDay <= accountFirstDays[a] && accountLastDays[a] <= toDay) {
+            totals.add(accountDebits[a], accountCredits[a]);
+            return;
+        }
+
+        int first = accountFirstRows[a];
+        int end = first + accountRows[a];
+        for (int b = first / blockRows; b * blockRows < end; b++) {
+            if (blockMaxDay[b] < fromDay || blockMinDay[b] > toDay) {
+                continue;
+            }
+            ByteBuffer days = column(b, DAY);
+            ByteBuffer debits = column(b, DEBIT);
+            ByteBuffer credits = column(b, CREDIT);
+            int base = b * blockRows;
+            for (int i = Math.max(first, base) - base, hi = Math.min(end, base + blockRows) - base; i < hi; i++) {
+                int day = days.getInt(i * Integer.BYTES);
+                if (day >= fromDay && day <= toDay) {
+                    totals.add(debits.getLong(i * Long.BYTES), credits.getLong(i * Long.BYTES));
+                }
+            }
+        }
+    }
+
+    public void scan(long accountId, LocalDate from, LocalDate to, Consumer<ArchivedLine> visitor) {
+        int a = Arrays.binarySearch(accountIds, accountId);
+        int fromDay = (int) from.toEpochDay();
+        int toDay = (int) to.toEpochDay();
+        if (a < 0 || accountLastDays[a] < fromDay || accountFirstDays[a] > toDay) {
+            return;
+        }
+        scanRows(accountFirstRows[a], accountFirstRows[a] + accountRows[a], fromDay, toDay, visitor);
+    }
+
+    public void scanAll(Consumer<ArchivedLine> visitor) {
+        scanRows(0, rowCount, Integer.MIN_VALUE, Integer.MAX_VALUE, visitor);
+    }
+
+    private void scanRows(int first, int end, int fromDay, int toDay, Consumer<ArchivedLine> visitor) {
+        int account = accountIndex(first);
+        for (int b = first / blockRows; b * blockRows < end; b++) {
+            if (blockMaxDay[b] < fromDay || blockMinDay[b] > toDay) {
+                continue;
+            }
+            ByteBuffer ids = column(b, ID);
+            ByteBuffer entries = column(b, ENTRY);
+            ByteBuffer days = column(b, DAY);
+            ByteBuffer debits = column(b, DEBIT);
+            ByteBuffer credits = column(b, CREDIT);
+            ByteBuffer currencies = column(b, CURRENCY);
+            ByteBuffer rates = column(b, RATE);
+            ByteBuffer customers = column(b, CUSTOMER);
+            ByteBuffer descriptions = column(b, DESCRIPTION);
+            int base = b * blockRows;
+            int hi = Math.min(end, base + blockRows) - base;
+            for (int i = 0; i < hi; i++) {
+                int length = descriptions.getInt();
+                String description = null;
+                if (length >= 0) {
+                    byte[] bytes = new byte[length];
+                    descriptions.get(bytes);
+                    description = new String(bytes, StandardCharsets.UTF_8);
+                }
+                int row = base + i;
+                int day = days.getInt(i * Integer.BYTES);
+                if (row < first || day < fromDay || day > toDay) {
+                    continue;
+                }
+                while (row >= accountFirstRows[account] + accountRows[account]) {
+                    account++;
+                }
+                visitor.accept(new ArchivedLine(
+                        ids.getLong(i * Long.BYTES),
+                        entries.getLong(i * Long.BYTES),
+                        accountIds[account],
+                        LocalDate.ofEpochDay(day),
+                        BigDecimal.valueOf(debits.getLong(i * Long.BYTES), 2),
+                        BigDecimal.valueOf(credits.getLong(i * Long.BYTES), 2),
+                        nullable(currencies.getLong(i * Long.BYTES)),
+                        rates.getLong(i * Long.BYTES) != NULL ? BigDecimal.valueOf(rates.getLong(i * Long.BYTES), RATE_SCALE) : null,
+                        nullable(customers.getLong(i * Long.BYTES)),
+                        description));
+            }
+        }
+    }
+
+    private int accountIndex(int row) {
+        int low = 0;
+        int high = accountFirstRows.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (accountFirstRows[mid] <= row) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private ByteBuffer column(int block, int column) {
+        int index = block * COLUMN_COUNT + column;
+        int region = blockRegions[block];
+        ByteBuffer compressed = regions[region].slice((int) (columnOffsets[index] - regionStarts[region]), columnLengths[index]);
+        ByteBuffer raw = ByteBuffer.allocate(rawLengths[index]);
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            while (raw.hasRemaining()) {
+                if (inflater.inflate(raw) == 0 && (inflater.finished() || inflater.needsInput())) {
+                    throw new IllegalStateException("Truncated column in archive segment " + path);
+                }
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt archive segment " + path, e);
+        } finally {
+            inflater.end();
+        }
+        return raw.flip();
+    }
+
+    private static Long nullable(long value) {
+        return value != NULL ? value : null;
+    }
+
+    public static final class Totals {
+
+        private long debitCents;
+        private long creditCents;
+
+        void add(long debit, long credit) {
+            debitCents += debit;
+            creditCents += credit;
+        }
+
+        public BigDecimal getDebitAmount() {
+            return BigDecimal.valueOf(debitCents, 2);
+        }
+
+        public BigDecimal getCreditAmount() {
+            return BigDecimal.valueOf(creditCents, 2);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.accounting.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+import static com.accounting.archive.LedgerSegment.*;
+
+public final class LedgerSegmentWriter implements Closeable {
+
+    private final FileChannel channel;
+    private final Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+    private final byte[] chunk = new byte[64 * 1024];
+    private final long fiscalYearId;
+    private final int startDay;
+    private final int endDay;
+
+    private final long[] ids = new long[BLOCK_ROWS];
+    private final long[] entryIds = new long[BLOCK_ROWS];
+    private final int[] days = new int[BLOCK_ROWS];
+    private final long[] debits = new long[BLOCK_ROWS];
+    private final long[] credits = new long[BLOCK_ROWS];
+    private final long[] currencyIds = new long[BLOCK_ROWS];
+    private final long[] rates = new long[BLOCK_ROWS];
+    private final long[] customerIds = new long[BLOCK_ROWS];
+    private final byte[][] descriptions = new byte[BLOCK_ROWS][];
+    private int blockSize;
+
+    private ByteBuffer blocks = ByteBuffer.allocate(1024);
+    private int blockCount;
+    private ByteBuffer accounts = ByteBuffer.allocate(1024);
+    private int accountCount;
+
+    private long position;
+    private int rowCount;
+    private long accountId = Long.MIN_VALUE;
+    private int accountFirstRow;
+    private int accountFirstDay;
+    private int accountLastDay;
+    private long accountDebit;
+    private long accountCredit;
+
+    public LedgerSegmentWriter(Path file, long fiscalYearId, LocalDate startDate, LocalDate endDate) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        this.fiscalYearId = fiscalYearId;
+        this.startDay = (int) startDate.toEpochDay();
+        this.endDay = (int) endDate.toEpochDay();
+    }
+
+    public void append(ArchivedLine line) throws IOException {
+        int day = (int) line.getEntryDate().toEpochDay();
+        if (day < startDay || day > endDay) {
+            throw new IllegalArgumentException("Line " + line.getId() + " dated " + line.getEntryDate()
+                    + " is outside the segment");
+        }
+        if (line.getAccountId() != accountId) {
+            if (line.getAccountId() < accountId) {
+                throw new IllegalArgumentException("Lines must be appended in account order");
+            }
+            endAccount();
+            accountId = line.getAccountId();
+            accountFirstRow = rowCount;
+            accountFirstDay = day;
+        } else if (day < accountLastDay) {
+            throw new IllegalArgumentException("Lines must be appended in date order within an account");
+        }
+
+        long debit = cents(line.getDebitAmount());
+        long credit = cents(line.getCreditAmount());
+        ids[blockSize] = line.getId();
+        entryIds[blockSize] = line.getJournalEntryId();
+        days[blockSize] = day;
+        debits[blockSize] = debit;
+        credits[blockSize] = credit;
+        currencyIds[blockSize] = line.getCurrencyId() != null ? line.getCurrencyId() : NULL;
+        rates[blockSize] = line.getExchangeRate() != null
+                ? line.getExchangeRate().setScale(RATE_SCALE).unscaledValue().longValueExact()
+                : NULL;
+        customerIds[blockSize] = line.getCustomerId() != null ? line.getCustomerId() : NULL;
+        descriptions[blockSize] = line.getDescription() != null
+                ? line.getDescription().getBytes(StandardCharsets.UTF_8)
+                : null;
+
+        accountLastDay = day;
+        accountDebit += debit;
+        accountCredit += credit;
+        rowCount++;
+        if (++blockSize == BLOCK_ROWS) {
+            writeBlock();
+        }
+    }
+
+    public int finish() throws IOException {
+        endAccount();
+        if (blockSize > 0) {
+            writeBlock();
+        }
+
+        ByteBuffer footer = ByteBuffer.allocate(40 + blocks.position() + accounts.position());
+        footer.putInt(MAGIC).putInt(VERSION).putLong(fiscalYearId).putInt(startDay).putInt(endDay).putInt(rowCount)
+                .putInt(BLOCK_ROWS).putInt(blockCount).putInt(accountCount);
+        footer.put(blocks.flip()).put(accounts.flip());
+        long footerOffset = position;
+        write(footer.flip());
+        write(ByteBuffer.allocate(TRAILER_LENGTH).putLong(footerOffset).putInt(MAGIC).flip());
+        channel.force(true);
+        return rowCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        deflater.end();
+        channel.close();
+    }
+
+    private void endAccount() {
+        if (accountId == Long.MIN_VALUE) {
+            return;
+        }
+        accounts = ensure(accounts, ACCOUNT_ENTRY_LENGTH);
+        accounts.putLong(accountId).putInt(accountFirstRow).putInt(rowCount - accountFirstRow)
+                .putInt(accountFirstDay).putInt(accountLastDay).putLong(accountDebit).putLong(accountCredit);
+        accountCount++;
+        accountDebit = 0;
+        accountCredit = 0;
+    }
+
+    private void writeBlock() throws IOException {
+        int minDay = Integer.MAX_VALUE;
+        int maxDay = Integer.MIN_VALUE;
+        for (int i = 0; i < blockSize; i++) {
+            minDay = Math.min(minDay, days[i]);
+            maxDay = Math.max(maxDay, days[i]);
+        }
+        blocks = ensure(blocks, BLOCK_ENTRY_LENGTH);
+        blocks.putInt(minDay).putInt(maxDay);
+
+        writeColumn(longs(ids));
+        writeColumn(longs(entryIds));
+        ByteBuffer dayColumn = ByteBuffer.allocate(blockSize * Integer.BYTES);
+        for (int i = 0; i < blockSize; i++) {
+            dayColumn.putInt(days[i]);
+        }
+        writeColumn(dayColumn);
+        writeColumn(longs(debits));
+        writeColumn(longs(credits));
+        writeColumn(longs(currencyIds));
+        writeColumn(longs(rates));
+        writeColumn(longs(customerIds));
+        int textLength = 0;
+        for (int i = 0; i < blockSize; i++) {
+            textLength += Integer.BYTES + (descriptions[i] != null ? descriptions[i].length : 0);
+        }
+        ByteBuffer text = ByteBuffer.allocate(textLength);
+        for (int i = 0; i < blockSize; i++) {
+            text.putInt(descriptions[i] != null ? descriptions[i].length : -1);
+            if (descriptions[i] != null) {
+                text.put(descriptions[i]);
+            }
+        }
+        writeColumn(text);
+
+        Arrays.fill(descriptions, null);
+        blockSize = 0;
+        blockCount++;
+    }
+
+    private ByteBuffer longs(long[] values) {
+        ByteBuffer column = ByteBuffer.allocate(blockSize * Long.BYTES);
+        for (int i = 0; i < blockSize; i++) {
+            column.putLong(values[i]);
+        }
+        return column;
+    }
+
+    private void writeColumn(ByteBuffer raw) throws IOException {
+        int rawLength = raw.flip().remaining();
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, rawLength / 4));
+        while (!deflater.finished()) {
+            compressed.write(chunk, 0, deflater.deflate(chunk));
+        }
+        blocks.putLong(position).putInt(compressed.size()).putInt(rawLength);
+        write(ByteBuffer.wrap(compressed.toByteArray()));
+    }
+
+    private void write(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer);
+        }
+    }
+
+    private static ByteBuffer ensure(ByteBuffer buffer, int length) {
+        if (buffer.remaining() >= length) {
+            return buffer;
+        }
+        return ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + length)).put(buffer.flip());
+    }
+
+    private static long cents(BigDecimal amount) {
+        return amount == null ? 0L : amount.setScale(2).unscaledValue().longValueExact();
+    }
+}
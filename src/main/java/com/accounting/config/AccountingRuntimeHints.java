@@ -0,0 +1,86 @@
+package com.accounting.config;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+public class AccountingRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final List<String> BOUND_PACKAGES = List.of("com.accounting.model", "com.accounting.dto", "com.accounting.event");
+
+    // Utility objects behind #numbers, #temporals, #lists and friends; SpEL calls them reflectively
+    static final List<String> THYMELEAF_EXPRESSION_OBJECTS = List.of(
+            "org.thymeleaf.expression.Numbers", "org.thymeleaf.expression.Temporals",
+            "org.thymeleaf.expression.Lists", "org.thymeleaf.expression.Strings",
+            "org.thymeleaf.expression.Dates", "org.thymeleaf.expression.Bools");
+
+    // Collections the templates call size() or isEmpty() on
+    static final List<String> TEMPLATE_COLLECTIONS = List.of(
+            "java.util.ArrayList", "java.util.Collections$UnmodifiableRandomAccessList",
+            "org.hibernate.collection.spi.PersistentBag", "org.hibernate.collection.spi.PersistentSet");
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // Entities, DTOs and event payloads: Hibernate reads fields, Thymeleaf and Jackson call the Lombok accessors
+        for (Class<?> type : findTypes(classLoader)) {
+            hints.reflection().registerType(type,
+                    MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_METHODS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+            bindingRegistrar.registerReflectionHints(hints.reflection(), type);
+        }
+
+        // Instantiated by class name from hibernate.* and JCache settings
+        hints.reflection().registerType(CaffeineRegionFactory.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.reflection().registerType(CaffeineCachingProvider.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.resources().registerPattern("reference.conf");
+
+        // JDK proxies datasource-proxy wraps around every JDBC object for statement counting
+        for (Class<?> jdbcType : List.of(DataSource.class, Connection.class, Statement.class,
+                PreparedStatement.class, CallableStatement.class, ResultSet.class)) {
+            hints.proxies().registerJdkProxy(ProxyJdbcObject.class, jdbcType);
+        }
+
+        // Objects the templates reach through th:* and sec:* expressions
+        for (Class<?> type : List.of(PageImpl.class, UsernamePasswordAuthenticationToken.class, SimpleGrantedAuthority.class)) {
+            hints.reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        for (String type : THYMELEAF_EXPRESSION_OBJECTS) {
+            hints.reflection().registerType(TypeReference.of(type), MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        for (String type : TEMPLATE_COLLECTIONS) {
+            hints.reflection().registerType(TypeReference.of(type), MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+    }
+
+    private List<Class<?>> findTypes(ClassLoader classLoader) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter((reader, factory) -> true);
+        return BOUND_PACKAGES.stream()
+                .flatMap(basePackage -> scanner.findCandidateComponents(basePackage).stream())
+                .map(BeanDefinition::getBeanClassName)
+                .<Class<?>>map(className -> ClassUtils.resolveClassName(className, classLoader))
+                .toList();
+    }
+}
@@ -0,0 +1,56 @@
+package com.accounting.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+public class CaffeineRegionFactory extends JCacheRegionFactory {
+
+    static final String REGION_PREFIX = "accounting.cache.regions.";
+
+    private volatile Map<String, Object> properties = Map.of();
+
+    @Override
+    protected CacheManager resolveCacheManager(SessionFactoryOptions settings, Map<String, Object> properties) {
+        this.properties = properties;
+        // Each session factory gets its own manager so two application contexts never share a region
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        return provider.getCacheManager(URI.create("accounting:" + UUID.randomUUID()), getClassLoader(provider));
+    }
+
+    @Override
+    protected Cache<Object, Object> createCache(String regionName) {
+        String maximumSize = setting(regionName, "maximum-size");
+        if (maximumSize == null) {
+            throw new CacheException("No settings for cache region " + regionName
+                    + "; set spring.jpa.properties." + REGION_PREFIX + regionName + ".maximum-size");
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        if (Long.parseLong(maximumSize) > 0) {
+            configuration.setMaximumSize(OptionalLong.of(Long.parseLong(maximumSize)));
+        }
+        String expireAfterWrite = setting(regionName, "expire-after-write");
+        if (expireAfterWrite != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(Duration.parse(expireAfterWrite).toNanos()));
+        }
+        configuration.setStatisticsEnabled(true);
+        return getCacheManager().createCache(regionName, configuration);
+    }
+
+    private String setting(String regionName, String name) {
+        Object value = properties.get(REGION_PREFIX + regionName + "." + name);
+        return value != null ? value.toString().trim() : null;
+    }
+}
@@ -0,0 +1,63 @@
+package com.accounting.config;
+
+import com.accounting.metrics.FirstRequestFilter;
+import com.accounting.metrics.RequestStatisticsFilter;
+import com.accounting.metrics.StatementCountingListener;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)
+                        && !(bean instanceof DelegatingDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new StatementCountingListener())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestStatisticsFilter> requestStatisticsFilter(
+            MeterRegistry meterRegistry,
+            @Value("${accounting.sql.statement-budget:0}") int statementBudget,
+            @Value("${accounting.sql.repeated-statement-threshold:0}") int repeatedStatementThreshold) {
+        FilterRegistrationBean<RequestStatisticsFilter> registration = new FilterRegistrationBean<>(
+                new RequestStatisticsFilter(meterRegistry, statementBudget, repeatedStatementThreshold));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<FirstRequestFilter> firstRequestFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<FirstRequestFilter> registration = new FilterRegistrationBean<>(
+                new FirstRequestFilter(meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -1,17 +1,29 @@
 package com.accounting.config;
 
+import com.accounting.security.AuthenticationCache;
+import com.accounting.security.CachingAuthenticationProvider;
+import com.accounting.security.TokenService;
 import com.accounting.service.UserService;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.expression.WebExpressionAuthorizationManager;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
 @Configuration
@@ -31,17 +43,79 @@ SecurityConfig {
     }
 
     @Bean
-    public DaoAuthenticationProvider authenticationProvider(UserService userService) {
+    public CachingAuthenticationProvider authenticationProvider(UserService userService,
+                                                                AuthenticationCache authenticationCache) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userService);
         authProvider.setPasswordEncoder(passwordEncoder());
-        return authProvider;
+        return new CachingAuthenticationProvider(authProvider, authenticationCache);
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http, UserService userService) throws Exception {
+    public JwtDecoder jwtDecoder(TokenService tokenService, UserService userService) {
+        return tokenService.getDecoder(userService::findTokenVersion);
+    }
+
+    @Bean
+    @Order(0)
+    public SecurityFilterChain actuatorFilterChain(HttpSecurity http) throws Exception {
+        http
+            .securityMatcher(EndpointRequest.toAnyEndpoint())
+            .authorizeHttpRequests(authz -> authz
+                .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                .anyRequest().access(new WebExpressionAuthorizationManager(
+                        "hasIpAddress('127.0.0.1') or hasIpAddress('::1')"))
+            )
+            .sessionManagement(session -> session
+                .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+            )
+            .csrf(csrf -> csrf.disable());
+
+        return http.build();
+    }
+
+    @Bean
+    @Order(1)
+    public SecurityFilterChain apiFilterChain(HttpSecurity http,
+                                              CachingAuthenticationProvider authenticationProvider,
+                                              JwtDecoder jwtDecoder) throws Exception {
+        JwtGrantedAuthoritiesConverter authoritiesConverter = new JwtGrantedAuthoritiesConverter();
+        authoritiesConverter.setAuthoritiesClaimName(TokenService.ROLES_CLAIM);
+        authoritiesConverter.setAuthorityPrefix("ROLE_");
+
+        JwtAuthenticationConverter authenticationConverter = new JwtAuthenticationConverter();
+        authenticationConverter.setJwtGrantedAuthoritiesConverter(authoritiesConverter);
+
+        http
+            .securityMatcher("/api/**")
+            .authenticationProvider(authenticationProvider)
+            .authorizeHttpRequests(authz -> authz
+                .requestMatchers(HttpMethod.POST, "/api/auth/token").permitAll()
+                .requestMatchers("/api/*/users/**").hasRole("ADMIN")
+                .requestMatchers("/api/*/cache/**").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.GET, "/api/**").authenticated()
+                .anyRequest().hasAnyRole("ADMIN", "ACCOUNTANT")
+            )
+            .oauth2ResourceServer(oauth2 -> oauth2
+                .jwt(jwt -> jwt
+                    .decoder(jwtDecoder)
+                    .jwtAuthenticationConverter(authenticationConverter)
+                )
+            )
+            .sessionManagement(session -> session
+                .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+            )
+            .csrf(csrf -> csrf.disable());
+
+        return http.build();
+    }
+
+    @Bean
+    @Order(2)
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           CachingAuthenticationProvider authenticationProvider) throws Exception {
         http
-            .authenticationProvider(authenticationProvider(userService))
+            .authenticationProvider(authenticationProvider)
             .authorizeHttpRequests(authz -> authz
                 .requestMatchers("/css/**", "/js/**", "/images/**", "/webjars/**").permitAll()
                 .requestMatchers("/h2-console/**").permitAll()
@@ -50,7 +124,7 @@ SecurityConfig {
                 .requestMatchers("/journal/post/**", "/journal/void/**").hasAnyRole("ADMIN", "ACCOUNTANT")
                 .requestMatchers("/journal/new", "/journal/edit/**").hasAnyRole("ADMIN", "ACCOUNTANT")
                 .requestMatchers("/accounts/new", "/accounts/edit/**", "/accounts/delete/**").hasAnyRole("ADMIN", "ACCOUNTANT")
-                .requestMatchers("/invoices/new", "/invoices/edit/**").hasAnyRole("ADMIN", "ACCOUNTANT")
+                .requestMatchers("/invoices/new", "/invoices/edit/**", "/invoices/billing-run").hasAnyRole("ADMIN", "ACCOUNTANT")
                 .requestMatchers("/bank/**").hasAnyRole("ADMIN", "ACCOUNTANT")
                 .anyRequest().authenticated()
             )
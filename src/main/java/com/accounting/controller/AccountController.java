@@ -5,6 +5,8 @@ import com.accounting.model.AccountType;
 import com.accounting.service.AccountService;
 import com.accounting.service.CurrencyService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
@@ -21,16 +23,22 @@ public class AccountController {
     private final CurrencyService currencyService;
 
     @GetMapping
-    public String listAccounts(Model model) {
-        model.addAttribute("accounts", accountService.findAllActive());
+    public String listAccounts(@RequestParam(defaultValue = "0") int page,
+                               @RequestParam(defaultValue = "50") int size,
+                               Model model) {
+        model.addAttribute("accounts", accountService.findSummaries(null, true, null, byCode(page, size)));
         model.addAttribute("accountTypes", AccountType.values());
+        model.addAttribute("pageUrl", "/accounts");
         return "accounts/list";
     }
 
     @GetMapping("/all")
-    public String listAllAccounts(Model model) {
-        model.addAttribute("accounts", accountService.findAll());
+    public String listAllAccounts(@RequestParam(defaultValue = "0") int page,
+                                  @RequestParam(defaultValue = "50") int size,
+                                  Model model) {
+        model.addAttribute("accounts", accountService.findSummaries(null, null, null, byCode(page, size)));
         model.addAttribute("accountTypes", AccountType.values());
+        model.addAttribute("pageUrl", "/accounts/all");
         model.addAttribute("showInactive", true);
         return "accounts/list";
     }
@@ -87,11 +95,19 @@ public class AccountController {
     }
 
     @GetMapping("/by-type/{type}")
-    public String listByType(@PathVariable String type, Model model) {
+    public String listByType(@PathVariable String type,
+                             @RequestParam(defaultValue = "0") int page,
+                             @RequestParam(defaultValue = "50") int size,
+                             Model model) {
         AccountType accountType = AccountType.valueOf(type.toUpperCase());
-        model.addAttribute("accounts", accountService.findActiveByType(accountType));
+        model.addAttribute("accounts", accountService.findSummaries(accountType, true, null, byCode(page, size)));
         model.addAttribute("accountTypes", AccountType.values());
         model.addAttribute("selectedType", accountType);
+        model.addAttribute("pageUrl", "/accounts/by-type/" + accountType.name());
         return "accounts/list";
     }
+
+    private PageRequest byCode(int page, int size) {
+        return PageRequest.of(page, size, Sort.by("code"));
+    }
 }
\ No newline at end of file
@@ -1,11 +1,15 @@
 package com.accounting.controller;
 
+import com.accounting.dto.BankStatementSummaryDTO;
 import com.accounting.model.BankAccount;
 import com.accounting.model.BankStatement;
 import com.accounting.service.AccountService;
 import com.accounting.service.BankReconciliationService;
 import com.accounting.service.CurrencyService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -69,6 +73,8 @@ public class BankReconciliationController {
     public String reconcile(@PathVariable Long bankAccountId,
                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+                            @RequestParam(defaultValue = "0") int page,
+                            @RequestParam(defaultValue = "50") int size,
                             Model model) {
         BankAccount bankAccount = bankReconciliationService.findBankAccountById(bankAccountId)
                 .orElseThrow(() -> new IllegalArgumentException("Bank account not found: " + bankAccountId));
@@ -80,9 +86,11 @@ public class BankReconciliationController {
             endDate = LocalDate.now();
         }
 
-        List<BankStatement> statements = bankReconciliationService
-                .findStatementsByDateRange(bankAccountId, startDate, endDate);
-        List<BankStatement> unreconciled = bankReconciliationService.findUnreconciledStatements(bankAccountId);
+        Sort order = Sort.by("transactionDate", "id");
+        Page<BankStatementSummaryDTO> statements = bankReconciliationService
+                .findStatementSummaries(bankAccountId, startDate, endDate, PageRequest.of(page, size, order));
+        Page<BankStatementSummaryDTO> unreconciled = bankReconciliationService
+                .findUnreconciledSummaries(bankAccountId, PageRequest.of(0, size, order));
 
         model.addAttribute("bankAccount", bankAccount);
         model.addAttribute("statements", statements);
@@ -1,13 +1,20 @@
 package com.accounting.controller;
 
+import com.accounting.dto.BillingRunDTO;
+import com.accounting.dto.BillingRunResultDTO;
+import com.accounting.dto.InvoiceSummaryDTO;
 import com.accounting.model.Customer;
 import com.accounting.model.Invoice;
 import com.accounting.model.InvoiceItem;
 import com.accounting.model.InvoiceStatus;
 import com.accounting.service.AccountService;
+import com.accounting.service.BillingRunService;
 import com.accounting.service.CurrencyService;
 import com.accounting.service.InvoiceService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -15,7 +22,6 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.time.LocalDate;
-import java.util.List;
 
 @Controller
 @RequestMapping("/invoices")
@@ -25,15 +31,16 @@ public class InvoiceController {
     private final InvoiceService invoiceService;
     private final AccountService accountService;
     private final CurrencyService currencyService;
+    private final BillingRunService billingRunService;
 
     @GetMapping
-    public String listInvoices(@RequestParam(required = false) String status, Model model) {
-        List<Invoice> invoices;
-        if (status != null && !status.isEmpty()) {
-            invoices = invoiceService.findByStatus(InvoiceStatus.valueOf(status));
-        } else {
-            invoices = invoiceService.findAll();
-        }
+    public String listInvoices(@RequestParam(required = false) String status,
+                               @RequestParam(defaultValue = "0") int page,
+                               @RequestParam(defaultValue = "20") int size,
+                               Model model) {
+        InvoiceStatus invoiceStatus = status != null && !status.isEmpty() ? InvoiceStatus.valueOf(status) : null;
+        Page<InvoiceSummaryDTO> invoices = invoiceService.findSummaries(invoiceStatus, null, null, null,
+                PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "invoiceDate", "invoiceNumber")));
 
         model.addAttribute("invoices", invoices);
         model.addAttribute("statuses", InvoiceStatus.values());
@@ -115,6 +122,12 @@ public class InvoiceController {
         return "redirect:/invoices";
     }
 
+    @PostMapping("/billing-run")
+    @ResponseBody
+    public BillingRunResultDTO billingRun(@RequestBody BillingRunDTO billingRun) {
+        return billingRunService.run(billingRun);
+    }
+
     @GetMapping("/customers")
     public String listCustomers(Model model) {
         model.addAttribute("customers", invoiceService.findAllCustomers());
@@ -1,17 +1,19 @@
 package com.accounting.controller;
 
+import com.accounting.dto.AccountSummaryDTO;
 import com.accounting.dto.JournalEntryDTO;
-import com.accounting.model.Account;
 import com.accounting.model.EntryStatus;
 import com.accounting.model.JournalEntry;
 import com.accounting.model.User;
 import com.accounting.service.AccountService;
+import com.accounting.service.InvoiceService;
 import com.accounting.service.JournalService;
+import com.accounting.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
@@ -28,6 +30,8 @@ public class JournalController {
 
     private final JournalService journalService;
     private final AccountService accountService;
+    private final InvoiceService invoiceService;
+    private final UserService userService;
 
     @GetMapping
     public String listEntries(@RequestParam(defaultValue = "0") int page,
@@ -57,10 +61,11 @@ public class JournalController {
 
     @PostMapping("/save")
     public String saveEntry(@ModelAttribute JournalEntryDTO dto,
-                            @AuthenticationPrincipal User user,
+                            Authentication authentication,
                             RedirectAttributes redirectAttributes) {
         if (dto.getId() == null) {
-            journalService.createEntry(dto, user);
+            User createdBy = userService.findByUsername(authentication.getName()).orElse(null);
+            journalService.createEntry(dto, createdBy);
             redirectAttributes.addFlashAttribute("successMessage", "Journal entry created successfully");
         } else {
             journalService.updateEntry(dto.getId(), dto);
@@ -74,24 +79,7 @@ public class JournalController {
         JournalEntry entry = journalService.findByIdWithLines(id)
                 .orElseThrow(() -> new IllegalArgumentException("Journal entry not found: " + id));
 
-        JournalEntryDTO dto = new JournalEntryDTO();
-        dto.setId(entry.getId());
-        dto.setEntryNumber(entry.getEntryNumber());
-        dto.setEntryDate(entry.getEntryDate());
-        dto.setDescription(entry.getDescription());
-        dto.setReference(entry.getReference());
-
-        entry.getLines().forEach(line -> {
-            JournalEntryDTO.JournalEntryLineDTO lineDto = new JournalEntryDTO.JournalEntryLineDTO();
-            lineDto.setId(line.getId());
-            lineDto.setAccountId(line.getAccount().getId());
-            lineDto.setAccountCode(line.getAccount().getCode());
-            lineDto.setAccountName(line.getAccount().getName());
-            lineDto.setDebitAmount(line.getDebitAmount());
-            lineDto.setCreditAmount(line.getCreditAmount());
-            lineDto.setDescription(line.getDescription());
-            dto.addLine(lineDto);
-        });
+        JournalEntryDTO dto = JournalEntryDTO.from(entry);
 
         model.addAttribute("journalEntry", dto);
         model.addAttribute("accounts", accountService.findAllActive());
@@ -104,6 +92,7 @@ public class JournalController {
                 .orElseThrow(() -> new IllegalArgumentException("Journal entry not found: " + id));
 
         model.addAttribute("entry", entry);
+        model.addAttribute("invoices", invoiceService.findByJournalEntryId(id));
         return "journal/view";
     }
 
@@ -130,7 +119,7 @@ public class JournalController {
 
     @GetMapping("/api/accounts")
     @ResponseBody
-    public List<Account> getAccounts() {
-        return accountService.findAllActive();
+    public List<AccountSummaryDTO> getAccounts() {
+        return accountService.findActiveSummaries();
     }
 }
\ No newline at end of file
@@ -1,17 +1,24 @@
 package com.accounting.controller;
 
 import com.accounting.dto.BalanceSheetDTO;
+import com.accounting.dto.CustomerStatementDTO;
 import com.accounting.dto.ProfitLossDTO;
 import com.accounting.dto.TrialBalanceDTO;
+import com.accounting.service.CustomerStatementService;
+import com.accounting.service.InvoiceService;
 import com.accounting.service.LedgerService;
 import com.accounting.service.ReportService;
 import com.accounting.service.AccountService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Controller
@@ -22,6 +29,8 @@ public class ReportController {
     private final ReportService reportService;
     private final LedgerService ledgerService;
     private final AccountService accountService;
+    private final CustomerStatementService customerStatementService;
+    private final InvoiceService invoiceService;
 
     @GetMapping
     public String reportsHome() {
@@ -101,4 +110,89 @@ public class ReportController {
 
         return "reports/general-ledger";
     }
-}
\ No newline at end of file
+
+    @GetMapping("/customer-statement")
+    public String customerStatement(@RequestParam(required = false) Long customerId,
+                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+                                    Model model) {
+        if (startDate == null) {
+            startDate = LocalDate.now().withDayOfYear(1);
+        }
+        if (endDate == null) {
+            endDate = LocalDate.now();
+        }
+
+        model.addAttribute("customers", invoiceService.findAllCustomers());
+        model.addAttribute("startDate", startDate);
+        model.addAttribute("endDate", endDate);
+
+        if (customerId != null) {
+            model.addAttribute("statement", customerStatementService.generateStatement(customerId, startDate, endDate));
+            model.addAttribute("selectedCustomerId", customerId);
+        }
+
+        return "reports/customer-statement";
+    }
+
+    @GetMapping("/customer-statements.csv")
+    public void exportCustomerStatements(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+                                         HttpServletResponse response) throws IOException {
+        if (startDate == null) {
+            startDate = LocalDate.now().withDayOfYear(1);
+        }
+        if (endDate == null) {
+            endDate = LocalDate.now();
+        }
+
+        response.setContentType("text/csv");
+        response.setHeader("Content-Disposition",
+                "attachment; filename=\"customer-statements-" + startDate + "-" + endDate + ".csv\"");
+
+        PrintWriter writer = response.getWriter();
+        writer.println("Customer Code,Customer Name,Date,Type,Invoice Number,Debit,Credit,Balance");
+        customerStatementService.streamStatements(startDate, endDate, statement -> {
+            writeStatementRow(writer, statement, statement.getStartDate(), "Opening Balance", null,
+                    null, null, statement.getOpeningBalance());
+            for (CustomerStatementDTO.StatementLineDTO line : statement.getLines()) {
+                writeStatementRow(writer, statement, line.getDate(), line.getType(), line.getInvoiceNumber(),
+                        line.getDebitAmount(), line.getCreditAmount(), line.getRunningBalance());
+            }
+            writeStatementRow(writer, statement, statement.getEndDate(), "Closing Balance", null,
+                    statement.getTotalInvoiced(), statement.getTotalPaid(), statement.getClosingBalance());
+        });
+        writer.flush();
+    }
+
+    @GetMapping("/ar-subledger")
+    public String arSubledger(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOfDate,
+                              Model model) {
+        if (asOfDate == null) {
+            asOfDate = LocalDate.now();
+        }
+
+        model.addAttribute("subledger", customerStatementService.generateSubledger(asOfDate));
+        model.addAttribute("asOfDate", asOfDate);
+
+        return "reports/ar-subledger";
+    }
+
+    private void writeStatementRow(PrintWriter writer, CustomerStatementDTO statement, LocalDate date, String type,
+                                   String invoiceNumber, BigDecimal debit, BigDecimal credit, BigDecimal balance) {
+        writer.println(String.join(",",
+                csv(statement.getCustomerCode()), csv(statement.getCustomerName()), String.valueOf(date),
+                csv(type), csv(invoiceNumber), debit != null ? debit.toPlainString() : "",
+                credit != null ? credit.toPlainString() : "", balance.toPlainString()));
+    }
+
+    private String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
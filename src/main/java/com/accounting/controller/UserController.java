@@ -1,5 +1,6 @@
 package com.accounting.controller;
 
+import com.accounting.dto.AuthenticationCacheStatsDTO;
 import com.accounting.model.User;
 import com.accounting.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -88,4 +89,10 @@ public class UserController {
         redirectAttributes.addFlashAttribute("successMessage", "User enabled successfully");
         return "redirect:/users";
     }
-}
\ No newline at end of file
+
+    @GetMapping("/auth-cache")
+    @ResponseBody
+    public AuthenticationCacheStatsDTO authenticationCacheStats() {
+        return userService.getAuthenticationCacheStats();
+    }
+}
@@ -0,0 +1,128 @@
+package com.accounting.controller.api;
+
+import com.accounting.dto.AccountDTO;
+import com.accounting.dto.AccountSummaryDTO;
+import com.accounting.dto.LedgerVersionDTO;
+import com.accounting.dto.PageResponseDTO;
+import com.accounting.model.Account;
+import com.accounting.model.AccountType;
+import com.accounting.service.AccountService;
+import com.accounting.service.LedgerVersionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/accounts")
+@RequiredArgsConstructor
+public class AccountApiController {
+
+    private final AccountService accountService;
+    private final LedgerVersionService ledgerVersionService;
+
+    @GetMapping
+    public PageResponseDTO<AccountSummaryDTO> listAccounts(@RequestParam(required = false) AccountType type,
+                                                           @RequestParam(required = false) Boolean active,
+                                                           @RequestParam(required = false) String search,
+                                                           @RequestParam(defaultValue = "0") int page,
+                                                           @RequestParam(defaultValue = "50") int size,
+                                                           WebRequest request) {
+        LedgerVersionDTO version = ledgerVersionService.current(LedgerVersionService.ACCOUNTS);
+        if (ConditionalRequests.notModified(request, version)) {
+            return null;
+        }
+        return PageResponseDTO.of(accountService.findSummaries(type, active,
+                search != null && !search.isBlank() ? search.trim() : null,
+                ConditionalRequests.pageRequest(page, size, Sort.by("code"))));
+    }
+
+    @GetMapping("/{id}")
+    public AccountDTO getAccount(@PathVariable Long id, WebRequest request) {
+        LedgerVersionDTO version = ledgerVersionService.current(LedgerVersionService.ACCOUNTS);
+        if (ConditionalRequests.notModified(request, version)) {
+            return null;
+        }
+        return AccountDTO.from(findAccount(id));
+    }
+
+    @GetMapping("/code/{code}")
+    public AccountDTO getAccountByCode(@PathVariable String code, WebRequest request) {
+        LedgerVersionDTO version = ledgerVersionService.current(LedgerVersionService.ACCOUNTS);
+        if (ConditionalRequests.notModified(request, version)) {
+            return null;
+        }
+        return accountService.findByCode(code)
+                .map(AccountDTO::from)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Account not found: " + code));
+    }
+
+    @GetMapping("/{id}/balance")
+    public Map<String, Object> getBalance(@PathVariable Long id,
+                                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOfDate,
+                                          WebRequest request) {
+        if (asOfDate == null) {
+            asOfDate = LocalDate.now();
+        }
+
+        LedgerVersionDTO version = ledgerVersionService.current(LedgerVersionService.ACCOUNTS, LedgerVersionService.JOURNAL);
+        if (ConditionalRequests.notModified(request, version, asOfDate)) {
+            return null;
+        }
+        findAccount(id);
+        BigDecimal balance = accountService.getBalanceAsOfDate(id, asOfDate);
+        return Map.of("accountId", id, "asOfDate", asOfDate, "balance", balance);
+    }
+
+    @PostMapping
+    public ResponseEntity<AccountDTO> createAccount(@RequestBody AccountDTO dto) {
+        Account account = new Account();
+        apply(dto, account);
+        AccountDTO created = AccountDTO.from(accountService.save(account));
+        return ResponseEntity.created(URI.create("/api/v1/accounts/" + created.getId())).body(created);
+    }
+
+    @PutMapping("/{id}")
+    public AccountDTO updateAccount(@PathVariable Long id, @RequestBody AccountDTO dto) {
+        Account account = findAccount(id);
+        apply(dto, account);
+        return AccountDTO.from(accountService.save(account));
+    }
+
+    @PostMapping("/{id}/activate")
+    public ResponseEntity<Void> activateAccount(@PathVariable Long id) {
+        accountService.activate(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/{id}/deactivate")
+    public ResponseEntity<Void> deactivateAccount(@PathVariable Long id) {
+        accountService.deactivate(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    private Account findAccount(Long id) {
+        return accountService.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Account not found: " + id));
+    }
+
+    private void apply(AccountDTO dto, Account account) {
+        account.setCode(dto.getCode());
+        account.setName(dto.getName());
+        account.setDescription(dto.getDescription());
+        account.setAccountType(dto.getAccountType());
+        account.setParent(dto.getParentId() != null ? findAccount(dto.getParentId()) : null);
+        if (dto.getIsActive() != null) {
+            account.setIsActive(dto.getIsActive());
+        }
+    }
+}
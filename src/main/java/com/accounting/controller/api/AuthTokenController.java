@@ -0,0 +1,43 @@
+package com.accounting.controller.api;
+
+import com.accounting.dto.TokenRequestDTO;
+import com.accounting.dto.TokenResponseDTO;
+import com.accounting.security.TokenService;
+import com.accounting.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/auth")
+@RequiredArgsConstructor
+public class AuthTokenController {
+
+    private final AuthenticationManager authenticationManager;
+    private final TokenService tokenService;
+    private final UserService userService;
+
+    @PostMapping("/token")
+    public TokenResponseDTO issueToken(@RequestBody TokenRequestDTO request) {
+        Authentication authentication = authenticationManager.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated(request.getUsername(), request.getPassword()));
+        long tokenVersion = userService.findTokenVersion(authentication.getName())
+                .orElseThrow(() -> new DisabledException("User is disabled: " + authentication.getName()));
+        return tokenService.issue(authentication, tokenVersion);
+    }
+
+    @GetMapping("/me")
+    public Map<String, Object> currentUser(@AuthenticationPrincipal Jwt jwt) {
+        return Map.of(
+                "username", jwt.getSubject(),
+                "roles", jwt.getClaimAsStringList(TokenService.ROLES_CLAIM),
+                "expiresAt", jwt.getExpiresAt());
+    }
+}
@@ -0,0 +1,28 @@
+package com.accounting.controller.api;
+
+import com.accounting.dto.CacheRegionStatsDTO;
+import com.accounting.service.SecondLevelCacheService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/cache")
+@RequiredArgsConstructor
+public class CacheApiController {
+
+    private final SecondLevelCacheService secondLevelCacheService;
+
+    @GetMapping("/regions")
+    public List<CacheRegionStatsDTO> listRegions() {
+        return secondLevelCacheService.getRegionStats();
+    }
+
+    @PostMapping("/evict")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void evictAll() {
+        secondLevelCacheService.evictAll();
+    }
+}
@@ -0,0 +1,32 @@
+package com.accounting.controller.api;
+
+import com.accounting.dto.LedgerVersionDTO;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.web.context.request.WebRequest;
+
+final class ConditionalRequests {
+
+    static final int MAX_PAGE_SIZE = 200;
+
+    private ConditionalRequests() {
+    }
+
+    static boolean notModified(WebRequest request, LedgerVersionDTO version, Object... qualifiers) {
+        String etag = version.getEtag();
+        if (qualifiers.length > 0) {
+            StringBuilder qualified = new StringBuilder(etag.substring(0, etag.length() - 1));
+            for (Object qualifier : qualifiers) {
+                if (qualifier != null) {
+                    qualified.append(';').append(qualifier);
+                }
+            }
+            etag = qualified.append('"').toString();
+        }
+        return request.checkNotModified(etag, version.getLastModifiedMillis());
+    }
+
+    static PageRequest pageRequest(int page, int size, Sort sort) {
+        return PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE), sort);
+    }
+}
@@ -0,0 +1,63 @@
+package com.accounting.controller.api;
+
+import com.accounting.dto.CustomerDTO;
+import com.accounting.dto.LedgerVersionDTO;
+import com.accounting.dto.PageResponseDTO;
+import com.accounting.model.Customer;
+import com.accounting.service.InvoiceService;
+import com.accounting.service.LedgerVersionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/v1/customers")
+@RequiredArgsConstructor
+public class CustomerApiController {
+
+    private final InvoiceService invoiceService;
+    private final LedgerVersionService ledgerVersionService;
+
+    @GetMapping
+    public PageResponseDTO<CustomerDTO> listCustomers(@RequestParam(defaultValue = "0") int page,
+                                                      @RequestParam(defaultValue = "50") int size,
+                                                      WebRequest request) {
+        LedgerVersionDTO version = ledgerVersionService.current(LedgerVersionService.CUSTOMERS);
+        if (ConditionalRequests.notModified(request, version)) {
+            return null;
+        }
+        return PageResponseDTO.of(invoiceService.findAllCustomers(
+                ConditionalRequests.pageRequest(page, size, Sort.by("code"))), CustomerDTO::from);
+    }
+
+    @GetMapping("/{id}")
+    public CustomerDTO getCustomer(@PathVariable Long id, WebRequest request) {
+        LedgerVersionDTO version = ledgerVersionService.current(LedgerVersionService.CUSTOMERS);
+        if (ConditionalRequests.notModified(request, version)) {
+            return null;
+        }
+        return invoiceService.findCustomerById(id)
+                .map(CustomerDTO::from)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Customer not found: " + id));
+    }
+
+    @PostMapping
+    public ResponseEntity<CustomerDTO> createCustomer(@RequestBody CustomerDTO dto) {
+        Customer customer = new Customer();
+        customer.setCode(dto.getCode());
+        customer.setName(dto.getName());
+        customer.setEmail(dto.getEmail());
+        customer.setPhone(dto.getPhone());
+        customer.setAddress(dto.getAddress());
+        customer.setTaxId(dto.getTaxId());
+
+        CustomerDTO created = CustomerDTO.from(invoiceService.saveCustomer(customer));
+        return ResponseEntity.created(URI.create("/api/v1/customers/" + created.getId())).body(created);
+    }
+}
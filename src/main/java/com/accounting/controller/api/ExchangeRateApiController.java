@@ -0,0 +1,43 @@
+package com.accounting.controller.api;
+
+import com.accounting.dto.ExchangeRateDTO;
+import com.accounting.model.Currency;
+import com.accounting.service.CurrencyService;
+import com.accounting.service.ExchangeRateService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/exchange-rates")
+@RequiredArgsConstructor
+public class ExchangeRateApiController {
+
+    private final ExchangeRateService exchangeRateService;
+    private final CurrencyService currencyService;
+
+    @GetMapping("/{code}")
+    public ExchangeRateDTO getRate(@PathVariable String code,
+                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOfDate) {
+        if (asOfDate == null) {
+            asOfDate = LocalDate.now();
+        }
+        Currency currency = currencyService.findByCode(code)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Currency not found: " + code));
+        return new ExchangeRateDTO(currency.getCode(), asOfDate, exchangeRateService.getRate(currency.getId(), asOfDate));
+    }
+
+    @PostMapping
+    public ResponseEntity<List<ExchangeRateDTO>> importRates(@RequestBody List<ExchangeRateDTO> rates) {
+        List<ExchangeRateDTO> imported = exchangeRateService.importRates(rates).stream()
+                .map(ExchangeRateDTO::from)
+                .toList();
+        return ResponseEntity.status(HttpStatus.CREATED).body(imported);
+    }
+}
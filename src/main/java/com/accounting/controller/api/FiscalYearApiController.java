@@ -0,0 +1,43 @@
+package com.accounting.controller.api;
+
+import com.accounting.dto.FiscalYearArchiveResultDTO;
+import com.accounting.dto.FiscalYearCloseResultDTO;
+import com.accounting.model.FiscalYear;
+import com.accounting.service.FiscalYearArchiveService;
+import com.accounting.service.FiscalYearService;
+import com.accounting.service.YearEndCloseService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/fiscal-years")
+@RequiredArgsConstructor
+public class FiscalYearApiController {
+
+    private final FiscalYearService fiscalYearService;
+    private final YearEndCloseService yearEndCloseService;
+    private final FiscalYearArchiveService fiscalYearArchiveService;
+
+    @GetMapping
+    public List<FiscalYear> listFiscalYears() {
+        return fiscalYearService.findAll();
+    }
+
+    @PostMapping("/{id}/close")
+    public FiscalYearCloseResultDTO close(@PathVariable Long id) {
+        FiscalYear fiscalYear = fiscalYearService.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Fiscal year not found: " + id));
+        return yearEndCloseService.close(fiscalYear.getId());
+    }
+
+    @PostMapping("/{id}/archive")
+    public FiscalYearArchiveResultDTO archive(@PathVariable Long id) {
+        FiscalYear fiscalYear = fiscalYearService.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Fiscal year not found: " + id));
+        return fiscalYearArchiveService.archive(fiscalYear.getId());
+    }
+}
@@ -0,0 +1,131 @@
+package com.accounting.controller.api;
+
+import com.accounting.dto.InvoiceDTO;
+import com.accounting.dto.InvoicePaymentDTO;
+import com.accounting.dto.InvoiceSummaryDTO;
+import com.accounting.dto.LedgerVersionDTO;
+import com.accounting.dto.PageResponseDTO;
+import com.accounting.exception.AccountingException;
+import com.accounting.model.Invoice;
+import com.accounting.model.InvoiceItem;
+import com.accounting.model.InvoiceStatus;
+import com.accounting.service.AccountService;
+import com.accounting.service.InvoiceService;
+import com.accounting.service.LedgerVersionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+@RestController
+@RequestMapping("/api/v1/invoices")
+@RequiredArgsConstructor
+public class InvoiceApiController {
+
+    private final InvoiceService invoiceService;
+    private final AccountService accountService;
+    private final LedgerVersionService ledgerVersionService;
+
+    @GetMapping
+    public PageResponseDTO<InvoiceSummaryDTO> listInvoices(@RequestParam(required = false) InvoiceStatus status,
+                                                           @RequestParam(required = false) Long customerId,
+                                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+                                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+                                                           @RequestParam(defaultValue = "0") int page,
+                                                           @RequestParam(defaultValue = "50") int size,
+                                                           WebRequest request) {
+        LedgerVersionDTO version = ledgerVersionService.current(LedgerVersionService.INVOICES, LedgerVersionService.CUSTOMERS);
+        if (ConditionalRequests.notModified(request, version)) {
+            return null;
+        }
+        return PageResponseDTO.of(invoiceService.findSummaries(status, customerId, fromDate, toDate,
+                ConditionalRequests.pageRequest(page, size, Sort.by(Sort.Direction.DESC, "invoiceDate", "id"))));
+    }
+
+    @GetMapping("/{id}")
+    public InvoiceDTO getInvoice(@PathVariable Long id, WebRequest request) {
+        LedgerVersionDTO version = ledgerVersionService.current(LedgerVersionService.INVOICES, LedgerVersionService.CUSTOMERS);
+        if (ConditionalRequests.notModified(request, version)) {
+            return null;
+        }
+        return invoiceService.findByIdWithItems(id)
+                .map(InvoiceDTO::from)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Invoice not found: " + id));
+    }
+
+    @PostMapping
+    public ResponseEntity<InvoiceDTO> createInvoice(@RequestBody InvoiceDTO dto) {
+        InvoiceDTO created = InvoiceDTO.from(invoiceService.createInvoice(toInvoice(dto)));
+        return ResponseEntity.created(URI.create("/api/v1/invoices/" + created.getId())).body(created);
+    }
+
+    @PutMapping("/{id}")
+    public InvoiceDTO updateInvoice(@PathVariable Long id, @RequestBody InvoiceDTO dto) {
+        return InvoiceDTO.from(invoiceService.updateInvoice(id, toInvoice(dto)));
+    }
+
+    @PostMapping("/{id}/send")
+    public ResponseEntity<Void> sendInvoice(@PathVariable Long id) {
+        invoiceService.sendInvoice(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/{id}/pay")
+    public ResponseEntity<Void> markAsPaid(@PathVariable Long id,
+                                           @RequestBody(required = false) InvoicePaymentDTO payment) {
+        LocalDate paymentDate = payment != null && payment.getPaymentDate() != null
+                ? payment.getPaymentDate()
+                : LocalDate.now();
+        if (payment != null && payment.getAmount() != null) {
+            Invoice invoice = invoiceService.findById(id)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Invoice not found: " + id));
+            if (payment.getAmount().compareTo(invoice.getTotalAmount()) != 0) {
+                throw new AccountingException("Partial payments are not supported");
+            }
+        }
+        invoiceService.markAsPaid(id, paymentDate);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<Void> cancelInvoice(@PathVariable Long id) {
+        invoiceService.cancelInvoice(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    private Invoice toInvoice(InvoiceDTO dto) {
+        Invoice invoice = new Invoice();
+        invoice.setCustomer(invoiceService.findCustomerById(dto.getCustomerId())
+                .orElseThrow(() -> new AccountingException("Customer not found: " + dto.getCustomerId())));
+        invoice.setInvoiceDate(dto.getInvoiceDate() != null ? dto.getInvoiceDate() : LocalDate.now());
+        invoice.setDueDate(dto.getDueDate());
+        invoice.setTaxAmount(dto.getTaxAmount() != null ? dto.getTaxAmount() : BigDecimal.ZERO);
+        invoice.setNotes(dto.getNotes());
+        invoice.setItems(new ArrayList<>());
+
+        for (InvoiceDTO.InvoiceItemDTO itemDto : dto.getItems()) {
+            InvoiceItem item = new InvoiceItem();
+            item.setDescription(itemDto.getDescription());
+            item.setQuantity(itemDto.getQuantity() != null ? itemDto.getQuantity() : BigDecimal.ONE);
+            item.setUnitPrice(itemDto.getUnitPrice() != null ? itemDto.getUnitPrice() : BigDecimal.ZERO);
+            item.setAmount(itemDto.getAmount() != null
+                    ? itemDto.getAmount()
+                    : item.getQuantity().multiply(item.getUnitPrice()));
+            if (itemDto.getAccountId() != null) {
+                item.setAccount(accountService.findById(itemDto.getAccountId())
+                        .orElseThrow(() -> new AccountingException("Account not found: " + itemDto.getAccountId())));
+            }
+            invoice.addItem(item);
+        }
+        return invoice;
+    }
+}
@@ -0,0 +1,90 @@
+package com.accounting.controller.api;
+
+import com.accounting.dto.JournalEntryDTO;
+import com.accounting.dto.JournalEntrySummaryDTO;
+import com.accounting.dto.LedgerVersionDTO;
+import com.accounting.dto.PageResponseDTO;
+import com.accounting.model.EntryStatus;
+import com.accounting.model.JournalEntry;
+import com.accounting.model.User;
+import com.accounting.service.JournalService;
+import com.accounting.service.LedgerVersionService;
+import com.accounting.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.URI;
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/journal")
+@RequiredArgsConstructor
+public class JournalApiController {
+
+    private final JournalService journalService;
+    private final UserService userService;
+    private final LedgerVersionService ledgerVersionService;
+
+    @GetMapping
+    public PageResponseDTO<JournalEntrySummaryDTO> listEntries(@RequestParam(required = false) EntryStatus status,
+                                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+                                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+                                                               @RequestParam(defaultValue = "0") int page,
+                                                               @RequestParam(defaultValue = "50") int size,
+                                                               WebRequest request) {
+        LedgerVersionDTO version = ledgerVersionService.current(LedgerVersionService.JOURNAL);
+        if (ConditionalRequests.notModified(request, version)) {
+            return null;
+        }
+        return PageResponseDTO.of(journalService.findSummaries(status, fromDate, toDate,
+                ConditionalRequests.pageRequest(page, size, Sort.by(Sort.Direction.DESC, "entryDate", "entryNumber"))));
+    }
+
+    @GetMapping("/{id}")
+    public JournalEntryDTO getEntry(@PathVariable Long id, WebRequest request) {
+        LedgerVersionDTO version = ledgerVersionService.current(LedgerVersionService.JOURNAL);
+        if (ConditionalRequests.notModified(request, version)) {
+            return null;
+        }
+        return journalService.findByIdWithLines(id)
+                .map(JournalEntryDTO::from)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Journal entry not found: " + id));
+    }
+
+    @PostMapping
+    public ResponseEntity<JournalEntryDTO> createEntry(@RequestBody JournalEntryDTO dto, Authentication authentication) {
+        User createdBy = userService.findByUsername(authentication.getName()).orElse(null);
+        JournalEntry entry = journalService.createEntry(dto, createdBy);
+        return ResponseEntity.created(URI.create("/api/v1/journal/" + entry.getId())).body(JournalEntryDTO.from(entry));
+    }
+
+    @PutMapping("/{id}")
+    public JournalEntryDTO updateEntry(@PathVariable Long id, @RequestBody JournalEntryDTO dto) {
+        return JournalEntryDTO.from(journalService.updateEntry(id, dto));
+    }
+
+    @PostMapping("/{id}/post")
+    public ResponseEntity<Void> postEntry(@PathVariable Long id) {
+        journalService.postEntry(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/{id}/void")
+    public ResponseEntity<Void> voidEntry(@PathVariable Long id) {
+        journalService.voidEntry(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteEntry(@PathVariable Long id) {
+        journalService.deleteEntry(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.accounting.controller.api;
+
+import com.accounting.dto.ProjectionStatusDTO;
+import com.accounting.service.ProjectionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/projections")
+@RequiredArgsConstructor
+public class ProjectionApiController {
+
+    private final ProjectionService projectionService;
+
+    @GetMapping
+    public List<ProjectionStatusDTO> listProjections() {
+        return projectionService.getStatus();
+    }
+
+    @PostMapping("/{name}/rebuild")
+    public ProjectionStatusDTO rebuild(@PathVariable String name) {
+        if (!projectionService.exists(name)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Projection not found: " + name);
+        }
+        return projectionService.rebuild(name);
+    }
+}
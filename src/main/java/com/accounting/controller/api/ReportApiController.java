@@ -0,0 +1,120 @@
+package com.accounting.controller.api;
+
+import com.accounting.dto.ArAgingDTO;
+import com.accounting.dto.BalanceSheetDTO;
+import com.accounting.dto.LedgerDTO;
+import com.accounting.dto.LedgerVersionDTO;
+import com.accounting.dto.ProfitLossDTO;
+import com.accounting.dto.TrialBalanceDTO;
+import com.accounting.model.Currency;
+import com.accounting.service.CurrencyService;
+import com.accounting.service.LedgerService;
+import com.accounting.service.LedgerVersionService;
+import com.accounting.service.ReportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/reports")
+@RequiredArgsConstructor
+public class ReportApiController {
+
+    private final ReportService reportService;
+    private final LedgerService ledgerService;
+    private final LedgerVersionService ledgerVersionService;
+    private final CurrencyService currencyService;
+
+    @GetMapping("/trial-balance")
+    public TrialBalanceDTO trialBalance(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOfDate,
+                                        @RequestParam(required = false) String currency,
+                                        WebRequest request) {
+        if (asOfDate == null) {
+            asOfDate = LocalDate.now();
+        }
+        Currency presentationCurrency = presentationCurrency(currency);
+        if (ConditionalRequests.notModified(request, ledgerVersion(presentationCurrency), asOfDate, currency)) {
+            return null;
+        }
+        return reportService.generateTrialBalance(asOfDate, presentationCurrency);
+    }
+
+    @GetMapping("/profit-loss")
+    public ProfitLossDTO profitLoss(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+                                    @RequestParam(required = false) String currency,
+                                    WebRequest request) {
+        if (startDate == null) {
+            startDate = LocalDate.now().withDayOfYear(1);
+        }
+        if (endDate == null) {
+            endDate = LocalDate.now();
+        }
+        Currency presentationCurrency = presentationCurrency(currency);
+        if (ConditionalRequests.notModified(request, ledgerVersion(presentationCurrency), startDate, endDate, currency)) {
+            return null;
+        }
+        return reportService.generateProfitLoss(startDate, endDate, presentationCurrency);
+    }
+
+    @GetMapping("/balance-sheet")
+    public BalanceSheetDTO balanceSheet(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOfDate,
+                                        @RequestParam(required = false) String currency,
+                                        WebRequest request) {
+        if (asOfDate == null) {
+            asOfDate = LocalDate.now();
+        }
+        Currency presentationCurrency = presentationCurrency(currency);
+        if (ConditionalRequests.notModified(request, ledgerVersion(presentationCurrency), asOfDate, currency)) {
+            return null;
+        }
+        return reportService.generateBalanceSheet(asOfDate, presentationCurrency);
+    }
+
+    @GetMapping("/general-ledger")
+    public LedgerDTO generalLedger(@RequestParam Long accountId,
+                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+                                   WebRequest request) {
+        if (startDate == null) {
+            startDate = LocalDate.now().withDayOfYear(1);
+        }
+        if (endDate == null) {
+            endDate = LocalDate.now();
+        }
+        if (ConditionalRequests.notModified(request, ledgerVersion(), startDate, endDate)) {
+            return null;
+        }
+        return ledgerService.generateLedger(accountId, startDate, endDate);
+    }
+
+    @GetMapping("/ar-aging")
+    public ArAgingDTO arAging(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOfDate) {
+        return reportService.generateArAging(asOfDate != null ? asOfDate : LocalDate.now());
+    }
+
+    private Currency presentationCurrency(String code) {
+        if (code == null) {
+            return null;
+        }
+        return currencyService.findByCode(code)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Currency not found: " + code));
+    }
+
+    private LedgerVersionDTO ledgerVersion() {
+        return ledgerVersionService.current(LedgerVersionService.ACCOUNTS, LedgerVersionService.JOURNAL);
+    }
+
+    private LedgerVersionDTO ledgerVersion(Currency presentationCurrency) {
+        if (presentationCurrency == null) {
+            return ledgerVersion();
+        }
+        return ledgerVersionService.current(LedgerVersionService.ACCOUNTS, LedgerVersionService.JOURNAL,
+                LedgerVersionService.EXCHANGE_RATES);
+    }
+}
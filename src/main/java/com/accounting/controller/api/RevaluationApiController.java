@@ -0,0 +1,25 @@
+package com.accounting.controller.api;
+
+import com.accounting.dto.RevaluationResultDTO;
+import com.accounting.service.RevaluationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/revaluations")
+@RequiredArgsConstructor
+public class RevaluationApiController {
+
+    private final RevaluationService revaluationService;
+
+    @PostMapping
+    public ResponseEntity<RevaluationResultDTO> revalue(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOfDate) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(revaluationService.revalue(asOfDate));
+    }
+}
@@ -0,0 +1,61 @@
+package com.accounting.datasource;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+
+// When the client last committed a write, as it reported it. The marker travels with the client in a cookie
+// (browsers) or header (API clients), so whichever node serves the next request routes its reads the same way.
+public final class ReadYourWrites {
+
+    public static final String COOKIE = "last-write";
+    public static final String HEADER = "X-Last-Write";
+
+    private static final ThreadLocal<ReadYourWrites> CURRENT = new ThreadLocal<>();
+
+    private final HttpServletResponse response;
+    private final Duration stickyWindow;
+    private volatile long lastWrite;
+
+    public ReadYourWrites(long lastWrite, HttpServletResponse response, Duration stickyWindow) {
+        this.lastWrite = lastWrite;
+        this.response = response;
+        this.stickyWindow = stickyWindow;
+    }
+
+    public static ReadYourWrites current() {
+        return CURRENT.get();
+    }
+
+    public static ReadYourWrites bind(ReadYourWrites readYourWrites) {
+        ReadYourWrites previous = CURRENT.get();
+        if (readYourWrites != null) {
+            CURRENT.set(readYourWrites);
+        } else {
+            CURRENT.remove();
+        }
+        return previous;
+    }
+
+    public long getLastWrite() {
+        return lastWrite;
+    }
+
+    // Later reads in this request see the write at once; the response hands the marker back to the client
+    void written(long millis) {
+        lastWrite = millis;
+        if (response == null || response.isCommitted()) {
+            return;
+        }
+        response.setHeader(HEADER, Long.toString(millis));
+        response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(COOKIE, Long.toString(millis))
+                .path("/")
+                .httpOnly(true)
+                .sameSite("Lax")
+                .maxAge(stickyWindow.plusSeconds(1).toSeconds())
+                .build()
+                .toString());
+    }
+}
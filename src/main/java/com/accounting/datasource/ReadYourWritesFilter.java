@@ -0,0 +1,49 @@
+package com.accounting.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+@RequiredArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final Duration stickyWindow;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ReadYourWrites previous = ReadYourWrites.bind(new ReadYourWrites(lastWrite(request), response, stickyWindow));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.bind(previous);
+        }
+    }
+
+    // A malformed marker only costs the client its read-your-writes routing
+    private static long lastWrite(HttpServletRequest request) {
+        String value = request.getHeader(ReadYourWrites.HEADER);
+        if (value == null && request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (ReadYourWrites.COOKIE.equals(cookie.getName())) {
+                    value = cookie.getValue();
+                }
+            }
+        }
+        if (value == null) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException ex) {
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.accounting.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final DataSource replica;
+    private final long stickyMillis;
+    private final LongSupplier clock;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, Duration stickyWindow) {
+        this(primary, replica, stickyWindow, System::currentTimeMillis);
+    }
+
+    ReplicaRoutingDataSource(DataSource primary, DataSource replica, Duration stickyWindow, LongSupplier clock) {
+        this.replica = replica;
+        this.stickyMillis = stickyWindow.toMillis();
+        this.clock = clock;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    public DataSource getReplica() {
+        return replica;
+    }
+
+    // The marker comes from the client, so it is only trusted to within the window either side of this node's
+    // clock: enough to absorb skew between nodes, without letting a far-future value pin a client to the primary
+    public boolean isSticky(ReadYourWrites readYourWrites) {
+        if (readYourWrites == null || readYourWrites.getLastWrite() <= 0) {
+            return false;
+        }
+        return Math.abs(clock.getAsLong() - readYourWrites.getLastWrite()) < stickyMillis;
+    }
+
+    @Override
+    protected Route determineCurrentLookupKey() {
+        ReadYourWrites readYourWrites = ReadYourWrites.current();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            markAfterCommit(readYourWrites);
+            return Route.PRIMARY;
+        }
+        return isSticky(readYourWrites) ? Route.PRIMARY : Route.REPLICA;
+    }
+
+    private void markAfterCommit(ReadYourWrites readYourWrites) {
+        if (readYourWrites == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWrites.written(clock.getAsLong());
+            }
+        });
+    }
+}
@@ -0,0 +1,26 @@
+package com.accounting.dto;
+
+import com.accounting.model.Account;
+import com.accounting.model.AccountType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountDTO {
+    private Long id;
+    private String code;
+    private String name;
+    private String description;
+    private AccountType accountType;
+    private Long parentId;
+    private Boolean isActive;
+
+    public static AccountDTO from(Account account) {
+        return new AccountDTO(account.getId(), account.getCode(), account.getName(), account.getDescription(),
+                account.getAccountType(), account.getParent() != null ? account.getParent().getId() : null,
+                account.getIsActive());
+    }
+}
@@ -0,0 +1,19 @@
+package com.accounting.dto;
+
+import com.accounting.model.AccountType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountSummaryDTO {
+    private Long id;
+    private String code;
+    private String name;
+    private String description;
+    private AccountType accountType;
+    private Long parentId;
+    private Boolean isActive;
+}
@@ -0,0 +1,69 @@
+package com.accounting.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArAgingDTO {
+    private LocalDate asOfDate;
+    private List<CustomerAgingDTO> customers = new ArrayList<>();
+
+    public void addCustomer(CustomerAgingDTO customer) {
+        customers.add(customer);
+    }
+
+    public BigDecimal getCurrent() {
+        return sum(CustomerAgingDTO::getCurrent);
+    }
+
+    public BigDecimal getDays1To30() {
+        return sum(CustomerAgingDTO::getDays1To30);
+    }
+
+    public BigDecimal getDays31To60() {
+        return sum(CustomerAgingDTO::getDays31To60);
+    }
+
+    public BigDecimal getDays61To90() {
+        return sum(CustomerAgingDTO::getDays61To90);
+    }
+
+    public BigDecimal getOver90() {
+        return sum(CustomerAgingDTO::getOver90);
+    }
+
+    public BigDecimal getTotal() {
+        return sum(CustomerAgingDTO::getTotal);
+    }
+
+    private BigDecimal sum(Function<CustomerAgingDTO, BigDecimal> bucket) {
+        return customers.stream().map(bucket).reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CustomerAgingDTO {
+        private Long customerId;
+        private String customerCode;
+        private String customerName;
+        private BigDecimal current = BigDecimal.ZERO;
+        private BigDecimal days1To30 = BigDecimal.ZERO;
+        private BigDecimal days31To60 = BigDecimal.ZERO;
+        private BigDecimal days61To90 = BigDecimal.ZERO;
+        private BigDecimal over90 = BigDecimal.ZERO;
+
+        public BigDecimal getTotal() {
+            return current.add(days1To30).add(days31To60).add(days61To90).add(over90);
+        }
+    }
+}
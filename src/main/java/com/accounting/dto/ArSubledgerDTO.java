@@ -0,0 +1,48 @@
+package com.accounting.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArSubledgerDTO {
+    private LocalDate asOfDate;
+    private String controlAccountCode;
+    private BigDecimal controlAccountBalance = BigDecimal.ZERO;
+    private List<CustomerBalanceDTO> customers = new ArrayList<>();
+
+    public void addCustomer(CustomerBalanceDTO customer) {
+        customers.add(customer);
+    }
+
+    public BigDecimal getSubledgerTotal() {
+        return customers.stream()
+                .map(CustomerBalanceDTO::getBalance)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    public BigDecimal getDifference() {
+        return controlAccountBalance.subtract(getSubledgerTotal());
+    }
+
+    public boolean isReconciled() {
+        return getDifference().compareTo(BigDecimal.ZERO) == 0;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CustomerBalanceDTO {
+        private Long customerId;
+        private String customerCode;
+        private String customerName;
+        private BigDecimal balance;
+    }
+}
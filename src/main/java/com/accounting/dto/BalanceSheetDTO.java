@@ -14,6 +14,7 @@ import java.util.List;
 @AllArgsConstructor
 public class BalanceSheetDTO {
     private LocalDate asOfDate;
+    private String currencyCode;
     private List<AccountBalanceDTO> assetAccounts = new ArrayList<>();
     private List<AccountBalanceDTO> liabilityAccounts = new ArrayList<>();
     private List<AccountBalanceDTO> equityAccounts = new ArrayList<>();
@@ -21,6 +22,7 @@ public class BalanceSheetDTO {
     private BigDecimal totalLiabilities = BigDecimal.ZERO;
     private BigDecimal totalEquity = BigDecimal.ZERO;
     private BigDecimal retainedEarnings = BigDecimal.ZERO;
+    private BigDecimal translationAdjustment = BigDecimal.ZERO;
 
     public void addAssetAccount(AccountBalanceDTO account) {
         assetAccounts.add(account);
@@ -42,7 +44,7 @@ public class BalanceSheetDTO {
     }
 
     public BigDecimal getTotalEquityWithRetainedEarnings() {
-        return totalEquity.add(retainedEarnings);
+        return totalEquity.add(retainedEarnings).add(translationAdjustment);
     }
 
     public BigDecimal getTotalLiabilitiesAndEquity() {
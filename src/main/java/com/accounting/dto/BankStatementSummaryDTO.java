@@ -0,0 +1,27 @@
+package com.accounting.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BankStatementSummaryDTO {
+    private Long id;
+    private LocalDate statementDate;
+    private String description;
+    private String reference;
+    private BigDecimal debitAmount;
+    private BigDecimal creditAmount;
+    private Boolean isReconciled;
+
+    public BigDecimal getNetAmount() {
+        BigDecimal debit = debitAmount != null ? debitAmount : BigDecimal.ZERO;
+        BigDecimal credit = creditAmount != null ? creditAmount : BigDecimal.ZERO;
+        return credit.subtract(debit);
+    }
+}
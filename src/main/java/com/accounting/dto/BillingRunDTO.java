@@ -0,0 +1,53 @@
+package com.accounting.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BillingRunDTO {
+    private LocalDate invoiceDate;
+    private LocalDate dueDate;
+    private Integer chunkSize;
+    private boolean send = true;
+    private List<BillingInvoiceDTO> invoices = new ArrayList<>();
+
+    public void addInvoice(BillingInvoiceDTO invoice) {
+        invoices.add(invoice);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BillingInvoiceDTO {
+        private Long customerId;
+        private BigDecimal taxAmount;
+        private String notes;
+        private List<BillingItemDTO> items = new ArrayList<>();
+
+        public BillingInvoiceDTO(Long customerId) {
+            this.customerId = customerId;
+        }
+
+        public void addItem(BillingItemDTO item) {
+            items.add(item);
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BillingItemDTO {
+        private String description;
+        private BigDecimal quantity;
+        private BigDecimal unitPrice;
+        private Long accountId;
+    }
+}
@@ -0,0 +1,27 @@
+package com.accounting.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BillingRunResultDTO {
+    private int invoiceCount;
+    private int journalEntryCount;
+    private int chunkCount;
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+    private String firstInvoiceNumber;
+    private String lastInvoiceNumber;
+    private long elapsedMillis;
+
+    public double getInvoicesPerSecond() {
+        if (elapsedMillis <= 0) {
+            return invoiceCount;
+        }
+        return invoiceCount * 1000.0 / elapsedMillis;
+    }
+}
@@ -0,0 +1,18 @@
+package com.accounting.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CurrencyBalanceDTO {
+    private Long currencyId;
+    private LocalDate firstEntryDate;
+    private BigDecimal amount;
+    private BigDecimal currencyAmount;
+}
@@ -0,0 +1,24 @@
+package com.accounting.dto;
+
+import com.accounting.model.Customer;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerDTO {
+    private Long id;
+    private String code;
+    private String name;
+    private String email;
+    private String phone;
+    private String address;
+    private String taxId;
+
+    public static CustomerDTO from(Customer customer) {
+        return new CustomerDTO(customer.getId(), customer.getCode(), customer.getName(), customer.getEmail(),
+                customer.getPhone(), customer.getAddress(), customer.getTaxId());
+    }
+}
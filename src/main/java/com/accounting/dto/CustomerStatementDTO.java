@@ -0,0 +1,61 @@
+package com.accounting.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerStatementDTO {
+    private Long customerId;
+    private String customerCode;
+    private String customerName;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private BigDecimal openingBalance = BigDecimal.ZERO;
+    private BigDecimal closingBalance = BigDecimal.ZERO;
+    private List<StatementLineDTO> lines = new ArrayList<>();
+
+    public void addLine(StatementLineDTO line) {
+        lines.add(line);
+    }
+
+    public BigDecimal getTotalInvoiced() {
+        return lines.stream()
+                .map(StatementLineDTO::getDebitAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    public BigDecimal getTotalPaid() {
+        return lines.stream()
+                .map(StatementLineDTO::getCreditAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StatementLineDTO {
+        private LocalDate date;
+        private String type;
+        private Long invoiceId;
+        private String invoiceNumber;
+        private BigDecimal debitAmount = BigDecimal.ZERO;
+        private BigDecimal creditAmount = BigDecimal.ZERO;
+        private BigDecimal runningBalance;
+
+        public static StatementLineDTO invoice(LocalDate date, Long invoiceId, String invoiceNumber, BigDecimal amount) {
+            return new StatementLineDTO(date, "Invoice", invoiceId, invoiceNumber, amount, BigDecimal.ZERO, null);
+        }
+
+        public static StatementLineDTO payment(LocalDate date, Long invoiceId, String invoiceNumber, BigDecimal amount) {
+            return new StatementLineDTO(date, "Payment", invoiceId, invoiceNumber, BigDecimal.ZERO, amount, null);
+        }
+    }
+}
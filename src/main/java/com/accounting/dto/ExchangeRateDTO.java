@@ -0,0 +1,23 @@
+package com.accounting.dto;
+
+import com.accounting.model.ExchangeRate;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExchangeRateDTO {
+    private String currencyCode;
+    private LocalDate effectiveDate;
+    private BigDecimal rate;
+
+    public static ExchangeRateDTO from(ExchangeRate exchangeRate) {
+        return new ExchangeRateDTO(exchangeRate.getCurrency().getCode(), exchangeRate.getEffectiveDate(),
+                exchangeRate.getRate());
+    }
+}
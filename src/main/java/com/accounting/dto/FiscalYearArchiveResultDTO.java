@@ -0,0 +1,27 @@
+package com.accounting.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FiscalYearArchiveResultDTO {
+    private String fiscalYear;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String archiveFile;
+    private int archivedLineCount;
+    private int deletedLineCount;
+    private long fileSize;
+    private long elapsedMillis;
+
+    public FiscalYearArchiveResultDTO(String fiscalYear, LocalDate startDate, LocalDate endDate) {
+        this.fiscalYear = fiscalYear;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+}
@@ -0,0 +1,28 @@
+package com.accounting.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FiscalYearCloseResultDTO {
+    private String fiscalYear;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String closingEntryNumber;
+    private int closedAccountCount;
+    private int snapshotCount;
+    private BigDecimal netIncome = BigDecimal.ZERO;
+    private long elapsedMillis;
+
+    public FiscalYearCloseResultDTO(String fiscalYear, LocalDate startDate, LocalDate endDate) {
+        this.fiscalYear = fiscalYear;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+}
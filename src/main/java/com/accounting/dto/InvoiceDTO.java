@@ -0,0 +1,68 @@
+package com.accounting.dto;
+
+import com.accounting.model.Invoice;
+import com.accounting.model.InvoiceItem;
+import com.accounting.model.InvoiceStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InvoiceDTO {
+    private Long id;
+    private String invoiceNumber;
+    private Long customerId;
+    private String customerName;
+    private LocalDate invoiceDate;
+    private LocalDate dueDate;
+    private InvoiceStatus status;
+    private BigDecimal subtotal;
+    private BigDecimal taxAmount;
+    private BigDecimal totalAmount;
+    private LocalDate paidDate;
+    private Long journalEntryId;
+    private String notes;
+    private List<InvoiceItemDTO> items = new ArrayList<>();
+
+    public static InvoiceDTO from(Invoice invoice) {
+        InvoiceDTO dto = new InvoiceDTO();
+        dto.setId(invoice.getId());
+        dto.setInvoiceNumber(invoice.getInvoiceNumber());
+        dto.setCustomerId(invoice.getCustomer().getId());
+        dto.setCustomerName(invoice.getCustomer().getName());
+        dto.setInvoiceDate(invoice.getInvoiceDate());
+        dto.setDueDate(invoice.getDueDate());
+        dto.setStatus(invoice.getStatus());
+        dto.setSubtotal(invoice.getSubtotal());
+        dto.setTaxAmount(invoice.getTaxAmount());
+        dto.setTotalAmount(invoice.getTotalAmount());
+        dto.setPaidDate(invoice.getPaidDate());
+        dto.setJournalEntryId(invoice.getJournalEntry() != null ? invoice.getJournalEntry().getId() : null);
+        dto.setNotes(invoice.getNotes());
+        for (InvoiceItem item : invoice.getItems()) {
+            dto.getItems().add(new InvoiceItemDTO(item.getId(), item.getDescription(), item.getQuantity(),
+                    item.getUnitPrice(), item.getAmount(),
+                    item.getAccount() != null ? item.getAccount().getId() : null));
+        }
+        return dto;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class InvoiceItemDTO {
+        private Long id;
+        private String description;
+        private BigDecimal quantity;
+        private BigDecimal unitPrice;
+        private BigDecimal amount;
+        private Long accountId;
+    }
+}
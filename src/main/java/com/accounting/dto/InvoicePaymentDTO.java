@@ -0,0 +1,16 @@
+package com.accounting.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InvoicePaymentDTO {
+    private LocalDate paymentDate;
+    private BigDecimal amount;
+}
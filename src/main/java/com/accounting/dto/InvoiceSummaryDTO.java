@@ -0,0 +1,29 @@
+package com.accounting.dto;
+
+import com.accounting.model.InvoiceStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InvoiceSummaryDTO {
+    private Long id;
+    private String invoiceNumber;
+    private Long customerId;
+    private String customerName;
+    private LocalDate invoiceDate;
+    private LocalDate dueDate;
+    private InvoiceStatus status;
+    private BigDecimal totalAmount;
+    private LocalDate paidDate;
+
+    public boolean isOverdue() {
+        return dueDate != null && LocalDate.now().isAfter(dueDate)
+               && status != InvoiceStatus.PAID && status != InvoiceStatus.CANCELLED;
+    }
+}
@@ -1,5 +1,7 @@
 package com.accounting.dto;
 
+import com.accounting.model.EntryStatus;
+import com.accounting.model.JournalEntry;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -18,8 +20,32 @@ public class JournalEntryDTO {
     private LocalDate entryDate;
     private String description;
     private String reference;
+    private EntryStatus status;
     private List<JournalEntryLineDTO> lines = new ArrayList<>();
 
+    public static JournalEntryDTO from(JournalEntry entry) {
+        JournalEntryDTO dto = new JournalEntryDTO();
+        dto.setId(entry.getId());
+        dto.setEntryNumber(entry.getEntryNumber());
+        dto.setEntryDate(entry.getEntryDate());
+        dto.setDescription(entry.getDescription());
+        dto.setReference(entry.getReference());
+        dto.setStatus(entry.getStatus());
+
+        entry.getLines().forEach(line -> {
+            JournalEntryLineDTO lineDto = new JournalEntryLineDTO();
+            lineDto.setId(line.getId());
+            lineDto.setAccountId(line.getAccount().getId());
+            lineDto.setAccountCode(line.getAccount().getCode());
+            lineDto.setAccountName(line.getAccount().getName());
+            lineDto.setDebitAmount(line.getDebitAmount());
+            lineDto.setCreditAmount(line.getCreditAmount());
+            lineDto.setDescription(line.getDescription());
+            dto.addLine(lineDto);
+        });
+        return dto;
+    }
+
     public void addLine(JournalEntryLineDTO line) {
         lines.add(line);
     }
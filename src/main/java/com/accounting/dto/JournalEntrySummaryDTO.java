@@ -0,0 +1,22 @@
+package com.accounting.dto;
+
+import com.accounting.model.EntryStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JournalEntrySummaryDTO {
+    private Long id;
+    private String entryNumber;
+    private LocalDate entryDate;
+    private String description;
+    private String reference;
+    private EntryStatus status;
+    private BigDecimal totalDebit;
+}
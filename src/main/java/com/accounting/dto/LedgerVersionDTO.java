@@ -0,0 +1,19 @@
+package com.accounting.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LedgerVersionDTO {
+    private String etag;
+    private Instant lastModified;
+
+    public long getLastModifiedMillis() {
+        return lastModified != null ? lastModified.toEpochMilli() : -1L;
+    }
+}
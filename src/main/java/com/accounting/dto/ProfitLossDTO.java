@@ -15,6 +15,7 @@ import java.util.List;
 public class ProfitLossDTO {
     private LocalDate startDate;
     private LocalDate endDate;
+    private String currencyCode;
     private List<AccountBalanceDTO> revenueAccounts = new ArrayList<>();
     private List<AccountBalanceDTO> expenseAccounts = new ArrayList<>();
     private BigDecimal totalRevenue = BigDecimal.ZERO;
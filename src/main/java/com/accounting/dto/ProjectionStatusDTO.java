@@ -0,0 +1,21 @@
+package com.accounting.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectionStatusDTO {
+    private String name;
+    private long position;
+    private long head;
+    private LocalDateTime updatedAt;
+
+    public long getLag() {
+        return head - position;
+    }
+}
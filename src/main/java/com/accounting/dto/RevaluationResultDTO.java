@@ -0,0 +1,38 @@
+package com.accounting.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevaluationResultDTO {
+    private LocalDate revaluationDate;
+    private int balanceCount;
+    private int journalEntryCount;
+    private int lineCount;
+    private BigDecimal totalGainLoss = BigDecimal.ZERO;
+    private long elapsedMillis;
+    private List<CurrencyRevaluationDTO> currencies = new ArrayList<>();
+
+    public RevaluationResultDTO(LocalDate revaluationDate) {
+        this.revaluationDate = revaluationDate;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CurrencyRevaluationDTO {
+        private String currencyCode;
+        private BigDecimal rate;
+        private String entryNumber;
+        private int accountCount;
+        private BigDecimal gainLoss;
+    }
+}
@@ -0,0 +1,17 @@
+package com.accounting.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenResponseDTO {
+    private String accessToken;
+    private String tokenType = "Bearer";
+    private long expiresIn;
+    private List<String> roles;
+}
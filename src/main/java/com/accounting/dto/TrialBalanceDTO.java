@@ -15,6 +15,7 @@ import java.util.List;
 @AllArgsConstructor
 public class TrialBalanceDTO {
     private LocalDate asOfDate;
+    private String currencyCode;
     private List<TrialBalanceLineDTO> lines = new ArrayList<>();
     private BigDecimal totalDebit = BigDecimal.ZERO;
     private BigDecimal totalCredit = BigDecimal.ZERO;
@@ -0,0 +1,27 @@
+package com.accounting.event;
+
+import com.accounting.model.JournalEntry;
+import com.accounting.model.JournalEntryLine;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public record EntryEvent(Long entryId, String entryNumber, LocalDate entryDate, List<Line> lines) {
+
+    public static EntryEvent of(JournalEntry entry) {
+        return of(entry, entry.getLines().stream().map(Line::of).toList());
+    }
+
+    public static EntryEvent of(JournalEntry entry, List<Line> lines) {
+        return new EntryEvent(entry.getId(), entry.getEntryNumber(), entry.getEntryDate(), lines);
+    }
+
+    public record Line(Long accountId, Long customerId, BigDecimal debitAmount, BigDecimal creditAmount) {
+
+        public static Line of(JournalEntryLine line) {
+            return new Line(line.getAccount().getId(), line.getCustomer() != null ? line.getCustomer().getId() : null,
+                    line.getDebitAmount(), line.getCreditAmount());
+        }
+    }
+}
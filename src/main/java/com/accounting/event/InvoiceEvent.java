@@ -0,0 +1,15 @@
+package com.accounting.event;
+
+import com.accounting.model.Invoice;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record InvoiceEvent(Long invoiceId, String invoiceNumber, Long customerId, LocalDate invoiceDate,
+                           LocalDate dueDate, BigDecimal amount, LocalDate paidDate) {
+
+    public static InvoiceEvent of(Invoice invoice) {
+        return new InvoiceEvent(invoice.getId(), invoice.getInvoiceNumber(), invoice.getCustomer().getId(),
+                invoice.getInvoiceDate(), invoice.getDueDate(), invoice.getTotalAmount(), invoice.getPaidDate());
+    }
+}
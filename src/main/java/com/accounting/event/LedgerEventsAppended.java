@@ -0,0 +1,4 @@
+package com.accounting.event;
+
+public record LedgerEventsAppended(long position) {
+}
@@ -0,0 +1,16 @@
+package com.accounting.event;
+
+import com.accounting.model.BankStatement;
+import com.accounting.model.JournalEntryLine;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record StatementEvent(Long statementId, Long bankAccountId, Long journalLineId, LocalDate transactionDate,
+                             BigDecimal amount) {
+
+    public static StatementEvent of(BankStatement statement, JournalEntryLine journalLine) {
+        return new StatementEvent(statement.getId(), statement.getBankAccount().getId(),
+                journalLine != null ? journalLine.getId() : null, statement.getTransactionDate(), statement.getNetAmount());
+    }
+}
@@ -0,0 +1,22 @@
+package com.accounting.generator;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "accounting.generator")
+public class GeneratorProperties {
+    private long seed = 42L;
+    private int years = 3;
+    private int extraAccounts = 60;
+    private int customers = 1_000;
+    private long journalEntries = 100_000;
+    private int maxLinesPerEntry = 4;
+    private long invoices = 20_000;
+    private long bankTransactions = 20_000;
+    private double accountSkew = 1.1;
+    private double customerSkew = 0.8;
+    private int batchSize = 5_000;
+}
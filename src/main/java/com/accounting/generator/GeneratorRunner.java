@@ -0,0 +1,35 @@
+package com.accounting.generator;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Slf4j
+@Component
+@Profile("generator")
+@RequiredArgsConstructor
+public class GeneratorRunner implements CommandLineRunner {
+
+    private final LedgerDataGenerator ledgerDataGenerator;
+    private final GeneratorProperties generatorProperties;
+    private final ApplicationContext applicationContext;
+
+    @Override
+    public void run(String... args) {
+        log.info("Generating ledger data with {}", generatorProperties);
+        long started = System.nanoTime();
+        Map<String, Long> counts = ledgerDataGenerator.generate(generatorProperties);
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        long rows = counts.values().stream().mapToLong(Long::longValue).sum();
+        counts.forEach((table, count) -> log.info("  {}: {} rows", table, count));
+        log.info("Generated {} rows in {} s ({} rows/s)", rows, String.format("%.1f", seconds),
+                String.format("%.0f", rows / Math.max(seconds, 0.001)));
+        SpringApplication.exit(applicationContext);
+    }
+}
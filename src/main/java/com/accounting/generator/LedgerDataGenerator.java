@@ -0,0 +1,555 @@
+package com.accounting.generator;
+
+import com.accounting.service.LedgerEventService;
+import com.accounting.service.LedgerVersionService;
+import com.accounting.service.NumberSequenceService;
+import com.accounting.service.ProjectionService;
+import com.accounting.service.SecondLevelCacheService;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.DatabaseMetaData;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static java.sql.Types.BIGINT;
+import static java.sql.Types.BOOLEAN;
+import static java.sql.Types.DATE;
+import static java.sql.Types.DECIMAL;
+import static java.sql.Types.TIMESTAMP;
+import static java.sql.Types.VARCHAR;
+
+@Slf4j
+@Component
+public class LedgerDataGenerator {
+
+    // Numbers are reserved from the shared sequence in blocks; the unused tail of a month's last block is skipped
+    private static final int NUMBER_BLOCK = 500;
+
+    private static final String[][] STANDARD_CHART = {
+            {"1000", "Cash", "ASSET"},
+            {"1010", "Petty Cash", "ASSET"},
+            {"1100", "Bank Account - Checking", "ASSET"},
+            {"1110", "Bank Account - Savings", "ASSET"},
+            {"1200", "Accounts Receivable", "ASSET"},
+            {"1300", "Inventory", "ASSET"},
+            {"1400", "Prepaid Expenses", "ASSET"},
+            {"1500", "Fixed Assets", "ASSET"},
+            {"1510", "Furniture & Equipment", "ASSET"},
+            {"1520", "Vehicles", "ASSET"},
+            {"1590", "Accumulated Depreciation", "ASSET"},
+            {"2000", "Accounts Payable", "LIABILITY"},
+            {"2100", "Accrued Expenses", "LIABILITY"},
+            {"2200", "Wages Payable", "LIABILITY"},
+            {"2300", "Taxes Payable", "LIABILITY"},
+            {"2400", "Short-term Loans", "LIABILITY"},
+            {"2500", "Long-term Loans", "LIABILITY"},
+            {"2600", "Unearned Revenue", "LIABILITY"},
+            {"3000", "Owner's Capital", "EQUITY"},
+            {"3100", "Owner's Drawings", "EQUITY"},
+            {"3200", "Retained Earnings", "EQUITY"},
+            {"4000", "Sales Revenue", "REVENUE"},
+            {"4100", "Service Revenue", "REVENUE"},
+            {"4200", "Interest Income", "REVENUE"},
+            {"4300", "Other Income", "REVENUE"},
+            {"4900", "Sales Returns & Allowances", "REVENUE"},
+            {"5000", "Cost of Goods Sold", "EXPENSE"},
+            {"5100", "Salaries & Wages", "EXPENSE"},
+            {"5200", "Rent Expense", "EXPENSE"},
+            {"5300", "Utilities Expense", "EXPENSE"},
+            {"5400", "Office Supplies", "EXPENSE"},
+            {"5500", "Insurance Expense", "EXPENSE"},
+            {"5600", "Depreciation Expense", "EXPENSE"},
+            {"5700", "Interest Expense", "EXPENSE"},
+            {"5800", "Bank Charges", "EXPENSE"},
+            {"5900", "Advertising & Marketing", "EXPENSE"},
+            {"5910", "Travel & Entertainment", "EXPENSE"},
+            {"5920", "Professional Fees", "EXPENSE"},
+            {"5930", "Repairs & Maintenance", "EXPENSE"},
+            {"5990", "Miscellaneous Expense", "EXPENSE"}
+    };
+
+    private static final String[] EXTRA_ACCOUNT_TYPES = {"ASSET", "LIABILITY", "REVENUE", "EXPENSE", "EXPENSE"};
+
+    private static final String[] NAME_PREFIXES = {"Acme", "Global", "Northwind", "Summit", "Pioneer", "Blue River",
+            "Evergreen", "Atlas", "Harbor", "Silverline", "Redwood", "Keystone"};
+
+    private static final String[] NAME_SUFFIXES = {"Trading", "Logistics", "Foods", "Consulting", "Systems",
+            "Holdings", "Retail", "Manufacturing", "Partners", "Services"};
+
+    private static final String[] ENTRY_DESCRIPTIONS = {"Supplier payment", "Payroll run", "Office rent",
+            "Utility bill", "Cash sale", "Loan repayment", "Equipment purchase", "Owner contribution",
+            "Bank charges", "Inventory purchase", "Accrual", "Insurance premium"};
+
+    private static final String[] ITEM_DESCRIPTIONS = {"Consulting hours", "Software licence", "Support plan",
+            "Hardware", "Installation", "Training session", "Maintenance", "Shipping"};
+
+    private static final String[] IDENTITY_TABLES = {"accounts", "customers", "journal_entries",
+            "journal_entry_lines", "invoices", "invoice_items", "bank_accounts", "bank_statements"};
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate sequenceTransaction;
+    private final NumberSequenceService numberSequenceService;
+    private final LedgerVersionService ledgerVersionService;
+    private final SecondLevelCacheService secondLevelCacheService;
+    private final LedgerEventService ledgerEventService;
+    private final ProjectionService projectionService;
+
+    public LedgerDataGenerator(DataSource dataSource, PlatformTransactionManager transactionManager,
+                               NumberSequenceService numberSequenceService, LedgerVersionService ledgerVersionService,
+                               SecondLevelCacheService secondLevelCacheService, LedgerEventService ledgerEventService,
+                               ProjectionService projectionService) {
+        this.dataSource = dataSource instanceof ProxyDataSource proxy ? proxy.getDataSource() : dataSource;
+        this.jdbcTemplate = new JdbcTemplate(this.dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(this.dataSource));
+        this.sequenceTransaction = new TransactionTemplate(transactionManager);
+        this.numberSequenceService = numberSequenceService;
+        this.ledgerVersionService = ledgerVersionService;
+        this.secondLevelCacheService = secondLevelCacheService;
+        this.ledgerEventService = ledgerEventService;
+        this.projectionService = projectionService;
+    }
+
+    public Map<String, Long> generate(GeneratorProperties properties) {
+        long firstEntryId = nextId("journal_entries");
+        long firstInvoiceId = nextId("invoices");
+        Run run = new Run(properties);
+        run.accounts();
+        run.customers();
+        run.journalEntries();
+        run.invoices();
+        run.bankStatements();
+        run.flushAll();
+        restartIdentities();
+        ledgerVersionService.bump(LedgerVersionService.ACCOUNTS, LedgerVersionService.JOURNAL,
+                LedgerVersionService.INVOICES, LedgerVersionService.CUSTOMERS);
+        secondLevelCacheService.evictAll();
+
+        // The rows bypass the services, so their events are appended here and the projections replayed over them
+        Map<String, Long> counts = run.counts();
+        counts.put("ledger_events", (long) ledgerEventService.appendLoaded(firstEntryId, firstInvoiceId));
+        projectionService.rebuildAll();
+        return counts;
+    }
+
+    private void restartIdentities() {
+        String product = databaseProductName();
+        for (String table : IDENTITY_TABLES) {
+            long next = nextId(table);
+            if (product.contains("h2")) {
+                jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+            } else if (product.contains("mysql") || product.contains("mariadb")) {
+                jdbcTemplate.execute("ALTER TABLE " + table + " AUTO_INCREMENT = " + next);
+            }
+        }
+    }
+
+    private String databaseProductName() {
+        try {
+            String name = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return name.toLowerCase();
+        } catch (Exception e) {
+            return "";
+        }
+    }
+
+    private long nextId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return max != null ? max + 1 : 1;
+    }
+
+    private static BigDecimal money(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    private class Batch {
+        private final String sql;
+        private final int size;
+        private final Batch parent;
+        private final int[] types;
+        private final List<Object[]> rows = new ArrayList<>();
+        private long written;
+
+        Batch(String sql, int size, Batch parent, int... types) {
+            this.sql = sql;
+            this.size = size;
+            this.parent = parent;
+            this.types = types;
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() >= size) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (parent != null) {
+                parent.flush();
+            }
+            if (!rows.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, rows, types));
+                written += rows.size();
+                rows.clear();
+            }
+        }
+    }
+
+    private class Run {
+        private final GeneratorProperties properties;
+        private final SplittableRandom random;
+        private final LocalDate endDate = LocalDate.now();
+        private final LocalDate startDate;
+        private final long days;
+        private final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        private final Map<String, Long> accountIds = new HashMap<>();
+        private final List<Long> debitPool = new ArrayList<>();
+        private final List<Long> creditPool = new ArrayList<>();
+        private final List<Long> customerIds = new ArrayList<>();
+        private final Map<String, Deque<String>> numbers = new HashMap<>();
+
+        private final Batch accountBatch;
+        private final Batch customerBatch;
+        private final Batch entryBatch;
+        private final Batch lineBatch;
+        private final Batch invoiceBatch;
+        private final Batch itemBatch;
+        private final Batch statementBatch;
+
+        private long nextEntryId;
+        private long nextLineId;
+        private Date entryDate;
+        private boolean entryPosted;
+
+        Run(GeneratorProperties properties) {
+            this.properties = properties;
+            this.random = new SplittableRandom(properties.getSeed());
+            this.startDate = endDate.minusYears(properties.getYears()).plusDays(1);
+            this.days = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+            int size = properties.getBatchSize();
+            accountBatch = new Batch("INSERT INTO accounts (id, code, name, account_type, description, is_active, "
+                    + "created_at) VALUES (?, ?, ?, ?, ?, ?, ?)", size, null,
+                    BIGINT, VARCHAR, VARCHAR, VARCHAR, VARCHAR, BOOLEAN, TIMESTAMP);
+            customerBatch = new Batch("INSERT INTO customers (id, code, name, email, phone, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?)", size, null,
+                    BIGINT, VARCHAR, VARCHAR, VARCHAR, VARCHAR, TIMESTAMP);
+            entryBatch = new Batch("INSERT INTO journal_entries (id, entry_number, entry_date, description, "
+                    + "reference, status, created_at, posted_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", size, null,
+                    BIGINT, VARCHAR, DATE, VARCHAR, VARCHAR, VARCHAR, TIMESTAMP, TIMESTAMP);
+            lineBatch = new Batch("INSERT INTO journal_entry_lines (id, journal_entry_id, account_id, "
+                    + "debit_amount, credit_amount, customer_id, exchange_rate, description, entry_date, posted) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", size, entryBatch,
+                    BIGINT, BIGINT, BIGINT, DECIMAL, DECIMAL, BIGINT, DECIMAL, VARCHAR, DATE, BOOLEAN);
+            invoiceBatch = new Batch("INSERT INTO invoices (id, invoice_number, customer_id, invoice_date, "
+                    + "due_date, subtotal, tax_amount, total_amount, status, journal_entry_id, paid_date, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", size, entryBatch,
+                    BIGINT, VARCHAR, BIGINT, DATE, DATE, DECIMAL, DECIMAL, DECIMAL, VARCHAR, BIGINT, DATE, TIMESTAMP);
+            itemBatch = new Batch("INSERT INTO invoice_items (id, invoice_id, description, quantity, unit_price, "
+                    + "amount, account_id) VALUES (?, ?, ?, ?, ?, ?, ?)", size, invoiceBatch,
+                    BIGINT, BIGINT, VARCHAR, DECIMAL, DECIMAL, DECIMAL, BIGINT);
+            statementBatch = new Batch("INSERT INTO bank_statements (id, bank_account_id, statement_date, "
+                    + "transaction_date, description, reference, debit_amount, credit_amount, balance, "
+                    + "is_reconciled, imported_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", size, null,
+                    BIGINT, BIGINT, DATE, DATE, VARCHAR, VARCHAR, DECIMAL, DECIMAL, DECIMAL, BOOLEAN, TIMESTAMP);
+        }
+
+        void accounts() {
+            jdbcTemplate.query("SELECT id, code FROM accounts",
+                    rs -> { accountIds.put(rs.getString("code"), rs.getLong("id")); });
+            Map<String, String> types = new HashMap<>();
+            long nextId = nextId("accounts");
+            for (String[] account : STANDARD_CHART) {
+                types.put(account[0], account[2]);
+                if (!accountIds.containsKey(account[0])) {
+                    accountIds.put(account[0], nextId);
+                    accountBatch.add(nextId++, account[0], account[1], account[2], null, true, now);
+                }
+            }
+            for (int i = 0; i < properties.getExtraAccounts(); i++) {
+                String type = EXTRA_ACCOUNT_TYPES[i % EXTRA_ACCOUNT_TYPES.length];
+                String code = String.format("%d%04d", typeDigit(type), i + 1);
+                types.put(code, type);
+                if (!accountIds.containsKey(code)) {
+                    accountIds.put(code, nextId);
+                    accountBatch.add(nextId++, code, capitalize(type) + " Sub-account " + (i + 1), type,
+                            "Generated account", true, now);
+                }
+            }
+            accountBatch.flush();
+
+            types.forEach((code, type) -> {
+                if (code.equals("1200")) {
+                    return;
+                }
+                Long id = accountIds.get(code);
+                if (type.equals("EXPENSE") || (type.equals("ASSET") && !isCash(code))) {
+                    debitPool.add(id);
+                } else {
+                    creditPool.add(id);
+                }
+            });
+            debitPool.sort(null);
+            creditPool.sort(null);
+            shuffle(debitPool);
+            shuffle(creditPool);
+        }
+
+        void customers() {
+            long nextId = nextId("customers");
+            Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM customers", Integer.class);
+            int offset = existing != null ? existing : 0;
+            for (int i = 0; i < properties.getCustomers(); i++) {
+                String code = String.format("GEN%06d", offset + i + 1);
+                String name = NAME_PREFIXES[random.nextInt(NAME_PREFIXES.length)] + " "
+                        + NAME_SUFFIXES[random.nextInt(NAME_SUFFIXES.length)] + " " + (offset + i + 1);
+                customerIds.add(nextId);
+                customerBatch.add(nextId++, code, name, code.toLowerCase() + "@example.com",
+                        String.format("555-%07d", random.nextInt(10_000_000)), now);
+            }
+            customerBatch.flush();
+            if (customerIds.isEmpty()) {
+                jdbcTemplate.query("SELECT id FROM customers ORDER BY id", rs -> { customerIds.add(rs.getLong(1)); });
+            }
+        }
+
+        void journalEntries() {
+            nextEntryId = nextId("journal_entries");
+            nextLineId = nextId("journal_entry_lines");
+            if (debitPool.isEmpty() || creditPool.isEmpty()) {
+                return;
+            }
+            ZipfSampler debitAccounts = new ZipfSampler(debitPool.size(), properties.getAccountSkew());
+            ZipfSampler creditAccounts = new ZipfSampler(creditPool.size(), properties.getAccountSkew());
+            long entries = properties.getJournalEntries();
+            int maxLines = Math.max(2, properties.getMaxLinesPerEntry());
+            for (long i = 0; i < entries; i++) {
+                LocalDate date = startDate.plusDays(i * days / Math.max(1, entries));
+                long entryId = entry(date, ENTRY_DESCRIPTIONS[random.nextInt(ENTRY_DESCRIPTIONS.length)], null,
+                        random.nextInt(100) < 3 ? "DRAFT" : "POSTED");
+                int lines = 2 + random.nextInt(maxLines - 1);
+                int debitLines = 1 + random.nextInt(lines - 1);
+                long total = 0;
+                for (int d = 0; d < debitLines; d++) {
+                    long cents = amount();
+                    total += cents;
+                    line(entryId, debitPool.get(debitAccounts.sample(random)), cents, 0, null);
+                }
+                int creditLines = lines - debitLines;
+                long remaining = total;
+                for (int c = 0; c < creditLines; c++) {
+                    long cents = c == creditLines - 1 ? remaining : Math.max(1, remaining / (creditLines - c));
+                    remaining -= cents;
+                    line(entryId, creditPool.get(creditAccounts.sample(random)), 0, cents, null);
+                }
+            }
+        }
+
+        void invoices() {
+            if (customerIds.isEmpty() || properties.getInvoices() <= 0) {
+                return;
+            }
+            long receivable = accountIds.get("1200");
+            long revenue = accountIds.get("4000");
+            long serviceRevenue = accountIds.get("4100");
+            long cash = accountIds.get("1000");
+            ZipfSampler customers = new ZipfSampler(customerIds.size(), properties.getCustomerSkew());
+            long nextInvoiceId = nextId("invoices");
+            long nextItemId = nextId("invoice_items");
+            long invoices = properties.getInvoices();
+            for (long i = 0; i < invoices; i++) {
+                long invoiceId = nextInvoiceId++;
+                long customerId = customerIds.get(customers.sample(random));
+                LocalDate invoiceDate = startDate.plusDays(i * days / invoices);
+                LocalDate dueDate = invoiceDate.plusDays(30);
+
+                long subtotal = 0;
+                List<Object[]> itemRows = new ArrayList<>();
+                int items = 1 + random.nextInt(5);
+                for (int n = 0; n < items; n++) {
+                    int quantity = 1 + random.nextInt(10);
+                    long unitCents = Math.max(100, amount() / 4);
+                    long lineCents = quantity * unitCents;
+                    subtotal += lineCents;
+                    itemRows.add(new Object[]{nextItemId++, invoiceId, ITEM_DESCRIPTIONS[random.nextInt(ITEM_DESCRIPTIONS.length)],
+                            BigDecimal.valueOf(quantity), money(unitCents), money(lineCents),
+                            random.nextBoolean() ? revenue : serviceRevenue});
+                }
+
+                String status;
+                LocalDate paidDate = null;
+                if (ChronoUnit.DAYS.between(invoiceDate, endDate) < 7 && random.nextInt(10) < 3) {
+                    status = "DRAFT";
+                } else if (dueDate.isBefore(endDate)) {
+                    if (random.nextInt(10) < 9) {
+                        status = "PAID";
+                        paidDate = min(invoiceDate.plusDays(5 + random.nextInt(56)), endDate);
+                    } else {
+                        status = "OVERDUE";
+                    }
+                } else if (random.nextInt(10) < 3) {
+                    status = "PAID";
+                    paidDate = min(invoiceDate.plusDays(1 + random.nextInt(10)), endDate);
+                } else {
+                    status = "SENT";
+                }
+
+                String invoiceNumber = number(NumberSequenceService.INVOICE, invoiceDate);
+                Long entryId = null;
+                if (!status.equals("DRAFT")) {
+                    entryId = entry(invoiceDate, "Invoice " + invoiceNumber, invoiceNumber, "POSTED");
+                    line(entryId, receivable, subtotal, 0, customerId);
+                    line(entryId, revenue, 0, subtotal, null);
+                }
+                if (paidDate != null) {
+                    long paymentId = entry(paidDate, "Payment for " + invoiceNumber, invoiceNumber, "POSTED");
+                    line(paymentId, cash, subtotal, 0, null);
+                    line(paymentId, receivable, 0, subtotal, customerId);
+                }
+                invoiceBatch.add(invoiceId, invoiceNumber, customerId, Date.valueOf(invoiceDate),
+                        Date.valueOf(dueDate), money(subtotal), BigDecimal.ZERO, money(subtotal), status, entryId,
+                        paidDate != null ? Date.valueOf(paidDate) : null, now);
+                itemRows.forEach(itemBatch::add);
+            }
+        }
+
+        void bankStatements() {
+            long transactions = properties.getBankTransactions();
+            if (transactions <= 0) {
+                return;
+            }
+            long checking = accountIds.get("1100");
+            List<Long> existing = jdbcTemplate.queryForList(
+                    "SELECT id FROM bank_accounts WHERE gl_account_id = ? ORDER BY id", Long.class, checking);
+            long bankAccountId;
+            if (existing.isEmpty()) {
+                bankAccountId = nextId("bank_accounts");
+                jdbcTemplate.update("INSERT INTO bank_accounts (id, account_name, bank_name, account_number, "
+                                + "gl_account_id, opening_balance, current_balance, is_active) "
+                                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                        bankAccountId, "Operating Account", "First National Bank", "000123456789", checking,
+                        BigDecimal.ZERO, BigDecimal.ZERO, true);
+            } else {
+                bankAccountId = existing.get(0);
+            }
+
+            long nextId = nextId("bank_statements");
+            long balance = 0;
+            for (long i = 0; i < transactions; i++) {
+                LocalDate date = startDate.plusDays(i * days / transactions);
+                long cents = amount();
+                boolean deposit = balance < cents || random.nextInt(100) < 55;
+                balance += deposit ? cents : -cents;
+                statementBatch.add(nextId++, bankAccountId, Date.valueOf(min(date.withDayOfMonth(date.lengthOfMonth()), endDate)),
+                        Date.valueOf(date), deposit ? "Deposit" : "Card payment", String.format("BNK-%08d", nextId),
+                        deposit ? BigDecimal.ZERO : money(cents), deposit ? money(cents) : BigDecimal.ZERO,
+                        money(balance), false, now);
+            }
+            statementBatch.flush();
+            jdbcTemplate.update("UPDATE bank_accounts SET current_balance = ? WHERE id = ?", money(balance), bankAccountId);
+        }
+
+        void flushAll() {
+            lineBatch.flush();
+            itemBatch.flush();
+        }
+
+        Map<String, Long> counts() {
+            Map<String, Long> counts = new LinkedHashMap<>();
+            counts.put("accounts", accountBatch.written);
+            counts.put("customers", customerBatch.written);
+            counts.put("journal_entries", entryBatch.written);
+            counts.put("journal_entry_lines", lineBatch.written);
+            counts.put("invoices", invoiceBatch.written);
+            counts.put("invoice_items", itemBatch.written);
+            counts.put("bank_statements", statementBatch.written);
+            return counts;
+        }
+
+        private long entry(LocalDate date, String description, String reference, String status) {
+            long id = nextEntryId++;
+            Timestamp createdAt = Timestamp.valueOf(date.atTime(9, 0));
+            entryDate = Date.valueOf(date);
+            entryPosted = status.equals("POSTED");
+            entryBatch.add(id, number(NumberSequenceService.JOURNAL_ENTRY, date), entryDate,
+                    description, reference, status, createdAt, entryPosted ? createdAt : null);
+            return id;
+        }
+
+        private void line(long entryId, long accountId, long debitCents, long creditCents, Long customerId) {
+            lineBatch.add(nextLineId++, entryId, accountId, money(debitCents), money(creditCents), customerId,
+                    BigDecimal.ONE, null, entryDate, entryPosted);
+        }
+
+        private String number(String type, LocalDate date) {
+            Deque<String> block = numbers.computeIfAbsent(type + date.withDayOfMonth(1), key -> new ArrayDeque<>());
+            if (block.isEmpty()) {
+                block.addAll(sequenceTransaction.execute(status ->
+                        numberSequenceService.allocate(type, date, NUMBER_BLOCK)));
+            }
+            return block.poll();
+        }
+
+        private long amount() {
+            double cents = Math.exp(Math.log(25_000) + 1.2 * gaussian());
+            return Math.max(1, Math.min(1_000_000_000L, Math.round(cents)));
+        }
+
+        private double gaussian() {
+            double u1 = 1.0 - random.nextDouble();
+            double u2 = random.nextDouble();
+            return Math.sqrt(-2.0 * Math.log(u1)) * Math.cos(2.0 * Math.PI * u2);
+        }
+
+        private void shuffle(List<Long> ids) {
+            for (int i = ids.size() - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                ids.set(i, ids.set(j, ids.get(i)));
+            }
+        }
+
+        private LocalDate min(LocalDate a, LocalDate b) {
+            return a.isBefore(b) ? a : b;
+        }
+
+        private boolean isCash(String code) {
+            return code.equals("1000") || code.equals("1010") || code.equals("1100") || code.equals("1110");
+        }
+
+        private int typeDigit(String type) {
+            return switch (type) {
+                case "ASSET" -> 1;
+                case "LIABILITY" -> 2;
+                case "EQUITY" -> 3;
+                case "REVENUE" -> 4;
+                default -> 5;
+            };
+        }
+
+        private String capitalize(String type) {
+            return type.charAt(0) + type.substring(1).toLowerCase();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.accounting.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@RequiredArgsConstructor
+public class FirstRequestFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicBoolean served = new AtomicBoolean();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (!served.get() && served.compareAndSet(false, true)) {
+                record(request);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request) {
+        // JVM uptime, so class loading and context refresh before SpringApplication.run are included
+        long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+        TimeGauge.builder("application.first.request.time", () -> uptime, TimeUnit.MILLISECONDS)
+                .description("Time from JVM start until the first request was served")
+                .register(meterRegistry);
+        log.info("First request ({} {}) served {} ms after JVM start", request.getMethod(), request.getRequestURI(), uptime);
+    }
+}
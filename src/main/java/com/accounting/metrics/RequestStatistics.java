@@ -0,0 +1,48 @@
+package com.accounting.metrics;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class RequestStatistics {
+
+    private static final ThreadLocal<RequestStatistics> CURRENT = new ThreadLocal<>();
+
+    private final AtomicLong statements = new AtomicLong();
+    private final Map<String, AtomicLong> statementCounts = new ConcurrentHashMap<>();
+
+    public static RequestStatistics current() {
+        return CURRENT.get();
+    }
+
+    public static RequestStatistics bind(RequestStatistics statistics) {
+        RequestStatistics previous = CURRENT.get();
+        if (statistics != null) {
+            CURRENT.set(statistics);
+        } else {
+            CURRENT.remove();
+        }
+        return previous;
+    }
+
+    void statementExecuted(String sql) {
+        statements.incrementAndGet();
+        statementCounts.computeIfAbsent(sql, key -> new AtomicLong()).incrementAndGet();
+    }
+
+    public long getStatements() {
+        return statements.get();
+    }
+
+    public Map<String, Long> getStatementCounts() {
+        Map<String, Long> counts = new ConcurrentHashMap<>();
+        statementCounts.forEach((sql, count) -> counts.put(sql, count.get()));
+        return counts;
+    }
+
+    public Optional<Map.Entry<String, Long>> getMostRepeatedStatement() {
+        return getStatementCounts().entrySet().stream().max(Map.Entry.comparingByValue(Comparator.naturalOrder()));
+    }
+}
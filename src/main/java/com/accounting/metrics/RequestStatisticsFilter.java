@@ -0,0 +1,62 @@
+package com.accounting.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+@Slf4j
+@RequiredArgsConstructor
+public class RequestStatisticsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+    private final int repeatedStatementThreshold;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(request.getContextPath() + "/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestStatistics statistics = new RequestStatistics();
+        RequestStatistics previous = RequestStatistics.bind(statistics);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestStatistics.bind(previous);
+            record(request, statistics);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestStatistics statistics) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+        if (statementBudget > 0 && statistics.getStatements() > statementBudget) {
+            meterRegistry.counter("hibernate.request.budget.exceeded", tags).increment();
+            log.warn("{} {} executed {} SQL statements (budget {})",
+                    request.getMethod(), request.getRequestURI(), statistics.getStatements(), statementBudget);
+        }
+        statistics.getMostRepeatedStatement()
+                .filter(repeated -> repeatedStatementThreshold > 0 && repeated.getValue() >= repeatedStatementThreshold)
+                .ifPresent(repeated -> log.warn("Possible N+1 in {} {}: {} executions of [{}]",
+                        request.getMethod(), request.getRequestURI(), repeated.getValue(), repeated.getKey()));
+        DistributionSummary.builder("hibernate.request.statements")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statistics.getStatements());
+    }
+}
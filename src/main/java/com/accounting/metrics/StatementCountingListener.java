@@ -0,0 +1,23 @@
+package com.accounting.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+public class StatementCountingListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestStatistics statistics = RequestStatistics.current();
+        if (statistics == null || queryInfoList.isEmpty()) {
+            return;
+        }
+        statistics.statementExecuted(queryInfoList.get(0).getQuery());
+    }
+}
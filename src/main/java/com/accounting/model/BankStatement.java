@@ -10,7 +10,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bank_statements")
+@Table(name = "bank_statements", indexes = {
+        @Index(name = "idx_bank_statements_account_reconciled_date", columnList = "bank_account_id, is_reconciled, transaction_date"),
+        @Index(name = "idx_bank_statements_account_statement_date", columnList = "bank_account_id, statement_date")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -4,17 +4,25 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "fiscal_years")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "fiscal-years")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class FiscalYear {
 
+    // Bounds for ledger date ranges that are open at either end
+    public static final LocalDate START_OF_TIME = LocalDate.of(1900, 1, 1);
+    public static final LocalDate END_OF_TIME = LocalDate.of(9999, 12, 31);
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -34,11 +42,27 @@ public class FiscalYear {
     @Column(name = "closed_at")
     private LocalDateTime closedAt;
 
+    @Column(name = "closing_entry_id")
+    private Long closingEntryId;
+
+    @Column(name = "archived_at")
+    private LocalDateTime archivedAt;
+
+    @Column(name = "archive_file")
+    private String archiveFile;
+
+    @Column(name = "archived_line_count")
+    private Integer archivedLineCount;
+
     public boolean isActive() {
         LocalDate today = LocalDate.now();
         return !isClosed && !today.isBefore(startDate) && !today.isAfter(endDate);
     }
 
+    public boolean isArchived() {
+        return archivedAt != null;
+    }
+
     public boolean containsDate(LocalDate date) {
         return !date.isBefore(startDate) && !date.isAfter(endDate);
     }
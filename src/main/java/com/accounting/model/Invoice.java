@@ -12,7 +12,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "invoices")
+@Table(name = "invoices", indexes = {
+        @Index(name = "idx_invoices_customer_date", columnList = "customer_id, invoice_date"),
+        @Index(name = "idx_invoices_customer_paid_date", columnList = "customer_id, paid_date"),
+        @Index(name = "idx_invoices_status_due_date", columnList = "status, due_date"),
+        @Index(name = "idx_invoices_status_invoice_date", columnList = "status, invoice_date"),
+        @Index(name = "idx_invoices_status_paid_date", columnList = "status, paid_date")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -56,6 +62,14 @@ public class Invoice {
     @JoinColumn(name = "journal_entry_id")
     private JournalEntry journalEntry;
 
+    // Revenue account of the consolidated entry this invoice was rolled into
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "revenue_account_id")
+    private Account revenueAccount;
+
+    @Column(name = "paid_date")
+    private LocalDate paidDate;
+
     @Column(name = "notes", columnDefinition = "TEXT")
     private String notes;
 
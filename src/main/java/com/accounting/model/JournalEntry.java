@@ -12,7 +12,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "journal_entries")
+@Table(name = "journal_entries", indexes = {
+        @Index(name = "idx_journal_entries_status_date_number", columnList = "status, entry_date, entry_number"),
+        @Index(name = "idx_journal_entries_reference_status", columnList = "reference, status")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -56,9 +59,21 @@ public class JournalEntry {
         createdAt = LocalDateTime.now();
     }
 
+    public void setEntryDate(LocalDate entryDate) {
+        this.entryDate = entryDate;
+        lines.forEach(line -> line.setEntryDate(entryDate));
+    }
+
+    public void setStatus(EntryStatus status) {
+        this.status = status;
+        lines.forEach(line -> line.setPosted(status == EntryStatus.POSTED));
+    }
+
     public void addLine(JournalEntryLine line) {
         lines.add(line);
         line.setJournalEntry(this);
+        line.setEntryDate(entryDate);
+        line.setPosted(isPosted());
     }
 
     public void removeLine(JournalEntryLine line) {
@@ -6,9 +6,13 @@ import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
 @Entity
-@Table(name = "journal_entry_lines")
+@Table(name = "journal_entry_lines", indexes = {
+        @Index(name = "idx_journal_entry_lines_account_posted_date",
+                columnList = "account_id, posted, entry_date, debit_amount, credit_amount")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -32,6 +36,10 @@ public class JournalEntryLine {
     @Column(name = "credit_amount", precision = 15, scale = 2)
     private BigDecimal creditAmount = BigDecimal.ZERO;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "customer_id")
+    private Customer customer;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "currency_id")
     private Currency currency;
@@ -42,6 +50,20 @@ public class JournalEntryLine {
     @Column(name = "description")
     private String description;
 
+    @Column(name = "entry_date", nullable = false)
+    private LocalDate entryDate;
+
+    @Column(name = "posted", nullable = false)
+    private Boolean posted = false;
+
+    @PrePersist
+    protected void onCreate() {
+        if (journalEntry != null) {
+            entryDate = journalEntry.getEntryDate();
+            posted = journalEntry.isPosted();
+        }
+    }
+
     public boolean isDebit() {
         return debitAmount != null && debitAmount.compareTo(BigDecimal.ZERO) > 0;
     }
@@ -0,0 +1,41 @@
+package com.accounting.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Immutable
+@Table(name = "ledger_events", indexes = {
+        @Index(name = "idx_ledger_events_aggregate", columnList = "aggregate_type, aggregate_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LedgerEvent {
+
+    @Id
+    @Column(name = "position")
+    private Long position;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 40)
+    private LedgerEventType eventType;
+
+    @Column(name = "aggregate_type", nullable = false, length = 30)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Lob
+    @Column(name = "payload", nullable = false)
+    private String payload;
+}
@@ -0,0 +1,22 @@
+package com.accounting.model;
+
+public enum LedgerEventType {
+    ENTRY_POSTED("journal_entry"),
+    ENTRY_VOIDED("journal_entry"),
+    INVOICE_SENT("invoice"),
+    INVOICE_OVERDUE("invoice"),
+    INVOICE_PAID("invoice"),
+    INVOICE_CANCELLED("invoice"),
+    STATEMENT_RECONCILED("bank_statement"),
+    STATEMENT_UNRECONCILED("bank_statement");
+
+    private final String aggregateType;
+
+    LedgerEventType(String aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+}
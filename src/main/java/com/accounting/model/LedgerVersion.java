@@ -0,0 +1,26 @@
+package com.accounting.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "ledger_versions")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LedgerVersion {
+
+    @Id
+    @Column(name = "name", length = 30)
+    private String name;
+
+    @Column(name = "version", nullable = false)
+    private Long version = 0L;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
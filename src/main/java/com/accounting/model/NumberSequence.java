@@ -0,0 +1,26 @@
+package com.accounting.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "number_sequences")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NumberSequence {
+
+    @Id
+    @Column(name = "prefix", length = 20)
+    private String prefix;
+
+    @Column(name = "last_value", nullable = false)
+    private Integer lastValue;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,16 @@
+package com.accounting.model;
+
+public enum PostingMode {
+    DETAILED("One entry per invoice"),
+    CONSOLIDATED("One entry per day and revenue account");
+
+    private final String displayName;
+
+    PostingMode(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,39 @@
+package com.accounting.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "projected_receivables", indexes = {
+        @Index(name = "idx_projected_receivables_due_date", columnList = "due_date")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectedReceivable {
+
+    @Id
+    @Column(name = "invoice_id")
+    private Long invoiceId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "customer_id", nullable = false)
+    private Customer customer;
+
+    @Column(name = "invoice_number", nullable = false, length = 20)
+    private String invoiceNumber;
+
+    @Column(name = "invoice_date", nullable = false)
+    private LocalDate invoiceDate;
+
+    @Column(name = "due_date")
+    private LocalDate dueDate;
+
+    @Column(name = "amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal amount;
+}
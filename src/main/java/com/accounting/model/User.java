@@ -42,6 +42,10 @@ public class User implements UserDetails {
     @Column(name = "enabled")
     private Boolean enabled = true;
 
+    // Carried in API tokens; moving it ends every token issued before
+    @Column(name = "token_version", nullable = false)
+    private Long tokenVersion = 0L;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -0,0 +1,144 @@
+package com.accounting.projection;
+
+import com.accounting.event.EntryEvent;
+import com.accounting.model.AccountType;
+import com.accounting.model.LedgerEvent;
+import com.accounting.model.LedgerEventType;
+import com.accounting.service.LedgerEventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class AccountBalanceProjection implements LedgerProjection {
+
+    public static final String NAME = "account-balances";
+
+    static final int BATCH_SIZE = 1000;
+
+    private static final String EXISTING_DAYS =
+            "SELECT account_id, entry_date FROM projected_account_balances " +
+            "WHERE account_id IN (:accountIds) AND entry_date BETWEEN :startDate AND :endDate";
+
+    private static final String UPDATE_DAY =
+            "UPDATE projected_account_balances SET debit_total = debit_total + ?, credit_total = credit_total + ? " +
+            "WHERE account_id = ? AND entry_date = ?";
+
+    private static final String INSERT_DAY =
+            "INSERT INTO projected_account_balances (account_id, entry_date, debit_total, credit_total) VALUES (?, ?, ?, ?)";
+
+    private static final String ACCOUNT_TOTALS =
+            "SELECT a.id, a.code, a.account_type, a.is_active, " +
+            "SUM(p.debit_total) AS debit_total, SUM(p.credit_total) AS credit_total, " +
+            "SUM(CASE WHEN p.entry_date BETWEEN ? AND ? THEN p.debit_total ELSE 0 END) AS period_debit, " +
+            "SUM(CASE WHEN p.entry_date BETWEEN ? AND ? THEN p.credit_total ELSE 0 END) AS period_credit " +
+            "FROM projected_account_balances p JOIN accounts a ON a.id = p.account_id " +
+            "GROUP BY a.id, a.code, a.account_type, a.is_active";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final LedgerEventService ledgerEventService;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void apply(List<LedgerEvent> events) {
+        Map<Day, BigDecimal[]> deltas = new HashMap<>();
+        for (LedgerEvent event : events) {
+            if (event.getEventType() != LedgerEventType.ENTRY_POSTED && event.getEventType() != LedgerEventType.ENTRY_VOIDED) {
+                continue;
+            }
+            boolean voided = event.getEventType() == LedgerEventType.ENTRY_VOIDED;
+            EntryEvent entry = ledgerEventService.read(event, EntryEvent.class);
+            for (EntryEvent.Line line : entry.lines()) {
+                BigDecimal[] delta = deltas.computeIfAbsent(new Day(line.accountId(), entry.entryDate()),
+                        day -> new BigDecimal[] {BigDecimal.ZERO, BigDecimal.ZERO});
+                delta[0] = voided ? delta[0].subtract(line.debitAmount()) : delta[0].add(line.debitAmount());
+                delta[1] = voided ? delta[1].subtract(line.creditAmount()) : delta[1].add(line.creditAmount());
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Set<Day> existing = findExisting(deltas.keySet());
+        List<Map.Entry<Day, BigDecimal[]>> updates = new ArrayList<>();
+        List<Map.Entry<Day, BigDecimal[]>> inserts = new ArrayList<>();
+        for (Map.Entry<Day, BigDecimal[]> delta : deltas.entrySet()) {
+            (existing.contains(delta.getKey()) ? updates : inserts).add(delta);
+        }
+
+        jdbcTemplate.batchUpdate(UPDATE_DAY, updates, BATCH_SIZE, (ps, delta) -> {
+            ps.setBigDecimal(1, delta.getValue()[0]);
+            ps.setBigDecimal(2, delta.getValue()[1]);
+            ps.setLong(3, delta.getKey().accountId());
+            ps.setDate(4, Date.valueOf(delta.getKey().date()));
+        });
+        jdbcTemplate.batchUpdate(INSERT_DAY, inserts, BATCH_SIZE, (ps, delta) -> {
+            ps.setLong(1, delta.getKey().accountId());
+            ps.setDate(2, Date.valueOf(delta.getKey().date()));
+            ps.setBigDecimal(3, delta.getValue()[0]);
+            ps.setBigDecimal(4, delta.getValue()[1]);
+        });
+    }
+
+    @Override
+    public void reset() {
+        jdbcTemplate.update("DELETE FROM projected_account_balances");
+    }
+
+    public List<AccountTotals> findAccountTotals(LocalDate periodStart, LocalDate periodEnd) {
+        return jdbcTemplate.query(ACCOUNT_TOTALS, (rs, rowNum) -> {
+            AccountType type = AccountType.valueOf(rs.getString("account_type"));
+            BigDecimal balance = rs.getBigDecimal("debit_total").subtract(rs.getBigDecimal("credit_total"));
+            BigDecimal periodBalance = rs.getBigDecimal("period_debit").subtract(rs.getBigDecimal("period_credit"));
+            return new AccountTotals(rs.getLong("id"), rs.getString("code"), type, rs.getBoolean("is_active"),
+                    type.isDebitNormal() ? balance : balance.negate(),
+                    type.isDebitNormal() ? periodBalance : periodBalance.negate());
+        }, Date.valueOf(periodStart), Date.valueOf(periodEnd), Date.valueOf(periodStart), Date.valueOf(periodEnd));
+    }
+
+    private Set<Day> findExisting(Set<Day> days) {
+        Set<Long> accountIds = new HashSet<>();
+        LocalDate startDate = null;
+        LocalDate endDate = null;
+        for (Day day : days) {
+            accountIds.add(day.accountId());
+            startDate = startDate == null || day.date().isBefore(startDate) ? day.date() : startDate;
+            endDate = endDate == null || day.date().isAfter(endDate) ? day.date() : endDate;
+        }
+
+        Set<Day> existing = new HashSet<>();
+        namedParameterJdbcTemplate.query(EXISTING_DAYS,
+                Map.of("accountIds", accountIds, "startDate", Date.valueOf(startDate), "endDate", Date.valueOf(endDate)),
+                rs -> {
+                    Day day = new Day(rs.getLong("account_id"), rs.getDate("entry_date").toLocalDate());
+                    if (days.contains(day)) {
+                        existing.add(day);
+                    }
+                });
+        return existing;
+    }
+
+    public record AccountTotals(Long accountId, String code, AccountType accountType, boolean active,
+                                BigDecimal balance, BigDecimal periodBalance) {
+    }
+
+    private record Day(long accountId, LocalDate date) {
+    }
+}
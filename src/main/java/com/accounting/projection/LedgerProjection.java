@@ -0,0 +1,14 @@
+package com.accounting.projection;
+
+import com.accounting.model.LedgerEvent;
+
+import java.util.List;
+
+public interface LedgerProjection {
+
+    String getName();
+
+    void apply(List<LedgerEvent> events);
+
+    void reset();
+}
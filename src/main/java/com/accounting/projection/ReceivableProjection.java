@@ -0,0 +1,117 @@
+package com.accounting.projection;
+
+import com.accounting.event.InvoiceEvent;
+import com.accounting.model.LedgerEvent;
+import com.accounting.service.LedgerEventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Component
+@RequiredArgsConstructor
+public class ReceivableProjection implements LedgerProjection {
+
+    public static final String NAME = "receivables";
+
+    static final int BATCH_SIZE = 1000;
+
+    private static final String DELETE_INVOICES =
+            "DELETE FROM projected_receivables WHERE invoice_id IN (:invoiceIds)";
+
+    private static final String INSERT_INVOICE =
+            "INSERT INTO projected_receivables (invoice_id, customer_id, invoice_number, invoice_date, due_date, amount) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String OVERDUE =
+            "SELECT COUNT(*) AS invoice_count, COALESCE(SUM(amount), 0) AS amount FROM projected_receivables WHERE due_date < ?";
+
+    private static final String AGING =
+            "SELECT c.id, c.code, c.name, " +
+            "SUM(CASE WHEN COALESCE(r.due_date, r.invoice_date) >= ? THEN r.amount ELSE 0 END) AS current_amount, " +
+            "SUM(CASE WHEN COALESCE(r.due_date, r.invoice_date) < ? AND COALESCE(r.due_date, r.invoice_date) >= ? THEN r.amount ELSE 0 END) AS days_1_30, " +
+            "SUM(CASE WHEN COALESCE(r.due_date, r.invoice_date) < ? AND COALESCE(r.due_date, r.invoice_date) >= ? THEN r.amount ELSE 0 END) AS days_31_60, " +
+            "SUM(CASE WHEN COALESCE(r.due_date, r.invoice_date) < ? AND COALESCE(r.due_date, r.invoice_date) >= ? THEN r.amount ELSE 0 END) AS days_61_90, " +
+            "SUM(CASE WHEN COALESCE(r.due_date, r.invoice_date) < ? THEN r.amount ELSE 0 END) AS over_90 " +
+            "FROM projected_receivables r JOIN customers c ON c.id = r.customer_id " +
+            "WHERE r.invoice_date <= ? " +
+            "GROUP BY c.id, c.code, c.name ORDER BY c.code";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final LedgerEventService ledgerEventService;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void apply(List<LedgerEvent> events) {
+        Map<Long, InvoiceEvent> open = new LinkedHashMap<>();
+        for (LedgerEvent event : events) {
+            switch (event.getEventType()) {
+                case INVOICE_SENT -> open.put(event.getAggregateId(), ledgerEventService.read(event, InvoiceEvent.class));
+                case INVOICE_PAID, INVOICE_CANCELLED -> open.put(event.getAggregateId(), null);
+                default -> {
+                }
+            }
+        }
+        if (open.isEmpty()) {
+            return;
+        }
+
+        List<Long> invoiceIds = new ArrayList<>(open.keySet());
+        for (int from = 0; from < invoiceIds.size(); from += BATCH_SIZE) {
+            namedParameterJdbcTemplate.update(DELETE_INVOICES,
+                    Map.of("invoiceIds", invoiceIds.subList(from, Math.min(from + BATCH_SIZE, invoiceIds.size()))));
+        }
+        List<InvoiceEvent> inserts = open.values().stream().filter(Objects::nonNull).toList();
+        jdbcTemplate.batchUpdate(INSERT_INVOICE, inserts, BATCH_SIZE, (ps, invoice) -> {
+            ps.setLong(1, invoice.invoiceId());
+            ps.setLong(2, invoice.customerId());
+            ps.setString(3, invoice.invoiceNumber());
+            ps.setDate(4, Date.valueOf(invoice.invoiceDate()));
+            ps.setDate(5, invoice.dueDate() != null ? Date.valueOf(invoice.dueDate()) : null);
+            ps.setBigDecimal(6, invoice.amount());
+        });
+    }
+
+    @Override
+    public void reset() {
+        jdbcTemplate.update("DELETE FROM projected_receivables");
+    }
+
+    public Overdue findOverdue(LocalDate today) {
+        return jdbcTemplate.queryForObject(OVERDUE, (rs, rowNum) ->
+                new Overdue(rs.getLong("invoice_count"), rs.getBigDecimal("amount")), Date.valueOf(today));
+    }
+
+    public List<CustomerAging> findAging(LocalDate asOfDate) {
+        Date current = Date.valueOf(asOfDate);
+        Date days30 = Date.valueOf(asOfDate.minusDays(30));
+        Date days60 = Date.valueOf(asOfDate.minusDays(60));
+        Date days90 = Date.valueOf(asOfDate.minusDays(90));
+        return jdbcTemplate.query(AGING, (rs, rowNum) -> new CustomerAging(
+                        rs.getLong("id"), rs.getString("code"), rs.getString("name"),
+                        rs.getBigDecimal("current_amount"), rs.getBigDecimal("days_1_30"), rs.getBigDecimal("days_31_60"),
+                        rs.getBigDecimal("days_61_90"), rs.getBigDecimal("over_90")),
+                current, current, days30, days30, days60, days60, days90, days90, current);
+    }
+
+    public record Overdue(long invoiceCount, BigDecimal amount) {
+    }
+
+    public record CustomerAging(Long customerId, String customerCode, String customerName, BigDecimal current,
+                                BigDecimal days1To30, BigDecimal days31To60, BigDecimal days61To90, BigDecimal over90) {
+    }
+}
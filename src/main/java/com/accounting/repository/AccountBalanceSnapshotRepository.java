@@ -0,0 +1,17 @@
+package com.accounting.repository;
+
+import com.accounting.model.AccountBalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AccountBalanceSnapshotRepository extends JpaRepository<AccountBalanceSnapshot, Long> {
+
+    @Query("SELECT s FROM AccountBalanceSnapshot s WHERE s.fiscalYear.id IN :fiscalYearIds")
+    List<AccountBalanceSnapshot> findByFiscalYearIds(@Param("fiscalYearIds") Collection<Long> fiscalYearIds);
+}
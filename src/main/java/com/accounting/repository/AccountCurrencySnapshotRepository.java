@@ -0,0 +1,16 @@
+package com.accounting.repository;
+
+import com.accounting.model.AccountCurrencySnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AccountCurrencySnapshotRepository extends JpaRepository<AccountCurrencySnapshot, Long> {
+
+    @Query("SELECT s FROM AccountCurrencySnapshot s WHERE s.fiscalYear.id = :fiscalYearId")
+    List<AccountCurrencySnapshot> findByFiscalYearId(@Param("fiscalYearId") Long fiscalYearId);
+}
@@ -1,9 +1,15 @@
 package com.accounting.repository;
 
+import com.accounting.dto.AccountSummaryDTO;
 import com.accounting.model.Account;
 import com.accounting.model.AccountType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -19,9 +25,17 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     List<Account> findByAccountTypeIn(List<AccountType> accountTypes);
 
     @Query("SELECT a FROM Account a WHERE a.isActive = true ORDER BY a.code")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "account-queries")
+    })
     List<Account> findAllActive();
 
     @Query("SELECT a FROM Account a WHERE a.isActive = true AND a.accountType = :type ORDER BY a.code")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "account-queries")
+    })
     List<Account> findActiveByType(@Param("type") AccountType type);
 
     @Query("SELECT a FROM Account a WHERE a.parent IS NULL ORDER BY a.code")
@@ -32,4 +46,20 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
 
     @Query("SELECT DISTINCT a.accountType FROM Account a WHERE a.isActive = true ORDER BY a.accountType")
     List<AccountType> findDistinctAccountTypes();
-}
\ No newline at end of file
+
+    @Query(value = "SELECT new com.accounting.dto.AccountSummaryDTO(a.id, a.code, a.name, a.description, a.accountType, p.id, a.isActive) " +
+                   "FROM Account a LEFT JOIN a.parent p " +
+                   "WHERE (:type IS NULL OR a.accountType = :type) AND (:active IS NULL OR a.isActive = :active) " +
+                   "AND (:search IS NULL OR a.code LIKE CONCAT(:search, '%') OR LOWER(a.name) LIKE LOWER(CONCAT('%', :search, '%')))",
+           countQuery = "SELECT COUNT(a) FROM Account a " +
+                        "WHERE (:type IS NULL OR a.accountType = :type) AND (:active IS NULL OR a.isActive = :active) " +
+                        "AND (:search IS NULL OR a.code LIKE CONCAT(:search, '%') OR LOWER(a.name) LIKE LOWER(CONCAT('%', :search, '%')))")
+    Page<AccountSummaryDTO> findSummaries(@Param("type") AccountType type,
+                                          @Param("active") Boolean active,
+                                          @Param("search") String search,
+                                          Pageable pageable);
+
+    @Query("SELECT new com.accounting.dto.AccountSummaryDTO(a.id, a.code, a.name, a.description, a.accountType, p.id, a.isActive) " +
+           "FROM Account a LEFT JOIN a.parent p WHERE a.isActive = true ORDER BY a.code")
+    List<AccountSummaryDTO> findActiveSummaries();
+}
@@ -1,6 +1,9 @@
 package com.accounting.repository;
 
+import com.accounting.dto.BankStatementSummaryDTO;
 import com.accounting.model.BankStatement;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -33,4 +36,22 @@ public interface BankStatementRepository extends JpaRepository<BankStatement, Lo
     @Query("SELECT COUNT(bs) FROM BankStatement bs WHERE bs.bankAccount.id = :bankAccountId " +
            "AND bs.isReconciled = false")
     Long countUnreconciled(@Param("bankAccountId") Long bankAccountId);
-}
\ No newline at end of file
+
+    @Query(value = "SELECT new com.accounting.dto.BankStatementSummaryDTO(bs.id, bs.statementDate, bs.description, " +
+                   "bs.reference, bs.debitAmount, bs.creditAmount, bs.isReconciled) FROM BankStatement bs " +
+                   "WHERE bs.bankAccount.id = :bankAccountId AND bs.statementDate BETWEEN :startDate AND :endDate",
+           countQuery = "SELECT COUNT(bs) FROM BankStatement bs WHERE bs.bankAccount.id = :bankAccountId " +
+                        "AND bs.statementDate BETWEEN :startDate AND :endDate")
+    Page<BankStatementSummaryDTO> findSummariesByDateRange(@Param("bankAccountId") Long bankAccountId,
+                                                           @Param("startDate") LocalDate startDate,
+                                                           @Param("endDate") LocalDate endDate,
+                                                           Pageable pageable);
+
+    @Query(value = "SELECT new com.accounting.dto.BankStatementSummaryDTO(bs.id, bs.statementDate, bs.description, " +
+                   "bs.reference, bs.debitAmount, bs.creditAmount, bs.isReconciled) FROM BankStatement bs " +
+                   "WHERE bs.bankAccount.id = :bankAccountId AND bs.isReconciled = false",
+           countQuery = "SELECT COUNT(bs) FROM BankStatement bs WHERE bs.bankAccount.id = :bankAccountId " +
+                        "AND bs.isReconciled = false")
+    Page<BankStatementSummaryDTO> findUnreconciledSummaries(@Param("bankAccountId") Long bankAccountId,
+                                                            Pageable pageable);
+}
@@ -0,0 +1,79 @@
+package com.accounting.repository;
+
+import com.accounting.dto.CustomerStatementDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+@Repository
+@RequiredArgsConstructor
+public class CustomerStatementRepository {
+
+    static final int FETCH_SIZE = 500;
+
+    private static final String BILLED_STATUSES = "('SENT', 'OVERDUE', 'PAID')";
+
+    private static final String BALANCES_BEFORE =
+            "SELECT customer_id, " +
+            "SUM(CASE WHEN invoice_date < ? THEN total_amount ELSE 0 END) - " +
+            "SUM(CASE WHEN status = 'PAID' AND paid_date < ? THEN total_amount ELSE 0 END) AS balance " +
+            "FROM invoices WHERE status IN " + BILLED_STATUSES + " AND invoice_date < ? " +
+            "GROUP BY customer_id ORDER BY customer_id";
+
+    private static final String ACTIVITY_BETWEEN =
+            "SELECT customer_id, invoice_date AS activity_date, 0 AS kind, id, invoice_number, total_amount " +
+            "FROM invoices WHERE status IN " + BILLED_STATUSES + " AND invoice_date BETWEEN ? AND ? " +
+            "UNION ALL " +
+            "SELECT customer_id, paid_date AS activity_date, 1 AS kind, id, invoice_number, total_amount " +
+            "FROM invoices WHERE status = 'PAID' AND paid_date BETWEEN ? AND ? " +
+            "ORDER BY customer_id, activity_date, kind, id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Map<Long, BigDecimal> findBalancesBefore(LocalDate date) {
+        Date before = Date.valueOf(date);
+        Map<Long, BigDecimal> balances = new LinkedHashMap<>();
+        jdbcTemplate.query(BALANCES_BEFORE,
+                ps -> {
+                    ps.setDate(1, before);
+                    ps.setDate(2, before);
+                    ps.setDate(3, before);
+                },
+                rs -> {
+                    balances.put(rs.getLong("customer_id"), rs.getBigDecimal("balance"));
+                });
+        return balances;
+    }
+
+    public void streamActivity(LocalDate startDate, LocalDate endDate,
+                               BiConsumer<Long, CustomerStatementDTO.StatementLineDTO> consumer) {
+        Date start = Date.valueOf(startDate);
+        Date end = Date.valueOf(endDate);
+        jdbcTemplate.query(
+                connection -> {
+                    var ps = connection.prepareStatement(ACTIVITY_BETWEEN);
+                    ps.setFetchSize(FETCH_SIZE);
+                    ps.setDate(1, start);
+                    ps.setDate(2, end);
+                    ps.setDate(3, start);
+                    ps.setDate(4, end);
+                    return ps;
+                },
+                rs -> {
+                    LocalDate date = rs.getDate("activity_date").toLocalDate();
+                    long invoiceId = rs.getLong("id");
+                    String invoiceNumber = rs.getString("invoice_number");
+                    BigDecimal amount = rs.getBigDecimal("total_amount");
+                    consumer.accept(rs.getLong("customer_id"), rs.getInt("kind") == 0
+                            ? CustomerStatementDTO.StatementLineDTO.invoice(date, invoiceId, invoiceNumber, amount)
+                            : CustomerStatementDTO.StatementLineDTO.payment(date, invoiceId, invoiceNumber, amount));
+                });
+    }
+}
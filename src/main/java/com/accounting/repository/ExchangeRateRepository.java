@@ -0,0 +1,22 @@
+package com.accounting.repository;
+
+import com.accounting.model.ExchangeRate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ExchangeRateRepository extends JpaRepository<ExchangeRate, Long> {
+
+    @Query("SELECT r FROM ExchangeRate r ORDER BY r.currency.id, r.effectiveDate")
+    List<ExchangeRate> findAllOrderedByCurrencyAndDate();
+
+    Optional<ExchangeRate> findByCurrencyIdAndEffectiveDate(Long currencyId, LocalDate effectiveDate);
+
+    Optional<ExchangeRate> findFirstByCurrencyIdAndEffectiveDateLessThanEqualOrderByEffectiveDateDesc(
+            Long currencyId, LocalDate date);
+}
@@ -1,7 +1,9 @@
 package com.accounting.repository;
 
 import com.accounting.model.FiscalYear;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -22,8 +24,30 @@ public interface FiscalYearRepository extends JpaRepository<FiscalYear, Long> {
     @Query("SELECT fy FROM FiscalYear fy WHERE :date BETWEEN fy.startDate AND fy.endDate")
     Optional<FiscalYear> findByDate(@Param("date") LocalDate date);
 
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT fy FROM FiscalYear fy WHERE :date BETWEEN fy.startDate AND fy.endDate")
+    Optional<FiscalYear> findByDateForShare(@Param("date") LocalDate date);
+
     @Query("SELECT fy FROM FiscalYear fy ORDER BY fy.startDate DESC")
     List<FiscalYear> findAllOrderByStartDateDesc();
 
     Optional<FiscalYear> findByName(String name);
+
+    @Query("SELECT fy FROM FiscalYear fy WHERE fy.isClosed = true ORDER BY fy.endDate")
+    List<FiscalYear> findAllClosedOrderByEndDate();
+
+    Optional<FiscalYear> findFirstByIsClosedTrueOrderByEndDateDesc();
+
+    @Query("SELECT COUNT(fy) > 0 FROM FiscalYear fy WHERE fy.isClosed = false AND fy.endDate < :date")
+    boolean existsOpenEndingBefore(@Param("date") LocalDate date);
+
+    @Query("SELECT fy FROM FiscalYear fy WHERE fy.archivedAt IS NOT NULL ORDER BY fy.endDate")
+    List<FiscalYear> findAllArchivedOrderByEndDate();
+
+    @Query("SELECT COUNT(fy) > 0 FROM FiscalYear fy WHERE fy.archivedAt IS NULL AND fy.endDate < :date")
+    boolean existsUnarchivedEndingBefore(@Param("date") LocalDate date);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT fy FROM FiscalYear fy WHERE fy.id = :id")
+    Optional<FiscalYear> findByIdForUpdate(@Param("id") Long id);
 }
\ No newline at end of file
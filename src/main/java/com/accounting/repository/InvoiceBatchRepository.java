@@ -0,0 +1,87 @@
+package com.accounting.repository;
+
+import com.accounting.model.Invoice;
+import com.accounting.model.InvoiceItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class InvoiceBatchRepository {
+
+    private static final String INSERT_INVOICE =
+            "INSERT INTO invoices (invoice_number, customer_id, invoice_date, due_date, currency_id, subtotal, " +
+            "tax_amount, total_amount, status, journal_entry_id, revenue_account_id, notes, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ITEM =
+            "INSERT INTO invoice_items (invoice_id, description, quantity, unit_price, amount, account_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public void insertAll(List<Invoice> invoices) {
+        if (invoices.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_INVOICE, invoices, invoices.size(), (ps, invoice) -> {
+            ps.setString(1, invoice.getInvoiceNumber());
+            ps.setLong(2, invoice.getCustomer().getId());
+            ps.setDate(3, Date.valueOf(invoice.getInvoiceDate()));
+            ps.setDate(4, invoice.getDueDate() != null ? Date.valueOf(invoice.getDueDate()) : null);
+            ps.setObject(5, invoice.getCurrency() != null ? invoice.getCurrency().getId() : null);
+            ps.setBigDecimal(6, invoice.getSubtotal());
+            ps.setBigDecimal(7, invoice.getTaxAmount());
+            ps.setBigDecimal(8, invoice.getTotalAmount());
+            ps.setString(9, invoice.getStatus().name());
+            ps.setObject(10, invoice.getJournalEntry() != null ? invoice.getJournalEntry().getId() : null);
+            ps.setObject(11, invoice.getRevenueAccount() != null ? invoice.getRevenueAccount().getId() : null);
+            ps.setString(12, invoice.getNotes());
+            ps.setTimestamp(13, now);
+        });
+
+        Map<String, Long> ids = findIdsByInvoiceNumber(invoices.stream().map(Invoice::getInvoiceNumber).toList());
+        List<InvoiceItem> items = new ArrayList<>();
+        for (Invoice invoice : invoices) {
+            invoice.setId(ids.get(invoice.getInvoiceNumber()));
+            items.addAll(invoice.getItems());
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_ITEM, items, items.size(), (ps, item) -> {
+            ps.setLong(1, item.getInvoice().getId());
+            ps.setString(2, item.getDescription());
+            ps.setBigDecimal(3, item.getQuantity());
+            ps.setBigDecimal(4, item.getUnitPrice());
+            ps.setBigDecimal(5, item.getAmount());
+            ps.setObject(6, item.getAccount() != null ? item.getAccount().getId() : null);
+        });
+    }
+
+    private Map<String, Long> findIdsByInvoiceNumber(List<String> invoiceNumbers) {
+        Map<String, Long> ids = new HashMap<>(invoiceNumbers.size() * 2);
+        for (int from = 0; from < invoiceNumbers.size(); from += JournalBatchRepository.KEY_LOOKUP_SIZE) {
+            List<String> slice = invoiceNumbers.subList(from,
+                    Math.min(from + JournalBatchRepository.KEY_LOOKUP_SIZE, invoiceNumbers.size()));
+            namedParameterJdbcTemplate.query(
+                    "SELECT id, invoice_number FROM invoices WHERE invoice_number IN (:numbers)",
+                    Map.of("numbers", slice),
+                    rs -> {
+                        ids.put(rs.getString("invoice_number"), rs.getLong("id"));
+                    });
+        }
+        return ids;
+    }
+}
@@ -1,5 +1,6 @@
 package com.accounting.repository;
 
+import com.accounting.dto.InvoiceSummaryDTO;
 import com.accounting.model.Invoice;
 import com.accounting.model.InvoiceStatus;
 import org.springframework.data.domain.Page;
@@ -35,6 +36,46 @@ public interface InvoiceRepository extends JpaRepository<Invoice, Long> {
     @Query("SELECT MAX(CAST(SUBSTRING(i.invoiceNumber, LENGTH(:prefix) + 2) AS int)) FROM Invoice i WHERE i.invoiceNumber LIKE CONCAT(:prefix, '-%')")
     Integer findMaxInvoiceNumberByPrefix(@Param("prefix") String prefix);
 
-    @Query("SELECT i FROM Invoice i LEFT JOIN FETCH i.items WHERE i.id = :id")
+    @Query("SELECT i FROM Invoice i LEFT JOIN FETCH i.customer LEFT JOIN FETCH i.items WHERE i.id = :id")
     Optional<Invoice> findByIdWithItems(@Param("id") Long id);
-}
\ No newline at end of file
+
+    @Query("SELECT i FROM Invoice i JOIN FETCH i.customer WHERE i.journalEntry.id = :journalEntryId ORDER BY i.invoiceNumber")
+    List<Invoice> findByJournalEntryId(@Param("journalEntryId") Long journalEntryId);
+
+    @Query("SELECT i FROM Invoice i WHERE i.customer.id = :customerId AND i.status IN :statuses " +
+           "AND i.invoiceDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY i.invoiceDate, i.id")
+    List<Invoice> findStatementInvoices(@Param("customerId") Long customerId,
+                                        @Param("statuses") List<InvoiceStatus> statuses,
+                                        @Param("startDate") LocalDate startDate,
+                                        @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT i FROM Invoice i WHERE i.customer.id = :customerId AND i.status = 'PAID' " +
+           "AND i.paidDate BETWEEN :startDate AND :endDate ORDER BY i.paidDate, i.id")
+    List<Invoice> findPaymentsBetween(@Param("customerId") Long customerId,
+                                      @Param("startDate") LocalDate startDate,
+                                      @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT COALESCE(SUM(i.totalAmount), 0) FROM Invoice i WHERE i.customer.id = :customerId " +
+           "AND i.status IN :statuses AND i.invoiceDate < :date")
+    BigDecimal sumInvoicedBefore(@Param("customerId") Long customerId,
+                                 @Param("statuses") List<InvoiceStatus> statuses,
+                                 @Param("date") LocalDate date);
+
+    @Query("SELECT COALESCE(SUM(i.totalAmount), 0) FROM Invoice i WHERE i.customer.id = :customerId " +
+           "AND i.status = 'PAID' AND i.paidDate < :date")
+    BigDecimal sumPaidBefore(@Param("customerId") Long customerId, @Param("date") LocalDate date);
+
+    @Query(value = "SELECT new com.accounting.dto.InvoiceSummaryDTO(i.id, i.invoiceNumber, c.id, c.name, i.invoiceDate, " +
+                   "i.dueDate, i.status, i.totalAmount, i.paidDate) FROM Invoice i JOIN i.customer c " +
+                   "WHERE (:status IS NULL OR i.status = :status) AND (:customerId IS NULL OR c.id = :customerId) " +
+                   "AND (:fromDate IS NULL OR i.invoiceDate >= :fromDate) AND (:toDate IS NULL OR i.invoiceDate <= :toDate)",
+           countQuery = "SELECT COUNT(i) FROM Invoice i " +
+                        "WHERE (:status IS NULL OR i.status = :status) AND (:customerId IS NULL OR i.customer.id = :customerId) " +
+                        "AND (:fromDate IS NULL OR i.invoiceDate >= :fromDate) AND (:toDate IS NULL OR i.invoiceDate <= :toDate)")
+    Page<InvoiceSummaryDTO> findSummaries(@Param("status") InvoiceStatus status,
+                                          @Param("customerId") Long customerId,
+                                          @Param("fromDate") LocalDate fromDate,
+                                          @Param("toDate") LocalDate toDate,
+                                          Pageable pageable);
+}
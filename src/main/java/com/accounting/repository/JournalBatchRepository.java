@@ -0,0 +1,87 @@
+package com.accounting.repository;
+
+import com.accounting.model.JournalEntry;
+import com.accounting.model.JournalEntryLine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class JournalBatchRepository {
+
+    static final int KEY_LOOKUP_SIZE = 1000;
+    static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_ENTRY =
+            "INSERT INTO journal_entries (entry_number, entry_date, description, reference, status, " +
+            "created_by, created_at, posted_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_LINE =
+            "INSERT INTO journal_entry_lines (journal_entry_id, account_id, customer_id, debit_amount, credit_amount, " +
+            "currency_id, exchange_rate, description, entry_date, posted) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public void insertAll(List<JournalEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_ENTRY, entries, BATCH_SIZE, (ps, entry) -> {
+            ps.setString(1, entry.getEntryNumber());
+            ps.setDate(2, Date.valueOf(entry.getEntryDate()));
+            ps.setString(3, entry.getDescription());
+            ps.setString(4, entry.getReference());
+            ps.setString(5, entry.getStatus().name());
+            ps.setObject(6, entry.getCreatedBy() != null ? entry.getCreatedBy().getId() : null);
+            ps.setTimestamp(7, Timestamp.valueOf(entry.getCreatedAt() != null ? entry.getCreatedAt() : now));
+            ps.setTimestamp(8, entry.getPostedAt() != null ? Timestamp.valueOf(entry.getPostedAt()) : null);
+        });
+
+        Map<String, Long> ids = findIdsByEntryNumber(entries.stream().map(JournalEntry::getEntryNumber).toList());
+        List<JournalEntryLine> lines = new ArrayList<>();
+        for (JournalEntry entry : entries) {
+            entry.setId(ids.get(entry.getEntryNumber()));
+            lines.addAll(entry.getLines());
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_LINE, lines, BATCH_SIZE, (ps, line) -> {
+            ps.setLong(1, line.getJournalEntry().getId());
+            ps.setLong(2, line.getAccount().getId());
+            ps.setObject(3, line.getCustomer() != null ? line.getCustomer().getId() : null);
+            ps.setBigDecimal(4, line.getDebitAmount());
+            ps.setBigDecimal(5, line.getCreditAmount());
+            ps.setObject(6, line.getCurrency() != null ? line.getCurrency().getId() : null);
+            ps.setBigDecimal(7, line.getExchangeRate());
+            ps.setString(8, line.getDescription());
+            ps.setDate(9, Date.valueOf(line.getJournalEntry().getEntryDate()));
+            ps.setBoolean(10, line.getJournalEntry().isPosted());
+        });
+    }
+
+    private Map<String, Long> findIdsByEntryNumber(List<String> entryNumbers) {
+        Map<String, Long> ids = new HashMap<>(entryNumbers.size() * 2);
+        for (int from = 0; from < entryNumbers.size(); from += KEY_LOOKUP_SIZE) {
+            List<String> slice = entryNumbers.subList(from, Math.min(from + KEY_LOOKUP_SIZE, entryNumbers.size()));
+            namedParameterJdbcTemplate.query(
+                    "SELECT id, entry_number FROM journal_entries WHERE entry_number IN (:numbers)",
+                    Map.of("numbers", slice),
+                    rs -> {
+                        ids.put(rs.getString("entry_number"), rs.getLong("id"));
+                    });
+        }
+        return ids;
+    }
+}
@@ -1,5 +1,6 @@
 package com.accounting.repository;
 
+import com.accounting.dto.CurrencyBalanceDTO;
 import com.accounting.model.JournalEntryLine;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -16,62 +17,80 @@ public interface JournalEntryLineRepository extends JpaRepository<JournalEntryLi
     @Query("SELECT jl FROM JournalEntryLine jl " +
            "JOIN FETCH jl.journalEntry je " +
            "WHERE jl.account.id = :accountId " +
-           "AND je.status = 'POSTED' " +
-           "ORDER BY je.entryDate, je.entryNumber")
+           "AND jl.posted = true " +
+           "ORDER BY jl.entryDate, je.entryNumber")
     List<JournalEntryLine> findByAccountIdAndPosted(@Param("accountId") Long accountId);
 
     @Query("SELECT jl FROM JournalEntryLine jl " +
            "JOIN FETCH jl.journalEntry je " +
            "WHERE jl.account.id = :accountId " +
-           "AND je.status = 'POSTED' " +
-           "AND je.entryDate BETWEEN :startDate AND :endDate " +
-           "ORDER BY je.entryDate, je.entryNumber")
+           "AND jl.posted = true " +
+           "AND jl.entryDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY jl.entryDate, je.entryNumber")
     List<JournalEntryLine> findByAccountIdAndPostedBetweenDates(
             @Param("accountId") Long accountId,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
 
     @Query("SELECT COALESCE(SUM(jl.debitAmount), 0) FROM JournalEntryLine jl " +
-           "JOIN jl.journalEntry je " +
-           "WHERE jl.account.id = :accountId AND je.status = 'POSTED'")
+           "WHERE jl.account.id = :accountId AND jl.posted = true")
     BigDecimal sumDebitByAccountId(@Param("accountId") Long accountId);
 
     @Query("SELECT COALESCE(SUM(jl.creditAmount), 0) FROM JournalEntryLine jl " +
-           "JOIN jl.journalEntry je " +
-           "WHERE jl.account.id = :accountId AND je.status = 'POSTED'")
+           "WHERE jl.account.id = :accountId AND jl.posted = true")
     BigDecimal sumCreditByAccountId(@Param("accountId") Long accountId);
 
     @Query("SELECT COALESCE(SUM(jl.debitAmount), 0) FROM JournalEntryLine jl " +
-           "JOIN jl.journalEntry je " +
-           "WHERE jl.account.id = :accountId AND je.status = 'POSTED' " +
-           "AND je.entryDate BETWEEN :startDate AND :endDate")
+           "WHERE jl.account.id = :accountId AND jl.posted = true " +
+           "AND jl.entryDate BETWEEN :startDate AND :endDate")
     BigDecimal sumDebitByAccountIdBetweenDates(
             @Param("accountId") Long accountId,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
 
     @Query("SELECT COALESCE(SUM(jl.creditAmount), 0) FROM JournalEntryLine jl " +
-           "JOIN jl.journalEntry je " +
-           "WHERE jl.account.id = :accountId AND je.status = 'POSTED' " +
-           "AND je.entryDate BETWEEN :startDate AND :endDate")
+           "WHERE jl.account.id = :accountId AND jl.posted = true " +
+           "AND jl.entryDate BETWEEN :startDate AND :endDate")
     BigDecimal sumCreditByAccountIdBetweenDates(
             @Param("accountId") Long accountId,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
 
     @Query("SELECT COALESCE(SUM(jl.debitAmount), 0) FROM JournalEntryLine jl " +
-           "JOIN jl.journalEntry je " +
-           "WHERE jl.account.id = :accountId AND je.status = 'POSTED' " +
-           "AND je.entryDate < :date")
+           "WHERE jl.account.id = :accountId AND jl.posted = true " +
+           "AND jl.entryDate < :date")
     BigDecimal sumDebitByAccountIdBeforeDate(
             @Param("accountId") Long accountId,
             @Param("date") LocalDate date);
 
     @Query("SELECT COALESCE(SUM(jl.creditAmount), 0) FROM JournalEntryLine jl " +
-           "JOIN jl.journalEntry je " +
-           "WHERE jl.account.id = :accountId AND je.status = 'POSTED' " +
-           "AND je.entryDate < :date")
+           "WHERE jl.account.id = :accountId AND jl.posted = true " +
+           "AND jl.entryDate < :date")
     BigDecimal sumCreditByAccountIdBeforeDate(
             @Param("accountId") Long accountId,
             @Param("date") LocalDate date);
-}
\ No newline at end of file
+
+    @Query("SELECT new com.accounting.dto.CurrencyBalanceDTO(jl.currency.id, MIN(jl.entryDate), " +
+           "SUM(jl.debitAmount - jl.creditAmount), " +
+           "SUM((jl.debitAmount - jl.creditAmount) * COALESCE(jl.exchangeRate, 1))) " +
+           "FROM JournalEntryLine jl " +
+           "WHERE jl.account.id = :accountId AND jl.posted = true " +
+           "AND jl.entryDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY jl.currency.id")
+    List<CurrencyBalanceDTO> sumByAccountIdAndCurrencyBetweenDates(
+            @Param("accountId") Long accountId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT new com.accounting.dto.CurrencyBalanceDTO(jl.currency.id, jl.entryDate, " +
+           "SUM(jl.debitAmount - jl.creditAmount), " +
+           "SUM((jl.debitAmount - jl.creditAmount) * COALESCE(jl.exchangeRate, 1))) " +
+           "FROM JournalEntryLine jl " +
+           "WHERE jl.account.id = :accountId AND jl.posted = true " +
+           "AND jl.entryDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY jl.currency.id, jl.entryDate")
+    List<CurrencyBalanceDTO> sumByAccountIdCurrencyAndDateBetweenDates(
+            @Param("accountId") Long accountId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+}
@@ -1,5 +1,6 @@
 package com.accounting.repository;
 
+import com.accounting.dto.JournalEntrySummaryDTO;
 import com.accounting.model.EntryStatus;
 import com.accounting.model.JournalEntry;
 import org.springframework.data.domain.Page;
@@ -36,13 +37,30 @@ public interface JournalEntryRepository extends JpaRepository<JournalEntry, Long
     @Query("SELECT j FROM JournalEntry j LEFT JOIN FETCH j.lines WHERE j.id = :id")
     Optional<JournalEntry> findByIdWithLines(@Param("id") Long id);
 
+    @Query("SELECT j FROM JournalEntry j LEFT JOIN FETCH j.lines WHERE j.reference = :reference AND j.status = 'POSTED'")
+    Optional<JournalEntry> findPostedByReferenceWithLines(@Param("reference") String reference);
+
     @Query("SELECT COUNT(j) FROM JournalEntry j WHERE j.status = :status")
     Long countByStatus(@Param("status") EntryStatus status);
 
+    @Query("SELECT COUNT(j) FROM JournalEntry j WHERE j.status = :status AND j.entryDate <= :date")
+    long countByStatusOnOrBefore(@Param("status") EntryStatus status, @Param("date") LocalDate date);
+
     @Query("SELECT DISTINCT j FROM JournalEntry j LEFT JOIN FETCH j.lines")
     List<JournalEntry> findAllWithLines();
 
     @Query(value = "SELECT DISTINCT j FROM JournalEntry j LEFT JOIN FETCH j.lines",
            countQuery = "SELECT COUNT(j) FROM JournalEntry j")
     Page<JournalEntry> findAllWithLines(Pageable pageable);
-}
\ No newline at end of file
+
+    @Query(value = "SELECT new com.accounting.dto.JournalEntrySummaryDTO(j.id, j.entryNumber, j.entryDate, j.description, " +
+                   "j.reference, j.status, (SELECT COALESCE(SUM(l.debitAmount), 0) FROM JournalEntryLine l WHERE l.journalEntry = j)) " +
+                   "FROM JournalEntry j WHERE (:status IS NULL OR j.status = :status) " +
+                   "AND (:fromDate IS NULL OR j.entryDate >= :fromDate) AND (:toDate IS NULL OR j.entryDate <= :toDate)",
+           countQuery = "SELECT COUNT(j) FROM JournalEntry j WHERE (:status IS NULL OR j.status = :status) " +
+                        "AND (:fromDate IS NULL OR j.entryDate >= :fromDate) AND (:toDate IS NULL OR j.entryDate <= :toDate)")
+    Page<JournalEntrySummaryDTO> findSummaries(@Param("status") EntryStatus status,
+                                               @Param("fromDate") LocalDate fromDate,
+                                               @Param("toDate") LocalDate toDate,
+                                               Pageable pageable);
+}
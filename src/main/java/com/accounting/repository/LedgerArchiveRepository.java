@@ -0,0 +1,72 @@
+package com.accounting.repository;
+
+import com.accounting.archive.ArchivedLine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+@Repository
+@RequiredArgsConstructor
+public class LedgerArchiveRepository {
+
+    static final int FETCH_SIZE = 1000;
+
+    private static final String POSTED_LINES =
+            "SELECT jl.id, jl.journal_entry_id, jl.account_id, jl.entry_date, jl.debit_amount, jl.credit_amount, " +
+            "jl.currency_id, jl.exchange_rate, jl.customer_id, jl.description " +
+            "FROM journal_entry_lines jl " +
+            "WHERE jl.posted = TRUE AND jl.entry_date BETWEEN ? AND ? " +
+            "ORDER BY jl.account_id, jl.entry_date, jl.journal_entry_id, jl.id";
+
+    private static final String COUNT_POSTED_LINES =
+            "SELECT COUNT(*) FROM journal_entry_lines jl WHERE jl.posted = TRUE AND jl.entry_date BETWEEN ? AND ?";
+
+    private static final String DELETE_UNMATCHED_LINES =
+            "DELETE FROM journal_entry_lines jl " +
+            "WHERE jl.posted = TRUE AND jl.entry_date BETWEEN ? AND ? " +
+            "AND NOT EXISTS (SELECT 1 FROM bank_statements bs WHERE bs.matched_journal_line_id = jl.id)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void streamPostedLines(LocalDate startDate, LocalDate endDate, Consumer<ArchivedLine> consumer) {
+        jdbcTemplate.query(
+                connection -> {
+                    var ps = connection.prepareStatement(POSTED_LINES);
+                    ps.setFetchSize(FETCH_SIZE);
+                    ps.setDate(1, Date.valueOf(startDate));
+                    ps.setDate(2, Date.valueOf(endDate));
+                    return ps;
+                },
+                rs -> {
+                    long currencyId = rs.getLong("currency_id");
+                    boolean noCurrency = rs.wasNull();
+                    long customerId = rs.getLong("customer_id");
+                    boolean noCustomer = rs.wasNull();
+                    consumer.accept(new ArchivedLine(
+                            rs.getLong("id"),
+                            rs.getLong("journal_entry_id"),
+                            rs.getLong("account_id"),
+                            rs.getDate("entry_date").toLocalDate(),
+                            rs.getBigDecimal("debit_amount"),
+                            rs.getBigDecimal("credit_amount"),
+                            noCurrency ? null : currencyId,
+                            rs.getBigDecimal("exchange_rate"),
+                            noCustomer ? null : customerId,
+                            rs.getString("description")));
+                });
+    }
+
+    public long countPostedLines(LocalDate startDate, LocalDate endDate) {
+        Long count = jdbcTemplate.queryForObject(COUNT_POSTED_LINES, Long.class,
+                Date.valueOf(startDate), Date.valueOf(endDate));
+        return count != null ? count : 0L;
+    }
+
+    public int deleteUnmatchedLines(LocalDate startDate, LocalDate endDate) {
+        return jdbcTemplate.update(DELETE_UNMATCHED_LINES, Date.valueOf(startDate), Date.valueOf(endDate));
+    }
+}
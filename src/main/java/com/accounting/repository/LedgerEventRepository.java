@@ -0,0 +1,118 @@
+package com.accounting.repository;
+
+import com.accounting.event.EntryEvent;
+import com.accounting.event.InvoiceEvent;
+import com.accounting.model.LedgerEvent;
+import com.accounting.model.LedgerEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+@Repository
+@RequiredArgsConstructor
+public class LedgerEventRepository {
+
+    static final int BATCH_SIZE = 1000;
+    static final int FETCH_SIZE = 1000;
+
+    private static final String INSERT_EVENT =
+            "INSERT INTO ledger_events (position, event_type, aggregate_type, aggregate_id, occurred_at, payload) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String EVENTS_BETWEEN =
+            "SELECT position, event_type, aggregate_type, aggregate_id, occurred_at, payload FROM ledger_events " +
+            "WHERE position > ? AND position <= ? ORDER BY position";
+
+    private static final String POSTED_ENTRY_LINES =
+            "SELECT je.id, je.entry_number, je.entry_date, jl.account_id, jl.customer_id, jl.debit_amount, jl.credit_amount " +
+            "FROM journal_entries je JOIN journal_entry_lines jl ON jl.journal_entry_id = je.id " +
+            "WHERE je.status = 'POSTED' AND jl.entry_date > ? AND je.id >= ? " +
+            "ORDER BY je.id, jl.id";
+
+    private static final String POSTED_ENTRY_NUMBERS =
+            "SELECT id, entry_number FROM journal_entries WHERE status = 'POSTED' AND entry_date BETWEEN ? AND ?";
+
+    private static final String OPEN_INVOICES =
+            "SELECT id, invoice_number, customer_id, invoice_date, due_date, total_amount FROM invoices " +
+            "WHERE status IN ('SENT', 'OVERDUE') AND id >= ? ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<LedgerEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_EVENT, events, BATCH_SIZE, (ps, event) -> {
+            ps.setLong(1, event.getPosition());
+            ps.setString(2, event.getEventType().name());
+            ps.setString(3, event.getAggregateType());
+            ps.setLong(4, event.getAggregateId());
+            ps.setTimestamp(5, Timestamp.valueOf(event.getOccurredAt()));
+            ps.setString(6, event.getPayload());
+        });
+    }
+
+    public List<LedgerEvent> findBetween(long afterPosition, long throughPosition) {
+        return jdbcTemplate.query(EVENTS_BETWEEN, (rs, rowNum) -> new LedgerEvent(
+                rs.getLong("position"),
+                LedgerEventType.valueOf(rs.getString("event_type")),
+                rs.getString("aggregate_type"),
+                rs.getLong("aggregate_id"),
+                rs.getTimestamp("occurred_at").toLocalDateTime(),
+                rs.getString("payload")), afterPosition, throughPosition);
+    }
+
+    public void streamPostedEntries(LocalDate after, long fromEntryId, Consumer<EntryEvent> consumer) {
+        EntryEvent[] current = new EntryEvent[1];
+        jdbcTemplate.query(
+                connection -> {
+                    var ps = connection.prepareStatement(POSTED_ENTRY_LINES);
+                    ps.setFetchSize(FETCH_SIZE);
+                    ps.setDate(1, Date.valueOf(after));
+                    ps.setLong(2, fromEntryId);
+                    return ps;
+                },
+                rs -> {
+                    long entryId = rs.getLong("id");
+                    if (current[0] == null || current[0].entryId() != entryId) {
+                        if (current[0] != null) {
+                            consumer.accept(current[0]);
+                        }
+                        current[0] = new EntryEvent(entryId, rs.getString("entry_number"),
+                                rs.getDate("entry_date").toLocalDate(), new ArrayList<>());
+                    }
+                    long customerId = rs.getLong("customer_id");
+                    boolean noCustomer = rs.wasNull();
+                    current[0].lines().add(new EntryEvent.Line(rs.getLong("account_id"), noCustomer ? null : customerId,
+                            rs.getBigDecimal("debit_amount"), rs.getBigDecimal("credit_amount")));
+                });
+        if (current[0] != null) {
+            consumer.accept(current[0]);
+        }
+    }
+
+    public Map<Long, String> findPostedEntryNumbers(LocalDate startDate, LocalDate endDate) {
+        Map<Long, String> numbers = new HashMap<>();
+        jdbcTemplate.query(POSTED_ENTRY_NUMBERS,
+                rs -> {
+                    numbers.put(rs.getLong("id"), rs.getString("entry_number"));
+                },
+                Date.valueOf(startDate), Date.valueOf(endDate));
+        return numbers;
+    }
+
+    public List<InvoiceEvent> findOpenInvoices(long fromInvoiceId) {
+        return jdbcTemplate.query(OPEN_INVOICES, (rs, rowNum) -> {
+            Date dueDate = rs.getDate("due_date");
+            return new InvoiceEvent(rs.getLong("id"), rs.getString("invoice_number"), rs.getLong("customer_id"),
+                    rs.getDate("invoice_date").toLocalDate(), dueDate != null ? dueDate.toLocalDate() : null,
+                    rs.getBigDecimal("total_amount"), null);
+        }, fromInvoiceId);
+    }
+}
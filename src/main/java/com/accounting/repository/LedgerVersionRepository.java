@@ -0,0 +1,31 @@
+package com.accounting.repository;
+
+import com.accounting.model.LedgerVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface LedgerVersionRepository extends JpaRepository<LedgerVersion, String> {
+
+    @Modifying
+    @Query("UPDATE LedgerVersion v SET v.version = v.version + 1, v.updatedAt = :now WHERE v.name = :name")
+    int increment(@Param("name") String name, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE LedgerVersion v SET v.version = v.version + :count, v.updatedAt = :now WHERE v.name = :name")
+    int advance(@Param("name") String name, @Param("count") long count, @Param("now") LocalDateTime now);
+
+    @Query("SELECT v.version FROM LedgerVersion v WHERE v.name = :name")
+    Long findVersion(@Param("name") String name);
+
+    @Query("SELECT new com.accounting.model.LedgerVersion(v.name, v.version, v.updatedAt) " +
+           "FROM LedgerVersion v WHERE v.name IN :names")
+    List<LedgerVersion> findCurrent(@Param("names") Collection<String> names);
+}
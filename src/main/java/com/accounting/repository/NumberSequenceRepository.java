@@ -0,0 +1,45 @@
+package com.accounting.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@Repository
+@RequiredArgsConstructor
+public class NumberSequenceRepository {
+
+    private static final String INCREMENT =
+            "UPDATE number_sequences SET last_value = last_value + ?, updated_at = ? WHERE prefix = ?";
+
+    private static final String INSERT =
+            "INSERT INTO number_sequences (prefix, last_value, updated_at) VALUES (?, ?, ?)";
+
+    private static final String LAST_VALUE =
+            "SELECT last_value FROM number_sequences WHERE prefix = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Row-locks the prefix until the surrounding transaction ends
+    public boolean increment(String prefix, int count) {
+        return jdbcTemplate.update(INCREMENT, count, Timestamp.valueOf(LocalDateTime.now()), prefix) > 0;
+    }
+
+    // False when a concurrent transaction created the row first
+    public boolean insert(String prefix, int lastValue) {
+        try {
+            jdbcTemplate.update(INSERT, prefix, lastValue, Timestamp.valueOf(LocalDateTime.now()));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    public int findLastValue(String prefix) {
+        Integer lastValue = jdbcTemplate.queryForObject(LAST_VALUE, Integer.class, prefix);
+        return lastValue != null ? lastValue : 0;
+    }
+}
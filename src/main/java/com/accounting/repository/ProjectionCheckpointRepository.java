@@ -0,0 +1,22 @@
+package com.accounting.repository;
+
+import com.accounting.model.ProjectionCheckpoint;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ProjectionCheckpointRepository extends JpaRepository<ProjectionCheckpoint, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ProjectionCheckpoint c WHERE c.name = :name")
+    Optional<ProjectionCheckpoint> findByNameForUpdate(@Param("name") String name);
+
+    @Query(value = "SELECT * FROM projection_checkpoints WHERE name = :name FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<ProjectionCheckpoint> findByNameForUpdateSkipLocked(@Param("name") String name);
+}
@@ -0,0 +1,170 @@
+package com.accounting.repository;
+
+import com.accounting.model.FiscalYear;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class RevaluationRepository {
+
+    static final int FETCH_SIZE = 1000;
+
+    private static final String OPEN_BALANCES =
+            "SELECT jl.currency_id, jl.account_id, " +
+            "SUM(COALESCE(jl.debit_amount, 0) - COALESCE(jl.credit_amount, 0)) AS booked, " +
+            "SUM((COALESCE(jl.debit_amount, 0) - COALESCE(jl.credit_amount, 0)) * COALESCE(jl.exchange_rate, 1)) AS foreign_amount " +
+            "FROM journal_entry_lines jl " +
+            "JOIN accounts a ON a.id = jl.account_id " +
+            "JOIN currencies c ON c.id = jl.currency_id " +
+            "WHERE jl.posted = TRUE AND jl.entry_date BETWEEN ? AND ? AND COALESCE(c.is_base, FALSE) = FALSE " +
+            "AND a.account_type IN ('ASSET', 'LIABILITY') " +
+            "GROUP BY jl.currency_id, jl.account_id " +
+            "ORDER BY jl.currency_id, jl.account_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OpenBalances findOpenBalances(LocalDate asOfDate) {
+        return findOpenBalances(asOfDate, FiscalYear.START_OF_TIME, List.of());
+    }
+
+    public OpenBalances findOpenBalances(LocalDate asOfDate, LocalDate startDate, List<ArchivedBalance> archived) {
+        OpenBalances balances = new OpenBalances();
+        int[] next = {0};
+        jdbcTemplate.query(
+                connection -> {
+                    var ps = connection.prepareStatement(OPEN_BALANCES);
+                    ps.setFetchSize(FETCH_SIZE);
+                    ps.setDate(1, Date.valueOf(startDate));
+                    ps.setDate(2, Date.valueOf(asOfDate));
+                    return ps;
+                },
+                rs -> {
+                    long currencyId = rs.getLong("currency_id");
+                    long accountId = rs.getLong("account_id");
+                    BigDecimal booked = zeroIfNull(rs.getBigDecimal("booked"));
+                    BigDecimal foreignAmount = zeroIfNull(rs.getBigDecimal("foreign_amount"));
+                    for (; next[0] < archived.size(); next[0]++) {
+                        ArchivedBalance carried = archived.get(next[0]);
+                        int order = compare(carried, currencyId, accountId);
+                        if (order > 0) {
+                            break;
+                        }
+                        if (order == 0) {
+                            booked = booked.add(carried.getBooked());
+                            foreignAmount = foreignAmount.add(carried.getForeignAmount());
+                            next[0]++;
+                            break;
+                        }
+                        balances.add(carried.getCurrencyId(), carried.getAccountId(),
+                                cents(carried.getBooked()), cents(carried.getForeignAmount()));
+                    }
+                    balances.add(currencyId, accountId, cents(booked), cents(foreignAmount));
+                });
+        for (ArchivedBalance carried : archived.subList(next[0], archived.size())) {
+            balances.add(carried.getCurrencyId(), carried.getAccountId(),
+                    cents(carried.getBooked()), cents(carried.getForeignAmount()));
+        }
+        return balances;
+    }
+
+    private static int compare(ArchivedBalance carried, long currencyId, long accountId) {
+        int order = Long.compare(carried.getCurrencyId(), currencyId);
+        return order != 0 ? order : Long.compare(carried.getAccountId(), accountId);
+    }
+
+    private static BigDecimal zeroIfNull(BigDecimal amount) {
+        return amount != null ? amount : BigDecimal.ZERO;
+    }
+
+    private static long cents(BigDecimal amount) {
+        return amount == null ? 0L : amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static final class ArchivedBalance {
+
+        private final long currencyId;
+        private final long accountId;
+        private final BigDecimal booked;
+        private final BigDecimal foreignAmount;
+
+        public ArchivedBalance(long currencyId, long accountId, BigDecimal booked, BigDecimal foreignAmount) {
+            this.currencyId = currencyId;
+            this.accountId = accountId;
+            this.booked = booked;
+            this.foreignAmount = foreignAmount;
+        }
+
+        public long getCurrencyId() {
+            return currencyId;
+        }
+
+        public long getAccountId() {
+            return accountId;
+        }
+
+        public BigDecimal getBooked() {
+            return booked;
+        }
+
+        public BigDecimal getForeignAmount() {
+            return foreignAmount;
+        }
+    }
+
+    public static final class OpenBalances {
+
+        private long[] currencyIds = new long[256];
+        private long[] accountIds = new long[256];
+        private long[] bookedCents = new long[256];
+        private long[] foreignCents = new long[256];
+        private int size;
+
+        void add(long currencyId, long accountId, long booked, long foreign) {
+            if (size == currencyIds.length) {
+                int capacity = size * 2;
+                currencyIds = Arrays.copyOf(currencyIds, capacity);
+                accountIds = Arrays.copyOf(accountIds, capacity);
+                bookedCents = Arrays.copyOf(bookedCents, capacity);
+                foreignCents = Arrays.copyOf(foreignCents, capacity);
+            }
+            currencyIds[size] = currencyId;
+            accountIds[size] = accountId;
+            bookedCents[size] = booked;
+            foreignCents[size] = foreign;
+            size++;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public long[] currencyIds() {
+            return Arrays.copyOf(currencyIds, size);
+        }
+
+        public long currencyId(int i) {
+            return currencyIds[i];
+        }
+
+        public long accountId(int i) {
+            return accountIds[i];
+        }
+
+        public long bookedCents(int i) {
+            return bookedCents[i];
+        }
+
+        public long[] foreignCents() {
+            return Arrays.copyOf(foreignCents, size);
+        }
+    }
+}
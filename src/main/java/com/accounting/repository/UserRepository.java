@@ -3,6 +3,7 @@ package com.accounting.repository;
 import com.accounting.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,6 +16,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
 
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.username = :username AND u.enabled = true")
+    Optional<Long> findTokenVersion(@Param("username") String username);
+
     @Query("SELECT u FROM User u WHERE u.enabled = true")
     List<User> findAllActive();
 
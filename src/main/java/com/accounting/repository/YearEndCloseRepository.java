@@ -0,0 +1,98 @@
+package com.accounting.repository;
+
+import com.accounting.dto.CurrencyBalanceDTO;
+import com.accounting.model.AccountBalanceSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class YearEndCloseRepository {
+
+    static final int FETCH_SIZE = 1000;
+    static final int BATCH_SIZE = 1000;
+
+    private static final String NET_BALANCES =
+            "SELECT jl.account_id, SUM(COALESCE(jl.debit_amount, 0) - COALESCE(jl.credit_amount, 0)) AS net " +
+            "FROM journal_entry_lines jl " +
+            "WHERE jl.posted = TRUE AND jl.entry_date BETWEEN ? AND ? " +
+            "GROUP BY jl.account_id";
+
+    private static final String INSERT_SNAPSHOT =
+            "INSERT INTO account_balance_snapshots (fiscal_year_id, account_id, as_of_date, balance, closing_amount, " +
+            "created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_CURRENCY_SNAPSHOT =
+            "INSERT INTO account_currency_snapshots (fiscal_year_id, account_id, currency_id, first_entry_date, amount, " +
+            "currency_amount, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Map<Long, BigDecimal> findNetBalances(LocalDate startDate, LocalDate endDate) {
+        Map<Long, BigDecimal> balances = new HashMap<>();
+        jdbcTemplate.query(
+                connection -> {
+                    var ps = connection.prepareStatement(NET_BALANCES);
+                    ps.setFetchSize(FETCH_SIZE);
+                    ps.setDate(1, Date.valueOf(startDate));
+                    ps.setDate(2, Date.valueOf(endDate));
+                    return ps;
+                },
+                rs -> {
+                    BigDecimal net = rs.getBigDecimal("net");
+                    if (net != null && net.signum() != 0) {
+                        balances.put(rs.getLong("account_id"), net);
+                    }
+                });
+        return balances;
+    }
+
+    public void insertSnapshots(List<AccountBalanceSnapshot> snapshots) {
+        if (snapshots.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SNAPSHOT, snapshots, BATCH_SIZE, (ps, snapshot) -> {
+            ps.setLong(1, snapshot.getFiscalYear().getId());
+            ps.setLong(2, snapshot.getAccount().getId());
+            ps.setDate(3, Date.valueOf(snapshot.getAsOfDate()));
+            ps.setBigDecimal(4, snapshot.getBalance());
+            ps.setBigDecimal(5, snapshot.getClosingAmount());
+            ps.setTimestamp(6, now);
+        });
+    }
+
+    public void insertCurrencySnapshots(Long fiscalYearId, Map<Long, List<CurrencyBalanceDTO>> balances) {
+        List<Map.Entry<Long, CurrencyBalanceDTO>> rows = new ArrayList<>();
+        balances.forEach((accountId, accountBalances) ->
+                accountBalances.forEach(balance -> rows.add(Map.entry(accountId, balance))));
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_CURRENCY_SNAPSHOT, rows, BATCH_SIZE, (ps, row) -> {
+            CurrencyBalanceDTO balance = row.getValue();
+            ps.setLong(1, fiscalYearId);
+            ps.setLong(2, row.getKey());
+            ps.setObject(3, balance.getCurrencyId(), Types.BIGINT);
+            ps.setDate(4, Date.valueOf(balance.getFirstEntryDate()));
+            ps.setBigDecimal(5, balance.getAmount());
+            ps.setBigDecimal(6, balance.getCurrencyAmount());
+            ps.setTimestamp(7, now);
+        });
+    }
+}
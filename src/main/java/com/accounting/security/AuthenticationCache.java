@@ -0,0 +1,95 @@
+package com.accounting.security;
+
+import com.accounting.dto.AuthenticationCacheStatsDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class AuthenticationCache {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final Cache<Key, UserDetails> principals;
+    private final SecretKeySpec fingerprintKey;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder hitNanos = new LongAdder();
+    private final LongAdder missNanos = new LongAdder();
+
+    public AuthenticationCache(@Value("${accounting.security.auth-cache.max-size:10000}") long maxSize,
+                               @Value("${accounting.security.auth-cache.ttl:PT5M}") Duration ttl) {
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.fingerprintKey = new SecretKeySpec(secret, HMAC_ALGORITHM);
+    }
+
+    public UserDetails get(String username, String password) {
+        return principals.getIfPresent(new Key(username, fingerprint(password)));
+    }
+
+    public void put(String username, String password, UserDetails principal) {
+        principals.put(new Key(username, fingerprint(password)), principal);
+    }
+
+    public void evict(String username) {
+        principals.asMap().keySet().removeIf(key -> key.username().equals(username));
+    }
+
+    public void evictAll() {
+        principals.invalidateAll();
+    }
+
+    public void recordHit(long nanos) {
+        hits.increment();
+        hitNanos.add(nanos);
+    }
+
+    public void recordMiss(long nanos) {
+        misses.increment();
+        missNanos.add(nanos);
+    }
+
+    public AuthenticationCacheStatsDTO getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        return new AuthenticationCacheStatsDTO(
+                principals.estimatedSize(),
+                hitCount,
+                missCount,
+                principals.stats().evictionCount(),
+                hitCount == 0 ? 0.0 : hitNanos.sum() / 1000.0 / hitCount,
+                missCount == 0 ? 0.0 : missNanos.sum() / 1000.0 / missCount);
+    }
+
+    private String fingerprint(String password) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(fingerprintKey);
+            return Base64.getEncoder().encodeToString(mac.doFinal(password.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to fingerprint credentials", e);
+        }
+    }
+
+    private record Key(String username, String fingerprint) {
+    }
+}
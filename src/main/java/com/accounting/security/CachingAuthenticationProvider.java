@@ -0,0 +1,67 @@
+package com.accounting.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+@RequiredArgsConstructor
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+
+    private final AuthenticationProvider delegate;
+    private final AuthenticationCache authenticationCache;
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        long started = System.nanoTime();
+        String username = authentication.getName();
+        Object credentials = authentication.getCredentials();
+
+        if (username == null || !(credentials instanceof String password)) {
+            return delegate.authenticate(authentication);
+        }
+
+        UserDetails cached = authenticationCache.get(username, password);
+        if (cached != null) {
+            UsernamePasswordAuthenticationToken result = UsernamePasswordAuthenticationToken.authenticated(
+                    cached, null, cached.getAuthorities());
+            result.setDetails(authentication.getDetails());
+            authenticationCache.recordHit(System.nanoTime() - started);
+            return result;
+        }
+
+        Authentication result = delegate.authenticate(authentication);
+        if (result != null && result.getPrincipal() instanceof UserDetails principal) {
+            UserDetails snapshot = snapshot(principal);
+            authenticationCache.put(username, password, snapshot);
+            UsernamePasswordAuthenticationToken token = UsernamePasswordAuthenticationToken.authenticated(
+                    snapshot, null, snapshot.getAuthorities());
+            token.setDetails(authentication.getDetails());
+            result = token;
+        }
+        authenticationCache.recordMiss(System.nanoTime() - started);
+        return result;
+    }
+
+    // Cached principals are shared across requests, so they are immutable copies rather than the loaded entity
+    private static UserDetails snapshot(UserDetails principal) {
+        User snapshot = (User) User.withUsername(principal.getUsername())
+                .password("")
+                .authorities(principal.getAuthorities())
+                .disabled(!principal.isEnabled())
+                .accountExpired(!principal.isAccountNonExpired())
+                .accountLocked(!principal.isAccountNonLocked())
+                .credentialsExpired(!principal.isCredentialsNonExpired())
+                .build();
+        snapshot.eraseCredentials();
+        return snapshot;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
+    }
+}
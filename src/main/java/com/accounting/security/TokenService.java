@@ -0,0 +1,121 @@
+package com.accounting.security;
+
+import com.accounting.dto.TokenResponseDTO;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+@Component
+public class TokenService {
+
+    public static final String ISSUER = "accounting-system";
+    public static final String ROLES_CLAIM = "roles";
+    public static final String VERSION_CLAIM = "ver";
+
+    private static final String ROLE_PREFIX = "ROLE_";
+    private static final OAuth2Error REVOKED = new OAuth2Error(OAuth2ErrorCodes.INVALID_TOKEN,
+            "The token was revoked by a change to its user", null);
+
+    private final SecretKey key;
+    private final Duration ttl;
+    private final JwtEncoder encoder;
+    private final JwtDecoder decoder;
+
+    public TokenService(@Value("${accounting.security.jwt.secret:}") String secret,
+                        @Value("${accounting.security.jwt.require-secret:false}") boolean requireSecret,
+                        @Value("${accounting.security.jwt.ttl:PT15M}") Duration ttl) {
+        this.key = new SecretKeySpec(resolveSecret(secret, requireSecret), "HmacSHA256");
+        this.ttl = ttl;
+        this.encoder = new NimbusJwtEncoder(new ImmutableSecret<>(key));
+        NimbusJwtDecoder nimbusDecoder = NimbusJwtDecoder.withSecretKey(key).macAlgorithm(MacAlgorithm.HS256).build();
+        nimbusDecoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(ISSUER));
+        this.decoder = nimbusDecoder;
+    }
+
+    public TokenResponseDTO issue(Authentication authentication, long tokenVersion) {
+        Instant now = Instant.now();
+        List<String> roles = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority.startsWith(ROLE_PREFIX))
+                .map(authority -> authority.substring(ROLE_PREFIX.length()))
+                .toList();
+
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer(ISSUER)
+                .subject(authentication.getName())
+                .issuedAt(now)
+                .expiresAt(now.plus(ttl))
+                .claim(ROLES_CLAIM, roles)
+                .claim(VERSION_CLAIM, tokenVersion)
+                .build();
+
+        String token = encoder.encode(JwtEncoderParameters.from(
+                JwsHeader.with(MacAlgorithm.HS256).build(), claims)).getTokenValue();
+        return new TokenResponseDTO(token, "Bearer", ttl.toSeconds(), roles);
+    }
+
+    // Signature, expiry and issuer only
+    JwtDecoder getDecoder() {
+        return decoder;
+    }
+
+    // Roles in a token are trusted until it expires, so each request also checks the token's version against
+    // the user's current one: a role change, password change or disable ends the token on every node at once
+    public JwtDecoder getDecoder(Function<String, Optional<Long>> tokenVersions) {
+        NimbusJwtDecoder checked = NimbusJwtDecoder.withSecretKey(key).macAlgorithm(MacAlgorithm.HS256).build();
+        checked.setJwtValidator(new DelegatingOAuth2TokenValidator<>(JwtValidators.createDefaultWithIssuer(ISSUER),
+                jwt -> isCurrent(jwt, tokenVersions)
+                        ? OAuth2TokenValidatorResult.success()
+                        : OAuth2TokenValidatorResult.failure(REVOKED)));
+        return checked;
+    }
+
+    private static boolean isCurrent(Jwt jwt, Function<String, Optional<Long>> tokenVersions) {
+        Object version = jwt.getClaims().get(VERSION_CLAIM);
+        return version instanceof Number issued
+                && tokenVersions.apply(jwt.getSubject()).filter(current -> current == issued.longValue()).isPresent();
+    }
+
+    private static byte[] resolveSecret(String secret, boolean requireSecret) {
+        if (secret == null || secret.isBlank()) {
+            // A per-node key only works for a single node: tokens from one node fail on every other
+            if (requireSecret) {
+                throw new IllegalStateException("accounting.security.jwt.secret must be set to a Base64 key shared by all nodes");
+            }
+            byte[] generated = new byte[32];
+            new SecureRandom().nextBytes(generated);
+            return generated;
+        }
+        byte[] decoded = Base64.getDecoder().decode(secret.trim());
+        if (decoded.length < 32) {
+            throw new IllegalStateException("accounting.security.jwt.secret must be at least 32 bytes");
+        }
+        return decoded;
+    }
+}
@@ -1,25 +1,35 @@
 package com.accounting.service;
 
+import com.accounting.archive.LedgerSegment;
+import com.accounting.dto.AccountSummaryDTO;
+import com.accounting.dto.CurrencyBalanceDTO;
 import com.accounting.exception.AccountingException;
 import com.accounting.model.Account;
 import com.accounting.model.AccountType;
+import com.accounting.model.FiscalYear;
 import com.accounting.repository.AccountRepository;
 import com.accounting.repository.JournalEntryLineRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class AccountService {
 
     private final AccountRepository accountRepository;
     private final JournalEntryLineRepository journalEntryLineRepository;
+    private final LedgerVersionService ledgerVersionService;
+    private final LedgerArchiveService ledgerArchiveService;
 
     public List<Account> findAll() {
         return accountRepository.findAll();
@@ -53,12 +63,21 @@ public class AccountService {
         return accountRepository.findByParentId(parentId);
     }
 
+    public Page<AccountSummaryDTO> findSummaries(AccountType type, Boolean active, String search, Pageable pageable) {
+        return accountRepository.findSummaries(type, active, search, pageable);
+    }
+
+    public List<AccountSummaryDTO> findActiveSummaries() {
+        return accountRepository.findActiveSummaries();
+    }
+
     @Transactional
     public Account save(Account account) {
         if (account.getId() == null && accountRepository.existsByCode(account.getCode())) {
             throw new AccountingException("Account code already exists: " + account.getCode());
         }
 
+        ledgerVersionService.bump(LedgerVersionService.ACCOUNTS);
         return accountRepository.save(account);
     }
 
@@ -74,6 +93,7 @@ public class AccountService {
 
         account.setIsActive(false);
         accountRepository.save(account);
+        ledgerVersionService.bump(LedgerVersionService.ACCOUNTS);
     }
 
     @Transactional
@@ -83,9 +103,13 @@ public class AccountService {
 
         account.setIsActive(true);
         accountRepository.save(account);
+        ledgerVersionService.bump(LedgerVersionService.ACCOUNTS);
     }
 
     public BigDecimal getBalance(Long accountId) {
+        if (ledgerArchiveService.getArchivedThrough() != null) {
+            return getBalanceBetweenDates(accountId, FiscalYear.START_OF_TIME, FiscalYear.END_OF_TIME);
+        }
         BigDecimal totalDebit = journalEntryLineRepository.sumDebitByAccountId(accountId);
         BigDecimal totalCredit = journalEntryLineRepository.sumCreditByAccountId(accountId);
 
@@ -104,15 +128,29 @@ public class AccountService {
     }
 
     public BigDecimal getBalanceAsOfDate(Long accountId, LocalDate asOfDate) {
-        LocalDate startOfTime = LocalDate.of(1900, 1, 1);
-        BigDecimal totalDebit = journalEntryLineRepository.sumDebitByAccountIdBetweenDates(
-                accountId, startOfTime, asOfDate);
-        BigDecimal totalCredit = journalEntryLineRepository.sumCreditByAccountIdBetweenDates(
-                accountId, startOfTime, asOfDate);
+        return getBalanceBetweenDates(accountId, FiscalYear.START_OF_TIME, asOfDate);
+    }
 
-        // Handle null values from aggregate queries
-        if (totalDebit == null) totalDebit = BigDecimal.ZERO;
-        if (totalCredit == null) totalCredit = BigDecimal.ZERO;
+    public BigDecimal getBalanceBetweenDates(Long accountId, LocalDate startDate, LocalDate endDate) {
+        BigDecimal totalDebit = BigDecimal.ZERO;
+        BigDecimal totalCredit = BigDecimal.ZERO;
+        LocalDate liveStart = startDate;
+        LocalDate archivedThrough = ledgerArchiveService.getArchivedThrough();
+        if (archivedThrough != null && !startDate.isAfter(archivedThrough)) {
+            LedgerSegment.Totals archived = ledgerArchiveService.sumBetweenDates(accountId, startDate, endDate);
+            totalDebit = archived.getDebitAmount();
+            totalCredit = archived.getCreditAmount();
+            liveStart = archivedThrough.plusDays(1);
+        }
+
+        if (!liveStart.isAfter(endDate)) {
+            BigDecimal debit = journalEntryLineRepository.sumDebitByAccountIdBetweenDates(accountId, liveStart, endDate);
+            BigDecimal credit = journalEntryLineRepository.sumCreditByAccountIdBetweenDates(accountId, liveStart, endDate);
+
+            // Handle null values from aggregate queries
+            if (debit != null) totalDebit = totalDebit.add(debit);
+            if (credit != null) totalCredit = totalCredit.add(credit);
+        }
 
         Account account = accountRepository.findById(accountId)
                 .orElseThrow(() -> new AccountingException("Account not found: " + accountId));
@@ -124,24 +162,43 @@ public class AccountService {
         }
     }
 
-    public BigDecimal getBalanceBetweenDates(Long accountId, LocalDate startDate, LocalDate endDate) {
-        BigDecimal totalDebit = journalEntryLineRepository.sumDebitByAccountIdBetweenDates(
-                accountId, startDate, endDate);
-        BigDecimal totalCredit = journalEntryLineRepository.sumCreditByAccountIdBetweenDates(
-                accountId, startDate, endDate);
+    public List<CurrencyBalanceDTO> getCurrencyBalancesBetweenDates(Long accountId, LocalDate startDate, LocalDate endDate) {
+        LocalDate archivedThrough = ledgerArchiveService.getArchivedThrough();
+        if (archivedThrough == null || startDate.isAfter(archivedThrough)) {
+            return journalEntryLineRepository.sumByAccountIdAndCurrencyBetweenDates(accountId, startDate, endDate);
+        }
 
-        // Handle null values from aggregate queries
-        if (totalDebit == null) totalDebit = BigDecimal.ZERO;
-        if (totalCredit == null) totalCredit = BigDecimal.ZERO;
+        List<CurrencyBalanceDTO> balances = ledgerArchiveService.sumByCurrencyBetweenDates(accountId, startDate, endDate, false);
+        if (endDate.isAfter(archivedThrough)) {
+            for (CurrencyBalanceDTO live : journalEntryLineRepository.sumByAccountIdAndCurrencyBetweenDates(
+                    accountId, archivedThrough.plusDays(1), endDate)) {
+                CurrencyBalanceDTO archived = balances.stream()
+                        .filter(balance -> Objects.equals(balance.getCurrencyId(), live.getCurrencyId()))
+                        .findFirst()
+                        .orElse(null);
+                if (archived == null) {
+                    balances.add(live);
+                } else {
+                    archived.setAmount(archived.getAmount().add(live.getAmount()));
+                    archived.setCurrencyAmount(archived.getCurrencyAmount().add(live.getCurrencyAmount()));
+                }
+            }
+        }
+        return balances;
+    }
 
-        Account account = accountRepository.findById(accountId)
-                .orElseThrow(() -> new AccountingException("Account not found: " + accountId));
+    public List<CurrencyBalanceDTO> getDailyCurrencyBalancesBetweenDates(Long accountId, LocalDate startDate, LocalDate endDate) {
+        LocalDate archivedThrough = ledgerArchiveService.getArchivedThrough();
+        if (archivedThrough == null || startDate.isAfter(archivedThrough)) {
+            return journalEntryLineRepository.sumByAccountIdCurrencyAndDateBetweenDates(accountId, startDate, endDate);
+        }
 
-        if (account.isDebitNormal()) {
-            return totalDebit.subtract(totalCredit);
-        } else {
-            return totalCredit.subtract(totalDebit);
+        List<CurrencyBalanceDTO> balances = ledgerArchiveService.sumByCurrencyBetweenDates(accountId, startDate, endDate, true);
+        if (endDate.isAfter(archivedThrough)) {
+            balances.addAll(journalEntryLineRepository.sumByAccountIdCurrencyAndDateBetweenDates(
+                    accountId, archivedThrough.plusDays(1), endDate));
         }
+        return balances;
     }
 
     @Transactional
@@ -154,6 +211,7 @@ public class AccountService {
                     account.setAccountType(type);
                     account.setDescription(description);
                     account.setIsActive(true);
+                    ledgerVersionService.bump(LedgerVersionService.ACCOUNTS);
                     return accountRepository.save(account);
                 });
     }
@@ -1,13 +1,19 @@
 package com.accounting.service;
 
+import com.accounting.archive.LedgerSegment;
+import com.accounting.dto.BankStatementSummaryDTO;
 import com.accounting.exception.AccountingException;
 import com.accounting.model.BankAccount;
 import com.accounting.model.BankStatement;
+import com.accounting.model.FiscalYear;
 import com.accounting.model.JournalEntryLine;
 import com.accounting.repository.BankAccountRepository;
 import com.accounting.repository.BankStatementRepository;
 import com.accounting.repository.JournalEntryLineRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,12 +23,16 @@ import java.util.List;
 import java.util.Optional;
 
 @Service
+@Timed(value = "accounting.service", histogram = true)
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class BankReconciliationService {
 
     private final BankAccountRepository bankAccountRepository;
     private final BankStatementRepository bankStatementRepository;
     private final JournalEntryLineRepository journalEntryLineRepository;
+    private final LedgerArchiveService ledgerArchiveService;
+    private final LedgerEventService ledgerEventService;
 
     public List<BankAccount> findAllBankAccounts() {
         return bankAccountRepository.findAllWithRelations();
@@ -53,6 +63,15 @@ public class BankReconciliationService {
         return bankStatementRepository.findByBankAccountIdAndDateRange(bankAccountId, startDate, endDate);
     }
 
+    public Page<BankStatementSummaryDTO> findStatementSummaries(Long bankAccountId, LocalDate startDate,
+                                                                LocalDate endDate, Pageable pageable) {
+        return bankStatementRepository.findSummariesByDateRange(bankAccountId, startDate, endDate, pageable);
+    }
+
+    public Page<BankStatementSummaryDTO> findUnreconciledSummaries(Long bankAccountId, Pageable pageable) {
+        return bankStatementRepository.findUnreconciledSummaries(bankAccountId, pageable);
+    }
+
     @Transactional
     public BankStatement importStatement(BankStatement statement) {
         return bankStatementRepository.save(statement);
@@ -83,6 +102,7 @@ public class BankReconciliationService {
         statement.setIsReconciled(true);
         statement.setMatchedJournalLine(journalLine);
         bankStatementRepository.save(statement);
+        ledgerEventService.statementReconciled(statement);
 
         updateBankAccountBalance(statement.getBankAccount());
     }
@@ -92,9 +112,11 @@ public class BankReconciliationService {
         BankStatement statement = bankStatementRepository.findById(statementId)
                 .orElseThrow(() -> new AccountingException("Bank statement not found: " + statementId));
 
+        JournalEntryLine matchedLine = statement.getMatchedJournalLine();
         statement.setIsReconciled(false);
         statement.setMatchedJournalLine(null);
         bankStatementRepository.save(statement);
+        ledgerEventService.statementUnreconciled(statement, matchedLine);
 
         updateBankAccountBalance(statement.getBankAccount());
     }
@@ -125,9 +147,19 @@ public class BankReconciliationService {
             throw new AccountingException("Bank account is not linked to a GL account");
         }
 
+        Long glAccountId = bankAccount.getGlAccount().getId();
         BigDecimal glBalance = BigDecimal.ZERO;
-        List<JournalEntryLine> lines = journalEntryLineRepository
-                .findByAccountIdAndPosted(bankAccount.getGlAccount().getId());
+        List<JournalEntryLine> lines;
+        LocalDate archivedThrough = ledgerArchiveService.getArchivedThrough();
+        if (archivedThrough == null) {
+            lines = journalEntryLineRepository.findByAccountIdAndPosted(glAccountId);
+        } else {
+            LedgerSegment.Totals archived = ledgerArchiveService.sumBetweenDates(
+                    glAccountId, FiscalYear.START_OF_TIME, archivedThrough);
+            glBalance = archived.getDebitAmount().subtract(archived.getCreditAmount());
+            lines = journalEntryLineRepository.findByAccountIdAndPostedBetweenDates(
+                    glAccountId, archivedThrough.plusDays(1), FiscalYear.END_OF_TIME);
+        }
 
         for (JournalEntryLine line : lines) {
             BigDecimal debit = line.getDebitAmount() != null ? line.getDebitAmount() : BigDecimal.ZERO;
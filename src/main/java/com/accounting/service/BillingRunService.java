@@ -0,0 +1,271 @@
+package com.accounting.service;
+
+import com.accounting.dto.BillingRunDTO;
+import com.accounting.dto.BillingRunResultDTO;
+import com.accounting.exception.AccountingException;
+import com.accounting.model.*;
+import com.accounting.repository.AccountRepository;
+import com.accounting.repository.CustomerRepository;
+import com.accounting.repository.InvoiceBatchRepository;
+import com.accounting.repository.JournalBatchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class BillingRunService {
+
+    static final int DEFAULT_CHUNK_SIZE = 500;
+    static final int MAX_CHUNK_SIZE = 5000;
+
+    private final CustomerRepository customerRepository;
+    private final AccountRepository accountRepository;
+    private final InvoiceBatchRepository invoiceBatchRepository;
+    private final JournalBatchRepository journalBatchRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final LedgerVersionService ledgerVersionService;
+    private final FiscalYearService fiscalYearService;
+    private final LedgerEventService ledgerEventService;
+    private final NumberSequenceService numberSequenceService;
+    private final ConsolidatedPostingService consolidatedPostingService;
+
+    @Value("${accounting.invoice.posting-mode:DETAILED}")
+    private PostingMode postingMode = PostingMode.DETAILED;
+
+    public BillingRunResultDTO run(BillingRunDTO run) {
+        long started = System.nanoTime();
+        validate(run);
+
+        Map<Long, Customer> customers = loadCustomers(run);
+        Map<Long, Account> itemAccounts = loadItemAccounts(run);
+
+        Account arAccount = null;
+        Account revenueAccount = null;
+        if (run.isSend()) {
+            arAccount = accountRepository.findByCode("1200")
+                    .orElseThrow(() -> new AccountingException("Accounts Receivable account not found"));
+            revenueAccount = accountRepository.findByCode("4000")
+                    .orElseThrow(() -> new AccountingException("Sales Revenue account not found"));
+        }
+
+        int chunkSize = resolveChunkSize(run.getChunkSize());
+        List<BillingRunDTO.BillingInvoiceDTO> requested = run.getInvoices();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        BillingRunResultDTO result = new BillingRunResultDTO();
+
+        for (int from = 0; from < requested.size(); from += chunkSize) {
+            List<BillingRunDTO.BillingInvoiceDTO> chunk =
+                    requested.subList(from, Math.min(from + chunkSize, requested.size()));
+            Account ar = arAccount;
+            Account revenue = revenueAccount;
+
+            List<Invoice> invoices = transactionTemplate.execute(status -> {
+                if (run.isSend()) {
+                    // Checked again per chunk, holding the year until the chunk commits
+                    fiscalYearService.assertOpen(run.getInvoiceDate());
+                }
+                LocalDate today = LocalDate.now();
+                List<String> invoiceNumbers = numberSequenceService.allocate(NumberSequenceService.INVOICE, today, chunk.size());
+                List<Invoice> built = new ArrayList<>(chunk.size());
+                for (int i = 0; i < chunk.size(); i++) {
+                    built.add(buildInvoice(run, chunk.get(i), customers, itemAccounts, invoiceNumbers.get(i)));
+                }
+
+                if (run.isSend()) {
+                    List<JournalEntry> entries = buildJournalEntries(built, ar, revenue, today);
+                    journalBatchRepository.insertAll(entries);
+                    ledgerEventService.entriesPosted(entries);
+                }
+
+                invoiceBatchRepository.insertAll(built);
+                if (run.isSend()) {
+                    ledgerEventService.invoicesSent(built);
+                    ledgerVersionService.bump(LedgerVersionService.JOURNAL, LedgerVersionService.INVOICES);
+                } else {
+                    ledgerVersionService.bump(LedgerVersionService.INVOICES);
+                }
+                return built;
+            });
+
+            result.setChunkCount(result.getChunkCount() + 1);
+            result.setInvoiceCount(result.getInvoiceCount() + invoices.size());
+            if (run.isSend()) {
+                result.setJournalEntryCount(result.getJournalEntryCount()
+                        + (int) invoices.stream().map(invoice -> invoice.getJournalEntry().getId()).distinct().count());
+            }
+            for (Invoice invoice : invoices) {
+                result.setTotalAmount(result.getTotalAmount().add(invoice.getTotalAmount()));
+            }
+            if (result.getFirstInvoiceNumber() == null) {
+                result.setFirstInvoiceNumber(invoices.get(0).getInvoiceNumber());
+            }
+            result.setLastInvoiceNumber(invoices.get(invoices.size() - 1).getInvoiceNumber());
+        }
+
+        result.setElapsedMillis((System.nanoTime() - started) / 1_000_000);
+        return result;
+    }
+
+    private void validate(BillingRunDTO run) {
+        if (run.getInvoices() == null || run.getInvoices().isEmpty()) {
+            throw new AccountingException("Billing run must contain at least one invoice");
+        }
+        if (run.getInvoiceDate() == null) {
+            throw new AccountingException("Billing run invoice date is required");
+        }
+        if (run.isSend()) {
+            fiscalYearService.assertOpen(run.getInvoiceDate());
+        }
+        for (BillingRunDTO.BillingInvoiceDTO invoice : run.getInvoices()) {
+            if (invoice.getCustomerId() == null) {
+                throw new AccountingException("Every billing run invoice must have a customer");
+            }
+            if (invoice.getItems() == null || invoice.getItems().isEmpty()) {
+                throw new AccountingException("Invoice for customer " + invoice.getCustomerId() + " has no items");
+            }
+        }
+    }
+
+    private int resolveChunkSize(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return DEFAULT_CHUNK_SIZE;
+        }
+        return Math.min(requested, MAX_CHUNK_SIZE);
+    }
+
+    private Map<Long, Customer> loadCustomers(BillingRunDTO run) {
+        Set<Long> ids = run.getInvoices().stream()
+                .map(BillingRunDTO.BillingInvoiceDTO::getCustomerId)
+                .collect(Collectors.toSet());
+
+        Map<Long, Customer> customers = customerRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Customer::getId, Function.identity()));
+
+        for (Long id : ids) {
+            if (!customers.containsKey(id)) {
+                throw new AccountingException("Customer not found: " + id);
+            }
+        }
+        return customers;
+    }
+
+    private Map<Long, Account> loadItemAccounts(BillingRunDTO run) {
+        Set<Long> ids = new HashSet<>();
+        for (BillingRunDTO.BillingInvoiceDTO invoice : run.getInvoices()) {
+            for (BillingRunDTO.BillingItemDTO item : invoice.getItems()) {
+                if (item.getAccountId() != null) {
+                    ids.add(item.getAccountId());
+                }
+            }
+        }
+        if (ids.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        Map<Long, Account> accounts = accountRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Account::getId, Function.identity()));
+
+        for (Long id : ids) {
+            if (!accounts.containsKey(id)) {
+                throw new AccountingException("Account not found: " + id);
+            }
+        }
+        return accounts;
+    }
+
+    private Invoice buildInvoice(BillingRunDTO run, BillingRunDTO.BillingInvoiceDTO request,
+                                 Map<Long, Customer> customers, Map<Long, Account> itemAccounts,
+                                 String invoiceNumber) {
+        Invoice invoice = new Invoice();
+        invoice.setInvoiceNumber(invoiceNumber);
+        invoice.setCustomer(customers.get(request.getCustomerId()));
+        invoice.setInvoiceDate(run.getInvoiceDate());
+        invoice.setDueDate(run.getDueDate());
+        invoice.setTaxAmount(request.getTaxAmount() != null ? request.getTaxAmount() : BigDecimal.ZERO);
+        invoice.setNotes(request.getNotes());
+        invoice.setStatus(InvoiceStatus.DRAFT);
+
+        for (BillingRunDTO.BillingItemDTO itemRequest : request.getItems()) {
+            InvoiceItem item = new InvoiceItem();
+            item.setDescription(itemRequest.getDescription());
+            item.setQuantity(itemRequest.getQuantity() != null ? itemRequest.getQuantity() : BigDecimal.ONE);
+            item.setUnitPrice(itemRequest.getUnitPrice() != null ? itemRequest.getUnitPrice() : BigDecimal.ZERO);
+            item.setAmount(item.getQuantity().multiply(item.getUnitPrice()).setScale(2, RoundingMode.HALF_UP));
+            if (itemRequest.getAccountId() != null) {
+                item.setAccount(itemAccounts.get(itemRequest.getAccountId()));
+            }
+            invoice.addItem(item);
+        }
+
+        invoice.calculateTotals();
+        return invoice;
+    }
+
+    // Consolidated runs post one summary entry per chunk, since every invoice in a run shares its date
+    private List<JournalEntry> buildJournalEntries(List<Invoice> invoices, Account arAccount, Account revenueAccount,
+                                                   LocalDate today) {
+        if (postingMode == PostingMode.CONSOLIDATED) {
+            String entryNumber = numberSequenceService.allocate(NumberSequenceService.JOURNAL_ENTRY, today, 1).get(0);
+            JournalEntry entry = consolidatedPostingService.summarize(invoices, arAccount, revenueAccount, entryNumber);
+            for (Invoice invoice : invoices) {
+                invoice.setJournalEntry(entry);
+                invoice.setStatus(InvoiceStatus.SENT);
+            }
+            return List.of(entry);
+        }
+
+        List<String> entryNumbers = numberSequenceService.allocate(NumberSequenceService.JOURNAL_ENTRY, today, invoices.size());
+        List<JournalEntry> entries = new ArrayList<>(invoices.size());
+        for (int i = 0; i < invoices.size(); i++) {
+            Invoice invoice = invoices.get(i);
+            JournalEntry entry = buildJournalEntry(invoice, arAccount, revenueAccount, entryNumbers.get(i));
+            invoice.setJournalEntry(entry);
+            invoice.setStatus(InvoiceStatus.SENT);
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    private JournalEntry buildJournalEntry(Invoice invoice, Account arAccount, Account revenueAccount,
+                                           String entryNumber) {
+        JournalEntry entry = new JournalEntry();
+        entry.setEntryNumber(entryNumber);
+        entry.setEntryDate(invoice.getInvoiceDate());
+        entry.setDescription("Invoice " + invoice.getInvoiceNumber() + " - " + invoice.getCustomer().getName());
+        entry.setReference(invoice.getInvoiceNumber());
+        entry.setStatus(EntryStatus.POSTED);
+        entry.setPostedAt(LocalDateTime.now());
+
+        JournalEntryLine debitLine = new JournalEntryLine();
+        debitLine.setAccount(arAccount);
+        debitLine.setDebitAmount(invoice.getTotalAmount());
+        debitLine.setCreditAmount(BigDecimal.ZERO);
+        debitLine.setDescription("Invoice to " + invoice.getCustomer().getName());
+        entry.addLine(debitLine);
+
+        JournalEntryLine creditLine = new JournalEntryLine();
+        creditLine.setAccount(revenueAccount);
+        creditLine.setDebitAmount(BigDecimal.ZERO);
+        creditLine.setCreditAmount(invoice.getTotalAmount());
+        creditLine.setDescription("Sales revenue");
+        entry.addLine(creditLine);
+
+        return entry;
+    }
+}
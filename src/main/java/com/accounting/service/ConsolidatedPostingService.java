@@ -0,0 +1,138 @@
+package com.accounting.service;
+
+import com.accounting.exception.AccountingException;
+import com.accounting.model.*;
+import com.accounting.repository.JournalEntryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+public class ConsolidatedPostingService {
+
+    static final String REFERENCE_PREFIX = "AR-SUMMARY-";
+    static final String CANCELLATION_PREFIX = "CXL-";
+
+    private final JournalEntryRepository journalEntryRepository;
+    private final LedgerEventService ledgerEventService;
+    private final NumberSequenceService numberSequenceService;
+
+    // Posted summaries are never edited: each posting writes a new summary and each cancellation an adjusting entry
+    @Transactional
+    public JournalEntry post(Invoice invoice, Account arAccount, Account revenueAccount) {
+        JournalEntry entry = summarize(List.of(invoice), arAccount, revenueAccount,
+                numberSequenceService.next(NumberSequenceService.JOURNAL_ENTRY));
+        JournalEntry posted = journalEntryRepository.save(entry);
+        ledgerEventService.entryPosted(posted);
+        return posted;
+    }
+
+    // One entry for invoices sharing an invoice date, with an AR line per customer and a single revenue line
+    public JournalEntry summarize(List<Invoice> invoices, Account arAccount, Account revenueAccount, String entryNumber) {
+        LocalDate date = invoices.get(0).getInvoiceDate();
+        JournalEntry entry = new JournalEntry();
+        entry.setEntryNumber(entryNumber);
+        entry.setEntryDate(date);
+        entry.setDescription("Invoices for " + date + " - " + revenueAccount.getName());
+        entry.setReference(REFERENCE_PREFIX + date.format(DateTimeFormatter.BASIC_ISO_DATE) + "-" + revenueAccount.getCode());
+        entry.setStatus(EntryStatus.POSTED);
+        entry.setPostedAt(LocalDateTime.now());
+
+        Map<Long, JournalEntryLine> arLines = new LinkedHashMap<>();
+        BigDecimal total = BigDecimal.ZERO;
+        for (Invoice invoice : invoices) {
+            if (!invoice.getInvoiceDate().equals(date)) {
+                throw new AccountingException("Invoice " + invoice.getInvoiceNumber() + " is not dated " + date);
+            }
+            Customer customer = invoice.getCustomer();
+            JournalEntryLine arLine = arLines.computeIfAbsent(customer.getId(), id -> {
+                JournalEntryLine line = new JournalEntryLine();
+                line.setAccount(arAccount);
+                line.setCustomer(customer);
+                line.setDescription("Invoices to " + customer.getName());
+                entry.addLine(line);
+                return line;
+            });
+            arLine.setDebitAmount(arLine.getDebitAmount().add(invoice.getTotalAmount()));
+            total = total.add(invoice.getTotalAmount());
+            invoice.setRevenueAccount(revenueAccount);
+        }
+
+        JournalEntryLine revenueLine = new JournalEntryLine();
+        revenueLine.setAccount(revenueAccount);
+        revenueLine.setDescription("Sales revenue");
+        revenueLine.setCreditAmount(total);
+        entry.addLine(revenueLine);
+        return entry;
+    }
+
+    // The summary stays posted; an entry on the same date takes the invoice back out of AR and revenue
+    @Transactional
+    public JournalEntry reverse(Invoice invoice, Account arAccount) {
+        if (invoice.getRevenueAccount() == null) {
+            throw new AccountingException("Invoice " + invoice.getInvoiceNumber() + " has no consolidated revenue account");
+        }
+        JournalEntry summary = journalEntryRepository.findByIdWithLines(invoice.getJournalEntry().getId())
+                .orElseThrow(() -> new AccountingException("Journal entry not found: " + invoice.getJournalEntry().getId()));
+
+        BigDecimal amount = invoice.getTotalAmount();
+        Customer customer = invoice.getCustomer();
+        JournalEntryLine revenueLine = findLine(summary, invoice.getRevenueAccount(), null);
+        JournalEntryLine arLine = findLine(summary, arAccount, customer);
+        if (revenueLine == null || arLine == null || arLine.getDebitAmount().compareTo(amount) < 0) {
+            throw new AccountingException("Invoice " + invoice.getInvoiceNumber() + " is not part of entry " + summary.getEntryNumber());
+        }
+
+        JournalEntry entry = new JournalEntry();
+        entry.setEntryNumber(numberSequenceService.next(NumberSequenceService.JOURNAL_ENTRY));
+        entry.setEntryDate(summary.getEntryDate());
+        entry.setDescription("Cancel Invoice " + invoice.getInvoiceNumber() + " from " + summary.getEntryNumber());
+        entry.setReference(CANCELLATION_PREFIX + invoice.getInvoiceNumber());
+        entry.setStatus(EntryStatus.POSTED);
+        entry.setPostedAt(LocalDateTime.now());
+
+        JournalEntryLine creditLine = new JournalEntryLine();
+        creditLine.setAccount(arAccount);
+        creditLine.setCustomer(customer);
+        creditLine.setCreditAmount(amount);
+        creditLine.setDescription("Cancel invoice to " + customer.getName());
+        entry.addLine(creditLine);
+
+        JournalEntryLine debitLine = new JournalEntryLine();
+        debitLine.setAccount(revenueLine.getAccount());
+        debitLine.setDebitAmount(amount);
+        debitLine.setDescription("Sales revenue");
+        entry.addLine(debitLine);
+
+        JournalEntry posted = journalEntryRepository.save(entry);
+        ledgerEventService.entryPosted(posted);
+        return posted;
+    }
+
+    public boolean isConsolidated(JournalEntry entry) {
+        return entry.getReference() != null && entry.getReference().startsWith(REFERENCE_PREFIX);
+    }
+
+    private JournalEntryLine findLine(JournalEntry entry, Account account, Customer customer) {
+        return entry.getLines().stream()
+                .filter(line -> line.getAccount().getId().equals(account.getId()) && isCustomer(line, customer))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private boolean isCustomer(JournalEntryLine line, Customer customer) {
+        Long lineCustomerId = line.getCustomer() != null ? line.getCustomer().getId() : null;
+        Long customerId = customer != null ? customer.getId() : null;
+        return Objects.equals(lineCustomerId, customerId);
+    }
+}
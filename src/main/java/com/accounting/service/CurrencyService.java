@@ -1,5 +1,6 @@
 package com.accounting.service;
 
+import com.accounting.dto.ExchangeRateDTO;
 import com.accounting.exception.AccountingException;
 import com.accounting.model.Currency;
 import com.accounting.repository.CurrencyRepository;
@@ -9,14 +10,17 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class CurrencyService {
 
     private final CurrencyRepository currencyRepository;
+    private final ExchangeRateService exchangeRateService;
 
     public List<Currency> findAll() {
         return currencyRepository.findAll();
@@ -50,7 +54,9 @@ public class CurrencyService {
             currency.setExchangeRate(BigDecimal.ONE);
         }
 
-        return currencyRepository.save(currency);
+        Currency saved = currencyRepository.save(currency);
+        exchangeRateService.refresh();
+        return saved;
     }
 
     @Transactional
@@ -64,6 +70,7 @@ public class CurrencyService {
 
         currency.setExchangeRate(exchangeRate);
         currencyRepository.save(currency);
+        exchangeRateService.importRates(List.of(new ExchangeRateDTO(currency.getCode(), LocalDate.now(), exchangeRate)));
     }
 
     public BigDecimal convert(BigDecimal amount, Currency from, Currency to) {
@@ -92,7 +99,9 @@ public class CurrencyService {
                     currency.setSymbol(symbol);
                     currency.setIsBase(isBase);
                     currency.setExchangeRate(BigDecimal.ONE);
-                    return currencyRepository.save(currency);
+                    Currency saved = currencyRepository.save(currency);
+                    exchangeRateService.refresh();
+                    return saved;
                 });
     }
 }
\ No newline at end of file
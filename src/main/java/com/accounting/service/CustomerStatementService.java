@@ -0,0 +1,174 @@
+package com.accounting.service;
+
+import com.accounting.dto.ArSubledgerDTO;
+import com.accounting.dto.CustomerStatementDTO;
+import com.accounting.exception.AccountingException;
+import com.accounting.model.Account;
+import com.accounting.model.Customer;
+import com.accounting.model.Invoice;
+import com.accounting.model.InvoiceStatus;
+import com.accounting.repository.AccountRepository;
+import com.accounting.repository.CustomerRepository;
+import com.accounting.repository.CustomerStatementRepository;
+import com.accounting.repository.InvoiceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class CustomerStatementService {
+
+    static final List<InvoiceStatus> BILLED_STATUSES =
+            List.of(InvoiceStatus.SENT, InvoiceStatus.OVERDUE, InvoiceStatus.PAID);
+
+    private final InvoiceRepository invoiceRepository;
+    private final CustomerRepository customerRepository;
+    private final CustomerStatementRepository customerStatementRepository;
+    private final AccountRepository accountRepository;
+    private final AccountService accountService;
+
+    @Transactional(readOnly = true)
+    public CustomerStatementDTO generateStatement(Long customerId, LocalDate startDate, LocalDate endDate) {
+        Customer customer = customerRepository.findById(customerId)
+                .orElseThrow(() -> new AccountingException("Customer not found: " + customerId));
+
+        CustomerStatementDTO statement = newStatement(customer, startDate, endDate);
+        statement.setOpeningBalance(invoiceRepository.sumInvoicedBefore(customerId, BILLED_STATUSES, startDate)
+                .subtract(invoiceRepository.sumPaidBefore(customerId, startDate)));
+
+        // Every line ends up in the returned statement, so the period's invoices are read in one query
+        List<CustomerStatementDTO.StatementLineDTO> invoices = invoiceRepository
+                .findStatementInvoices(customerId, BILLED_STATUSES, startDate, endDate).stream()
+                .map(invoice -> CustomerStatementDTO.StatementLineDTO.invoice(invoice.getInvoiceDate(),
+                        invoice.getId(), invoice.getInvoiceNumber(), invoice.getTotalAmount()))
+                .toList();
+
+        List<CustomerStatementDTO.StatementLineDTO> payments = invoiceRepository
+                .findPaymentsBetween(customerId, startDate, endDate).stream()
+                .map(invoice -> CustomerStatementDTO.StatementLineDTO.payment(invoice.getPaidDate(),
+                        invoice.getId(), invoice.getInvoiceNumber(), invoice.getTotalAmount()))
+                .toList();
+
+        mergeByDate(invoices, payments).forEach(statement::addLine);
+        applyRunningBalance(statement);
+        return statement;
+    }
+
+    @Transactional(readOnly = true)
+    public void streamStatements(LocalDate startDate, LocalDate endDate, Consumer<CustomerStatementDTO> consumer) {
+        Map<Long, Customer> customers = customerRepository.findAll(Sort.by("id")).stream()
+                .collect(Collectors.toMap(Customer::getId, Function.identity()));
+        TreeMap<Long, BigDecimal> openingOnly = new TreeMap<>(customerStatementRepository.findBalancesBefore(startDate));
+        Map<Long, BigDecimal> openings = Map.copyOf(openingOnly);
+
+        CustomerStatementDTO[] current = new CustomerStatementDTO[1];
+        customerStatementRepository.streamActivity(startDate, endDate, (customerId, line) -> {
+            if (current[0] == null || !current[0].getCustomerId().equals(customerId)) {
+                if (current[0] != null) {
+                    emit(current[0], consumer);
+                }
+                emitOpeningOnlyBefore(customerId, openingOnly, customers, startDate, endDate, consumer);
+                current[0] = newStatement(customers.get(customerId), startDate, endDate);
+                current[0].setOpeningBalance(openings.getOrDefault(customerId, BigDecimal.ZERO));
+                openingOnly.remove(customerId);
+            }
+            current[0].addLine(line);
+        });
+        if (current[0] != null) {
+            emit(current[0], consumer);
+        }
+        emitOpeningOnlyBefore(null, openingOnly, customers, startDate, endDate, consumer);
+    }
+
+    @Transactional(readOnly = true)
+    public ArSubledgerDTO generateSubledger(LocalDate asOfDate) {
+        Account arAccount = accountRepository.findByCode("1200")
+                .orElseThrow(() -> new AccountingException("Accounts Receivable account not found"));
+
+        Map<Long, Customer> customers = customerRepository.findAll().stream()
+                .collect(Collectors.toMap(Customer::getId, Function.identity()));
+
+        ArSubledgerDTO subledger = new ArSubledgerDTO();
+        subledger.setAsOfDate(asOfDate);
+        subledger.setControlAccountCode(arAccount.getCode());
+        subledger.setControlAccountBalance(accountService.getBalanceAsOfDate(arAccount.getId(), asOfDate));
+
+        customerStatementRepository.findBalancesBefore(asOfDate.plusDays(1)).forEach((customerId, balance) -> {
+            if (balance.signum() != 0) {
+                Customer customer = customers.get(customerId);
+                subledger.addCustomer(new ArSubledgerDTO.CustomerBalanceDTO(
+                        customerId, customer.getCode(), customer.getName(), balance));
+            }
+        });
+        return subledger;
+    }
+
+    private void emitOpeningOnlyBefore(Long customerId, TreeMap<Long, BigDecimal> openingOnly,
+                                       Map<Long, Customer> customers, LocalDate startDate, LocalDate endDate,
+                                       Consumer<CustomerStatementDTO> consumer) {
+        Map<Long, BigDecimal> pending = customerId != null ? openingOnly.headMap(customerId) : openingOnly;
+        Iterator<Map.Entry<Long, BigDecimal>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, BigDecimal> opening = iterator.next();
+            if (opening.getValue().signum() != 0) {
+                CustomerStatementDTO statement = newStatement(customers.get(opening.getKey()), startDate, endDate);
+                statement.setOpeningBalance(opening.getValue());
+                emit(statement, consumer);
+            }
+            iterator.remove();
+        }
+    }
+
+    private void emit(CustomerStatementDTO statement, Consumer<CustomerStatementDTO> consumer) {
+        applyRunningBalance(statement);
+        consumer.accept(statement);
+    }
+
+    private CustomerStatementDTO newStatement(Customer customer, LocalDate startDate, LocalDate endDate) {
+        CustomerStatementDTO statement = new CustomerStatementDTO();
+        statement.setCustomerId(customer.getId());
+        statement.setCustomerCode(customer.getCode());
+        statement.setCustomerName(customer.getName());
+        statement.setStartDate(startDate);
+        statement.setEndDate(endDate);
+        return statement;
+    }
+
+    private List<CustomerStatementDTO.StatementLineDTO> mergeByDate(List<CustomerStatementDTO.StatementLineDTO> invoices,
+                                                                    List<CustomerStatementDTO.StatementLineDTO> payments) {
+        List<CustomerStatementDTO.StatementLineDTO> merged = new ArrayList<>(invoices.size() + payments.size());
+        int i = 0;
+        int p = 0;
+        while (i < invoices.size() || p < payments.size()) {
+            if (p >= payments.size()
+                    || (i < invoices.size() && !invoices.get(i).getDate().isAfter(payments.get(p).getDate()))) {
+                merged.add(invoices.get(i++));
+            } else {
+                merged.add(payments.get(p++));
+            }
+        }
+        return merged;
+    }
+
+    private void applyRunningBalance(CustomerStatementDTO statement) {
+        BigDecimal runningBalance = statement.getOpeningBalance();
+        for (CustomerStatementDTO.StatementLineDTO line : statement.getLines()) {
+            runningBalance = runningBalance.add(line.getDebitAmount()).subtract(line.getCreditAmount());
+            line.setRunningBalance(runningBalance);
+        }
+        statement.setClosingBalance(runningBalance);
+    }
+}
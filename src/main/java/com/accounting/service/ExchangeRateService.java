@@ -0,0 +1,322 @@
+package com.accounting.service;
+
+import com.accounting.dto.ExchangeRateDTO;
+import com.accounting.exception.AccountingException;
+import com.accounting.model.Currency;
+import com.accounting.model.ExchangeRate;
+import com.accounting.repository.CurrencyRepository;
+import com.accounting.repository.ExchangeRateRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class ExchangeRateService {
+
+    public static final long BASE_CURRENCY = 0L;
+
+    static final int RATE_SCALE = 6;
+    static final long RATE_UNIT = 1_000_000L;
+    static final MathContext PRECISION = MathContext.DECIMAL64;
+
+    private final ExchangeRateRepository exchangeRateRepository;
+    private final CurrencyRepository currencyRepository;
+    private final VersionedCache<RateTable> rates;
+
+    public ExchangeRateService(ExchangeRateRepository exchangeRateRepository, CurrencyRepository currencyRepository,
+                               PlatformTransactionManager transactionManager, LedgerVersionService ledgerVersionService) {
+        this.exchangeRateRepository = exchangeRateRepository;
+        this.currencyRepository = currencyRepository;
+        this.rates = new VersionedCache<>(LedgerVersionService.EXCHANGE_RATES, ledgerVersionService, transactionManager,
+                () -> new RateTable(currencyRepository.findAll(), exchangeRateRepository.findAllOrderedByCurrencyAndDate()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        rates.reload();
+    }
+
+    public void refresh() {
+        rates.refresh();
+    }
+
+    @Transactional
+    public List<ExchangeRate> importRates(List<ExchangeRateDTO> imported) {
+        Map<String, Currency> currencies = new HashMap<>();
+        List<ExchangeRate> saved = new ArrayList<>(imported.size());
+        for (ExchangeRateDTO dto : imported) {
+            Currency currency = currencies.computeIfAbsent(dto.getCurrencyCode(), code -> currencyRepository.findByCode(code)
+                    .orElseThrow(() -> new AccountingException("Currency not found: " + code)));
+            if (Boolean.TRUE.equals(currency.getIsBase())) {
+                throw new AccountingException("Cannot change exchange rate of base currency");
+            }
+            if (dto.getEffectiveDate() == null) {
+                throw new AccountingException("Effective date is required for " + currency.getCode());
+            }
+            if (dto.getRate() == null || dto.getRate().signum() <= 0) {
+                throw new AccountingException("Exchange rate must be positive for " + currency.getCode());
+            }
+
+            ExchangeRate exchangeRate = exchangeRateRepository
+                    .findByCurrencyIdAndEffectiveDate(currency.getId(), dto.getEffectiveDate())
+                    .orElseGet(() -> new ExchangeRate(null, currency, dto.getEffectiveDate(), null, null));
+            exchangeRate.setRate(dto.getRate().setScale(RATE_SCALE, RoundingMode.HALF_UP));
+            saved.add(exchangeRateRepository.save(exchangeRate));
+        }
+
+        LocalDate today = LocalDate.now();
+        for (Currency currency : currencies.values()) {
+            exchangeRateRepository.findFirstByCurrencyIdAndEffectiveDateLessThanEqualOrderByEffectiveDateDesc(
+                    currency.getId(), today).ifPresent(current -> currency.setExchangeRate(current.getRate()));
+        }
+        refresh();
+        return saved;
+    }
+
+    public BigDecimal getRate(Long currencyId, LocalDate asOfDate) {
+        RateTable table = rates.get();
+        int currency = table.index(currencyId);
+        return table.rates[currency][table.slot(currency, (int) asOfDate.toEpochDay())];
+    }
+
+    public BigDecimal convert(BigDecimal amount, Long fromCurrencyId, Long toCurrencyId, LocalDate asOfDate) {
+        RateTable table = rates.get();
+        int from = table.index(fromCurrencyId);
+        int to = table.index(toCurrencyId);
+        if (from == to) {
+            return amount;
+        }
+        return amount.multiply(table.crossRate(from, to, (int) asOfDate.toEpochDay()))
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+
+    public BigDecimal toBase(BigDecimal amount, Long currencyId, LocalDate asOfDate) {
+        RateTable table = rates.get();
+        int currency = table.index(currencyId);
+        if (currency == table.base) {
+            return amount;
+        }
+        return amount.divide(table.rates[currency][table.slot(currency, (int) asOfDate.toEpochDay())],
+                2, RoundingMode.HALF_UP);
+    }
+
+    public void toBase(long[] currencyIds, int[] epochDays, long[] cents, long[] baseCents) {
+        RateTable table = rates.get();
+        long previousId = Long.MIN_VALUE;
+        int currency = table.base;
+        for (int i = 0; i < cents.length; i++) {
+            if (currencyIds[i] != previousId) {
+                previousId = currencyIds[i];
+                currency = table.index(previousId);
+            }
+            baseCents[i] = table.toBaseCents(currency, epochDays[i], cents[i]);
+        }
+    }
+
+    public Translation translation(Long presentationCurrencyId) {
+        RateTable table = rates.get();
+        return new Translation(table, table.index(presentationCurrencyId));
+    }
+
+    public static final class Translation {
+
+        private final RateTable table;
+        private final int presentation;
+        private final Map<RateKey, BigDecimal> rates = new HashMap<>();
+
+        Translation(RateTable table, int presentation) {
+            this.table = table;
+            this.presentation = presentation;
+        }
+
+        public BigDecimal atDate(Long currencyId, BigDecimal amount, LocalDate date) {
+            int day = (int) date.toEpochDay();
+            return translate(table.index(currencyId), amount, day, day);
+        }
+
+        public BigDecimal average(Long currencyId, BigDecimal amount, LocalDate startDate, LocalDate endDate) {
+            int start = (int) startDate.toEpochDay();
+            int end = (int) endDate.toEpochDay();
+            return translate(table.index(currencyId), amount, Math.min(start, end), Math.max(start, end));
+        }
+
+        public int getRateLookups() {
+            return rates.size();
+        }
+
+        private BigDecimal translate(int currency, BigDecimal amount, int start, int end) {
+            if (currency == presentation || amount.signum() == 0) {
+                return amount;
+            }
+            BigDecimal rate = rates.computeIfAbsent(new RateKey(currency, start, end), key -> start == end
+                    ? table.crossRate(currency, presentation, start)
+                    : table.averageCrossRate(currency, presentation, start, end));
+            return amount.multiply(rate).setScale(2, RoundingMode.HALF_UP);
+        }
+
+        private record RateKey(int currency, int start, int end) {
+        }
+    }
+
+    static final class RateTable {
+
+        private static final long MAX_EXACT_CENTS = Long.MAX_VALUE / RATE_UNIT;
+
+        private final long[] currencyIds;
+        private final int base;
+        private final int[][] days;
+        private final long[][] unscaled;
+        private final BigDecimal[][] rates;
+        private final BigDecimal[][] inverses;
+        private final BigDecimal[][] cross;
+
+        RateTable(List<Currency> currencies, List<ExchangeRate> history) {
+            Map<Long, List<ExchangeRate>> byCurrency = new HashMap<>();
+            for (ExchangeRate exchangeRate : history) {
+                byCurrency.computeIfAbsent(exchangeRate.getCurrency().getId(), id -> new ArrayList<>()).add(exchangeRate);
+            }
+
+            List<Currency> sorted = currencies.stream()
+                    .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
+                    .toList();
+            int size = sorted.size();
+            currencyIds = new long[size];
+            days = new int[size][];
+            unscaled = new long[size][];
+            rates = new BigDecimal[size][];
+            inverses = new BigDecimal[size][];
+            int baseIndex = -1;
+
+            for (int c = 0; c < size; c++) {
+                Currency currency = sorted.get(c);
+                currencyIds[c] = currency.getId();
+                List<ExchangeRate> entries = byCurrency.getOrDefault(currency.getId(), List.of());
+                if (Boolean.TRUE.equals(currency.getIsBase())) {
+                    baseIndex = c;
+                    load(c, new int[]{Integer.MIN_VALUE}, new BigDecimal[]{BigDecimal.ONE});
+                } else if (entries.isEmpty()) {
+                    BigDecimal current = currency.getExchangeRate() != null ? currency.getExchangeRate() : BigDecimal.ONE;
+                    load(c, new int[]{Integer.MIN_VALUE}, new BigDecimal[]{current});
+                } else {
+                    int[] effective = new int[entries.size()];
+                    BigDecimal[] values = new BigDecimal[entries.size()];
+                    for (int i = 0; i < effective.length; i++) {
+                        effective[i] = (int) entries.get(i).getEffectiveDate().toEpochDay();
+                        values[i] = entries.get(i).getRate();
+                    }
+                    load(c, effective, values);
+                }
+            }
+            base = baseIndex;
+
+            cross = new BigDecimal[size][size];
+            for (int from = 0; from < size; from++) {
+                BigDecimal inverse = inverses[from][inverses[from].length - 1];
+                for (int to = 0; to < size; to++) {
+                    cross[from][to] = rates[to][rates[to].length - 1].multiply(inverse, PRECISION);
+                }
+            }
+        }
+
+        private void load(int currency, int[] effective, BigDecimal[] values) {
+            days[currency] = effective;
+            rates[currency] = new BigDecimal[values.length];
+            unscaled[currency] = new long[values.length];
+            inverses[currency] = new BigDecimal[values.length];
+            for (int i = 0; i < values.length; i++) {
+                BigDecimal rate = values[i].setScale(RATE_SCALE, RoundingMode.HALF_UP);
+                rates[currency][i] = rate;
+                unscaled[currency][i] = rate.unscaledValue().longValueExact();
+                inverses[currency][i] = BigDecimal.ONE.divide(rate, PRECISION);
+            }
+        }
+
+        int index(Long currencyId) {
+            return index(currencyId != null ? currencyId.longValue() : BASE_CURRENCY);
+        }
+
+        int index(long currencyId) {
+            if (currencyId == BASE_CURRENCY) {
+                if (base < 0) {
+                    throw new AccountingException("Base currency not configured");
+                }
+                return base;
+            }
+            int index = Arrays.binarySearch(currencyIds, currencyId);
+            if (index < 0) {
+                throw new AccountingException("Currency not found: " + currencyId);
+            }
+            return index;
+        }
+
+        int slot(int currency, int epochDay) {
+            int[] effective = days[currency];
+            int last = effective.length - 1;
+            if (epochDay >= effective[last]) {
+                return last;
+            }
+            int found = Arrays.binarySearch(effective, epochDay);
+            return found >= 0 ? found : Math.max(0, -found - 2);
+        }
+
+        BigDecimal crossRate(int from, int to, int epochDay) {
+            int fromSlot = slot(from, epochDay);
+            int toSlot = slot(to, epochDay);
+            if (fromSlot == days[from].length - 1 && toSlot == days[to].length - 1) {
+                return cross[from][to];
+            }
+            return rates[to][toSlot].multiply(inverses[from][fromSlot], PRECISION);
+        }
+
+        BigDecimal averageCrossRate(int from, int to, int startDay, int endDay) {
+            BigDecimal weighted = BigDecimal.ZERO;
+            int day = startDay;
+            while (day <= endDay) {
+                int fromSlot = slot(from, day);
+                int toSlot = slot(to, day);
+                int next = Math.min(nextChange(from, fromSlot), nextChange(to, toSlot));
+                next = (int) Math.min((long) endDay + 1, next);
+                BigDecimal rate = rates[to][toSlot].multiply(inverses[from][fromSlot], PRECISION);
+                weighted = weighted.add(rate.multiply(BigDecimal.valueOf((long) next - day)), PRECISION);
+                day = next;
+            }
+            return weighted.divide(BigDecimal.valueOf((long) endDay - startDay + 1), PRECISION);
+        }
+
+        private int nextChange(int currency, int slot) {
+            int[] effective = days[currency];
+            return slot + 1 < effective.length ? effective[slot + 1] : Integer.MAX_VALUE;
+        }
+
+        long toBaseCents(int currency, int epochDay, long cents) {
+            if (currency == base || cents == 0) {
+                return cents;
+            }
+            int slot = slot(currency, epochDay);
+            if (Math.abs(cents) > MAX_EXACT_CENTS) {
+                return BigDecimal.valueOf(cents, 2).divide(rates[currency][slot], 2, RoundingMode.HALF_UP)
+                        .unscaledValue().longValueExact();
+            }
+            long rate = unscaled[currency][slot];
+            long scaled = cents * RATE_UNIT;
+            long quotient = scaled / rate;
+            long remainder = scaled % rate;
+            if (Math.abs(remainder) * 2 >= rate) {
+                quotient += Long.signum(scaled);
+            }
+            return quotient;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.accounting.service;
+
+import com.accounting.archive.LedgerSegment;
+import com.accounting.archive.LedgerSegmentWriter;
+import com.accounting.dto.FiscalYearArchiveResultDTO;
+import com.accounting.exception.AccountingException;
+import com.accounting.model.FiscalYear;
+import com.accounting.repository.FiscalYearRepository;
+import com.accounting.repository.LedgerArchiveRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class FiscalYearArchiveService {
+
+    private final FiscalYearRepository fiscalYearRepository;
+    private final LedgerArchiveRepository ledgerArchiveRepository;
+    private final LedgerArchiveService ledgerArchiveService;
+    private final PlatformTransactionManager transactionManager;
+
+    public FiscalYearArchiveResultDTO archive(Long fiscalYearId) {
+        long started = System.nanoTime();
+        FiscalYearArchiveResultDTO result = new TransactionTemplate(transactionManager)
+                .execute(status -> write(fiscalYearId));
+        result.setElapsedMillis((System.nanoTime() - started) / 1_000_000);
+        return result;
+    }
+
+    private FiscalYearArchiveResultDTO write(Long fiscalYearId) {
+        FiscalYear fiscalYear = fiscalYearRepository.findByIdForUpdate(fiscalYearId)
+                .orElseThrow(() -> new AccountingException("Fiscal year not found: " + fiscalYearId));
+        validate(fiscalYear);
+
+        LocalDate archivedThrough = ledgerArchiveService.getArchivedThrough();
+        LocalDate startDate = archivedThrough != null ? archivedThrough.plusDays(1) : FiscalYear.START_OF_TIME;
+        LocalDate endDate = fiscalYear.getEndDate();
+        String fileName = "fy-" + fiscalYear.getId() + ".seg";
+        Path file = ledgerArchiveService.resolve(fileName);
+        Path temp = ledgerArchiveService.resolve(fileName + ".tmp");
+
+        try {
+            Files.createDirectories(ledgerArchiveService.getDirectory());
+            int lineCount;
+            try (LedgerSegmentWriter writer = new LedgerSegmentWriter(temp, fiscalYear.getId(), startDate, endDate)) {
+                ledgerArchiveRepository.streamPostedLines(startDate, endDate, line -> {
+                    try {
+                        writer.append(line);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                lineCount = writer.finish();
+            }
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            LedgerSegment segment = LedgerSegment.open(file);
+
+            int deleted = ledgerArchiveRepository.deleteUnmatchedLines(startDate, endDate);
+            long retained = ledgerArchiveRepository.countPostedLines(startDate, endDate);
+            if (deleted + retained != lineCount) {
+                throw new AccountingException("Archive of " + fiscalYear.getName() + " wrote " + lineCount
+                        + " lines but found " + (deleted + retained) + " posted lines to remove");
+            }
+
+            fiscalYear.setArchivedAt(LocalDateTime.now());
+            fiscalYear.setArchiveFile(fileName);
+            fiscalYear.setArchivedLineCount(lineCount);
+            fiscalYearRepository.save(fiscalYear);
+
+            FiscalYearArchiveResultDTO result = new FiscalYearArchiveResultDTO(
+                    fiscalYear.getName(), startDate, endDate);
+            result.setArchiveFile(fileName);
+            result.setArchivedLineCount(lineCount);
+            result.setDeletedLineCount(deleted);
+            result.setFileSize(Files.size(file));
+            ledgerArchiveService.publish(segment);
+            return result;
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            deleteQuietly(file);
+            throw new UncheckedIOException("Cannot write archive segment for " + fiscalYear.getName(), e);
+        } catch (RuntimeException e) {
+            deleteQuietly(temp);
+            deleteQuietly(file);
+            throw e;
+        }
+    }
+
+    private void validate(FiscalYear fiscalYear) {
+        if (!Boolean.TRUE.equals(fiscalYear.getIsClosed())) {
+            throw new AccountingException("Fiscal year " + fiscalYear.getName() + " must be closed before it is archived");
+        }
+        if (fiscalYear.isArchived()) {
+            throw new AccountingException("Fiscal year " + fiscalYear.getName() + " is already archived");
+        }
+        if (fiscalYearRepository.existsUnarchivedEndingBefore(fiscalYear.getStartDate())) {
+            throw new AccountingException("Earlier fiscal years must be archived before " + fiscalYear.getName());
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.accounting.service;
+
+import com.accounting.dto.CurrencyBalanceDTO;
+import com.accounting.exception.AccountingException;
+import com.accounting.model.Account;
+import com.accounting.model.AccountBalanceSnapshot;
+import com.accounting.model.AccountCurrencySnapshot;
+import com.accounting.model.FiscalYear;
+import com.accounting.repository.AccountBalanceSnapshotRepository;
+import com.accounting.repository.AccountCurrencySnapshotRepository;
+import com.accounting.repository.FiscalYearRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Service
+public class FiscalYearService {
+
+    private final FiscalYearRepository fiscalYearRepository;
+    private final AccountBalanceSnapshotRepository snapshotRepository;
+    private final AccountCurrencySnapshotRepository currencySnapshotRepository;
+    private final VersionedCache<List<FiscalYear>> closedYears;
+
+    public FiscalYearService(FiscalYearRepository fiscalYearRepository, AccountBalanceSnapshotRepository snapshotRepository,
+                             AccountCurrencySnapshotRepository currencySnapshotRepository,
+                             PlatformTransactionManager transactionManager, LedgerVersionService ledgerVersionService) {
+        this.fiscalYearRepository = fiscalYearRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.currencySnapshotRepository = currencySnapshotRepository;
+        this.closedYears = new VersionedCache<>(LedgerVersionService.FISCAL_YEARS, ledgerVersionService, transactionManager,
+                () -> List.copyOf(fiscalYearRepository.findAllClosedOrderByEndDate()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        closedYears.reload();
+    }
+
+    public void refresh() {
+        closedYears.refresh();
+    }
+
+    public List<FiscalYear> findAll() {
+        return fiscalYearRepository.findAllOrderByStartDateDesc();
+    }
+
+    public Optional<FiscalYear> findById(Long id) {
+        return fiscalYearRepository.findById(id);
+    }
+
+    // Reads the covering year in share mode and keeps it until commit. A close holds that row exclusively while
+    // it sums the year, so a posting either commits before the close reads balances or sees the year closed.
+    @Transactional
+    public void assertOpen(LocalDate date) {
+        if (date == null) {
+            return;
+        }
+        Optional<FiscalYear> covering = fiscalYearRepository.findByDateForShare(date);
+        Optional<FiscalYear> closed = covering.isPresent()
+                ? covering.filter(year -> Boolean.TRUE.equals(year.getIsClosed()))
+                : fiscalYearRepository.findFirstByIsClosedTrueOrderByEndDateDesc()
+                        .filter(last -> !date.isAfter(last.getEndDate()));
+        if (closed.isPresent()) {
+            throw new AccountingException("Cannot post entries dated " + date + ": the books are closed through "
+                    + closed.get().getEndDate() + " (" + closed.get().getName() + ")");
+        }
+    }
+
+    public Optional<ClosingSnapshot> findSnapshot(LocalDate asOfDate) {
+        FiscalYear latest = latestClosed(asOfDate);
+        if (latest == null) {
+            return Optional.empty();
+        }
+
+        Map<Long, BigDecimal> balances = new HashMap<>();
+        for (AccountBalanceSnapshot snapshot : snapshotRepository.findByFiscalYearIds(List.of(latest.getId()))) {
+            if (snapshot.getBalance().signum() != 0) {
+                balances.put(snapshot.getAccount().getId(), snapshot.getBalance());
+            }
+        }
+        return Optional.of(new ClosingSnapshot(latest.getEndDate(), balances));
+    }
+
+    // Empty for a year closed before per-currency balances were recorded; translated reports then read the ledger
+    public Optional<CurrencySnapshot> findCurrencySnapshot(LocalDate asOfDate) {
+        FiscalYear latest = latestClosed(asOfDate);
+        if (latest == null) {
+            return Optional.empty();
+        }
+
+        List<AccountCurrencySnapshot> rows = currencySnapshotRepository.findByFiscalYearId(latest.getId());
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Map<Long, List<CurrencyBalanceDTO>> balances = new HashMap<>();
+        for (AccountCurrencySnapshot row : rows) {
+            balances.computeIfAbsent(row.getAccount().getId(), id -> new ArrayList<>()).add(new CurrencyBalanceDTO(
+                    row.getCurrency() != null ? row.getCurrency().getId() : null, row.getFirstEntryDate(),
+                    row.getAmount(), row.getCurrencyAmount()));
+        }
+        return Optional.of(new CurrencySnapshot(latest.getEndDate(), balances));
+    }
+
+    public Map<Long, BigDecimal> getClosingAmounts(LocalDate startDate, LocalDate endDate) {
+        List<Long> fiscalYearIds = closedYears.get().stream()
+                .filter(closed -> !closed.getEndDate().isBefore(startDate) && !closed.getEndDate().isAfter(endDate))
+                .map(FiscalYear::getId)
+                .toList();
+        if (fiscalYearIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, BigDecimal> amounts = new HashMap<>();
+        for (AccountBalanceSnapshot snapshot : snapshotRepository.findByFiscalYearIds(fiscalYearIds)) {
+            if (snapshot.getClosingAmount().signum() != 0) {
+                amounts.merge(snapshot.getAccount().getId(), snapshot.getClosingAmount(), BigDecimal::add);
+            }
+        }
+        return amounts;
+    }
+
+    private FiscalYear latestClosed(LocalDate asOfDate) {
+        FiscalYear latest = null;
+        for (FiscalYear closed : closedYears.get()) {
+            if (closed.getEndDate().isAfter(asOfDate)) {
+                break;
+            }
+            latest = closed;
+        }
+        return latest;
+    }
+
+    public static final class ClosingSnapshot {
+
+        private final LocalDate asOfDate;
+        private final Map<Long, BigDecimal> balances;
+
+        public ClosingSnapshot(LocalDate asOfDate, Map<Long, BigDecimal> balances) {
+            this.asOfDate = asOfDate;
+            this.balances = balances;
+        }
+
+        public LocalDate getAsOfDate() {
+            return asOfDate;
+        }
+
+        public Map<Long, BigDecimal> getBalances() {
+            return balances;
+        }
+
+        public BigDecimal getBalance(Account account) {
+            BigDecimal balance = balances.getOrDefault(account.getId(), BigDecimal.ZERO);
+            return account.isDebitNormal() ? balance : balance.negate();
+        }
+    }
+
+    public static final class CurrencySnapshot {
+
+        private final LocalDate asOfDate;
+        private final Map<Long, List<CurrencyBalanceDTO>> balances;
+
+        public CurrencySnapshot(LocalDate asOfDate, Map<Long, List<CurrencyBalanceDTO>> balances) {
+            this.asOfDate = asOfDate;
+            this.balances = balances;
+        }
+
+        public LocalDate getAsOfDate() {
+            return asOfDate;
+        }
+
+        // Copies, since reports adjust the aggregates they are given
+        public List<CurrencyBalanceDTO> getBalances(Account account) {
+            return balances.getOrDefault(account.getId(), List.of()).stream()
+                    .map(balance -> new CurrencyBalanceDTO(balance.getCurrencyId(), balance.getFirstEntryDate(),
+                            balance.getAmount(), balance.getCurrencyAmount()))
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+    }
+}
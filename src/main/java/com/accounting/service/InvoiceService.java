@@ -1,30 +1,44 @@
 package com.accounting.service;
 
+import com.accounting.dto.InvoiceSummaryDTO;
 import com.accounting.exception.AccountingException;
 import com.accounting.model.*;
 import com.accounting.repository.AccountRepository;
 import com.accounting.repository.CustomerRepository;
 import com.accounting.repository.InvoiceRepository;
 import com.accounting.repository.JournalEntryRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Optional;
 
 @Service
+@Timed(value = "accounting.service", histogram = true)
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class InvoiceService {
 
     private final InvoiceRepository invoiceRepository;
     private final CustomerRepository customerRepository;
     private final AccountRepository accountRepository;
     private final JournalEntryRepository journalEntryRepository;
+    private final ConsolidatedPostingService consolidatedPostingService;
+    private final LedgerVersionService ledgerVersionService;
+    private final FiscalYearService fiscalYearService;
+    private final LedgerEventService ledgerEventService;
+    private final NumberSequenceService numberSequenceService;
+
+    @Value("${accounting.invoice.posting-mode:DETAILED}")
+    private PostingMode postingMode = PostingMode.DETAILED;
 
     public List<Invoice> findAll() {
         return invoiceRepository.findAll();
@@ -46,15 +60,25 @@ public class InvoiceService {
         return invoiceRepository.findByCustomerId(customerId);
     }
 
+    public Page<InvoiceSummaryDTO> findSummaries(InvoiceStatus status, Long customerId,
+                                                 LocalDate fromDate, LocalDate toDate, Pageable pageable) {
+        return invoiceRepository.findSummaries(status, customerId, fromDate, toDate, pageable);
+    }
+
+    public List<Invoice> findByJournalEntryId(Long journalEntryId) {
+        return invoiceRepository.findByJournalEntryId(journalEntryId);
+    }
+
     public List<Invoice> findOverdueInvoices() {
         return invoiceRepository.findOverdueInvoices(LocalDate.now());
     }
 
     @Transactional
     public Invoice createInvoice(Invoice invoice) {
-        invoice.setInvoiceNumber(generateInvoiceNumber());
+        invoice.setInvoiceNumber(numberSequenceService.next(NumberSequenceService.INVOICE));
         invoice.setStatus(InvoiceStatus.DRAFT);
         invoice.calculateTotals();
+        ledgerVersionService.bump(LedgerVersionService.INVOICES);
         return invoiceRepository.save(invoice);
     }
 
@@ -79,6 +103,7 @@ public class InvoiceService {
         }
 
         invoice.calculateTotals();
+        ledgerVersionService.bump(LedgerVersionService.INVOICES);
         return invoiceRepository.save(invoice);
     }
 
@@ -90,12 +115,16 @@ public class InvoiceService {
         if (invoice.getStatus() != InvoiceStatus.DRAFT) {
             throw new AccountingException("Only draft invoices can be sent");
         }
+        fiscalYearService.assertOpen(invoice.getInvoiceDate());
 
         JournalEntry journalEntry = createInvoiceJournalEntry(invoice);
         invoice.setJournalEntry(journalEntry);
         invoice.setStatus(InvoiceStatus.SENT);
 
-        return invoiceRepository.save(invoice);
+        Invoice sent = invoiceRepository.save(invoice);
+        ledgerVersionService.bump(LedgerVersionService.INVOICES, LedgerVersionService.JOURNAL);
+        ledgerEventService.invoiceSent(sent);
+        return sent;
     }
 
     @Transactional
@@ -106,11 +135,16 @@ public class InvoiceService {
         if (invoice.getStatus() != InvoiceStatus.SENT && invoice.getStatus() != InvoiceStatus.OVERDUE) {
             throw new AccountingException("Only sent or overdue invoices can be marked as paid");
         }
+        fiscalYearService.assertOpen(paymentDate);
 
         createPaymentJournalEntry(invoice, paymentDate);
+        invoice.setPaidDate(paymentDate);
         invoice.setStatus(InvoiceStatus.PAID);
 
-        return invoiceRepository.save(invoice);
+        Invoice paid = invoiceRepository.save(invoice);
+        ledgerVersionService.bump(LedgerVersionService.INVOICES, LedgerVersionService.JOURNAL);
+        ledgerEventService.invoicePaid(paid);
+        return paid;
     }
 
     @Transactional
@@ -122,12 +156,24 @@ public class InvoiceService {
             throw new AccountingException("Paid invoices cannot be cancelled");
         }
 
-        if (invoice.getJournalEntry() != null) {
-            invoice.getJournalEntry().setStatus(EntryStatus.VOID);
+        JournalEntry journalEntry = invoice.getJournalEntry();
+        if (journalEntry != null) {
+            fiscalYearService.assertOpen(journalEntry.getEntryDate());
+            if (consolidatedPostingService.isConsolidated(journalEntry)) {
+                Account arAccount = accountRepository.findByCode("1200")
+                        .orElseThrow(() -> new AccountingException("Accounts Receivable account not found"));
+                consolidatedPostingService.reverse(invoice, arAccount);
+            } else if (journalEntry.isPosted()) {
+                journalEntry.setStatus(EntryStatus.VOID);
+                ledgerEventService.entryVoided(journalEntry);
+            }
         }
 
         invoice.setStatus(InvoiceStatus.CANCELLED);
-        return invoiceRepository.save(invoice);
+        Invoice cancelled = invoiceRepository.save(invoice);
+        ledgerVersionService.bump(LedgerVersionService.INVOICES, LedgerVersionService.JOURNAL);
+        ledgerEventService.invoiceCancelled(cancelled);
+        return cancelled;
     }
 
     @Transactional
@@ -139,6 +185,10 @@ public class InvoiceService {
                 invoiceRepository.save(invoice);
             }
         }
+        if (!overdueInvoices.isEmpty()) {
+            ledgerVersionService.bump(LedgerVersionService.INVOICES);
+            ledgerEventService.invoicesOverdue(overdueInvoices);
+        }
     }
 
     private JournalEntry createInvoiceJournalEntry(Invoice invoice) {
@@ -148,8 +198,12 @@ public class InvoiceService {
         Account revenueAccount = accountRepository.findByCode("4000")
                 .orElseThrow(() -> new AccountingException("Sales Revenue account not found"));
 
+        if (postingMode == PostingMode.CONSOLIDATED) {
+            return consolidatedPostingService.post(invoice, arAccount, revenueAccount);
+        }
+
         JournalEntry entry = new JournalEntry();
-        entry.setEntryNumber(generateJournalEntryNumber());
+        entry.setEntryNumber(numberSequenceService.next(NumberSequenceService.JOURNAL_ENTRY));
         entry.setEntryDate(invoice.getInvoiceDate());
         entry.setDescription("Invoice " + invoice.getInvoiceNumber() + " - " + invoice.getCustomer().getName());
         entry.setReference(invoice.getInvoiceNumber());
@@ -170,7 +224,9 @@ public class InvoiceService {
         creditLine.setDescription("Sales revenue");
         entry.addLine(creditLine);
 
-        return journalEntryRepository.save(entry);
+        JournalEntry posted = journalEntryRepository.save(entry);
+        ledgerEventService.entryPosted(posted);
+        return posted;
     }
 
     private void createPaymentJournalEntry(Invoice invoice, LocalDate paymentDate) {
@@ -181,7 +237,7 @@ public class InvoiceService {
                 .orElseThrow(() -> new AccountingException("Accounts Receivable account not found"));
 
         JournalEntry entry = new JournalEntry();
-        entry.setEntryNumber(generateJournalEntryNumber());
+        entry.setEntryNumber(numberSequenceService.next(NumberSequenceService.JOURNAL_ENTRY));
         entry.setEntryDate(paymentDate);
         entry.setDescription("Payment received for Invoice " + invoice.getInvoiceNumber());
         entry.setReference("PMT-" + invoice.getInvoiceNumber());
@@ -202,27 +258,17 @@ public class InvoiceService {
         creditLine.setDescription("Clear AR for Invoice " + invoice.getInvoiceNumber());
         entry.addLine(creditLine);
 
-        journalEntryRepository.save(entry);
-    }
-
-    private String generateInvoiceNumber() {
-        String prefix = "INV-" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMM"));
-        Integer maxNumber = invoiceRepository.findMaxInvoiceNumberByPrefix(prefix);
-        int nextNumber = (maxNumber != null ? maxNumber : 0) + 1;
-        return prefix + "-" + String.format("%04d", nextNumber);
-    }
-
-    private String generateJournalEntryNumber() {
-        String prefix = "JE-" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMM"));
-        Integer maxNumber = journalEntryRepository.findMaxEntryNumberByPrefix(prefix);
-        int nextNumber = (maxNumber != null ? maxNumber : 0) + 1;
-        return prefix + "-" + String.format("%04d", nextNumber);
+        ledgerEventService.entryPosted(journalEntryRepository.save(entry));
     }
 
     public List<Customer> findAllCustomers() {
         return customerRepository.findAll();
     }
 
+    public Page<Customer> findAllCustomers(Pageable pageable) {
+        return customerRepository.findAll(pageable);
+    }
+
     public Optional<Customer> findCustomerById(Long id) {
         return customerRepository.findById(id);
     }
@@ -232,6 +278,7 @@ public class InvoiceService {
         if (customer.getId() == null && customerRepository.existsByCode(customer.getCode())) {
             throw new AccountingException("Customer code already exists: " + customer.getCode());
         }
+        ledgerVersionService.bump(LedgerVersionService.CUSTOMERS);
         return customerRepository.save(customer);
     }
 }
\ No newline at end of file
@@ -1,10 +1,12 @@
 package com.accounting.service;
 
 import com.accounting.dto.JournalEntryDTO;
+import com.accounting.dto.JournalEntrySummaryDTO;
 import com.accounting.exception.AccountingException;
 import com.accounting.model.*;
 import com.accounting.repository.AccountRepository;
 import com.accounting.repository.JournalEntryRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -14,16 +16,21 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Optional;
 
 @Service
+@Timed(value = "accounting.service", histogram = true)
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class JournalService {
 
     private final JournalEntryRepository journalEntryRepository;
     private final AccountRepository accountRepository;
+    private final LedgerVersionService ledgerVersionService;
+    private final FiscalYearService fiscalYearService;
+    private final LedgerEventService ledgerEventService;
+    private final NumberSequenceService numberSequenceService;
 
     public List<JournalEntry> findAll() {
         return journalEntryRepository.findAll();
@@ -49,6 +56,11 @@ public class JournalService {
         return journalEntryRepository.findByStatus(status);
     }
 
+    public Page<JournalEntrySummaryDTO> findSummaries(EntryStatus status, LocalDate fromDate, LocalDate toDate,
+                                                      Pageable pageable) {
+        return journalEntryRepository.findSummaries(status, fromDate, toDate, pageable);
+    }
+
     public List<JournalEntry> findPostedEntriesBetweenDates(LocalDate startDate, LocalDate endDate) {
         return journalEntryRepository.findPostedEntriesBetweenDates(startDate, endDate);
     }
@@ -59,8 +71,8 @@ public class JournalService {
 
     @Transactional
     public JournalEntry createEntry(JournalEntryDTO dto, User createdBy) {
+        fiscalYearService.assertOpen(dto.getEntryDate());
         JournalEntry entry = new JournalEntry();
-        entry.setEntryNumber(generateEntryNumber());
         entry.setEntryDate(dto.getEntryDate());
         entry.setDescription(dto.getDescription());
         entry.setReference(dto.getReference());
@@ -68,8 +80,7 @@ public class JournalService {
         entry.setCreatedBy(createdBy);
 
         for (JournalEntryDTO.JournalEntryLineDTO lineDto : dto.getLines()) {
-            Account account = accountRepository.findById(lineDto.getAccountId())
-                    .orElseThrow(() -> new AccountingException("Account not found: " + lineDto.getAccountId()));
+            Account account = findLineAccount(lineDto);
 
             JournalEntryLine line = new JournalEntryLine();
             line.setAccount(account);
@@ -80,6 +91,8 @@ public class JournalService {
         }
 
         validateEntry(entry);
+        entry.setEntryNumber(numberSequenceService.next(NumberSequenceService.JOURNAL_ENTRY));
+        ledgerVersionService.bump(LedgerVersionService.JOURNAL);
         return journalEntryRepository.save(entry);
     }
 
@@ -91,6 +104,7 @@ public class JournalService {
         if (!entry.isDraft()) {
             throw new AccountingException("Only draft entries can be modified");
         }
+        fiscalYearService.assertOpen(dto.getEntryDate());
 
         entry.setEntryDate(dto.getEntryDate());
         entry.setDescription(dto.getDescription());
@@ -99,8 +113,7 @@ public class JournalService {
         entry.getLines().clear();
 
         for (JournalEntryDTO.JournalEntryLineDTO lineDto : dto.getLines()) {
-            Account account = accountRepository.findById(lineDto.getAccountId())
-                    .orElseThrow(() -> new AccountingException("Account not found: " + lineDto.getAccountId()));
+            Account account = findLineAccount(lineDto);
 
             JournalEntryLine line = new JournalEntryLine();
             line.setAccount(account);
@@ -111,6 +124,7 @@ public class JournalService {
         }
 
         validateEntry(entry);
+        ledgerVersionService.bump(LedgerVersionService.JOURNAL);
         return journalEntryRepository.save(entry);
     }
 
@@ -122,13 +136,17 @@ public class JournalService {
         if (!entry.isDraft()) {
             throw new AccountingException("Only draft entries can be posted");
         }
+        fiscalYearService.assertOpen(entry.getEntryDate());
 
         validateEntry(entry);
 
         entry.setStatus(EntryStatus.POSTED);
         entry.setPostedAt(LocalDateTime.now());
 
-        return journalEntryRepository.save(entry);
+        ledgerVersionService.bump(LedgerVersionService.JOURNAL);
+        JournalEntry posted = journalEntryRepository.save(entry);
+        ledgerEventService.entryPosted(posted);
+        return posted;
     }
 
     @Transactional
@@ -143,9 +161,13 @@ public class JournalService {
         if (!entry.isPosted()) {
             throw new AccountingException("Only posted entries can be voided");
         }
+        fiscalYearService.assertOpen(entry.getEntryDate());
 
         entry.setStatus(EntryStatus.VOID);
-        return journalEntryRepository.save(entry);
+        ledgerVersionService.bump(LedgerVersionService.JOURNAL);
+        JournalEntry voided = journalEntryRepository.save(entry);
+        ledgerEventService.entryVoided(voided);
+        return voided;
     }
 
     @Transactional
@@ -158,6 +180,7 @@ public class JournalService {
         }
 
         journalEntryRepository.delete(entry);
+        ledgerVersionService.bump(LedgerVersionService.JOURNAL);
     }
 
     public void validateEntry(JournalEntry entry) {
@@ -199,10 +222,12 @@ public class JournalService {
         }
     }
 
-    private String generateEntryNumber() {
-        String prefix = "JE-" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMM"));
-        Integer maxNumber = journalEntryRepository.findMaxEntryNumberByPrefix(prefix);
-        int nextNumber = (maxNumber != null ? maxNumber : 0) + 1;
-        return prefix + "-" + String.format("%04d", nextNumber);
+    private Account findLineAccount(JournalEntryDTO.JournalEntryLineDTO lineDto) {
+        if (lineDto.getAccountId() == null && lineDto.getAccountCode() != null) {
+            return accountRepository.findByCode(lineDto.getAccountCode())
+                    .orElseThrow(() -> new AccountingException("Account not found: " + lineDto.getAccountCode()));
+        }
+        return accountRepository.findById(lineDto.getAccountId())
+                .orElseThrow(() -> new AccountingException("Account not found: " + lineDto.getAccountId()));
     }
 }
\ No newline at end of file
@@ -0,0 +1,195 @@
+package com.accounting.service;
+
+import com.accounting.archive.ArchivedLine;
+import com.accounting.archive.LedgerSegment;
+import com.accounting.dto.CurrencyBalanceDTO;
+import com.accounting.model.FiscalYear;
+import com.accounting.repository.FiscalYearRepository;
+import com.accounting.repository.RevaluationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+@Slf4j
+@Service
+public class LedgerArchiveService {
+
+    private final FiscalYearRepository fiscalYearRepository;
+    private final Path directory;
+    private final Map<Path, LedgerSegment> opened = new ConcurrentHashMap<>();
+    private final VersionedCache<List<LedgerSegment>> segments;
+
+    // Every node maps the same files, so the directory has to be storage all nodes share
+    public LedgerArchiveService(FiscalYearRepository fiscalYearRepository,
+                                PlatformTransactionManager transactionManager,
+                                LedgerVersionService ledgerVersionService,
+                                @Value("${accounting.archive.directory:./data/archive}") String directory) {
+        this.fiscalYearRepository = fiscalYearRepository;
+        this.directory = Path.of(directory);
+        // Archiving sets fiscal_years.archived_at and moves this version, so a stale list is remapped before a read
+        this.segments = new VersionedCache<>(LedgerVersionService.FISCAL_YEARS, ledgerVersionService, transactionManager,
+                this::loadSegments);
+    }
+
+    // A missing or mismatched segment must not stop the application; reads retry and fail until it is fixed
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.error("Ledger archive could not be loaded; reads of archived years fail until it is", e);
+        }
+    }
+
+    public void reload() {
+        segments.reload();
+    }
+
+    // The segment is kept mapped once the archive commits; a rolled back archive leaves nothing behind
+    public void publish(LedgerSegment segment) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                opened.put(segment.getPath(), segment);
+            }
+        });
+        segments.refresh();
+    }
+
+    public Path resolve(String fileName) {
+        return directory.resolve(fileName);
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public List<LedgerSegment> getSegments() {
+        return segments.get();
+    }
+
+    public LocalDate getArchivedThrough() {
+        List<LedgerSegment> archived = segments.get();
+        return archived.isEmpty() ? null : archived.get(archived.size() - 1).getEndDate();
+    }
+
+    public LedgerSegment.Totals sumBetweenDates(Long accountId, LocalDate startDate, LocalDate endDate) {
+        LedgerSegment.Totals totals = new LedgerSegment.Totals();
+        for (LedgerSegment segment : segments.get()) {
+            if (overlaps(segment, startDate, endDate)) {
+                segment.sum(accountId, startDate, endDate, totals);
+            }
+        }
+        return totals;
+    }
+
+    public List<ArchivedLine> findLines(Long accountId, LocalDate startDate, LocalDate endDate) {
+        List<ArchivedLine> lines = new ArrayList<>();
+        scan(accountId, startDate, endDate, lines::add);
+        return lines;
+    }
+
+    public List<CurrencyBalanceDTO> sumByCurrencyBetweenDates(Long accountId, LocalDate startDate, LocalDate endDate,
+                                                              boolean daily) {
+        Map<CurrencyDay, CurrencyBalanceDTO> balances = new LinkedHashMap<>();
+        scan(accountId, startDate, endDate, line -> {
+            BigDecimal amount = line.getDebitAmount().subtract(line.getCreditAmount());
+            BigDecimal currencyAmount = amount.multiply(line.getExchangeRate() != null ? line.getExchangeRate() : BigDecimal.ONE);
+            CurrencyDay key = new CurrencyDay(line.getCurrencyId(), daily ? line.getEntryDate() : null);
+            CurrencyBalanceDTO balance = balances.get(key);
+            if (balance == null) {
+                balances.put(key, new CurrencyBalanceDTO(line.getCurrencyId(), line.getEntryDate(), amount, currencyAmount));
+            } else {
+                balance.setAmount(balance.getAmount().add(amount));
+                balance.setCurrencyAmount(balance.getCurrencyAmount().add(currencyAmount));
+            }
+        });
+        return new ArrayList<>(balances.values());
+    }
+
+    public List<RevaluationRepository.ArchivedBalance> findForeignBalances() {
+        Map<CurrencyAccount, BigDecimal[]> totals = new HashMap<>();
+        for (LedgerSegment segment : segments.get()) {
+            segment.scanAll(line -> {
+                if (line.getCurrencyId() == null) {
+                    return;
+                }
+                BigDecimal amount = line.getDebitAmount().subtract(line.getCreditAmount());
+                BigDecimal currencyAmount = amount.multiply(line.getExchangeRate() != null ? line.getExchangeRate() : BigDecimal.ONE);
+                BigDecimal[] total = totals.computeIfAbsent(new CurrencyAccount(line.getCurrencyId(), line.getAccountId()),
+                        key -> new BigDecimal[] {BigDecimal.ZERO, BigDecimal.ZERO});
+                total[0] = total[0].add(amount);
+                total[1] = total[1].add(currencyAmount);
+            });
+        }
+        return totals.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparingLong(CurrencyAccount::currencyId)
+                        .thenComparingLong(CurrencyAccount::accountId)))
+                .map(entry -> new RevaluationRepository.ArchivedBalance(entry.getKey().currencyId(),
+                        entry.getKey().accountId(), entry.getValue()[0], entry.getValue()[1]))
+                .toList();
+    }
+
+    private void scan(Long accountId, LocalDate startDate, LocalDate endDate, Consumer<ArchivedLine> visitor) {
+        for (LedgerSegment segment : segments.get()) {
+            if (overlaps(segment, startDate, endDate)) {
+                segment.scan(accountId, startDate, endDate, visitor);
+            }
+        }
+    }
+
+    private boolean overlaps(LedgerSegment segment, LocalDate startDate, LocalDate endDate) {
+        return !segment.getEndDate().isBefore(startDate) && !segment.getStartDate().isAfter(endDate);
+    }
+
+    private List<LedgerSegment> loadSegments() {
+        List<LedgerSegment> loaded = new ArrayList<>();
+        for (FiscalYear fiscalYear : fiscalYearRepository.findAllArchivedOrderByEndDate()) {
+            Path file = resolve(fiscalYear.getArchiveFile());
+            if (!Files.isRegularFile(file)) {
+                throw new IllegalStateException("Archive segment " + file + " for " + fiscalYear.getName()
+                        + " is missing; the archive directory must be shared by every node");
+            }
+            LedgerSegment segment = opened.computeIfAbsent(file, this::open);
+            if (segment.getFiscalYearId() != fiscalYear.getId() || segment.getRowCount() != fiscalYear.getArchivedLineCount()) {
+                throw new IllegalStateException("Archive segment " + file + " does not match " + fiscalYear.getName());
+            }
+            loaded.add(segment);
+        }
+        return List.copyOf(loaded);
+    }
+
+    private LedgerSegment open(Path file) {
+        try {
+            return LedgerSegment.open(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open archive segment " + file, e);
+        }
+    }
+
+    private record CurrencyDay(Long currencyId, LocalDate date) {
+    }
+
+    private record CurrencyAccount(long currencyId, long accountId) {
+    }
+}
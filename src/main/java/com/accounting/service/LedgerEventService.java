@@ -0,0 +1,206 @@
+package com.accounting.service;
+
+import com.accounting.archive.LedgerSegment;
+import com.accounting.event.EntryEvent;
+import com.accounting.event.InvoiceEvent;
+import com.accounting.event.LedgerEventsAppended;
+import com.accounting.event.StatementEvent;
+import com.accounting.model.*;
+import com.accounting.repository.LedgerEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+@Service
+@RequiredArgsConstructor
+public class LedgerEventService {
+
+    static final int SEED_BATCH_SIZE = 1000;
+
+    private final LedgerEventRepository ledgerEventRepository;
+    private final LedgerVersionService ledgerVersionService;
+    private final LedgerArchiveService ledgerArchiveService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void entryPosted(JournalEntry entry) {
+        append(List.of(event(LedgerEventType.ENTRY_POSTED, entry.getId(), EntryEvent.of(entry))));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void entriesPosted(List<JournalEntry> entries) {
+        append(entries.stream()
+                .map(entry -> event(LedgerEventType.ENTRY_POSTED, entry.getId(), EntryEvent.of(entry)))
+                .toList());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void entryVoided(JournalEntry entry) {
+        append(List.of(event(LedgerEventType.ENTRY_VOIDED, entry.getId(), EntryEvent.of(entry))));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void invoiceSent(Invoice invoice) {
+        invoicesSent(List.of(invoice));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void invoicesSent(List<Invoice> invoices) {
+        append(invoices.stream()
+                .map(invoice -> event(LedgerEventType.INVOICE_SENT, invoice.getId(), InvoiceEvent.of(invoice)))
+                .toList());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void invoicesOverdue(List<Invoice> invoices) {
+        append(invoices.stream()
+                .map(invoice -> event(LedgerEventType.INVOICE_OVERDUE, invoice.getId(), InvoiceEvent.of(invoice)))
+                .toList());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void invoicePaid(Invoice invoice) {
+        append(List.of(event(LedgerEventType.INVOICE_PAID, invoice.getId(), InvoiceEvent.of(invoice))));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void invoiceCancelled(Invoice invoice) {
+        append(List.of(event(LedgerEventType.INVOICE_CANCELLED, invoice.getId(), InvoiceEvent.of(invoice))));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void statementReconciled(BankStatement statement) {
+        append(List.of(event(LedgerEventType.STATEMENT_RECONCILED, statement.getId(),
+                StatementEvent.of(statement, statement.getMatchedJournalLine()))));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void statementUnreconciled(BankStatement statement, JournalEntryLine matchedLine) {
+        append(List.of(event(LedgerEventType.STATEMENT_UNRECONCILED, statement.getId(),
+                StatementEvent.of(statement, matchedLine))));
+    }
+
+    public <T> T read(LedgerEvent event, Class<T> type) {
+        try {
+            return objectMapper.readValue(event.getPayload(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot read ledger event " + event.getPosition(), e);
+        }
+    }
+
+    public long getHead() {
+        return ledgerVersionService.version(LedgerVersionService.EVENTS);
+    }
+
+    @Transactional
+    public int seed() {
+        if (ledgerVersionService.advance(LedgerVersionService.EVENTS, 0) > 0) {
+            return 0;
+        }
+
+        Batch batch = new Batch();
+
+        for (LedgerSegment segment : ledgerArchiveService.getSegments()) {
+            Map<Long, String> numbers = ledgerEventRepository.findPostedEntryNumbers(segment.getStartDate(), segment.getEndDate());
+            Map<Long, EntryEvent> entries = new TreeMap<>();
+            segment.scanAll(line -> entries
+                    .computeIfAbsent(line.getJournalEntryId(), id -> new EntryEvent(id, numbers.get(id), line.getEntryDate(), new ArrayList<>()))
+                    .lines().add(new EntryEvent.Line(line.getAccountId(), line.getCustomerId(),
+                            line.getDebitAmount(), line.getCreditAmount())));
+            entries.values().forEach(entry -> batch.accept(event(LedgerEventType.ENTRY_POSTED, entry.entryId(), entry)));
+        }
+
+        LocalDate archivedThrough = ledgerArchiveService.getArchivedThrough();
+        appendLive(batch, archivedThrough != null ? archivedThrough : FiscalYear.START_OF_TIME.minusDays(1), 0, 0);
+        return batch.finish();
+    }
+
+    // Bulk loads write posted entries and open invoices with plain JDBC; their events are appended here afterwards
+    @Transactional
+    public int appendLoaded(long fromEntryId, long fromInvoiceId) {
+        int seeded = seed();
+        if (seeded > 0) {
+            return seeded;
+        }
+        Batch batch = new Batch();
+        appendLive(batch, FiscalYear.START_OF_TIME.minusDays(1), fromEntryId, fromInvoiceId);
+        return batch.finish();
+    }
+
+    private void appendLive(Batch batch, LocalDate after, long fromEntryId, long fromInvoiceId) {
+        ledgerEventRepository.streamPostedEntries(after, fromEntryId,
+                entry -> batch.accept(event(LedgerEventType.ENTRY_POSTED, entry.entryId(), entry)));
+        ledgerEventRepository.findOpenInvoices(fromInvoiceId)
+                .forEach(invoice -> batch.accept(event(LedgerEventType.INVOICE_SENT, invoice.invoiceId(), invoice)));
+    }
+
+    // Positions are taken at commit, after the other counters, so the event log row is the last lock a posting takes
+    private void append(List<LedgerEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<LedgerEvent> pending = List.copyOf(events);
+        ledgerVersionService.advanceAtCommit(LedgerVersionService.EVENTS, pending.size(), last -> insert(pending, last));
+    }
+
+    private int flush(List<LedgerEvent> events) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+        int count = events.size();
+        insert(events, ledgerVersionService.advance(LedgerVersionService.EVENTS, count));
+        events.clear();
+        return count;
+    }
+
+    private void insert(List<LedgerEvent> events, long last) {
+        long position = last - events.size();
+        for (LedgerEvent event : events) {
+            event.setPosition(++position);
+        }
+        ledgerEventRepository.insertAll(events);
+        applicationEventPublisher.publishEvent(new LedgerEventsAppended(last));
+    }
+
+    private LedgerEvent event(LedgerEventType type, Long aggregateId, Object payload) {
+        try {
+            return new LedgerEvent(null, type, type.getAggregateType(), aggregateId, LocalDateTime.now(),
+                    objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot write " + type + " event for " + aggregateId, e);
+        }
+    }
+
+    // Seeding and bulk loads take positions immediately, a batch at a time, under the one transaction's lock
+    private class Batch implements Consumer<LedgerEvent> {
+
+        private final List<LedgerEvent> pending = new ArrayList<>(SEED_BATCH_SIZE);
+        private int appended;
+
+        @Override
+        public void accept(LedgerEvent event) {
+            pending.add(event);
+            if (pending.size() == SEED_BATCH_SIZE) {
+                appended += flush(pending);
+            }
+        }
+
+        int finish() {
+            appended += flush(pending);
+            return appended;
+        }
+    }
+}
@@ -1,24 +1,40 @@
 package com.accounting.service;
 
+import com.accounting.archive.ArchivedLine;
+import com.accounting.archive.LedgerSegment;
 import com.accounting.dto.LedgerDTO;
 import com.accounting.exception.AccountingException;
 import com.accounting.model.Account;
+import com.accounting.model.FiscalYear;
+import com.accounting.model.JournalEntry;
 import com.accounting.model.JournalEntryLine;
 import com.accounting.repository.AccountRepository;
 import com.accounting.repository.JournalEntryLineRepository;
+import com.accounting.repository.JournalEntryRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "accounting.service", histogram = true)
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class LedgerService {
 
     private final AccountRepository accountRepository;
     private final JournalEntryLineRepository journalEntryLineRepository;
+    private final JournalEntryRepository journalEntryRepository;
+    private final LedgerArchiveService ledgerArchiveService;
 
     public LedgerDTO generateLedger(Long accountId, LocalDate startDate, LocalDate endDate) {
         Account account = accountRepository.findById(accountId)
@@ -32,8 +48,25 @@ public class LedgerService {
         ledger.setStartDate(startDate);
         ledger.setEndDate(endDate);
 
-        BigDecimal openingDebit = journalEntryLineRepository.sumDebitByAccountIdBeforeDate(accountId, startDate);
-        BigDecimal openingCredit = journalEntryLineRepository.sumCreditByAccountIdBeforeDate(accountId, startDate);
+        LocalDate archivedThrough = ledgerArchiveService.getArchivedThrough();
+        BigDecimal openingDebit;
+        BigDecimal openingCredit;
+        if (archivedThrough == null) {
+            openingDebit = journalEntryLineRepository.sumDebitByAccountIdBeforeDate(accountId, startDate);
+            openingCredit = journalEntryLineRepository.sumCreditByAccountIdBeforeDate(accountId, startDate);
+        } else {
+            LocalDate openingEnd = startDate.minusDays(1);
+            LedgerSegment.Totals archived = ledgerArchiveService.sumBetweenDates(
+                    accountId, FiscalYear.START_OF_TIME, openingEnd);
+            openingDebit = archived.getDebitAmount();
+            openingCredit = archived.getCreditAmount();
+            if (openingEnd.isAfter(archivedThrough)) {
+                openingDebit = openingDebit.add(nullToZero(journalEntryLineRepository.sumDebitByAccountIdBetweenDates(
+                        accountId, archivedThrough.plusDays(1), openingEnd)));
+                openingCredit = openingCredit.add(nullToZero(journalEntryLineRepository.sumCreditByAccountIdBetweenDates(
+                        accountId, archivedThrough.plusDays(1), openingEnd)));
+            }
+        }
 
         // Handle null values from aggregate queries
         if (openingDebit == null) openingDebit = BigDecimal.ZERO;
@@ -47,31 +80,27 @@ public class LedgerService {
         }
         ledger.setOpeningBalance(openingBalance);
 
-        List<JournalEntryLine> lines = journalEntryLineRepository
-                .findByAccountIdAndPostedBetweenDates(accountId, startDate, endDate);
+        List<LedgerDTO.LedgerEntryDTO> entries = new ArrayList<>();
+        LocalDate liveStart = startDate;
+        if (archivedThrough != null && !startDate.isAfter(archivedThrough)) {
+            entries.addAll(archivedEntries(accountId, startDate, endDate));
+            liveStart = archivedThrough.plusDays(1);
+        }
+        if (!liveStart.isAfter(endDate)) {
+            for (JournalEntryLine line : journalEntryLineRepository
+                    .findByAccountIdAndPostedBetweenDates(accountId, liveStart, endDate)) {
+                JournalEntry journalEntry = line.getJournalEntry();
+                entries.add(entry(journalEntry, line.getDescription(), line.getDebitAmount(), line.getCreditAmount()));
+            }
+        }
 
         BigDecimal runningBalance = openingBalance;
 
-        for (JournalEntryLine line : lines) {
-            LedgerDTO.LedgerEntryDTO entry = new LedgerDTO.LedgerEntryDTO();
-            entry.setJournalEntryId(line.getJournalEntry().getId());
-            entry.setEntryDate(line.getJournalEntry().getEntryDate());
-            entry.setDate(line.getJournalEntry().getEntryDate());
-            entry.setEntryNumber(line.getJournalEntry().getEntryNumber());
-            entry.setDescription(line.getDescription() != null
-                    ? line.getDescription()
-                    : line.getJournalEntry().getDescription());
-            entry.setReference(line.getJournalEntry().getReference());
-            BigDecimal debitAmount = line.getDebitAmount() != null ? line.getDebitAmount() : BigDecimal.ZERO;
-            BigDecimal creditAmount = line.getCreditAmount() != null ? line.getCreditAmount() : BigDecimal.ZERO;
-
-            entry.setDebitAmount(debitAmount);
-            entry.setCreditAmount(creditAmount);
-
+        for (LedgerDTO.LedgerEntryDTO entry : entries) {
             if (account.isDebitNormal()) {
-                runningBalance = runningBalance.add(debitAmount).subtract(creditAmount);
+                runningBalance = runningBalance.add(entry.getDebitAmount()).subtract(entry.getCreditAmount());
             } else {
-                runningBalance = runningBalance.add(creditAmount).subtract(debitAmount);
+                runningBalance = runningBalance.add(entry.getCreditAmount()).subtract(entry.getDebitAmount());
             }
             entry.setRunningBalance(runningBalance);
 
@@ -83,6 +112,43 @@ public class LedgerService {
         return ledger;
     }
 
+    private List<LedgerDTO.LedgerEntryDTO> archivedEntries(Long accountId, LocalDate startDate, LocalDate endDate) {
+        List<ArchivedLine> lines = ledgerArchiveService.findLines(accountId, startDate, endDate);
+        if (lines.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, JournalEntry> journalEntries = journalEntryRepository.findAllById(
+                        lines.stream().map(ArchivedLine::getJournalEntryId).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(JournalEntry::getId, Function.identity()));
+
+        List<LedgerDTO.LedgerEntryDTO> entries = new ArrayList<>(lines.size());
+        for (ArchivedLine line : lines) {
+            entries.add(entry(journalEntries.get(line.getJournalEntryId()), line.getDescription(),
+                    line.getDebitAmount(), line.getCreditAmount()));
+        }
+        entries.sort(Comparator.comparing(LedgerDTO.LedgerEntryDTO::getEntryDate)
+                .thenComparing(LedgerDTO.LedgerEntryDTO::getEntryNumber));
+        return entries;
+    }
+
+    private LedgerDTO.LedgerEntryDTO entry(JournalEntry journalEntry, String description,
+                                           BigDecimal debitAmount, BigDecimal creditAmount) {
+        LedgerDTO.LedgerEntryDTO entry = new LedgerDTO.LedgerEntryDTO();
+        entry.setJournalEntryId(journalEntry.getId());
+        entry.setEntryDate(journalEntry.getEntryDate());
+        entry.setDate(journalEntry.getEntryDate());
+        entry.setEntryNumber(journalEntry.getEntryNumber());
+        entry.setDescription(description != null ? description : journalEntry.getDescription());
+        entry.setReference(journalEntry.getReference());
+        entry.setDebitAmount(debitAmount != null ? debitAmount : BigDecimal.ZERO);
+        entry.setCreditAmount(creditAmount != null ? creditAmount : BigDecimal.ZERO);
+        return entry;
+    }
+
+    private static BigDecimal nullToZero(BigDecimal amount) {
+        return amount != null ? amount : BigDecimal.ZERO;
+    }
+
     public LedgerDTO generateLedger(Long accountId) {
         LocalDate startOfYear = LocalDate.now().withDayOfYear(1);
         LocalDate today = LocalDate.now();
@@ -0,0 +1,208 @@
+package com.accounting.service;
+
+import com.accounting.dto.LedgerVersionDTO;
+import com.accounting.model.LedgerVersion;
+import com.accounting.repository.LedgerVersionRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class LedgerVersionService {
+
+    public static final String ACCOUNTS = "accounts";
+    public static final String JOURNAL = "journal";
+    public static final String INVOICES = "invoices";
+    public static final String CUSTOMERS = "customers";
+    public static final String EXCHANGE_RATES = "exchange_rates";
+    public static final String FISCAL_YEARS = "fiscal_years";
+    public static final String EVENTS = "events";
+
+    // Also the order rows are locked in at commit, so two writers never wait on each other's counters
+    private static final List<String> ALL = List.of(ACCOUNTS, JOURNAL, INVOICES, CUSTOMERS, EXCHANGE_RATES,
+            FISCAL_YEARS, EVENTS);
+
+    private static final Comparator<String> LOCK_ORDER = Comparator
+            .<String>comparingInt(name -> ALL.contains(name) ? ALL.indexOf(name) : ALL.size())
+            .thenComparing(Comparator.naturalOrder());
+
+    private final LedgerVersionRepository ledgerVersionRepository;
+    private final EntityManager entityManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initialize() {
+        LocalDateTime now = LocalDateTime.now();
+        for (String name : ALL) {
+            if (!ledgerVersionRepository.existsById(name)) {
+                ledgerVersionRepository.save(new LedgerVersion(name, 0L, now));
+            }
+        }
+    }
+
+    // Counters change at the end of the transaction, so the row lock is held only while the commit runs
+    @Transactional
+    public void bump(String... names) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment(List.of(names));
+            return;
+        }
+        pendingBumps().names.addAll(List.of(names));
+    }
+
+    @Transactional
+    public long advance(String name, int count) {
+        forget(name);
+        LocalDateTime now = LocalDateTime.now();
+        if (ledgerVersionRepository.advance(name, count, now) == 0) {
+            ledgerVersionRepository.save(new LedgerVersion(name, (long) count, now));
+            return count;
+        }
+        return ledgerVersionRepository.findVersion(name);
+    }
+
+    // Takes count positions on a counter at commit, after every bump, and hands the last position to the caller
+    @Transactional
+    public void advanceAtCommit(String name, int count, LongConsumer reserved) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reserved.accept(advance(name, count));
+            return;
+        }
+        pendingBumps().advances.add(new PendingAdvance(name, count, reserved));
+    }
+
+    private void increment(Iterable<String> names) {
+        LocalDateTime now = LocalDateTime.now();
+        for (String name : names) {
+            forget(name);
+            if (ledgerVersionRepository.increment(name, now) == 0) {
+                ledgerVersionRepository.save(new LedgerVersion(name, 1L, now));
+            }
+        }
+    }
+
+    private PendingBumps pendingBumps() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingBumps pending) {
+                return pending;
+            }
+        }
+        PendingBumps pending = new PendingBumps();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    // Read once per transaction, so a report checks its caches against one version however many reads it makes
+    @Transactional(readOnly = true)
+    public long version(String name) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return read(name);
+        }
+        return readVersions().versions.computeIfAbsent(name, this::read);
+    }
+
+    private long read(String name) {
+        Long version = ledgerVersionRepository.findVersion(name);
+        return version != null ? version : 0L;
+    }
+
+    private ReadVersions readVersions() {
+        ReadVersions read = findReadVersions();
+        if (read == null) {
+            read = new ReadVersions();
+            TransactionSynchronizationManager.registerSynchronization(read);
+        }
+        return read;
+    }
+
+    private ReadVersions findReadVersions() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof ReadVersions read) {
+                return read;
+            }
+        }
+        return null;
+    }
+
+    // A counter this transaction moved is read again rather than answered from the earlier read
+    private void forget(String name) {
+        ReadVersions read = TransactionSynchronizationManager.isSynchronizationActive() ? findReadVersions() : null;
+        if (read != null) {
+            read.versions.remove(name);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public LedgerVersionDTO current(String... names) {
+        Map<String, LedgerVersion> versions = ledgerVersionRepository.findCurrent(List.of(names)).stream()
+                .collect(Collectors.toMap(LedgerVersion::getName, Function.identity()));
+
+        StringBuilder etag = new StringBuilder("\"");
+        LocalDateTime lastModified = null;
+        for (String name : names) {
+            LedgerVersion version = versions.get(name);
+            if (etag.length() > 1) {
+                etag.append('-');
+            }
+            etag.append(name).append('.').append(version != null ? version.getVersion() : 0L);
+            if (version != null && (lastModified == null || version.getUpdatedAt().isAfter(lastModified))) {
+                lastModified = version.getUpdatedAt();
+            }
+        }
+        etag.append('"');
+
+        Instant lastModifiedInstant = lastModified != null
+                ? lastModified.atZone(ZoneId.systemDefault()).toInstant()
+                : null;
+        return new LedgerVersionDTO(etag.toString(), lastModifiedInstant);
+    }
+
+    private static class ReadVersions implements TransactionSynchronization {
+
+        private final Map<String, Long> versions = new HashMap<>();
+    }
+
+    private record PendingAdvance(String name, int count, LongConsumer reserved) {
+    }
+
+    private class PendingBumps implements TransactionSynchronization {
+
+        private final Set<String> names = new TreeSet<>(LOCK_ORDER);
+        private final List<PendingAdvance> advances = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // Pending row changes go first, so counters are the last rows the transaction locks
+            entityManager.flush();
+            increment(names);
+            names.clear();
+            // Advances come after the bumps and in lock order, which puts the event log last
+            List<PendingAdvance> pending = new ArrayList<>(advances);
+            pending.sort(Comparator.comparing(PendingAdvance::name, LOCK_ORDER));
+            advances.clear();
+            for (PendingAdvance pendingAdvance : pending) {
+                pendingAdvance.reserved().accept(advance(pendingAdvance.name(), pendingAdvance.count()));
+            }
+        }
+    }
+}
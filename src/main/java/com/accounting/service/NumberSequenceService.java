@@ -0,0 +1,73 @@
+package com.accounting.service;
+
+import com.accounting.repository.InvoiceRepository;
+import com.accounting.repository.JournalEntryRepository;
+import com.accounting.repository.NumberSequenceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+// Hands out INV-yyyyMM-nnnn and JE-yyyyMM-nnnn numbers. The prefix row stays locked until the caller commits,
+// so numbers are never reused. Lock order for writers: the fiscal year covering the posting date, then number
+// sequences (INV before JE), then ledger rows such as accounts and invoices, then ledger versions at commit with
+// the event log position last.
+@Service
+@RequiredArgsConstructor
+public class NumberSequenceService {
+
+    public static final String INVOICE = "INV";
+    public static final String JOURNAL_ENTRY = "JE";
+
+    private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final NumberSequenceRepository numberSequenceRepository;
+    private final InvoiceRepository invoiceRepository;
+    private final JournalEntryRepository journalEntryRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public String next(String type) {
+        return allocate(type, LocalDate.now(), 1).get(0);
+    }
+
+    // Takes the month's lock without using a number, for callers that may only need one after locking ledger rows
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lock(String type) {
+        increment(type, prefix(type, LocalDate.now()), 0);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<String> allocate(String type, LocalDate date, int count) {
+        String prefix = prefix(type, date);
+        increment(type, prefix, count);
+
+        int last = numberSequenceRepository.findLastValue(prefix);
+        List<String> numbers = new ArrayList<>(count);
+        for (int number = last - count + 1; number <= last; number++) {
+            numbers.add(prefix + "-" + String.format("%04d", number));
+        }
+        return numbers;
+    }
+
+    private String prefix(String type, LocalDate date) {
+        return type + "-" + date.format(MONTH);
+    }
+
+    private void increment(String type, String prefix, int count) {
+        if (!numberSequenceRepository.increment(prefix, count)) {
+            // First number for this month: continue after anything numbered before the sequence row existed
+            Integer allocated = INVOICE.equals(type)
+                    ? invoiceRepository.findMaxInvoiceNumberByPrefix(prefix)
+                    : journalEntryRepository.findMaxEntryNumberByPrefix(prefix);
+            int start = allocated != null ? allocated : 0;
+            if (!numberSequenceRepository.insert(prefix, start + count)) {
+                numberSequenceRepository.increment(prefix, count);
+            }
+        }
+    }
+}
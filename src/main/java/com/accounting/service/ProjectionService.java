@@ -0,0 +1,163 @@
+package com.accounting.service;
+
+import com.accounting.dto.ProjectionStatusDTO;
+import com.accounting.event.LedgerEventsAppended;
+import com.accounting.exception.AccountingException;
+import com.accounting.model.LedgerEvent;
+import com.accounting.model.ProjectionCheckpoint;
+import com.accounting.projection.LedgerProjection;
+import com.accounting.repository.LedgerEventRepository;
+import com.accounting.repository.ProjectionCheckpointRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectionService {
+
+    static final int BATCH_SIZE = 500;
+
+    private final List<LedgerProjection> projections;
+    private final ProjectionCheckpointRepository projectionCheckpointRepository;
+    private final LedgerEventRepository ledgerEventRepository;
+    private final LedgerEventService ledgerEventService;
+    private final PlatformTransactionManager transactionManager;
+    private final ExecutorService catchUpExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "projection-catch-up");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean catchUpQueued = new AtomicBoolean();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        createCheckpoints();
+        int seeded = transactionTemplate().execute(status -> ledgerEventService.seed());
+        if (seeded > 0) {
+            log.info("Seeded the ledger event log with {} events from existing entries and invoices", seeded);
+        }
+        catchUp();
+    }
+
+    // One background pass at a time; commits that land while it runs queue exactly one more
+    @TransactionalEventListener
+    public void onEventsAppended(LedgerEventsAppended appended) {
+        if (!catchUpQueued.compareAndSet(false, true)) {
+            return;
+        }
+        catchUpExecutor.execute(() -> {
+            catchUpQueued.set(false);
+            try {
+                catchUp();
+            } catch (RuntimeException e) {
+                log.warn("Projection catch-up after event {} failed; it is retried on the next commit", appended.position(), e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        catchUpExecutor.shutdown();
+    }
+
+    public void catchUp() {
+        for (LedgerProjection projection : projections) {
+            TransactionTemplate transactionTemplate = transactionTemplate();
+            boolean more = true;
+            while (more) {
+                more = Boolean.TRUE.equals(transactionTemplate.execute(status ->
+                        projectionCheckpointRepository.findByNameForUpdateSkipLocked(projection.getName())
+                                .map(checkpoint -> apply(projection, checkpoint) == BATCH_SIZE)
+                                .orElse(false)));
+            }
+        }
+    }
+
+    public ProjectionStatusDTO rebuild(String name) {
+        LedgerProjection projection = projections.stream()
+                .filter(candidate -> candidate.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AccountingException("Projection not found: " + name));
+
+        return transactionTemplate().execute(status -> {
+            ProjectionCheckpoint checkpoint = projectionCheckpointRepository.findByNameForUpdate(name)
+                    .orElseThrow(() -> new AccountingException("Projection not found: " + name));
+            projection.reset();
+            checkpoint.setPosition(0L);
+            while (apply(projection, checkpoint) == BATCH_SIZE) {
+                log.debug("Rebuilt projection {} through event {}", name, checkpoint.getPosition());
+            }
+            checkpoint.setUpdatedAt(LocalDateTime.now());
+            projectionCheckpointRepository.save(checkpoint);
+            return status(checkpoint, ledgerEventService.getHead());
+        });
+    }
+
+    // Waits for any running catch-up, so the projections are current when a bulk load returns
+    public List<ProjectionStatusDTO> rebuildAll() {
+        createCheckpoints();
+        return projections.stream()
+                .map(projection -> rebuild(projection.getName()))
+                .toList();
+    }
+
+    public List<ProjectionStatusDTO> getStatus() {
+        long head = ledgerEventService.getHead();
+        return projections.stream()
+                .map(projection -> projectionCheckpointRepository.findById(projection.getName())
+                        .map(checkpoint -> status(checkpoint, head))
+                        .orElse(new ProjectionStatusDTO(projection.getName(), 0L, head, null)))
+                .toList();
+    }
+
+    public boolean exists(String name) {
+        return projections.stream().anyMatch(projection -> projection.getName().equals(name));
+    }
+
+    private void createCheckpoints() {
+        transactionTemplate().executeWithoutResult(status -> {
+            for (LedgerProjection projection : projections) {
+                if (!projectionCheckpointRepository.existsById(projection.getName())) {
+                    projectionCheckpointRepository.save(new ProjectionCheckpoint(projection.getName(), 0L, LocalDateTime.now()));
+                }
+            }
+        });
+    }
+
+    private int apply(LedgerProjection projection, ProjectionCheckpoint checkpoint) {
+        List<LedgerEvent> events = ledgerEventRepository.findBetween(checkpoint.getPosition(), checkpoint.getPosition() + BATCH_SIZE);
+        if (events.isEmpty()) {
+            return 0;
+        }
+        projection.apply(events);
+        checkpoint.setPosition(events.get(events.size() - 1).getPosition());
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+        projectionCheckpointRepository.save(checkpoint);
+        return events.size();
+    }
+
+    private ProjectionStatusDTO status(ProjectionCheckpoint checkpoint, long head) {
+        return new ProjectionStatusDTO(checkpoint.getName(), checkpoint.getPosition(), head, checkpoint.getUpdatedAt());
+    }
+
+    private TransactionTemplate transactionTemplate() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return transactionTemplate;
+    }
+}
@@ -0,0 +1,154 @@
+package com.accounting.service;
+
+import com.accounting.datasource.ReadYourWrites;
+import com.accounting.datasource.ReplicaRoutingDataSource;
+import com.accounting.exception.AccountingException;
+import com.accounting.metrics.RequestStatistics;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@Component
+public class ReportExecutor {
+
+    static final int DEFAULT_POOL_SIZE = 10;
+
+    private final Executor executor;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final Duration permitTimeout;
+    private final boolean virtualThreads;
+
+    @Autowired
+    public ReportExecutor(Environment environment,
+                          DataSource dataSource,
+                          @Value("${accounting.reports.reserved-connections:3}") int reservedConnections,
+                          @Value("${accounting.reports.permit-timeout:PT10S}") Duration permitTimeout) {
+        this.maxConcurrency = Math.max(1, poolSize(dataSource) - reservedConnections);
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.permitTimeout = permitTimeout;
+        this.virtualThreads = Threading.VIRTUAL.isActive(environment);
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor virtual = new SimpleAsyncTaskExecutor("report-");
+            virtual.setVirtualThreads(true);
+            this.executor = virtual;
+        } else {
+            this.executor = Executors.newFixedThreadPool(maxConcurrency);
+        }
+    }
+
+    ReportExecutor(Executor executor, int maxConcurrency, Duration permitTimeout) {
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.permitTimeout = permitTimeout;
+        this.virtualThreads = false;
+    }
+
+    public <T, R> List<R> map(List<T> items, Function<T, R> task) {
+        if (items.size() <= 1 || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return items.stream().map(item -> withPermit(item, task)).toList();
+        }
+
+        RequestStatistics statistics = RequestStatistics.current();
+        ReadYourWrites readYourWrites = ReadYourWrites.current();
+        Executor tasks = new DelegatingSecurityContextExecutor(executor);
+        List<CompletableFuture<R>> futures = items.stream()
+                .map(item -> CompletableFuture.supplyAsync(
+                        () -> withRequestContext(statistics, readYourWrites, item, task), tasks))
+                .toList();
+        try {
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException ex) {
+            futures.forEach(future -> future.cancel(true));
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new AccountingException("Report task failed: " + ex.getCause().getMessage());
+        }
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ExecutorService service) {
+            service.shutdown();
+        }
+    }
+
+    // Tasks count towards the request's statistics and route their reads as the request would
+    private <T, R> R withRequestContext(RequestStatistics statistics, ReadYourWrites readYourWrites,
+                                        T item, Function<T, R> task) {
+        RequestStatistics previous = RequestStatistics.bind(statistics);
+        ReadYourWrites previousReadYourWrites = ReadYourWrites.bind(readYourWrites);
+        try {
+            return withPermit(item, task);
+        } finally {
+            ReadYourWrites.bind(previousReadYourWrites);
+            RequestStatistics.bind(previous);
+        }
+    }
+
+    private <T, R> R withPermit(T item, Function<T, R> task) {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(permitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new AccountingException("Interrupted while waiting for report capacity");
+        }
+        if (!acquired) {
+            throw new AccountingException("Report capacity exhausted, please try again shortly");
+        }
+        try {
+            return task.apply(item);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(ReplicaRoutingDataSource.class)) {
+                dataSource = dataSource.unwrap(ReplicaRoutingDataSource.class).getReplica();
+            }
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException ex) {
+            return DEFAULT_POOL_SIZE;
+        }
+        return DEFAULT_POOL_SIZE;
+    }
+}
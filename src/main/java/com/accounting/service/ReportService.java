@@ -1,40 +1,57 @@
 package com.accounting.service;
 
+import com.accounting.dto.ArAgingDTO;
 import com.accounting.dto.BalanceSheetDTO;
+import com.accounting.dto.CurrencyBalanceDTO;
 import com.accounting.dto.DashboardDTO;
 import com.accounting.dto.ProfitLossDTO;
 import com.accounting.dto.TrialBalanceDTO;
 import com.accounting.model.Account;
 import com.accounting.model.AccountType;
+import com.accounting.model.Currency;
 import com.accounting.model.EntryStatus;
-import com.accounting.model.InvoiceStatus;
+import com.accounting.model.FiscalYear;
+import com.accounting.projection.AccountBalanceProjection;
+import com.accounting.projection.ReceivableProjection;
 import com.accounting.repository.AccountRepository;
-import com.accounting.repository.InvoiceRepository;
 import com.accounting.repository.JournalEntryRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Service
+@Timed(value = "accounting.service", histogram = true)
 @RequiredArgsConstructor
 public class ReportService {
 
+    static final String TRANSLATION_ADJUSTMENT_CODE = "CTA";
+
     private final AccountRepository accountRepository;
     private final AccountService accountService;
     private final JournalEntryRepository journalEntryRepository;
-    private final InvoiceRepository invoiceRepository;
+    private final ReportExecutor reportExecutor;
+    private final ExchangeRateService exchangeRateService;
+    private final FiscalYearService fiscalYearService;
+    private final AccountBalanceProjection accountBalanceProjection;
+    private final ReceivableProjection receivableProjection;
 
     public TrialBalanceDTO generateTrialBalance(LocalDate asOfDate) {
         TrialBalanceDTO trialBalance = new TrialBalanceDTO();
         trialBalance.setAsOfDate(asOfDate);
 
         List<Account> accounts = accountRepository.findAllActive();
+        List<BigDecimal> balances = balancesAsOf(accounts, asOfDate,
+                fiscalYearService.findSnapshot(asOfDate).orElse(null));
 
-        for (Account account : accounts) {
-            BigDecimal balance = accountService.getBalanceAsOfDate(account.getId(), asOfDate);
+        for (int i = 0; i < accounts.size(); i++) {
+            Account account = accounts.get(i);
+            BigDecimal balance = balances.get(i);
 
             if (balance.compareTo(BigDecimal.ZERO) != 0) {
                 TrialBalanceDTO.TrialBalanceLineDTO line = new TrialBalanceDTO.TrialBalanceLineDTO(
@@ -55,10 +72,14 @@ public class ReportService {
         ProfitLossDTO profitLoss = new ProfitLossDTO();
         profitLoss.setStartDate(startDate);
         profitLoss.setEndDate(endDate);
+        Map<Long, BigDecimal> closingAmounts = fiscalYearService.getClosingAmounts(startDate, endDate);
 
         List<Account> revenueAccounts = accountRepository.findActiveByType(AccountType.REVENUE);
-        for (Account account : revenueAccounts) {
-            BigDecimal balance = accountService.getBalanceBetweenDates(account.getId(), startDate, endDate);
+        List<BigDecimal> revenueBalances = reportExecutor.map(revenueAccounts,
+                account -> accountService.getBalanceBetweenDates(account.getId(), startDate, endDate));
+        for (int i = 0; i < revenueAccounts.size(); i++) {
+            Account account = revenueAccounts.get(i);
+            BigDecimal balance = withoutClosing(account, revenueBalances.get(i), closingAmounts);
             if (balance.compareTo(BigDecimal.ZERO) != 0) {
                 profitLoss.addRevenueAccount(new ProfitLossDTO.AccountBalanceDTO(
                         account.getId(),
@@ -70,8 +91,11 @@ public class ReportService {
         }
 
         List<Account> expenseAccounts = accountRepository.findActiveByType(AccountType.EXPENSE);
-        for (Account account : expenseAccounts) {
-            BigDecimal balance = accountService.getBalanceBetweenDates(account.getId(), startDate, endDate);
+        List<BigDecimal> expenseBalances = reportExecutor.map(expenseAccounts,
+                account -> accountService.getBalanceBetweenDates(account.getId(), startDate, endDate));
+        for (int i = 0; i < expenseAccounts.size(); i++) {
+            Account account = expenseAccounts.get(i);
+            BigDecimal balance = withoutClosing(account, expenseBalances.get(i), closingAmounts);
             if (balance.compareTo(BigDecimal.ZERO) != 0) {
                 profitLoss.addExpenseAccount(new ProfitLossDTO.AccountBalanceDTO(
                         account.getId(),
@@ -89,10 +113,13 @@ public class ReportService {
     public BalanceSheetDTO generateBalanceSheet(LocalDate asOfDate) {
         BalanceSheetDTO balanceSheet = new BalanceSheetDTO();
         balanceSheet.setAsOfDate(asOfDate);
+        FiscalYearService.ClosingSnapshot snapshot = fiscalYearService.findSnapshot(asOfDate).orElse(null);
 
         List<Account> assetAccounts = accountRepository.findActiveByType(AccountType.ASSET);
-        for (Account account : assetAccounts) {
-            BigDecimal balance = accountService.getBalanceAsOfDate(account.getId(), asOfDate);
+        List<BigDecimal> assetBalances = balancesAsOf(assetAccounts, asOfDate, snapshot);
+        for (int i = 0; i < assetAccounts.size(); i++) {
+            Account account = assetAccounts.get(i);
+            BigDecimal balance = assetBalances.get(i);
             if (balance.compareTo(BigDecimal.ZERO) != 0) {
                 balanceSheet.addAssetAccount(new BalanceSheetDTO.AccountBalanceDTO(
                         account.getId(),
@@ -104,8 +131,10 @@ public class ReportService {
         }
 
         List<Account> liabilityAccounts = accountRepository.findActiveByType(AccountType.LIABILITY);
-        for (Account account : liabilityAccounts) {
-            BigDecimal balance = accountService.getBalanceAsOfDate(account.getId(), asOfDate);
+        List<BigDecimal> liabilityBalances = balancesAsOf(liabilityAccounts, asOfDate, snapshot);
+        for (int i = 0; i < liabilityAccounts.size(); i++) {
+            Account account = liabilityAccounts.get(i);
+            BigDecimal balance = liabilityBalances.get(i);
             if (balance.compareTo(BigDecimal.ZERO) != 0) {
                 balanceSheet.addLiabilityAccount(new BalanceSheetDTO.AccountBalanceDTO(
                         account.getId(),
@@ -117,8 +146,10 @@ public class ReportService {
         }
 
         List<Account> equityAccounts = accountRepository.findActiveByType(AccountType.EQUITY);
-        for (Account account : equityAccounts) {
-            BigDecimal balance = accountService.getBalanceAsOfDate(account.getId(), asOfDate);
+        List<BigDecimal> equityBalances = balancesAsOf(equityAccounts, asOfDate, snapshot);
+        for (int i = 0; i < equityAccounts.size(); i++) {
+            Account account = equityAccounts.get(i);
+            BigDecimal balance = equityBalances.get(i);
             if (balance.compareTo(BigDecimal.ZERO) != 0) {
                 balanceSheet.addEquityAccount(new BalanceSheetDTO.AccountBalanceDTO(
                         account.getId(),
@@ -129,61 +160,300 @@ public class ReportService {
             }
         }
 
-        LocalDate fiscalYearStart = asOfDate.withDayOfYear(1);
-        ProfitLossDTO profitLoss = generateProfitLoss(fiscalYearStart, asOfDate);
-        balanceSheet.setRetainedEarnings(profitLoss.getNetIncome());
+        LocalDate earningsStart = earningsStart(snapshot);
+        if (!earningsStart.isAfter(asOfDate)) {
+            balanceSheet.setRetainedEarnings(generateProfitLoss(earningsStart, asOfDate).getNetIncome());
+        }
 
         return balanceSheet;
     }
 
-    public DashboardDTO generateDashboard() {
-        DashboardDTO dashboard = new DashboardDTO();
-        LocalDate today = LocalDate.now();
-        LocalDate startOfYear = today.withDayOfYear(1);
+    public TrialBalanceDTO generateTrialBalance(LocalDate asOfDate, Currency presentationCurrency) {
+        if (isBase(presentationCurrency)) {
+            return generateTrialBalance(asOfDate);
+        }
+        ExchangeRateService.Translation translation = exchangeRateService.translation(presentationCurrency.getId());
+        TrialBalanceDTO trialBalance = new TrialBalanceDTO();
+        trialBalance.setAsOfDate(asOfDate);
+        trialBalance.setCurrencyCode(presentationCurrency.getCode());
+
+        List<Account> accounts = accountRepository.findAllActive();
+        BigDecimal[] translationAdjustment = {BigDecimal.ZERO};
+        List<BigDecimal> balances = translatedBalancesAsOf(accounts, asOfDate,
+                fiscalYearService.findCurrencySnapshot(asOfDate).orElse(null), translation, translationAdjustment);
+        for (int i = 0; i < accounts.size(); i++) {
+            Account account = accounts.get(i);
+            BigDecimal balance = balances.get(i);
+            if (balance.compareTo(BigDecimal.ZERO) != 0) {
+                trialBalance.addLine(new TrialBalanceDTO.TrialBalanceLineDTO(
+                        account.getId(),
+                        account.getCode(),
+                        account.getName(),
+                        account.getAccountType(),
+                        balance
+                ));
+            }
+        }
+
+        if (translationAdjustment[0].signum() != 0) {
+            trialBalance.addLine(new TrialBalanceDTO.TrialBalanceLineDTO(
+                    null,
+                    TRANSLATION_ADJUSTMENT_CODE,
+                    "Cumulative Translation Adjustment",
+                    AccountType.EQUITY,
+                    translationAdjustment[0]
+            ));
+        }
+        return trialBalance;
+    }
+
+    public ProfitLossDTO generateProfitLoss(LocalDate startDate, LocalDate endDate, Currency presentationCurrency) {
+        if (isBase(presentationCurrency)) {
+            return generateProfitLoss(startDate, endDate);
+        }
+        return generateProfitLoss(startDate, endDate, presentationCurrency,
+                exchangeRateService.translation(presentationCurrency.getId()), null);
+    }
+
+    public BalanceSheetDTO generateBalanceSheet(LocalDate asOfDate, Currency presentationCurrency) {
+        if (isBase(presentationCurrency)) {
+            return generateBalanceSheet(asOfDate);
+        }
+        ExchangeRateService.Translation translation = exchangeRateService.translation(presentationCurrency.getId());
+        BalanceSheetDTO balanceSheet = new BalanceSheetDTO();
+        balanceSheet.setAsOfDate(asOfDate);
+        balanceSheet.setCurrencyCode(presentationCurrency.getCode());
+        FiscalYearService.CurrencySnapshot snapshot = fiscalYearService.findCurrencySnapshot(asOfDate).orElse(null);
 
         List<Account> assetAccounts = accountRepository.findActiveByType(AccountType.ASSET);
-        BigDecimal totalAssets = BigDecimal.ZERO;
-        for (Account account : assetAccounts) {
-            totalAssets = totalAssets.add(accountService.getBalance(account.getId()));
+        List<BigDecimal> assetBalances = translatedBalancesAsOf(assetAccounts, asOfDate, snapshot, translation, null);
+        for (int i = 0; i < assetAccounts.size(); i++) {
+            if (assetBalances.get(i).compareTo(BigDecimal.ZERO) != 0) {
+                balanceSheet.addAssetAccount(balanceSheetLine(assetAccounts.get(i), assetBalances.get(i)));
+            }
         }
-        dashboard.setTotalAssets(totalAssets);
 
         List<Account> liabilityAccounts = accountRepository.findActiveByType(AccountType.LIABILITY);
-        BigDecimal totalLiabilities = BigDecimal.ZERO;
-        for (Account account : liabilityAccounts) {
-            totalLiabilities = totalLiabilities.add(accountService.getBalance(account.getId()));
+        List<BigDecimal> liabilityBalances = translatedBalancesAsOf(liabilityAccounts, asOfDate, snapshot, translation, null);
+        for (int i = 0; i < liabilityAccounts.size(); i++) {
+            if (liabilityBalances.get(i).compareTo(BigDecimal.ZERO) != 0) {
+                balanceSheet.addLiabilityAccount(balanceSheetLine(liabilityAccounts.get(i), liabilityBalances.get(i)));
+            }
         }
-        dashboard.setTotalLiabilities(totalLiabilities);
 
         List<Account> equityAccounts = accountRepository.findActiveByType(AccountType.EQUITY);
-        BigDecimal totalEquity = BigDecimal.ZERO;
-        for (Account account : equityAccounts) {
-            totalEquity = totalEquity.add(accountService.getBalance(account.getId()));
+        BigDecimal[] translationAdjustment = {BigDecimal.ZERO};
+        List<BigDecimal> equityBalances = translatedBalancesAsOf(equityAccounts, asOfDate, snapshot, translation,
+                translationAdjustment);
+        for (int i = 0; i < equityAccounts.size(); i++) {
+            if (equityBalances.get(i).compareTo(BigDecimal.ZERO) != 0) {
+                balanceSheet.addEquityAccount(balanceSheetLine(equityAccounts.get(i), equityBalances.get(i)));
+            }
         }
-        dashboard.setTotalEquity(totalEquity);
 
-        ProfitLossDTO profitLoss = generateProfitLoss(startOfYear, today);
-        dashboard.setTotalRevenue(profitLoss.getTotalRevenue());
-        dashboard.setTotalExpenses(profitLoss.getTotalExpenses());
-        dashboard.setNetIncome(profitLoss.getNetIncome());
+        LocalDate earningsStart = earningsStart(fiscalYearService.findSnapshot(asOfDate).orElse(null));
+        if (!earningsStart.isAfter(asOfDate)) {
+            balanceSheet.setRetainedEarnings(generateProfitLoss(earningsStart, asOfDate, presentationCurrency,
+                    translation, translationAdjustment).getNetIncome());
+        }
+        balanceSheet.setTranslationAdjustment(translationAdjustment[0]);
 
-        accountRepository.findByCode("1000").ifPresent(cashAccount -> {
-            dashboard.setCashBalance(accountService.getBalance(cashAccount.getId()));
-        });
+        return balanceSheet;
+    }
 
-        accountRepository.findByCode("1200").ifPresent(arAccount -> {
-            dashboard.setAccountsReceivable(accountService.getBalance(arAccount.getId()));
-        });
+    public DashboardDTO generateDashboard() {
+        DashboardDTO dashboard = new DashboardDTO();
+        LocalDate today = LocalDate.now();
+        LocalDate startOfYear = today.withDayOfYear(1);
+        Map<Long, BigDecimal> closingAmounts = fiscalYearService.getClosingAmounts(startOfYear, today);
 
-        accountRepository.findByCode("2000").ifPresent(apAccount -> {
-            dashboard.setAccountsPayable(accountService.getBalance(apAccount.getId()));
-        });
+        for (AccountBalanceProjection.AccountTotals totals : accountBalanceProjection.findAccountTotals(startOfYear, today)) {
+            if (totals.active()) {
+                BigDecimal periodBalance = totals.periodBalance();
+                BigDecimal closingAmount = closingAmounts.get(totals.accountId());
+                if (closingAmount != null) {
+                    periodBalance = periodBalance.subtract(totals.accountType().isDebitNormal() ? closingAmount : closingAmount.negate());
+                }
+                switch (totals.accountType()) {
+                    case ASSET -> dashboard.setTotalAssets(dashboard.getTotalAssets().add(totals.balance()));
+                    case LIABILITY -> dashboard.setTotalLiabilities(dashboard.getTotalLiabilities().add(totals.balance()));
+                    case EQUITY -> dashboard.setTotalEquity(dashboard.getTotalEquity().add(totals.balance()));
+                    case REVENUE -> dashboard.setTotalRevenue(dashboard.getTotalRevenue().add(periodBalance));
+                    case EXPENSE -> dashboard.setTotalExpenses(dashboard.getTotalExpenses().add(periodBalance));
+                }
+            }
+            switch (totals.code()) {
+                case "1000" -> dashboard.setCashBalance(totals.balance());
+                case "1200" -> dashboard.setAccountsReceivable(totals.balance());
+                case "2000" -> dashboard.setAccountsPayable(totals.balance());
+                default -> {
+                }
+            }
+        }
+        dashboard.setNetIncome(dashboard.getTotalRevenue().subtract(dashboard.getTotalExpenses()));
 
         dashboard.setPendingJournalEntries(journalEntryRepository.countByStatus(EntryStatus.DRAFT));
 
-        dashboard.setOverdueInvoices((long) invoiceRepository.findOverdueInvoices(today).size());
-        dashboard.setOverdueAmount(invoiceRepository.sumTotalByStatus(InvoiceStatus.OVERDUE));
+        ReceivableProjection.Overdue overdue = receivableProjection.findOverdue(today);
+        dashboard.setOverdueInvoices(overdue.invoiceCount());
+        dashboard.setOverdueAmount(overdue.amount());
 
         return dashboard;
     }
-}
\ No newline at end of file
+
+    public ArAgingDTO generateArAging(LocalDate asOfDate) {
+        ArAgingDTO aging = new ArAgingDTO();
+        aging.setAsOfDate(asOfDate);
+        for (ReceivableProjection.CustomerAging customer : receivableProjection.findAging(asOfDate)) {
+            aging.addCustomer(new ArAgingDTO.CustomerAgingDTO(customer.customerId(), customer.customerCode(),
+                    customer.customerName(), customer.current(), customer.days1To30(), customer.days31To60(),
+                    customer.days61To90(), customer.over90()));
+        }
+        return aging;
+    }
+
+    private ProfitLossDTO generateProfitLoss(LocalDate startDate, LocalDate endDate, Currency presentationCurrency,
+                                             ExchangeRateService.Translation translation,
+                                             BigDecimal[] translationAdjustment) {
+        ProfitLossDTO profitLoss = new ProfitLossDTO();
+        profitLoss.setStartDate(startDate);
+        profitLoss.setEndDate(endDate);
+        profitLoss.setCurrencyCode(presentationCurrency.getCode());
+        Map<Long, BigDecimal> closingAmounts = fiscalYearService.getClosingAmounts(startDate, endDate);
+
+        List<Account> revenueAccounts = accountRepository.findActiveByType(AccountType.REVENUE);
+        List<BigDecimal> revenueBalances = translatedBalances(revenueAccounts, startDate, endDate, translation,
+                closingAmounts, translationAdjustment);
+        for (int i = 0; i < revenueAccounts.size(); i++) {
+            Account account = revenueAccounts.get(i);
+            if (revenueBalances.get(i).compareTo(BigDecimal.ZERO) != 0) {
+                profitLoss.addRevenueAccount(new ProfitLossDTO.AccountBalanceDTO(
+                        account.getId(), account.getCode(), account.getName(), revenueBalances.get(i)));
+            }
+        }
+
+        List<Account> expenseAccounts = accountRepository.findActiveByType(AccountType.EXPENSE);
+        List<BigDecimal> expenseBalances = translatedBalances(expenseAccounts, startDate, endDate, translation,
+                closingAmounts, translationAdjustment);
+        for (int i = 0; i < expenseAccounts.size(); i++) {
+            Account account = expenseAccounts.get(i);
+            if (expenseBalances.get(i).compareTo(BigDecimal.ZERO) != 0) {
+                profitLoss.addExpenseAccount(new ProfitLossDTO.AccountBalanceDTO(
+                        account.getId(), account.getCode(), account.getName(), expenseBalances.get(i)));
+            }
+        }
+
+        profitLoss.calculateNetIncome();
+        return profitLoss;
+    }
+
+    private List<BigDecimal> balancesAsOf(List<Account> accounts, LocalDate asOfDate,
+                                          FiscalYearService.ClosingSnapshot snapshot) {
+        if (snapshot == null) {
+            return reportExecutor.map(accounts, account -> accountService.getBalanceAsOfDate(account.getId(), asOfDate));
+        }
+        LocalDate from = snapshot.getAsOfDate().plusDays(1);
+        if (from.isAfter(asOfDate)) {
+            return accounts.stream().map(snapshot::getBalance).toList();
+        }
+        return reportExecutor.map(accounts, account -> snapshot.getBalance(account)
+                .add(accountService.getBalanceBetweenDates(account.getId(), from, asOfDate)));
+    }
+
+    // Earnings not yet closed into equity; with no close yet that reaches back to the first entry
+    private LocalDate earningsStart(FiscalYearService.ClosingSnapshot snapshot) {
+        return snapshot != null ? snapshot.getAsOfDate().plusDays(1) : FiscalYear.START_OF_TIME;
+    }
+
+    private BigDecimal withoutClosing(Account account, BigDecimal balance, Map<Long, BigDecimal> closingAmounts) {
+        BigDecimal closingAmount = closingAmounts.get(account.getId());
+        if (closingAmount == null) {
+            return balance;
+        }
+        return balance.subtract(account.isDebitNormal() ? closingAmount : closingAmount.negate());
+    }
+
+    // Balance-sheet accounts continue from the per-currency balances at the latest close; that close zeroed
+    // the income accounts, so they only need the postings since
+    private List<BigDecimal> translatedBalancesAsOf(List<Account> accounts, LocalDate asOfDate,
+                                                    FiscalYearService.CurrencySnapshot snapshot,
+                                                    ExchangeRateService.Translation translation,
+                                                    BigDecimal[] translationAdjustment) {
+        if (snapshot == null) {
+            return translatedBalances(accounts, FiscalYear.START_OF_TIME, asOfDate, translation, Map.of(),
+                    translationAdjustment);
+        }
+        LocalDate from = snapshot.getAsOfDate().plusDays(1);
+        List<List<CurrencyBalanceDTO>> aggregates = reportExecutor.map(accounts, account -> {
+            List<CurrencyBalanceDTO> balances = snapshot.getBalances(account);
+            if (!from.isAfter(asOfDate)) {
+                balances.addAll(currencyBalances(account, from, asOfDate));
+            }
+            return balances;
+        });
+        return translate(accounts, aggregates, from, asOfDate, translation, Map.of(), translationAdjustment);
+    }
+
+    private List<BigDecimal> translatedBalances(List<Account> accounts, LocalDate startDate, LocalDate endDate,
+                                                ExchangeRateService.Translation translation,
+                                                Map<Long, BigDecimal> closingAmounts,
+                                                BigDecimal[] translationAdjustment) {
+        List<List<CurrencyBalanceDTO>> aggregates = reportExecutor.map(accounts,
+                account -> currencyBalances(account, startDate, endDate));
+        return translate(accounts, aggregates, startDate, endDate, translation, closingAmounts, translationAdjustment);
+    }
+
+    private List<CurrencyBalanceDTO> currencyBalances(Account account, LocalDate startDate, LocalDate endDate) {
+        return account.getAccountType() == AccountType.EQUITY
+                ? accountService.getDailyCurrencyBalancesBetweenDates(account.getId(), startDate, endDate)
+                : accountService.getCurrencyBalancesBetweenDates(account.getId(), startDate, endDate);
+    }
+
+    private List<BigDecimal> translate(List<Account> accounts, List<List<CurrencyBalanceDTO>> aggregates,
+                                       LocalDate startDate, LocalDate endDate,
+                                       ExchangeRateService.Translation translation,
+                                       Map<Long, BigDecimal> closingAmounts,
+                                       BigDecimal[] translationAdjustment) {
+        List<BigDecimal> balances = new ArrayList<>(accounts.size());
+        for (int i = 0; i < accounts.size(); i++) {
+            Account account = accounts.get(i);
+            BigDecimal closingAmount = closingAmounts.get(account.getId());
+            BigDecimal balance = BigDecimal.ZERO;
+            for (CurrencyBalanceDTO aggregate : aggregates.get(i)) {
+                if (closingAmount != null && aggregate.getCurrencyId() == null) {
+                    aggregate.setAmount(aggregate.getAmount().subtract(closingAmount));
+                    aggregate.setCurrencyAmount(aggregate.getCurrencyAmount().subtract(closingAmount));
+                }
+                BigDecimal translated = translate(account.getAccountType(), aggregate, startDate, endDate, translation);
+                balance = balance.add(translated);
+                if (translationAdjustment != null) {
+                    // What the historical or average rate adds over the closing rate; zero for assets and liabilities
+                    translationAdjustment[0] = translationAdjustment[0].add(translated.subtract(
+                            translation.atDate(aggregate.getCurrencyId(), aggregate.getCurrencyAmount(), endDate)));
+                }
+            }
+            balances.add(account.isDebitNormal() ? balance : balance.negate());
+        }
+        return balances;
+    }
+
+    private BigDecimal translate(AccountType type, CurrencyBalanceDTO aggregate, LocalDate startDate, LocalDate endDate,
+                                 ExchangeRateService.Translation translation) {
+        Long currencyId = aggregate.getCurrencyId();
+        BigDecimal amount = aggregate.getCurrencyAmount();
+        return switch (type) {
+            case ASSET, LIABILITY -> translation.atDate(currencyId, amount, endDate);
+            case EQUITY -> translation.atDate(currencyId, amount, aggregate.getFirstEntryDate());
+            case REVENUE, EXPENSE -> translation.average(currencyId, amount,
+                    startDate.equals(FiscalYear.START_OF_TIME) ? aggregate.getFirstEntryDate() : startDate, endDate);
+        };
+    }
+
+    private BalanceSheetDTO.AccountBalanceDTO balanceSheetLine(Account account, BigDecimal balance) {
+        return new BalanceSheetDTO.AccountBalanceDTO(account.getId(), account.getCode(), account.getName(), balance);
+    }
+
+    private boolean isBase(Currency currency) {
+        return currency == null || Boolean.TRUE.equals(currency.getIsBase());
+    }
+}
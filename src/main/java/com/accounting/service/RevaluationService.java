@@ -0,0 +1,183 @@
+package com.accounting.service;
+
+import com.accounting.dto.RevaluationResultDTO;
+import com.accounting.exception.AccountingException;
+import com.accounting.model.*;
+import com.accounting.repository.AccountRepository;
+import com.accounting.repository.CurrencyRepository;
+import com.accounting.repository.JournalBatchRepository;
+import com.accounting.repository.RevaluationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class RevaluationService {
+
+    static final String GAIN_LOSS_ACCOUNT = "4500";
+    static final String REFERENCE_PREFIX = "FX-REVAL-";
+
+    private final RevaluationRepository revaluationRepository;
+    private final JournalBatchRepository journalBatchRepository;
+    private final AccountRepository accountRepository;
+    private final CurrencyRepository currencyRepository;
+    private final ExchangeRateService exchangeRateService;
+    private final LedgerVersionService ledgerVersionService;
+    private final FiscalYearService fiscalYearService;
+    private final LedgerArchiveService ledgerArchiveService;
+    private final LedgerEventService ledgerEventService;
+    private final NumberSequenceService numberSequenceService;
+    private final PlatformTransactionManager transactionManager;
+
+    public RevaluationResultDTO revalue(LocalDate revaluationDate) {
+        if (revaluationDate == null) {
+            throw new AccountingException("Revaluation date is required");
+        }
+        long started = System.nanoTime();
+        RevaluationResultDTO result = new TransactionTemplate(transactionManager)
+                .execute(status -> post(revaluationDate));
+        result.setElapsedMillis((System.nanoTime() - started) / 1_000_000);
+        return result;
+    }
+
+    private RevaluationResultDTO post(LocalDate revaluationDate) {
+        fiscalYearService.assertOpen(revaluationDate);
+        Account gainLossAccount = accountRepository.findByCode(GAIN_LOSS_ACCOUNT)
+                .orElseThrow(() -> new AccountingException("Unrealized Exchange Gain/Loss account not found"));
+        Map<Long, Currency> currencies = currencyRepository.findAll().stream()
+                .collect(Collectors.toMap(Currency::getId, Function.identity()));
+
+        RevaluationRepository.OpenBalances balances = openBalances(revaluationDate, currencies);
+        int size = balances.size();
+        long[] currencyIds = balances.currencyIds();
+        int[] epochDays = new int[size];
+        Arrays.fill(epochDays, (int) revaluationDate.toEpochDay());
+        long[] revaluedCents = new long[size];
+        exchangeRateService.toBase(currencyIds, epochDays, balances.foreignCents(), revaluedCents);
+
+        long[] adjustments = new long[size];
+        Set<Long> accountIds = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            adjustments[i] = revaluedCents[i] - balances.bookedCents(i);
+            if (adjustments[i] != 0) {
+                accountIds.add(balances.accountId(i));
+            }
+        }
+        Map<Long, Account> accounts = accountRepository.findAllById(accountIds).stream()
+                .collect(Collectors.toMap(Account::getId, Function.identity()));
+
+        RevaluationResultDTO result = new RevaluationResultDTO(revaluationDate);
+        result.setBalanceCount(size);
+        List<JournalEntry> entries = new ArrayList<>();
+        long totalCents = 0;
+
+        int i = 0;
+        while (i < size) {
+            long currencyId = currencyIds[i];
+            Currency currency = currencies.get(currencyId);
+            BigDecimal rate = exchangeRateService.getRate(currencyId, revaluationDate);
+            String description = "Revaluation of " + currency.getCode() + " balance at " + rate;
+            JournalEntry entry = null;
+            long netCents = 0;
+
+            for (; i < size && currencyIds[i] == currencyId; i++) {
+                long adjustment = adjustments[i];
+                if (adjustment == 0) {
+                    continue;
+                }
+                if (entry == null) {
+                    entry = createEntry(revaluationDate, currency, rate);
+                }
+                JournalEntryLine line = line(accounts.get(balances.accountId(i)), adjustment, description);
+                line.setCurrency(currency);
+                line.setExchangeRate(BigDecimal.ZERO);
+                entry.addLine(line);
+                netCents += adjustment;
+            }
+            if (entry == null) {
+                continue;
+            }
+
+            int accountCount = entry.getLines().size();
+            if (netCents != 0) {
+                entry.addLine(line(gainLossAccount, -netCents, "Unrealized exchange gain/loss on " + currency.getCode()));
+            }
+            entries.add(entry);
+            totalCents += netCents;
+            result.getCurrencies().add(new RevaluationResultDTO.CurrencyRevaluationDTO(
+                    currency.getCode(), rate, null, accountCount, BigDecimal.valueOf(netCents, 2)));
+            result.setLineCount(result.getLineCount() + entry.getLines().size());
+        }
+
+        if (!entries.isEmpty()) {
+            List<String> entryNumbers = numberSequenceService.allocate(NumberSequenceService.JOURNAL_ENTRY,
+                    LocalDate.now(), entries.size());
+            for (int e = 0; e < entries.size(); e++) {
+                entries.get(e).setEntryNumber(entryNumbers.get(e));
+                result.getCurrencies().get(e).setEntryNumber(entryNumbers.get(e));
+            }
+            journalBatchRepository.insertAll(entries);
+            ledgerVersionService.bump(LedgerVersionService.JOURNAL);
+            ledgerEventService.entriesPosted(entries);
+        }
+
+        result.setJournalEntryCount(entries.size());
+        result.setTotalGainLoss(BigDecimal.valueOf(totalCents, 2));
+        return result;
+    }
+
+    private RevaluationRepository.OpenBalances openBalances(LocalDate revaluationDate, Map<Long, Currency> currencies) {
+        LocalDate archivedThrough = ledgerArchiveService.getArchivedThrough();
+        if (archivedThrough == null) {
+            return revaluationRepository.findOpenBalances(revaluationDate);
+        }
+
+        List<RevaluationRepository.ArchivedBalance> archived = ledgerArchiveService.findForeignBalances();
+        Set<Long> monetaryAccountIds = accountRepository.findAllById(archived.stream()
+                        .map(RevaluationRepository.ArchivedBalance::getAccountId)
+                        .collect(Collectors.toSet())).stream()
+                .filter(account -> account.getAccountType() == AccountType.ASSET
+                        || account.getAccountType() == AccountType.LIABILITY)
+                .map(Account::getId)
+                .collect(Collectors.toSet());
+        List<RevaluationRepository.ArchivedBalance> foreign = archived.stream()
+                .filter(balance -> monetaryAccountIds.contains(balance.getAccountId()))
+                .filter(balance -> !Boolean.TRUE.equals(currencies.get(balance.getCurrencyId()).getIsBase()))
+                .toList();
+        return revaluationRepository.findOpenBalances(revaluationDate, archivedThrough.plusDays(1), foreign);
+    }
+
+    private JournalEntry createEntry(LocalDate revaluationDate, Currency currency, BigDecimal rate) {
+        JournalEntry entry = new JournalEntry();
+        entry.setEntryDate(revaluationDate);
+        entry.setDescription("Unrealized exchange revaluation of " + currency.getCode() + " at " + rate);
+        entry.setReference(REFERENCE_PREFIX + revaluationDate.format(DateTimeFormatter.BASIC_ISO_DATE) + "-" + currency.getCode());
+        entry.setStatus(EntryStatus.POSTED);
+        entry.setPostedAt(LocalDateTime.now());
+        return entry;
+    }
+
+    private JournalEntryLine line(Account account, long cents, String description) {
+        JournalEntryLine line = new JournalEntryLine();
+        line.setAccount(account);
+        line.setDebitAmount(cents > 0 ? BigDecimal.valueOf(cents, 2) : BigDecimal.ZERO);
+        line.setCreditAmount(cents < 0 ? BigDecimal.valueOf(-cents, 2) : BigDecimal.ZERO);
+        line.setDescription(description);
+        return line;
+    }
+}
@@ -0,0 +1,42 @@
+package com.accounting.service;
+
+import com.accounting.dto.CacheRegionStatsDTO;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+public class SecondLevelCacheService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public List<CacheRegionStatsDTO> getRegionStats() {
+        Statistics statistics = sessionFactory().getStatistics();
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(statistics::getCacheRegionStatistics)
+                .filter(Objects::nonNull)
+                .map(this::stats)
+                .toList();
+    }
+
+    public void evictAll() {
+        sessionFactory().getCache().evictAllRegions();
+    }
+
+    private CacheRegionStatsDTO stats(CacheRegionStatistics region) {
+        return new CacheRegionStatsDTO(region.getRegionName(), region.getHitCount(), region.getMissCount(), region.getPutCount());
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+}
@@ -1,10 +1,12 @@
 package com.accounting.service;
 
+import com.accounting.dto.AuthenticationCacheStatsDTO;
 import com.accounting.exception.AccountingException;
 import com.accounting.model.Role;
 import com.accounting.model.User;
 import com.accounting.repository.RoleRepository;
 import com.accounting.repository.UserRepository;
+import com.accounting.security.AuthenticationCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -12,6 +14,8 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Optional;
@@ -23,6 +27,7 @@ public class UserService implements UserDetailsService {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AuthenticationCache authenticationCache;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
@@ -46,6 +51,11 @@ public class UserService implements UserDetailsService {
         return userRepository.findByUsername(username);
     }
 
+    // Empty once the user is disabled, renamed or removed
+    public Optional<Long> findTokenVersion(String username) {
+        return userRepository.findTokenVersion(username);
+    }
+
     @Transactional
     public User createUser(User user, String rawPassword, String roleName) {
         if (userRepository.existsByUsername(user.getUsername())) {
@@ -76,6 +86,7 @@ public class UserService implements UserDetailsService {
             throw new AccountingException("Username already exists: " + userDetails.getUsername());
         }
 
+        revoke(user);
         user.setUsername(userDetails.getUsername());
         user.setEmail(userDetails.getEmail());
         user.setFullName(userDetails.getFullName());
@@ -90,6 +101,7 @@ public class UserService implements UserDetailsService {
                 .orElseThrow(() -> new AccountingException("User not found: " + id));
 
         user.setPassword(passwordEncoder.encode(newPassword));
+        revoke(user);
         userRepository.save(user);
     }
 
@@ -102,6 +114,7 @@ public class UserService implements UserDetailsService {
                 .orElseThrow(() -> new AccountingException("Role not found: " + roleName));
 
         user.setRole(role);
+        revoke(user);
         userRepository.save(user);
     }
 
@@ -111,6 +124,7 @@ public class UserService implements UserDetailsService {
                 .orElseThrow(() -> new AccountingException("User not found: " + id));
 
         user.setEnabled(false);
+        revoke(user);
         userRepository.save(user);
     }
 
@@ -123,6 +137,10 @@ public class UserService implements UserDetailsService {
         userRepository.save(user);
     }
 
+    public AuthenticationCacheStatsDTO getAuthenticationCacheStats() {
+        return authenticationCache.getStats();
+    }
+
     public List<Role> findAllRoles() {
         return roleRepository.findAll();
     }
@@ -132,4 +150,24 @@ public class UserService implements UserDetailsService {
         return roleRepository.findByName(roleName)
                 .orElseGet(() -> roleRepository.save(new Role(roleName)));
     }
+
+    // Ends the user's cached logins and every API token issued before the change
+    private void revoke(User user) {
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        evictAfterCommit(user.getUsername());
+    }
+
+    // Evicting before commit would let a concurrent login cache the old password or role again
+    private void evictAfterCommit(String username) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            authenticationCache.evict(username);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                authenticationCache.evict(username);
+            }
+        });
+    }
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.accounting.service;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+// A node-local copy of database state, labelled with the ledger_versions counter it was loaded at. Reads reload
+// when the counter has moved, so a change committed on any node is seen on the next read everywhere.
+final class VersionedCache<T> {
+
+    private final String name;
+    private final LedgerVersionService ledgerVersionService;
+    private final TransactionTemplate transactionTemplate;
+    private final Supplier<T> loader;
+
+    private volatile Loaded<T> loaded;
+
+    VersionedCache(String name, LedgerVersionService ledgerVersionService,
+                   PlatformTransactionManager transactionManager, Supplier<T> loader) {
+        this.name = name;
+        this.ledgerVersionService = ledgerVersionService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loader = loader;
+    }
+
+    T get() {
+        Loaded<T> current = loaded;
+        if (current == null || current.version() != ledgerVersionService.version(name)) {
+            return reload();
+        }
+        return current.value();
+    }
+
+    // The version is read first, so a value is never labelled newer than the rows it was built from
+    T reload() {
+        Loaded<T> current = transactionTemplate.execute(status ->
+                new Loaded<>(ledgerVersionService.version(name), loader.get()));
+        loaded = current;
+        return current.value();
+    }
+
+    // Moves the shared version so every node reloads, and reloads this node once the change commits
+    void refresh() {
+        ledgerVersionService.bump(name);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reload();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reload();
+            }
+        });
+    }
+
+    private record Loaded<T>(long version, T value) {
+    }
+}
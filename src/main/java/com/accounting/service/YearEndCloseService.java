@@ -0,0 +1,207 @@
+package com.accounting.service;
+
+import com.accounting.dto.CurrencyBalanceDTO;
+import com.accounting.dto.FiscalYearCloseResultDTO;
+import com.accounting.exception.AccountingException;
+import com.accounting.model.*;
+import com.accounting.repository.AccountRepository;
+import com.accounting.repository.FiscalYearRepository;
+import com.accounting.repository.JournalBatchRepository;
+import com.accounting.repository.JournalEntryRepository;
+import com.accounting.repository.YearEndCloseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+public class YearEndCloseService {
+
+    static final String RETAINED_EARNINGS_ACCOUNT = "3200";
+    static final String REFERENCE_PREFIX = "YE-CLOSE-";
+
+    private final FiscalYearRepository fiscalYearRepository;
+    private final FiscalYearService fiscalYearService;
+    private final YearEndCloseRepository yearEndCloseRepository;
+    private final JournalBatchRepository journalBatchRepository;
+    private final JournalEntryRepository journalEntryRepository;
+    private final AccountRepository accountRepository;
+    private final AccountService accountService;
+    private final LedgerVersionService ledgerVersionService;
+    private final LedgerEventService ledgerEventService;
+    private final NumberSequenceService numberSequenceService;
+    private final PlatformTransactionManager transactionManager;
+
+    public FiscalYearCloseResultDTO close(Long fiscalYearId) {
+        long started = System.nanoTime();
+        FiscalYearCloseResultDTO result = new TransactionTemplate(transactionManager)
+                .execute(status -> post(fiscalYearId));
+        result.setElapsedMillis((System.nanoTime() - started) / 1_000_000);
+        return result;
+    }
+
+    private FiscalYearCloseResultDTO post(Long fiscalYearId) {
+        FiscalYear fiscalYear = fiscalYearRepository.findByIdForUpdate(fiscalYearId)
+                .orElseThrow(() -> new AccountingException("Fiscal year not found: " + fiscalYearId));
+        validate(fiscalYear);
+        Account retainedEarnings = accountRepository.findByCode(RETAINED_EARNINGS_ACCOUNT)
+                .orElseThrow(() -> new AccountingException("Retained Earnings account not found"));
+
+        LocalDate endDate = fiscalYear.getEndDate();
+        Map<Long, BigDecimal> balances = new HashMap<>();
+        LocalDate from = FiscalYear.START_OF_TIME;
+        FiscalYearService.ClosingSnapshot previous = fiscalYearService.findSnapshot(endDate).orElse(null);
+        if (previous != null) {
+            balances.putAll(previous.getBalances());
+            from = previous.getAsOfDate().plusDays(1);
+        }
+        yearEndCloseRepository.findNetBalances(from, endDate)
+                .forEach((accountId, net) -> balances.merge(accountId, net, BigDecimal::add));
+
+        List<Account> accounts = new ArrayList<>(accountRepository.findAllById(balances.keySet()));
+        accounts.sort(Comparator.comparing(Account::getCode));
+
+        FiscalYearCloseResultDTO result = new FiscalYearCloseResultDTO(
+                fiscalYear.getName(), fiscalYear.getStartDate(), endDate);
+        JournalEntry entry = createEntry(fiscalYear);
+        Map<Long, BigDecimal> closingAmounts = new HashMap<>();
+        BigDecimal retained = BigDecimal.ZERO;
+        for (Account account : accounts) {
+            BigDecimal balance = balances.get(account.getId());
+            if (balance.signum() == 0 || !isIncomeStatement(account)) {
+                continue;
+            }
+            entry.addLine(line(account, balance.negate(), "Close " + account.getCode() + " to retained earnings"));
+            closingAmounts.put(account.getId(), balance.negate());
+            retained = retained.add(balance);
+        }
+        result.setClosedAccountCount(entry.getLines().size());
+        result.setNetIncome(retained.negate());
+
+        if (retained.signum() != 0) {
+            entry.addLine(line(retainedEarnings, retained, "Net income for " + fiscalYear.getName()));
+            closingAmounts.merge(retainedEarnings.getId(), retained, BigDecimal::add);
+            if (!balances.containsKey(retainedEarnings.getId())) {
+                accounts.add(retainedEarnings);
+            }
+        }
+
+        if (!entry.getLines().isEmpty()) {
+            entry.setEntryNumber(numberSequenceService.next(NumberSequenceService.JOURNAL_ENTRY));
+            journalBatchRepository.insertAll(List.of(entry));
+            ledgerVersionService.bump(LedgerVersionService.JOURNAL);
+            ledgerEventService.entriesPosted(List.of(entry));
+            fiscalYear.setClosingEntryId(entry.getId());
+            result.setClosingEntryNumber(entry.getEntryNumber());
+        }
+
+        List<AccountBalanceSnapshot> snapshots = new ArrayList<>();
+        for (Account account : accounts) {
+            BigDecimal closingAmount = closingAmounts.getOrDefault(account.getId(), BigDecimal.ZERO);
+            BigDecimal balance = balances.getOrDefault(account.getId(), BigDecimal.ZERO).add(closingAmount);
+            if (balance.signum() != 0 || closingAmount.signum() != 0) {
+                snapshots.add(new AccountBalanceSnapshot(null, fiscalYear, account, endDate, balance, closingAmount, null));
+            }
+        }
+        yearEndCloseRepository.insertSnapshots(snapshots);
+        yearEndCloseRepository.insertCurrencySnapshots(fiscalYear.getId(), currencyBalances(endDate));
+        result.setSnapshotCount(snapshots.size());
+
+        fiscalYear.setIsClosed(true);
+        fiscalYear.setClosedAt(LocalDateTime.now());
+        fiscalYearRepository.save(fiscalYear);
+        fiscalYearService.refresh();
+        return result;
+    }
+
+    private void validate(FiscalYear fiscalYear) {
+        if (Boolean.TRUE.equals(fiscalYear.getIsClosed())) {
+            throw new AccountingException("Fiscal year " + fiscalYear.getName() + " is already closed");
+        }
+        if (fiscalYear.getEndDate().isAfter(LocalDate.now())) {
+            throw new AccountingException("Fiscal year " + fiscalYear.getName() + " has not ended yet");
+        }
+        fiscalYearService.assertOpen(fiscalYear.getEndDate());
+        if (fiscalYearRepository.existsOpenEndingBefore(fiscalYear.getStartDate())) {
+            throw new AccountingException("Earlier fiscal years must be closed before " + fiscalYear.getName());
+        }
+        long drafts = journalEntryRepository.countByStatusOnOrBefore(EntryStatus.DRAFT, fiscalYear.getEndDate());
+        if (drafts > 0) {
+            throw new AccountingException("Cannot close " + fiscalYear.getName() + ": " + drafts
+                    + " draft entries are dated on or before " + fiscalYear.getEndDate());
+        }
+    }
+
+    // Translated reports start from these: the previous close's per-currency balances plus this year's postings,
+    // closing entry included. Equity stays split by entry date so it can be translated at historical rates.
+    private Map<Long, List<CurrencyBalanceDTO>> currencyBalances(LocalDate endDate) {
+        FiscalYearService.CurrencySnapshot previous = fiscalYearService.findCurrencySnapshot(endDate).orElse(null);
+        LocalDate from = previous != null ? previous.getAsOfDate().plusDays(1) : FiscalYear.START_OF_TIME;
+
+        Map<Long, List<CurrencyBalanceDTO>> balances = new HashMap<>();
+        for (Account account : accountRepository.findAll()) {
+            if (isIncomeStatement(account)) {
+                continue;
+            }
+            List<CurrencyBalanceDTO> accountBalances = previous != null ? previous.getBalances(account) : new ArrayList<>();
+            if (account.getAccountType() == AccountType.EQUITY) {
+                accountBalances.addAll(accountService.getDailyCurrencyBalancesBetweenDates(account.getId(), from, endDate));
+            } else {
+                accountService.getCurrencyBalancesBetweenDates(account.getId(), from, endDate)
+                        .forEach(posted -> merge(accountBalances, posted));
+            }
+            accountBalances.removeIf(balance ->
+                    balance.getAmount().signum() == 0 && balance.getCurrencyAmount().signum() == 0);
+            if (!accountBalances.isEmpty()) {
+                balances.put(account.getId(), accountBalances);
+            }
+        }
+        return balances;
+    }
+
+    private void merge(List<CurrencyBalanceDTO> balances, CurrencyBalanceDTO posted) {
+        for (CurrencyBalanceDTO balance : balances) {
+            if (Objects.equals(balance.getCurrencyId(), posted.getCurrencyId())) {
+                balance.setAmount(balance.getAmount().add(posted.getAmount()));
+                balance.setCurrencyAmount(balance.getCurrencyAmount().add(posted.getCurrencyAmount()));
+                return;
+            }
+        }
+        balances.add(posted);
+    }
+
+    private boolean isIncomeStatement(Account account) {
+        return account.getAccountType() == AccountType.REVENUE || account.getAccountType() == AccountType.EXPENSE;
+    }
+
+    private JournalEntry createEntry(FiscalYear fiscalYear) {
+        JournalEntry entry = new JournalEntry();
+        entry.setEntryDate(fiscalYear.getEndDate());
+        entry.setDescription("Year-end close of " + fiscalYear.getName());
+        entry.setReference(REFERENCE_PREFIX + fiscalYear.getEndDate().format(DateTimeFormatter.BASIC_ISO_DATE));
+        entry.setStatus(EntryStatus.POSTED);
+        entry.setPostedAt(LocalDateTime.now());
+        return entry;
+    }
+
+    private JournalEntryLine line(Account account, BigDecimal amount, String description) {
+        JournalEntryLine line = new JournalEntryLine();
+        line.setAccount(account);
+        line.setDebitAmount(amount.signum() > 0 ? amount : BigDecimal.ZERO);
+        line.setCreditAmount(amount.signum() < 0 ? amount.negate() : BigDecimal.ZERO);
+        line.setDescription(description);
+        return line;
+    }
+}
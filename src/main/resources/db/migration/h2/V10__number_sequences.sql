@@ -0,0 +1,8 @@
+-- Document number allocator: one row per prefix (INV-yyyyMM, JE-yyyyMM) holding the last number handed out
+
+CREATE TABLE number_sequences (
+    prefix VARCHAR(20) NOT NULL,
+    last_value INT NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (prefix)
+);
@@ -0,0 +1,12 @@
+-- Revenue account of the consolidated AR-SUMMARY-yyyyMMdd-<code> entry an invoice was rolled into
+
+ALTER TABLE invoices ADD COLUMN revenue_account_id BIGINT;
+ALTER TABLE invoices ADD CONSTRAINT fk_invoices_revenue_account
+    FOREIGN KEY (revenue_account_id) REFERENCES accounts (id);
+
+UPDATE invoices SET revenue_account_id = (
+    SELECT a.id FROM journal_entries je
+    JOIN accounts a ON a.code = SUBSTRING(je.reference, 21)
+    WHERE je.id = invoices.journal_entry_id AND je.reference LIKE 'AR-SUMMARY-%'
+)
+WHERE journal_entry_id IS NOT NULL;
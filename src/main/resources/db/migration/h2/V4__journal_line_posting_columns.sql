@@ -0,0 +1,18 @@
+-- Posting date and status copied from the entry so account balances and ledgers read the lines table alone
+
+ALTER TABLE journal_entry_lines ADD COLUMN entry_date DATE;
+ALTER TABLE journal_entry_lines ADD COLUMN posted BOOLEAN DEFAULT FALSE NOT NULL;
+
+UPDATE journal_entry_lines jl SET
+    entry_date = (SELECT je.entry_date FROM journal_entries je WHERE je.id = jl.journal_entry_id),
+    posted = (SELECT je.status = 'POSTED' FROM journal_entries je WHERE je.id = jl.journal_entry_id);
+
+ALTER TABLE journal_entry_lines ALTER COLUMN entry_date SET NOT NULL;
+ALTER TABLE journal_entry_lines ALTER COLUMN posted DROP DEFAULT;
+
+-- Covering index for posted balances by account and date; replaces the account and entry index
+ALTER TABLE journal_entry_lines DROP CONSTRAINT FK3t3uhyexb3kw2t2xid4fjn9wx;
+DROP INDEX idx_journal_entry_lines_account_entry;
+CREATE INDEX idx_journal_entry_lines_account_posted_date
+    ON journal_entry_lines (account_id, posted, entry_date, debit_amount, credit_amount);
+ALTER TABLE journal_entry_lines ADD CONSTRAINT FK3t3uhyexb3kw2t2xid4fjn9wx FOREIGN KEY (account_id) REFERENCES accounts (id);
@@ -0,0 +1,17 @@
+-- Dated exchange rate history; each currency's current rate is recorded as effective from today
+
+CREATE TABLE exchange_rates (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    currency_id BIGINT NOT NULL,
+    effective_date DATE NOT NULL,
+    rate NUMERIC(15,6) NOT NULL,
+    created_at TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_exchange_rates_currency_date UNIQUE (currency_id, effective_date),
+    CONSTRAINT fk_exchange_rates_currency FOREIGN KEY (currency_id) REFERENCES currencies (id)
+);
+
+INSERT INTO exchange_rates (currency_id, effective_date, rate, created_at)
+SELECT id, CURRENT_DATE, exchange_rate, CURRENT_TIMESTAMP
+FROM currencies
+WHERE COALESCE(is_base, FALSE) = FALSE AND exchange_rate IS NOT NULL;
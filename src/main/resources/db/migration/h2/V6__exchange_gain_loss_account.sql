@@ -0,0 +1,6 @@
+-- Income account that receives unrealized gains and losses from foreign-currency revaluation
+
+INSERT INTO accounts (code, name, account_type, description, is_active)
+SELECT '4500', 'Unrealized Exchange Gain/Loss', 'REVENUE', 'Unrealized gains and losses from currency revaluation', TRUE
+FROM DUAL
+WHERE NOT EXISTS (SELECT 1 FROM accounts WHERE code = '4500');
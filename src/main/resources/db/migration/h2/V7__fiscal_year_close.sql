@@ -0,0 +1,19 @@
+-- Year-end close: the closing entry posted for a fiscal year and immutable per-account closing balances
+
+ALTER TABLE fiscal_years ADD COLUMN closing_entry_id BIGINT;
+ALTER TABLE fiscal_years ADD CONSTRAINT fk_fiscal_years_closing_entry
+    FOREIGN KEY (closing_entry_id) REFERENCES journal_entries (id);
+
+CREATE TABLE account_balance_snapshots (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    fiscal_year_id BIGINT NOT NULL,
+    account_id BIGINT NOT NULL,
+    as_of_date DATE NOT NULL,
+    balance NUMERIC(15,2) NOT NULL,
+    closing_amount NUMERIC(15,2) NOT NULL,
+    created_at TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_account_balance_snapshots_year_account UNIQUE (fiscal_year_id, account_id),
+    CONSTRAINT fk_account_balance_snapshots_fiscal_year FOREIGN KEY (fiscal_year_id) REFERENCES fiscal_years (id),
+    CONSTRAINT fk_account_balance_snapshots_account FOREIGN KEY (account_id) REFERENCES accounts (id)
+);
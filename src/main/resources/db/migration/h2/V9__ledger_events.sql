@@ -0,0 +1,44 @@
+-- Append-only ledger event log, projection checkpoints and the projections maintained from the log
+
+CREATE TABLE ledger_events (
+    position BIGINT NOT NULL,
+    event_type VARCHAR(40) NOT NULL,
+    aggregate_type VARCHAR(30) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    occurred_at TIMESTAMP(6) NOT NULL,
+    payload CLOB NOT NULL,
+    PRIMARY KEY (position)
+);
+
+CREATE INDEX idx_ledger_events_aggregate ON ledger_events (aggregate_type, aggregate_id);
+
+CREATE TABLE projection_checkpoints (
+    name VARCHAR(50) NOT NULL,
+    position BIGINT NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (name)
+);
+
+CREATE TABLE projected_account_balances (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    account_id BIGINT NOT NULL,
+    entry_date DATE NOT NULL,
+    debit_total NUMERIC(19,2) NOT NULL,
+    credit_total NUMERIC(19,2) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_projected_account_balances_account_date UNIQUE (account_id, entry_date),
+    CONSTRAINT fk_projected_account_balances_account FOREIGN KEY (account_id) REFERENCES accounts (id)
+);
+
+CREATE TABLE projected_receivables (
+    invoice_id BIGINT NOT NULL,
+    customer_id BIGINT NOT NULL,
+    invoice_number VARCHAR(20) NOT NULL,
+    invoice_date DATE NOT NULL,
+    due_date DATE,
+    amount NUMERIC(15,2) NOT NULL,
+    PRIMARY KEY (invoice_id),
+    CONSTRAINT fk_projected_receivables_customer FOREIGN KEY (customer_id) REFERENCES customers (id)
+);
+
+CREATE INDEX idx_projected_receivables_due_date ON projected_receivables (due_date);
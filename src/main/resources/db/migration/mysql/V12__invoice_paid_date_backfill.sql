@@ -0,0 +1,8 @@
+-- Invoices paid before paid_date was recorded: take the date of the PMT-<invoice number> payment entry,
+-- or the invoice date when no payment entry exists, so statements and AR balances see the payment
+
+UPDATE invoices SET paid_date = COALESCE(
+    (SELECT MIN(je.entry_date) FROM journal_entries je WHERE je.reference = CONCAT('PMT-', invoices.invoice_number)),
+    invoice_date
+)
+WHERE status = 'PAID' AND paid_date IS NULL;
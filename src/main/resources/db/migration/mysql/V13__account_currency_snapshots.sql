@@ -0,0 +1,18 @@
+-- Per-currency balance-sheet balances at each year-end close, so translated reports start from the close
+-- instead of summing every earlier year. Years closed before this table existed have no rows and are
+-- translated from the ledger as before.
+
+CREATE TABLE account_currency_snapshots (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    fiscal_year_id BIGINT NOT NULL,
+    account_id BIGINT NOT NULL,
+    currency_id BIGINT,
+    first_entry_date DATE NOT NULL,
+    amount DECIMAL(15,2) NOT NULL,
+    currency_amount DECIMAL(23,8) NOT NULL,
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_account_currency_snapshots_fiscal_year FOREIGN KEY (fiscal_year_id) REFERENCES fiscal_years (id),
+    CONSTRAINT fk_account_currency_snapshots_account FOREIGN KEY (account_id) REFERENCES accounts (id),
+    CONSTRAINT fk_account_currency_snapshots_currency FOREIGN KEY (currency_id) REFERENCES currencies (id)
+) ENGINE=InnoDB;
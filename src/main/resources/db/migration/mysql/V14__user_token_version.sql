@@ -0,0 +1,3 @@
+-- API tokens carry the user's token version; role, password and enabled changes move it to revoke them
+
+ALTER TABLE users ADD COLUMN token_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,201 @@
+-- Baseline schema matching the JPA mappings (Hibernate only validates it)
+-- Constraint names are the ones Hibernate generated, so databases created by ddl-auto and baselined at V2 match
+
+CREATE TABLE roles (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(50) NOT NULL,
+    description VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT UK_ofx66keruapi6vyqpv6f2or37 UNIQUE (name)
+) ENGINE=InnoDB;
+
+CREATE TABLE users (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    username VARCHAR(50) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    email VARCHAR(100),
+    full_name VARCHAR(100),
+    role_id BIGINT,
+    enabled BIT,
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT UK_r43af9ap4edm43mmtq01oddj6 UNIQUE (username),
+    CONSTRAINT FKp56c1712k691lhsyewcssf40f FOREIGN KEY (role_id) REFERENCES roles (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE currencies (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    code VARCHAR(3) NOT NULL,
+    name VARCHAR(50),
+    symbol VARCHAR(5),
+    exchange_rate DECIMAL(15,6),
+    is_base BIT,
+    PRIMARY KEY (id),
+    CONSTRAINT UK_5r2dfxl1m7vus47ma0y05sflt UNIQUE (code)
+) ENGINE=InnoDB;
+
+CREATE TABLE accounts (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    code VARCHAR(20) NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    account_type ENUM ('ASSET','LIABILITY','EQUITY','REVENUE','EXPENSE') NOT NULL,
+    parent_id BIGINT,
+    currency_id BIGINT,
+    description TEXT,
+    is_active BIT,
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT UK_p2jd4db8821l8voctujboa9oh UNIQUE (code),
+    CONSTRAINT FK7iek2tl1ntnp3yyks15odo4h2 FOREIGN KEY (parent_id) REFERENCES accounts (id),
+    CONSTRAINT FKs08d0ccyak63pou9tfk093dbk FOREIGN KEY (currency_id) REFERENCES currencies (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE customers (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    code VARCHAR(20) NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    email VARCHAR(100),
+    phone VARCHAR(20),
+    address TEXT,
+    tax_id VARCHAR(50),
+    account_id BIGINT,
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT UK_mkwx1x9mthieapj92cpxq5msc UNIQUE (code),
+    CONSTRAINT FKor0fx9fttvasr4grtaqnltyrl FOREIGN KEY (account_id) REFERENCES accounts (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE vendors (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    code VARCHAR(20) NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    email VARCHAR(100),
+    phone VARCHAR(20),
+    address TEXT,
+    tax_id VARCHAR(50),
+    account_id BIGINT,
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT UK_40r1c97ake8kj5ggsfd4dbtwn UNIQUE (code),
+    CONSTRAINT FKln9wktifla8yo87s4k4yqxf6x FOREIGN KEY (account_id) REFERENCES accounts (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE fiscal_years (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(50) NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    is_closed BIT,
+    closed_at DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE ledger_versions (
+    name VARCHAR(30) NOT NULL,
+    version BIGINT NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE=InnoDB;
+
+CREATE TABLE journal_entries (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    entry_number VARCHAR(20) NOT NULL,
+    entry_date DATE NOT NULL,
+    description TEXT,
+    reference VARCHAR(100),
+    status ENUM ('DRAFT','POSTED','VOID'),
+    created_by BIGINT,
+    created_at DATETIME(6),
+    posted_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT UK_6vtg8oj18vbcqphqfokc7qtvf UNIQUE (entry_number),
+    CONSTRAINT FKl534qxwkwnitlrk9rw4hxywtw FOREIGN KEY (created_by) REFERENCES users (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE journal_entry_lines (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    journal_entry_id BIGINT NOT NULL,
+    account_id BIGINT NOT NULL,
+    customer_id BIGINT,
+    debit_amount DECIMAL(15,2),
+    credit_amount DECIMAL(15,2),
+    currency_id BIGINT,
+    exchange_rate DECIMAL(15,6),
+    description VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT FKl0yqkqwya5s96hmxy9hq2c8yi FOREIGN KEY (journal_entry_id) REFERENCES journal_entries (id),
+    CONSTRAINT FK3t3uhyexb3kw2t2xid4fjn9wx FOREIGN KEY (account_id) REFERENCES accounts (id),
+    CONSTRAINT FKprgenuc4q6fx6q4inx2tove8n FOREIGN KEY (customer_id) REFERENCES customers (id),
+    CONSTRAINT FK4ba8adn4urws4jeuof97wwrxa FOREIGN KEY (currency_id) REFERENCES currencies (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE invoices (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    invoice_number VARCHAR(20) NOT NULL,
+    customer_id BIGINT NOT NULL,
+    invoice_date DATE NOT NULL,
+    due_date DATE,
+    paid_date DATE,
+    subtotal DECIMAL(15,2),
+    tax_amount DECIMAL(15,2),
+    total_amount DECIMAL(15,2),
+    currency_id BIGINT,
+    status ENUM ('DRAFT','SENT','PAID','OVERDUE','CANCELLED'),
+    notes TEXT,
+    journal_entry_id BIGINT,
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT UK_l1x55mfsay7co0r3m9ynvipd5 UNIQUE (invoice_number),
+    CONSTRAINT FKq2w4hmh6l9othnp6cepp0cfe2 FOREIGN KEY (customer_id) REFERENCES customers (id),
+    CONSTRAINT FKnursouj8rdcakpt1fj9ndcgf5 FOREIGN KEY (currency_id) REFERENCES currencies (id),
+    CONSTRAINT FKqbk6vc5db6xrblmpdbipbctck FOREIGN KEY (journal_entry_id) REFERENCES journal_entries (id)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_invoices_customer_date ON invoices (customer_id, invoice_date);
+CREATE INDEX idx_invoices_customer_paid_date ON invoices (customer_id, paid_date);
+
+CREATE TABLE invoice_items (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    invoice_id BIGINT NOT NULL,
+    description VARCHAR(255) NOT NULL,
+    quantity DECIMAL(10,2),
+    unit_price DECIMAL(15,2),
+    amount DECIMAL(15,2),
+    account_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT FK46ae0lhu1oqs7cv91fn6y9n7w FOREIGN KEY (invoice_id) REFERENCES invoices (id),
+    CONSTRAINT FK55o9xbqs7fyl5pd0d7tnjfed2 FOREIGN KEY (account_id) REFERENCES accounts (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE bank_accounts (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    account_name VARCHAR(100) NOT NULL,
+    account_number VARCHAR(50),
+    bank_name VARCHAR(100),
+    gl_account_id BIGINT,
+    currency_id BIGINT,
+    opening_balance DECIMAL(15,2),
+    current_balance DECIMAL(15,2),
+    is_active BIT,
+    PRIMARY KEY (id),
+    CONSTRAINT FKa1yqhm4k7cukqr564tevgig7k FOREIGN KEY (gl_account_id) REFERENCES accounts (id),
+    CONSTRAINT FKbtg2tqrm2cckpclh2e4f74nbx FOREIGN KEY (currency_id) REFERENCES currencies (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE bank_statements (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    bank_account_id BIGINT NOT NULL,
+    statement_date DATE NOT NULL,
+    transaction_date DATE,
+    description VARCHAR(255),
+    reference VARCHAR(100),
+    debit_amount DECIMAL(15,2),
+    credit_amount DECIMAL(15,2),
+    balance DECIMAL(15,2),
+    is_reconciled BIT,
+    matched_journal_line_id BIGINT,
+    imported_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT FKg6o7lelqagocqkpwi64sb94h9 FOREIGN KEY (bank_account_id) REFERENCES bank_accounts (id),
+    CONSTRAINT FKo1l2k65istx2hc15yp1feuh40 FOREIGN KEY (matched_journal_line_id) REFERENCES journal_entry_lines (id)
+) ENGINE=InnoDB;
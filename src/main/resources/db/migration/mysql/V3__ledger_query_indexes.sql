@@ -0,0 +1,26 @@
+-- Composite indexes for the ledger, report, receivables and reconciliation queries
+-- Where a composite index leads with a foreign key column it replaces that key's single-column index
+
+-- Account ledgers and balances: lines for one account, joined to their entry
+CREATE INDEX idx_journal_entry_lines_account_entry ON journal_entry_lines (account_id, journal_entry_id);
+DROP INDEX FK3t3uhyexb3kw2t2xid4fjn9wx ON journal_entry_lines;
+
+-- Posted entries in a date range, ordered by date and entry number
+CREATE INDEX idx_journal_entries_status_date_number ON journal_entries (status, entry_date, entry_number);
+
+-- Consolidated invoice posting looks up the posted entry for a day by reference
+CREATE INDEX idx_journal_entries_reference_status ON journal_entries (reference, status);
+
+-- Overdue invoice sweep
+CREATE INDEX idx_invoices_status_due_date ON invoices (status, due_date);
+
+-- Customer statement openings and activity, invoice list filters
+CREATE INDEX idx_invoices_status_invoice_date ON invoices (status, invoice_date);
+CREATE INDEX idx_invoices_status_paid_date ON invoices (status, paid_date);
+
+-- Unreconciled bank lines in transaction order, reconciled balance
+CREATE INDEX idx_bank_statements_account_reconciled_date ON bank_statements (bank_account_id, is_reconciled, transaction_date);
+DROP INDEX FKg6o7lelqagocqkpwi64sb94h9 ON bank_statements;
+
+-- Bank statement lines for a statement period
+CREATE INDEX idx_bank_statements_account_statement_date ON bank_statements (bank_account_id, statement_date);
@@ -0,0 +1,19 @@
+-- Posting date and status copied from the entry so account balances and ledgers read the lines table alone
+
+ALTER TABLE journal_entry_lines
+    ADD COLUMN entry_date DATE,
+    ADD COLUMN posted BIT NOT NULL DEFAULT 0;
+
+UPDATE journal_entry_lines jl
+    JOIN journal_entries je ON je.id = jl.journal_entry_id
+SET jl.entry_date = je.entry_date,
+    jl.posted = (je.status = 'POSTED');
+
+ALTER TABLE journal_entry_lines
+    MODIFY COLUMN entry_date DATE NOT NULL,
+    ALTER COLUMN posted DROP DEFAULT;
+
+-- Covering index for posted balances by account and date; replaces the account and entry index
+CREATE INDEX idx_journal_entry_lines_account_posted_date
+    ON journal_entry_lines (account_id, posted, entry_date, debit_amount, credit_amount);
+DROP INDEX idx_journal_entry_lines_account_entry ON journal_entry_lines;
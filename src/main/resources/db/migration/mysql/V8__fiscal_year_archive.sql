@@ -0,0 +1,5 @@
+-- Cold archive: closed fiscal years whose posted lines moved out of journal_entry_lines into a segment file
+
+ALTER TABLE fiscal_years ADD COLUMN archived_at DATETIME(6);
+ALTER TABLE fiscal_years ADD COLUMN archive_file VARCHAR(255);
+ALTER TABLE fiscal_years ADD COLUMN archived_line_count INT;
@@ -0,0 +1,148 @@
+package com.accounting.archive;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LedgerSegment Unit Tests")
+class LedgerSegmentTest {
+
+    private static final LocalDate START = LocalDate.of(2023, 1, 1);
+    private static final LocalDate END = LocalDate.of(2023, 12, 31);
+
+    @TempDir
+    Path directory;
+
+    private List<ArchivedLine> lines(int accounts, int perAccount) {
+        List<ArchivedLine> lines = new ArrayList<>();
+        long id = 1;
+        for (long account = 1; account <= accounts; account++) {
+            for (int i = 0; i < perAccount; i++) {
+                boolean debit = i % 3 != 0;
+                BigDecimal amount = BigDecimal.valueOf(100 + i * 7L + account, 2);
+                BigDecimal zero = BigDecimal.valueOf(0, 2);
+                lines.add(new ArchivedLine(id++, 1000 + i, account, START.plusDays(i % 365),
+                        debit ? amount : zero, debit ? zero : amount,
+                        i % 5 == 0 ? 2L : null, new BigDecimal(i % 5 == 0 ? "1.085000" : "1.000000"),
+                        i % 4 == 0 ? 7L : null, i % 2 == 0 ? "Line " + i + " für " + account : null));
+            }
+        }
+        lines.sort((a, b) -> a.getAccountId() != b.getAccountId()
+                ? Long.compare(a.getAccountId(), b.getAccountId())
+                : a.getEntryDate().compareTo(b.getEntryDate()));
+        return lines;
+    }
+
+    private LedgerSegment write(List<ArchivedLine> lines) throws IOException {
+        Path file = directory.resolve("segment.seg");
+        try (LedgerSegmentWriter writer = new LedgerSegmentWriter(file, 42L, START, END)) {
+            for (ArchivedLine line : lines) {
+                writer.append(line);
+            }
+            assertThat(writer.finish()).isEqualTo(lines.size());
+        }
+        return LedgerSegment.open(file);
+    }
+
+    private BigDecimal[] expected(List<ArchivedLine> lines, long accountId, LocalDate from, LocalDate to) {
+        BigDecimal debit = BigDecimal.ZERO;
+        BigDecimal credit = BigDecimal.ZERO;
+        for (ArchivedLine line : lines) {
+            if (line.getAccountId() == accountId && !line.getEntryDate().isBefore(from) && !line.getEntryDate().isAfter(to)) {
+                debit = debit.add(line.getDebitAmount());
+                credit = credit.add(line.getCreditAmount());
+            }
+        }
+        return new BigDecimal[] {debit, credit};
+    }
+
+    @Nested
+    @DisplayName("Round Trip")
+    class RoundTrip {
+
+        @Test
+        @DisplayName("Should read back every column across several compressed blocks")
+        void scanAll_ReturnsWrittenLines() throws IOException {
+            List<ArchivedLine> lines = lines(3, 5000);
+
+            LedgerSegment segment = write(lines);
+            List<ArchivedLine> read = new ArrayList<>();
+            segment.scanAll(read::add);
+
+            assertThat(segment.getFiscalYearId()).isEqualTo(42L);
+            assertThat(segment.getStartDate()).isEqualTo(START);
+            assertThat(segment.getEndDate()).isEqualTo(END);
+            assertThat(read).hasSize(lines.size());
+            assertThat(read).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(lines);
+        }
+
+        @Test
+        @DisplayName("Should sum partial date ranges the same as the lines themselves")
+        void sum_PartialRanges_MatchesLines() throws IOException {
+            List<ArchivedLine> lines = lines(3, 5000);
+            LedgerSegment segment = write(lines);
+
+            for (long account = 1; account <= 3; account++) {
+                for (LocalDate[] range : new LocalDate[][] {
+                        {START, END}, {LocalDate.of(2023, 3, 1), LocalDate.of(2023, 6, 30)}, {START, START}}) {
+                    LedgerSegment.Totals totals = new LedgerSegment.Totals();
+                    segment.sum(account, range[0], range[1], totals);
+                    BigDecimal[] expected = expected(lines, account, range[0], range[1]);
+
+                    assertThat(totals.getDebitAmount()).isEqualByComparingTo(expected[0]);
+                    assertThat(totals.getCreditAmount()).isEqualByComparingTo(expected[1]);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should scan only the requested account and dates")
+        void scan_AccountAndRange_FiltersLines() throws IOException {
+            List<ArchivedLine> lines = lines(3, 500);
+            LedgerSegment segment = write(lines);
+            LocalDate from = LocalDate.of(2023, 2, 1);
+            LocalDate to = LocalDate.of(2023, 2, 28);
+
+            List<ArchivedLine> read = new ArrayList<>();
+            segment.scan(2L, from, to, read::add);
+
+            assertThat(read).isNotEmpty();
+            assertThat(read).allSatisfy(line -> {
+                assertThat(line.getAccountId()).isEqualTo(2L);
+                assertThat(line.getEntryDate()).isBetween(from, to);
+            });
+            assertThat(read).hasSize((int) lines.stream()
+                    .filter(line -> line.getAccountId() == 2L && !line.getEntryDate().isBefore(from) && !line.getEntryDate().isAfter(to))
+                    .count());
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation")
+    class Validation {
+
+        @Test
+        @DisplayName("Should reject lines that are not in account order")
+        void append_OutOfOrder_ThrowsException() throws IOException {
+            try (LedgerSegmentWriter writer = new LedgerSegmentWriter(directory.resolve("bad.seg"), 1L, START, END)) {
+                writer.append(new ArchivedLine(1, 1, 5, START, BigDecimal.ONE, BigDecimal.ZERO, null, null, null, null));
+
+                assertThatThrownBy(() -> writer.append(
+                        new ArchivedLine(2, 1, 4, START, BigDecimal.ONE, BigDecimal.ZERO, null, null, null, null)))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessageContaining("account order");
+            }
+        }
+    }
+}
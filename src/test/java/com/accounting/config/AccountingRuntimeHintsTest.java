@@ -0,0 +1,89 @@
+package com.accounting.config;
+
+import com.accounting.dto.InvoiceSummaryDTO;
+import com.accounting.dto.JournalEntryDTO;
+import com.accounting.event.EntryEvent;
+import com.accounting.model.Account;
+import com.accounting.model.AccountType;
+import com.accounting.model.JournalEntryLine;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Accounting Runtime Hints Tests")
+class AccountingRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new AccountingRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Nested
+    @DisplayName("Reflection")
+    class Reflection {
+
+        @Test
+        @DisplayName("Should expose entity fields and Lombok accessors")
+        void entities_FieldsAndAccessors() {
+            assertThat(RuntimeHintsPredicates.reflection().onType(Account.class)
+                    .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                    .accepts(hints);
+            assertThat(RuntimeHintsPredicates.reflection().onMethod(Account.class, "getCode")).accepts(hints);
+            assertThat(RuntimeHintsPredicates.reflection().onMethod(JournalEntryLine.class, "setDebitAmount")).accepts(hints);
+            assertThat(RuntimeHintsPredicates.reflection().onType(AccountType.class)
+                    .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS)).accepts(hints);
+        }
+
+        @Test
+        @DisplayName("Should bind DTOs, nested DTOs and event records")
+        void dtosAndEvents_Bound() {
+            assertThat(RuntimeHintsPredicates.reflection().onMethod(InvoiceSummaryDTO.class, "isOverdue")).accepts(hints);
+            assertThat(RuntimeHintsPredicates.reflection().onMethod(JournalEntryDTO.JournalEntryLineDTO.class, "getAccountCode"))
+                    .accepts(hints);
+            assertThat(RuntimeHintsPredicates.reflection().onMethod(EntryEvent.Line.class, "accountId")).accepts(hints);
+        }
+
+        @Test
+        @DisplayName("Should let Hibernate and Thymeleaf instantiate and call what they load by name")
+        void loadedByName_Registered() {
+            assertThat(RuntimeHintsPredicates.reflection().onType(CaffeineRegionFactory.class)
+                    .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+            assertThat(RuntimeHintsPredicates.reflection().onType(TypeReference.of("org.thymeleaf.expression.Numbers"))
+                    .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS)).accepts(hints);
+        }
+    }
+
+    @Nested
+    @DisplayName("Proxies and Resources")
+    class ProxiesAndResources {
+
+        @Test
+        @DisplayName("Should register the JDBC proxies used for statement counting")
+        void jdbcProxies_Registered() {
+            assertThat(RuntimeHintsPredicates.proxies().forInterfaces(ProxyJdbcObject.class, Connection.class)).accepts(hints);
+            assertThat(RuntimeHintsPredicates.proxies().forInterfaces(ProxyJdbcObject.class, PreparedStatement.class)).accepts(hints);
+            assertThat(RuntimeHintsPredicates.proxies().forInterfaces(ProxyJdbcObject.class, ResultSet.class)).accepts(hints);
+        }
+
+        @Test
+        @DisplayName("Should include the Caffeine JCache defaults")
+        void caffeineReferenceConfig_Registered() {
+            assertThat(RuntimeHintsPredicates.resource().forResource("reference.conf")).accepts(hints);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.accounting.controller;
 
+import com.accounting.dto.AccountSummaryDTO;
 import com.accounting.model.Account;
 import com.accounting.model.AccountType;
 import com.accounting.service.AccountService;
@@ -12,6 +13,10 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -19,7 +24,10 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.util.Arrays;
 import java.util.Optional;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -47,6 +55,11 @@ class AccountControllerTest {
         revenueAccount = TestDataBuilder.createSalesRevenue();
     }
 
+    private AccountSummaryDTO summary(Account account) {
+        return new AccountSummaryDTO(account.getId(), account.getCode(), account.getName(), account.getDescription(),
+                account.getAccountType(), null, account.getIsActive());
+    }
+
     @Nested
     @DisplayName("List Accounts")
     class ListAccounts {
@@ -55,7 +68,8 @@ class AccountControllerTest {
         @WithMockUser(username = "testuser", roles = {"USER"})
         @DisplayName("Should display accounts list")
         void listAccounts_ReturnsAccountsListView() throws Exception {
-            when(accountService.findAllActive()).thenReturn(Arrays.asList(cashAccount, revenueAccount));
+            when(accountService.findSummaries(isNull(), eq(true), isNull(), any(Pageable.class)))
+                    .thenReturn(new PageImpl<>(Arrays.asList(summary(cashAccount), summary(revenueAccount))));
 
             mockMvc.perform(get("/accounts"))
                     .andExpect(status().isOk())
@@ -63,6 +77,22 @@ class AccountControllerTest {
                     .andExpect(model().attributeExists("accounts"));
         }
 
+        @Test
+        @WithMockUser(username = "testuser", roles = {"USER"})
+        @DisplayName("Should request the chosen page of accounts of one type ordered by code")
+        void listByType_WithPage_RequestsPageOfType() throws Exception {
+            when(accountService.findSummaries(eq(AccountType.REVENUE), eq(true), isNull(), any(Pageable.class)))
+                    .thenReturn(new PageImpl<>(Arrays.asList(summary(revenueAccount)), PageRequest.of(2, 50), 101));
+
+            mockMvc.perform(get("/accounts/by-type/revenue").param("page", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(view().name("accounts/list"))
+                    .andExpect(model().attribute("selectedType", AccountType.REVENUE))
+                    .andExpect(content().string(containsString("/accounts/by-type/REVENUE?page=1")));
+
+            verify(accountService).findSummaries(AccountType.REVENUE, true, null, PageRequest.of(2, 50, Sort.by("code")));
+        }
+
         @Test
         @DisplayName("Should return unauthorized when not authenticated")
         void listAccounts_NotAuthenticated_ReturnsUnauthorized() throws Exception {
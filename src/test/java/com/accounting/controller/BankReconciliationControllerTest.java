@@ -1,5 +1,6 @@
 package com.accounting.controller;
 
+import com.accounting.dto.BankStatementSummaryDTO;
 import com.accounting.model.*;
 import com.accounting.service.AccountService;
 import com.accounting.service.BankReconciliationService;
@@ -12,6 +13,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -24,6 +30,7 @@ import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -56,6 +63,11 @@ class BankReconciliationControllerTest {
         bankStatement = TestDataBuilder.createBankStatement(1L, bankAccount, BigDecimal.valueOf(1000));
     }
 
+    private BankStatementSummaryDTO summary(BankStatement statement) {
+        return new BankStatementSummaryDTO(statement.getId(), statement.getStatementDate(), statement.getDescription(),
+                statement.getReference(), statement.getDebitAmount(), statement.getCreditAmount(), statement.getIsReconciled());
+    }
+
     @Nested
     @DisplayName("Bank Accounts List")
     class BankAccountsList {
@@ -176,10 +188,10 @@ class BankReconciliationControllerTest {
         void reconcile_ValidBankAccount_ReturnsReconciliationView() throws Exception {
             when(bankReconciliationService.findBankAccountById(1L))
                     .thenReturn(Optional.of(bankAccount));
-            when(bankReconciliationService.findStatementsByDateRange(anyLong(), any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(Collections.singletonList(bankStatement));
-            when(bankReconciliationService.findUnreconciledStatements(1L))
-                    .thenReturn(Collections.singletonList(bankStatement));
+            when(bankReconciliationService.findStatementSummaries(anyLong(), any(LocalDate.class), any(LocalDate.class), any(Pageable.class)))
+                    .thenReturn(new PageImpl<>(Collections.singletonList(summary(bankStatement))));
+            when(bankReconciliationService.findUnreconciledSummaries(eq(1L), any(Pageable.class)))
+                    .thenReturn(new PageImpl<>(Collections.singletonList(summary(bankStatement))));
             when(bankReconciliationService.getReconciledBalance(1L))
                     .thenReturn(BigDecimal.valueOf(5000));
 
@@ -201,22 +213,24 @@ class BankReconciliationControllerTest {
 
             when(bankReconciliationService.findBankAccountById(1L))
                     .thenReturn(Optional.of(bankAccount));
-            when(bankReconciliationService.findStatementsByDateRange(1L, startDate, endDate))
-                    .thenReturn(Collections.singletonList(bankStatement));
-            when(bankReconciliationService.findUnreconciledStatements(1L))
-                    .thenReturn(Collections.emptyList());
+            when(bankReconciliationService.findStatementSummaries(eq(1L), eq(startDate), eq(endDate), any(Pageable.class)))
+                    .thenReturn(new PageImpl<>(Collections.singletonList(summary(bankStatement)), PageRequest.of(1, 50), 120));
+            when(bankReconciliationService.findUnreconciledSummaries(eq(1L), any(Pageable.class)))
+                    .thenReturn(Page.empty());
             when(bankReconciliationService.getReconciledBalance(1L))
                     .thenReturn(BigDecimal.valueOf(5000));
 
             mockMvc.perform(get("/bank/reconciliation/1")
                             .param("startDate", "2026-01-01")
-                            .param("endDate", "2026-01-31"))
+                            .param("endDate", "2026-01-31")
+                            .param("page", "1"))
                     .andExpect(status().isOk())
                     .andExpect(view().name("bank/reconciliation"))
                     .andExpect(model().attribute("startDate", startDate))
                     .andExpect(model().attribute("endDate", endDate));
 
-            verify(bankReconciliationService).findStatementsByDateRange(1L, startDate, endDate);
+            verify(bankReconciliationService).findStatementSummaries(1L, startDate, endDate,
+                    PageRequest.of(1, 50, Sort.by("transactionDate", "id")));
         }
     }
 
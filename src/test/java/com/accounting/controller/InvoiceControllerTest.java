@@ -1,7 +1,11 @@
 package com.accounting.controller;
 
+import com.accounting.dto.BillingRunDTO;
+import com.accounting.dto.BillingRunResultDTO;
+import com.accounting.dto.InvoiceSummaryDTO;
 import com.accounting.model.*;
 import com.accounting.service.AccountService;
+import com.accounting.service.BillingRunService;
 import com.accounting.service.CurrencyService;
 import com.accounting.service.InvoiceService;
 import com.accounting.util.TestDataBuilder;
@@ -12,6 +16,10 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -22,8 +30,11 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Optional;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -45,6 +56,9 @@ class InvoiceControllerTest {
     @MockBean
     private CurrencyService currencyService;
 
+    @MockBean
+    private BillingRunService billingRunService;
+
     private Invoice draftInvoice;
     private Invoice sentInvoice;
     private Customer testCustomer;
@@ -58,6 +72,11 @@ class InvoiceControllerTest {
         sentInvoice.setCustomer(testCustomer);
     }
 
+    private InvoiceSummaryDTO summary(Invoice invoice) {
+        return new InvoiceSummaryDTO(invoice.getId(), invoice.getInvoiceNumber(), testCustomer.getId(), testCustomer.getName(),
+                invoice.getInvoiceDate(), invoice.getDueDate(), invoice.getStatus(), invoice.getTotalAmount(), invoice.getPaidDate());
+    }
+
     @Nested
     @DisplayName("List Invoices")
     class ListInvoices {
@@ -66,7 +85,8 @@ class InvoiceControllerTest {
         @WithMockUser(username = "testuser", roles = {"USER"})
         @DisplayName("Should display invoices list")
         void listInvoices_ReturnsInvoicesListView() throws Exception {
-            when(invoiceService.findAll()).thenReturn(Arrays.asList(draftInvoice, sentInvoice));
+            when(invoiceService.findSummaries(isNull(), isNull(), isNull(), isNull(), any(Pageable.class)))
+                    .thenReturn(new PageImpl<>(Arrays.asList(summary(draftInvoice), summary(sentInvoice))));
 
             mockMvc.perform(get("/invoices"))
                     .andExpect(status().isOk())
@@ -79,15 +99,17 @@ class InvoiceControllerTest {
         @WithMockUser(username = "testuser", roles = {"USER"})
         @DisplayName("Should filter invoices by status")
         void listInvoices_WithStatusFilter_ReturnsFilteredInvoices() throws Exception {
-            when(invoiceService.findByStatus(InvoiceStatus.DRAFT))
-                    .thenReturn(Collections.singletonList(draftInvoice));
+            when(invoiceService.findSummaries(eq(InvoiceStatus.DRAFT), isNull(), isNull(), isNull(), any(Pageable.class)))
+                    .thenReturn(new PageImpl<>(Collections.singletonList(summary(draftInvoice)), PageRequest.of(1, 20), 41));
 
-            mockMvc.perform(get("/invoices").param("status", "DRAFT"))
+            mockMvc.perform(get("/invoices").param("status", "DRAFT").param("page", "1"))
                     .andExpect(status().isOk())
                     .andExpect(view().name("invoices/list"))
-                    .andExpect(model().attribute("selectedStatus", "DRAFT"));
+                    .andExpect(model().attribute("selectedStatus", "DRAFT"))
+                    .andExpect(content().string(containsString("/invoices?status=DRAFT&amp;page=2")));
 
-            verify(invoiceService).findByStatus(InvoiceStatus.DRAFT);
+            verify(invoiceService).findSummaries(InvoiceStatus.DRAFT, null, null, null,
+                    PageRequest.of(1, 20, Sort.by(Sort.Direction.DESC, "invoiceDate", "invoiceNumber")));
         }
 
         @Test
@@ -311,4 +333,34 @@ class InvoiceControllerTest {
                     .andExpect(model().attributeExists("customer"));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Billing Run")
+    class BillingRun {
+
+        @Test
+        @WithMockUser(username = "testuser", roles = {"ACCOUNTANT"})
+        @DisplayName("Should run billing and return throughput summary")
+        void billingRun_ValidRequest_ReturnsSummary() throws Exception {
+            BillingRunResultDTO result = new BillingRunResultDTO();
+            result.setInvoiceCount(2);
+            result.setJournalEntryCount(2);
+            result.setChunkCount(1);
+            result.setTotalAmount(new BigDecimal("300.00"));
+            result.setElapsedMillis(40);
+            when(billingRunService.run(any(BillingRunDTO.class))).thenReturn(result);
+
+            mockMvc.perform(post("/invoices/billing-run")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"invoiceDate\":\"2026-01-31\",\"invoices\":[" +
+                                    "{\"customerId\":1,\"items\":[{\"description\":\"Plan\",\"unitPrice\":150}]}," +
+                                    "{\"customerId\":2,\"items\":[{\"description\":\"Plan\",\"unitPrice\":150}]}]}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.invoiceCount").value(2))
+                    .andExpect(jsonPath("$.invoicesPerSecond").value(50.0));
+
+            verify(billingRunService).run(argThat(run -> run.getInvoices().size() == 2 && run.isSend()));
+        }
+    }
+}
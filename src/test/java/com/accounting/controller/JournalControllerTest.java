@@ -3,7 +3,9 @@ package com.accounting.controller;
 import com.accounting.dto.JournalEntryDTO;
 import com.accounting.model.*;
 import com.accounting.service.AccountService;
+import com.accounting.service.InvoiceService;
 import com.accounting.service.JournalService;
+import com.accounting.service.UserService;
 import com.accounting.util.TestDataBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -43,6 +45,12 @@ class JournalControllerTest {
     @MockBean
     private AccountService accountService;
 
+    @MockBean
+    private InvoiceService invoiceService;
+
+    @MockBean
+    private UserService userService;
+
     private Account cashAccount;
     private Account revenueAccount;
     private JournalEntry draftEntry;
@@ -99,6 +107,21 @@ class JournalControllerTest {
                     .andExpect(view().name("journal/view"))
                     .andExpect(model().attributeExists("entry"));
         }
+
+        @Test
+        @WithMockUser(username = "testuser", roles = {"USER"})
+        @DisplayName("Should list invoices posted through the entry")
+        void viewJournalEntry_WithInvoices_AddsInvoicesToModel() throws Exception {
+            JournalEntry simpleEntry = TestDataBuilder.createPostedEntry();
+            simpleEntry.setLines(new ArrayList<>());
+            Invoice invoice = TestDataBuilder.createSentInvoice();
+            when(journalService.findByIdWithLines(1L)).thenReturn(Optional.of(simpleEntry));
+            when(invoiceService.findByJournalEntryId(1L)).thenReturn(Arrays.asList(invoice));
+
+            mockMvc.perform(get("/journal/view/1"))
+                    .andExpect(status().isOk())
+                    .andExpect(model().attribute("invoices", Arrays.asList(invoice)));
+        }
     }
 
     @Nested
@@ -1,12 +1,16 @@
 package com.accounting.controller;
 
+import com.accounting.dto.ArSubledgerDTO;
 import com.accounting.dto.BalanceSheetDTO;
+import com.accounting.dto.CustomerStatementDTO;
 import com.accounting.dto.LedgerDTO;
 import com.accounting.dto.ProfitLossDTO;
 import com.accounting.dto.TrialBalanceDTO;
 import com.accounting.model.Account;
 import com.accounting.model.AccountType;
 import com.accounting.service.AccountService;
+import com.accounting.service.CustomerStatementService;
+import com.accounting.service.InvoiceService;
 import com.accounting.service.LedgerService;
 import com.accounting.service.ReportService;
 import com.accounting.util.TestDataBuilder;
@@ -23,7 +27,9 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.function.Consumer;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
@@ -47,6 +53,12 @@ class ReportControllerTest {
     @MockBean
     private AccountService accountService;
 
+    @MockBean
+    private CustomerStatementService customerStatementService;
+
+    @MockBean
+    private InvoiceService invoiceService;
+
     private TrialBalanceDTO trialBalanceDTO;
     private ProfitLossDTO profitLossDTO;
     private BalanceSheetDTO balanceSheetDTO;
@@ -268,4 +280,83 @@ class ReportControllerTest {
             verify(ledgerService).generateLedger(eq(1L), any(LocalDate.class), any(LocalDate.class));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Customer Statement Report")
+    class CustomerStatementReport {
+
+        @Test
+        @WithMockUser(username = "testuser", roles = {"USER"})
+        @DisplayName("Should display customer statement for selected customer")
+        void customerStatement_CustomerSelected_ReturnsStatement() throws Exception {
+            CustomerStatementDTO statement = new CustomerStatementDTO();
+            statement.setCustomerId(1L);
+            statement.setCustomerCode("CUST001");
+            statement.setCustomerName("Test Customer");
+            statement.addLine(CustomerStatementDTO.StatementLineDTO.invoice(
+                    LocalDate.of(2026, 1, 5), 10L, "INV-202601-0001", BigDecimal.valueOf(500)));
+            statement.getLines().get(0).setRunningBalance(BigDecimal.valueOf(500));
+
+            when(invoiceService.findAllCustomers()).thenReturn(Arrays.asList(TestDataBuilder.createDefaultCustomer()));
+            when(customerStatementService.generateStatement(eq(1L), any(LocalDate.class), any(LocalDate.class)))
+                    .thenReturn(statement);
+
+            mockMvc.perform(get("/reports/customer-statement")
+                            .param("customerId", "1")
+                            .param("startDate", "2026-01-01")
+                            .param("endDate", "2026-01-31"))
+                    .andExpect(status().isOk())
+                    .andExpect(view().name("reports/customer-statement"))
+                    .andExpect(model().attribute("statement", statement))
+                    .andExpect(model().attribute("selectedCustomerId", 1L));
+        }
+
+        @Test
+        @WithMockUser(username = "testuser", roles = {"USER"})
+        @DisplayName("Should export all customer statements as CSV")
+        void exportCustomerStatements_WritesCsvRows() throws Exception {
+            doAnswer(invocation -> {
+                CustomerStatementDTO statement = new CustomerStatementDTO();
+                statement.setCustomerCode("CUST001");
+                statement.setCustomerName("Acme, Inc.");
+                statement.setStartDate(LocalDate.of(2026, 1, 1));
+                statement.setEndDate(LocalDate.of(2026, 1, 31));
+                statement.setOpeningBalance(BigDecimal.valueOf(100));
+                statement.setClosingBalance(BigDecimal.valueOf(100));
+                invocation.<Consumer<CustomerStatementDTO>>getArgument(2).accept(statement);
+                return null;
+            }).when(customerStatementService).streamStatements(any(LocalDate.class), any(LocalDate.class), any());
+
+            mockMvc.perform(get("/reports/customer-statements.csv")
+                            .param("startDate", "2026-01-01")
+                            .param("endDate", "2026-01-31"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                    .andExpect(content().string(containsString(
+                            "CUST001,\"Acme, Inc.\",2026-01-01,Opening Balance,,,,100")));
+        }
+    }
+
+    @Nested
+    @DisplayName("AR Subledger Report")
+    class ArSubledgerReport {
+
+        @Test
+        @WithMockUser(username = "testuser", roles = {"USER"})
+        @DisplayName("Should display AR subledger reconciliation")
+        void arSubledger_ReturnsSubledgerView() throws Exception {
+            ArSubledgerDTO subledger = new ArSubledgerDTO();
+            subledger.setAsOfDate(LocalDate.now());
+            subledger.setControlAccountCode("1200");
+            subledger.setControlAccountBalance(BigDecimal.valueOf(250));
+            subledger.addCustomer(new ArSubledgerDTO.CustomerBalanceDTO(1L, "CUST001", "Test Customer", BigDecimal.valueOf(250)));
+
+            when(customerStatementService.generateSubledger(any(LocalDate.class))).thenReturn(subledger);
+
+            mockMvc.perform(get("/reports/ar-subledger"))
+                    .andExpect(status().isOk())
+                    .andExpect(view().name("reports/ar-subledger"))
+                    .andExpect(model().attribute("subledger", subledger));
+        }
+    }
+}
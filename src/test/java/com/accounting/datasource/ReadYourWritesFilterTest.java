@@ -0,0 +1,68 @@
+package com.accounting.datasource;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReadYourWritesFilter Unit Tests")
+class ReadYourWritesFilterTest {
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(5));
+
+    private long lastWriteSeen(MockHttpServletRequest request) throws Exception {
+        AtomicLong seen = new AtomicLong(-1L);
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> seen.set(ReadYourWrites.current().getLastWrite()));
+        return seen.get();
+    }
+
+    @Nested
+    @DisplayName("Marker")
+    class Marker {
+
+        @Test
+        @DisplayName("Should read the marker from the header ahead of the cookie")
+        void doFilter_HeaderWinsOverCookie() throws Exception {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader(ReadYourWrites.HEADER, "200");
+            request.setCookies(new Cookie(ReadYourWrites.COOKIE, "100"));
+
+            assertThat(lastWriteSeen(request)).isEqualTo(200L);
+        }
+
+        @Test
+        @DisplayName("Should read the marker from the cookie")
+        void doFilter_Cookie() throws Exception {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.setCookies(new Cookie(ReadYourWrites.COOKIE, "100"));
+
+            assertThat(lastWriteSeen(request)).isEqualTo(100L);
+        }
+
+        @Test
+        @DisplayName("Should treat a missing or malformed marker as no recent write")
+        void doFilter_MalformedMarker() throws Exception {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader(ReadYourWrites.HEADER, "yesterday");
+
+            assertThat(lastWriteSeen(request)).isZero();
+            assertThat(lastWriteSeen(new MockHttpServletRequest())).isZero();
+        }
+
+        @Test
+        @DisplayName("Should unbind the marker after the request")
+        void doFilter_Unbinds() throws Exception {
+            lastWriteSeen(new MockHttpServletRequest());
+
+            assertThat(ReadYourWrites.current()).isNull();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.accounting.datasource;
+
+import com.accounting.datasource.ReplicaRoutingDataSource.Route;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("ReplicaRoutingDataSource Unit Tests")
+class ReplicaRoutingDataSourceTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(5);
+
+    private final AtomicLong millis = new AtomicLong(1_000_000L);
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        routing = new ReplicaRoutingDataSource(mock(DataSource.class), mock(DataSource.class), WINDOW, millis::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.bind(null);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.clear();
+    }
+
+    private ReadYourWrites client(long lastWrite, MockHttpServletResponse response) {
+        ReadYourWrites readYourWrites = new ReadYourWrites(lastWrite, response, WINDOW);
+        ReadYourWrites.bind(readYourWrites);
+        return readYourWrites;
+    }
+
+    private Route route(boolean readOnly) {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+        try {
+            Route route = routing.determineCurrentLookupKey();
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            return route;
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+            TransactionSynchronizationManager.clear();
+        }
+    }
+
+    @Nested
+    @DisplayName("Routing")
+    class Routing {
+
+        @Test
+        @DisplayName("Should send read-only transactions to the replica and everything else to the primary")
+        void determineRoute_ByTransactionType() {
+            client(0L, null);
+
+            assertThat(route(true)).isEqualTo(Route.REPLICA);
+            assertThat(routing.determineCurrentLookupKey()).isEqualTo(Route.PRIMARY);
+        }
+
+        @Test
+        @DisplayName("Should use the replica for reads outside a request")
+        void determineRoute_NoClient_UsesReplica() {
+            assertThat(route(true)).isEqualTo(Route.REPLICA);
+            assertThat(route(false)).isEqualTo(Route.PRIMARY);
+        }
+    }
+
+    @Nested
+    @DisplayName("Read-Your-Writes")
+    class Stickiness {
+
+        @Test
+        @DisplayName("Should keep a client's reads on the primary for the sticky window after a write")
+        void readAfterWrite_StaysOnPrimaryUntilWindowExpires() {
+            client(0L, null);
+            assertThat(route(false)).isEqualTo(Route.PRIMARY);
+
+            assertThat(route(true)).isEqualTo(Route.PRIMARY);
+
+            millis.addAndGet(Duration.ofSeconds(6).toMillis());
+            assertThat(route(true)).isEqualTo(Route.REPLICA);
+        }
+
+        @Test
+        @DisplayName("Should hand the last-write marker back to the client in a cookie and header")
+        void write_SetsMarkerOnResponse() {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            client(0L, response);
+
+            route(false);
+
+            assertThat(response.getHeader(ReadYourWrites.HEADER)).isEqualTo("1000000");
+            assertThat(response.getCookie(ReadYourWrites.COOKIE).getValue()).isEqualTo("1000000");
+            assertThat(response.getCookie(ReadYourWrites.COOKIE).isHttpOnly()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should not make other clients sticky")
+        void readAfterWrite_OtherClient_UsesReplica() {
+            ReadYourWrites alice = client(0L, null);
+            route(false);
+
+            client(0L, null);
+
+            assertThat(route(true)).isEqualTo(Route.REPLICA);
+            assertThat(routing.isSticky(alice)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should honour a recent marker from a write served by another node")
+        void readAfterWrite_MarkerFromOtherNode_UsesPrimary() {
+            client(millis.get() - 1_000L, null);
+
+            assertThat(route(true)).isEqualTo(Route.PRIMARY);
+        }
+
+        @Test
+        @DisplayName("Should ignore a marker too far in the future")
+        void futureMarker_UsesReplica() {
+            client(millis.get() + Duration.ofMinutes(1).toMillis(), null);
+
+            assertThat(route(true)).isEqualTo(Route.REPLICA);
+        }
+
+        @Test
+        @DisplayName("Should not become sticky when the write transaction does not commit")
+        void writeWithoutCommit_DoesNotStick() {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            client(0L, response);
+            TransactionSynchronizationManager.initSynchronization();
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+            routing.determineCurrentLookupKey();
+            TransactionSynchronizationManager.clearSynchronization();
+            TransactionSynchronizationManager.clear();
+
+            assertThat(route(true)).isEqualTo(Route.REPLICA);
+            assertThat(response.getHeader(ReadYourWrites.HEADER)).isNull();
+        }
+    }
+}
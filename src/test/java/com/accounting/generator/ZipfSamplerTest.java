@@ -0,0 +1,48 @@
+package com.accounting.generator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ZipfSampler Unit Tests")
+class ZipfSamplerTest {
+
+    @Test
+    @DisplayName("Should draw the same sequence for the same seed")
+    void sample_SameSeed_IsDeterministic() {
+        ZipfSampler sampler = new ZipfSampler(50, 1.1);
+        SplittableRandom first = new SplittableRandom(42);
+        SplittableRandom second = new SplittableRandom(42);
+
+        int[] a = IntStream.range(0, 1_000).map(i -> sampler.sample(first)).toArray();
+        int[] b = IntStream.range(0, 1_000).map(i -> sampler.sample(second)).toArray();
+
+        assertThat(a).isEqualTo(b);
+    }
+
+    @Test
+    @DisplayName("Should favour low ranks and stay within bounds")
+    void sample_FavoursLowRanks() {
+        ZipfSampler sampler = new ZipfSampler(100, 1.1);
+        SplittableRandom random = new SplittableRandom(7);
+        int[] hits = new int[100];
+
+        for (int i = 0; i < 100_000; i++) {
+            hits[sampler.sample(random)]++;
+        }
+
+        assertThat(hits[0]).isGreaterThan(hits[9] * 5);
+        assertThat(IntStream.of(hits).sum()).isEqualTo(100_000);
+    }
+
+    @Test
+    @DisplayName("Should reject an empty population")
+    void constructor_EmptyPopulation_Throws() {
+        assertThatThrownBy(() -> new ZipfSampler(0, 1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,164 @@
+package com.accounting.integration;
+
+import com.accounting.model.User;
+import com.accounting.security.AuthenticationCache;
+import com.accounting.service.UserService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrlPattern;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("API Token Integration Tests")
+class ApiTokenIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AuthenticationCache authenticationCache;
+
+    @BeforeEach
+    void setUp() {
+        authenticationCache.evictAll();
+        userService.createRoleIfNotExists("ACCOUNTANT");
+        User user = new User();
+        user.setUsername("apiclerk");
+        user.setEmail("apiclerk@example.com");
+        userService.createUser(user, "secret", "ACCOUNTANT");
+    }
+
+    private MvcResult requestToken(String username, String password) throws Exception {
+        return mockMvc.perform(post("/api/auth/token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                Map.of("username", username, "password", password))))
+                .andReturn();
+    }
+
+    private String issueToken() throws Exception {
+        MvcResult result = requestToken("apiclerk", "secret");
+        assertThat(result.getResponse().getStatus()).isEqualTo(200);
+        JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+        return body.get("accessToken").asText();
+    }
+
+    @Nested
+    @DisplayName("Token Issue")
+    class TokenIssue {
+
+        @Test
+        @DisplayName("Should issue a bearer token with role claims without creating a session")
+        void issueToken_ValidCredentials_ReturnsToken() throws Exception {
+            MvcResult result = requestToken("apiclerk", "secret");
+
+            assertThat(result.getResponse().getStatus()).isEqualTo(200);
+            JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+            assertThat(body.get("tokenType").asText()).isEqualTo("Bearer");
+            assertThat(body.get("roles").get(0).asText()).isEqualTo("ACCOUNTANT");
+            assertThat(result.getRequest().getSession(false)).isNull();
+        }
+
+        @Test
+        @DisplayName("Should return 401 for a wrong password")
+        void issueToken_WrongPassword_ReturnsUnauthorized() throws Exception {
+            MvcResult result = requestToken("apiclerk", "wrong");
+
+            assertThat(result.getResponse().getStatus()).isEqualTo(401);
+        }
+    }
+
+    @Nested
+    @DisplayName("Bearer Requests")
+    class BearerRequests {
+
+        @Test
+        @DisplayName("Should authenticate API requests from the token alone")
+        void me_WithToken_ReturnsClaims() throws Exception {
+            String token = issueToken();
+
+            mockMvc.perform(get("/api/auth/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.username").value("apiclerk"))
+                    .andExpect(jsonPath("$.roles[0]").value("ACCOUNTANT"));
+        }
+
+        @Test
+        @DisplayName("Should return 401 without a token")
+        void me_WithoutToken_ReturnsUnauthorized() throws Exception {
+            mockMvc.perform(get("/api/auth/me"))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        @Test
+        @DisplayName("Should return 401 for a tampered token")
+        void me_TamperedToken_ReturnsUnauthorized() throws Exception {
+            String token = issueToken();
+            String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+            mockMvc.perform(get("/api/auth/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + tampered))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        @Test
+        @DisplayName("Should stop accepting a token once the user's role changes or the user is disabled")
+        void me_AfterRoleChangeOrDisable_ReturnsUnauthorized() throws Exception {
+            Long userId = userService.findByUsername("apiclerk").orElseThrow().getId();
+            String token = issueToken();
+            userService.createRoleIfNotExists("VIEWER");
+
+            userService.changeRole(userId, "VIEWER");
+
+            mockMvc.perform(get("/api/auth/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                    .andExpect(status().isUnauthorized());
+
+            String reissued = issueToken();
+            mockMvc.perform(get("/api/auth/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + reissued))
+                    .andExpect(status().isOk());
+
+            userService.disableUser(userId);
+
+            mockMvc.perform(get("/api/auth/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + reissued))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        @Test
+        @DisplayName("Should not accept bearer tokens outside the API chain")
+        void dashboard_WithToken_IsNotAuthenticated() throws Exception {
+            String token = issueToken();
+
+            mockMvc.perform(get("/dashboard").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                    .andExpect(status().is3xxRedirection())
+                    .andExpect(redirectedUrlPattern("**/login"));
+        }
+    }
+}
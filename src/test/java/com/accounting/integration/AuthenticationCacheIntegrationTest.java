@@ -0,0 +1,146 @@
+package com.accounting.integration;
+
+import com.accounting.model.User;
+import com.accounting.repository.UserRepository;
+import com.accounting.security.AuthenticationCache;
+import com.accounting.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Authentication Cache Integration Tests")
+class AuthenticationCacheIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthenticationCache authenticationCache;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User admin;
+
+    @BeforeEach
+    void setUp() {
+        authenticationCache.evictAll();
+        userService.createRoleIfNotExists("ADMIN");
+        User user = new User();
+        user.setUsername("apiadmin");
+        user.setEmail("apiadmin@example.com");
+        admin = userService.createUser(user, "secret", "ADMIN");
+    }
+
+    // Not @Transactional: cache eviction only happens once the user change commits
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteById(admin.getId());
+        authenticationCache.evictAll();
+    }
+
+    private ResultActions requestToken(String password) throws Exception {
+        return mockMvc.perform(post("/api/auth/token")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("username", "apiadmin", "password", password))));
+    }
+
+    @Nested
+    @DisplayName("Repeated Logins")
+    class RepeatedLogins {
+
+        @Test
+        @DisplayName("Should serve repeated logins from the cache")
+        void login_RepeatedRequests_HitCache() throws Exception {
+            long hitsBefore = authenticationCache.getStats().getHitCount();
+
+            requestToken("secret").andExpect(status().isOk());
+            requestToken("secret")
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.roles[0]").value("ADMIN"));
+
+            assertThat(authenticationCache.getStats().getHitCount()).isEqualTo(hitsBefore + 1);
+            assertThat(authenticationCache.getStats().getSize()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should reject the old password after it is changed")
+        void login_AfterPasswordChange_RejectsOldPassword() throws Exception {
+            requestToken("secret").andExpect(status().isOk());
+
+            userService.changePassword(admin.getId(), "rotated");
+
+            requestToken("secret").andExpect(status().isUnauthorized());
+            requestToken("rotated").andExpect(status().isOk());
+        }
+
+        @Test
+        @DisplayName("Should keep the cached principal until the password change commits")
+        void changePassword_EvictsAfterCommit() throws Exception {
+            requestToken("secret").andExpect(status().isOk());
+
+            transactionTemplate.executeWithoutResult(status -> {
+                userService.changePassword(admin.getId(), "rotated");
+                assertThat(authenticationCache.get("apiadmin", "secret")).isNotNull();
+            });
+
+            assertThat(authenticationCache.get("apiadmin", "secret")).isNull();
+        }
+
+        @Test
+        @DisplayName("Should reject a cached user once disabled")
+        void login_AfterDisable_RejectsUser() throws Exception {
+            requestToken("secret").andExpect(status().isOk());
+
+            userService.disableUser(admin.getId());
+
+            requestToken("secret").andExpect(status().isUnauthorized());
+        }
+    }
+
+    @Nested
+    @DisplayName("Browser Chain")
+    class BrowserChain {
+
+        @Test
+        @DisplayName("Should not accept basic auth on the session-based pages")
+        void basicAuth_BrowserPages_RedirectsToLogin() throws Exception {
+            mockMvc.perform(get("/users/auth-cache").with(httpBasic("apiadmin", "secret")))
+                    .andExpect(status().is3xxRedirection());
+
+            assertThat(authenticationCache.getStats().getSize()).isZero();
+        }
+    }
+}
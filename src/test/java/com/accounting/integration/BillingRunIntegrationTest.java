@@ -0,0 +1,181 @@
+package com.accounting.integration;
+
+import com.accounting.dto.BillingRunDTO;
+import com.accounting.dto.BillingRunResultDTO;
+import com.accounting.exception.AccountingException;
+import com.accounting.model.*;
+import com.accounting.repository.*;
+import com.accounting.service.AccountService;
+import com.accounting.service.BillingRunService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Billing Run Integration Tests")
+class BillingRunIntegrationTest {
+
+    @Autowired
+    private BillingRunService billingRunService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private JournalEntryRepository journalEntryRepository;
+
+    private Account arAccount;
+    private Account revenueAccount;
+    private Customer firstCustomer;
+    private Customer secondCustomer;
+
+    @BeforeEach
+    void setUp() {
+        arAccount = createAccount("1200", "Accounts Receivable", AccountType.ASSET);
+        revenueAccount = createAccount("4000", "Sales Revenue", AccountType.REVENUE);
+        firstCustomer = createCustomer("CUST001", "First Customer");
+        secondCustomer = createCustomer("CUST002", "Second Customer");
+    }
+
+    private Account createAccount(String code, String name, AccountType type) {
+        Account account = new Account();
+        account.setCode(code);
+        account.setName(name);
+        account.setAccountType(type);
+        account.setIsActive(true);
+        return accountRepository.save(account);
+    }
+
+    private Customer createCustomer(String code, String name) {
+        Customer customer = new Customer();
+        customer.setCode(code);
+        customer.setName(name);
+        return customerRepository.save(customer);
+    }
+
+    private BillingRunDTO createRun(int invoiceCount, int chunkSize) {
+        BillingRunDTO run = new BillingRunDTO();
+        run.setInvoiceDate(LocalDate.now());
+        run.setDueDate(LocalDate.now().plusDays(30));
+        run.setChunkSize(chunkSize);
+
+        for (int i = 0; i < invoiceCount; i++) {
+            Customer customer = i % 2 == 0 ? firstCustomer : secondCustomer;
+            BillingRunDTO.BillingInvoiceDTO invoice = new BillingRunDTO.BillingInvoiceDTO(customer.getId());
+            invoice.addItem(new BillingRunDTO.BillingItemDTO("Subscription", BigDecimal.valueOf(2),
+                    BigDecimal.valueOf(50), revenueAccount.getId()));
+            invoice.addItem(new BillingRunDTO.BillingItemDTO("Support", BigDecimal.ONE,
+                    BigDecimal.valueOf(25), null));
+            run.addInvoice(invoice);
+        }
+        return run;
+    }
+
+    @Nested
+    @DisplayName("Create and Send")
+    class CreateAndSend {
+
+        @Test
+        @DisplayName("Should create and send all invoices across chunks")
+        void run_MultipleChunks_CreatesSentInvoicesWithJournalEntries() {
+            BillingRunResultDTO result = billingRunService.run(createRun(7, 3));
+
+            assertThat(result.getInvoiceCount()).isEqualTo(7);
+            assertThat(result.getJournalEntryCount()).isEqualTo(7);
+            assertThat(result.getChunkCount()).isEqualTo(3);
+            assertThat(result.getTotalAmount()).isEqualByComparingTo(BigDecimal.valueOf(875));
+            assertThat(result.getFirstInvoiceNumber()).endsWith("-0001");
+            assertThat(result.getLastInvoiceNumber()).endsWith("-0007");
+
+            List<Invoice> invoices = invoiceRepository.findByStatus(InvoiceStatus.SENT);
+            assertThat(invoices).hasSize(7);
+            assertThat(invoices).allSatisfy(invoice -> {
+                assertThat(invoice.getJournalEntry()).isNotNull();
+                assertThat(invoice.getTotalAmount()).isEqualByComparingTo(BigDecimal.valueOf(125));
+            });
+
+            Invoice reloaded = invoiceRepository.findByIdWithItems(invoices.get(0).getId()).orElseThrow();
+            assertThat(reloaded.getItems()).hasSize(2);
+
+            assertThat(journalEntryRepository.countByStatus(EntryStatus.POSTED)).isEqualTo(7L);
+            assertThat(accountService.getBalance(arAccount.getId())).isEqualByComparingTo(BigDecimal.valueOf(875));
+            assertThat(accountService.getBalance(revenueAccount.getId())).isEqualByComparingTo(BigDecimal.valueOf(875));
+        }
+
+        @Test
+        @DisplayName("Should continue numbering after existing invoices")
+        void run_ExistingInvoices_ContinuesNumberSequence() {
+            billingRunService.run(createRun(2, 10));
+
+            BillingRunResultDTO result = billingRunService.run(createRun(2, 10));
+
+            assertThat(result.getFirstInvoiceNumber()).endsWith("-0003");
+            assertThat(result.getLastInvoiceNumber()).endsWith("-0004");
+        }
+
+        @Test
+        @DisplayName("Should leave invoices as drafts when send is disabled")
+        void run_SendDisabled_CreatesDraftsWithoutJournalEntries() {
+            BillingRunDTO run = createRun(3, 10);
+            run.setSend(false);
+
+            BillingRunResultDTO result = billingRunService.run(run);
+
+            assertThat(result.getInvoiceCount()).isEqualTo(3);
+            assertThat(result.getJournalEntryCount()).isZero();
+            assertThat(invoiceRepository.findByStatus(InvoiceStatus.DRAFT)).hasSize(3);
+            assertThat(journalEntryRepository.count()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation")
+    class Validation {
+
+        @Test
+        @DisplayName("Should reject unknown customer before writing anything")
+        void run_UnknownCustomer_ThrowsException() {
+            BillingRunDTO run = createRun(1, 10);
+            run.getInvoices().get(0).setCustomerId(9999L);
+
+            assertThatThrownBy(() -> billingRunService.run(run))
+                    .isInstanceOf(AccountingException.class)
+                    .hasMessageContaining("Customer not found: 9999");
+            assertThat(invoiceRepository.count()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should reject empty billing run")
+        void run_NoInvoices_ThrowsException() {
+            BillingRunDTO run = new BillingRunDTO();
+            run.setInvoiceDate(LocalDate.now());
+
+            assertThatThrownBy(() -> billingRunService.run(run))
+                    .isInstanceOf(AccountingException.class)
+                    .hasMessageContaining("at least one invoice");
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.accounting.integration;
+
+import com.accounting.dto.BillingRunDTO;
+import com.accounting.dto.BillingRunResultDTO;
+import com.accounting.exception.AccountingException;
+import com.accounting.model.*;
+import com.accounting.repository.*;
+import com.accounting.service.AccountService;
+import com.accounting.service.BillingRunService;
+import com.accounting.service.ConsolidatedPostingService;
+import com.accounting.service.InvoiceService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "accounting.invoice.posting-mode=CONSOLIDATED")
+@Transactional
+@DisplayName("Consolidated Posting Integration Tests")
+class ConsolidatedPostingIntegrationTest {
+
+    @Autowired
+    private InvoiceService invoiceService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private JournalEntryRepository journalEntryRepository;
+
+    @Autowired
+    private ConsolidatedPostingService consolidatedPostingService;
+
+    @Autowired
+    private BillingRunService billingRunService;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    private Account arAccount;
+    private Account revenueAccount;
+    private Customer firstCustomer;
+    private Customer secondCustomer;
+
+    @BeforeEach
+    void setUp() {
+        arAccount = createAccount("1200", "Accounts Receivable", AccountType.ASSET);
+        revenueAccount = createAccount("4000", "Sales Revenue", AccountType.REVENUE);
+        firstCustomer = createCustomer("CUST001", "First Customer");
+        secondCustomer = createCustomer("CUST002", "Second Customer");
+    }
+
+    private Account createAccount(String code, String name, AccountType type) {
+        Account account = new Account();
+        account.setCode(code);
+        account.setName(name);
+        account.setAccountType(type);
+        account.setIsActive(true);
+        return accountRepository.save(account);
+    }
+
+    private Customer createCustomer(String code, String name) {
+        Customer customer = new Customer();
+        customer.setCode(code);
+        customer.setName(name);
+        return customerRepository.save(customer);
+    }
+
+    private Invoice invoice(Customer customer, BigDecimal amount, LocalDate invoiceDate) {
+        Invoice invoice = new Invoice();
+        invoice.setCustomer(customer);
+        invoice.setInvoiceDate(invoiceDate);
+        invoice.setTotalAmount(amount);
+        return invoice;
+    }
+
+    private Invoice sendInvoice(Customer customer, BigDecimal amount, LocalDate invoiceDate) {
+        Invoice invoice = new Invoice();
+        invoice.setCustomer(customer);
+        invoice.setInvoiceDate(invoiceDate);
+        invoice.setDueDate(invoiceDate.plusDays(30));
+        invoice.setItems(new ArrayList<>());
+
+        InvoiceItem item = new InvoiceItem();
+        item.setDescription("Test Service");
+        item.setQuantity(BigDecimal.ONE);
+        item.setUnitPrice(amount);
+        item.setAmount(amount);
+        invoice.addItem(item);
+
+        Invoice created = invoiceService.createInvoice(invoice);
+        return invoiceService.sendInvoice(created.getId());
+    }
+
+    @Nested
+    @DisplayName("Send Invoices")
+    class SendInvoices {
+
+        @Test
+        @DisplayName("Should post each send as a new summary entry and leave earlier ones untouched")
+        void sendInvoice_SameDay_PostsNewEntry() {
+            LocalDate today = LocalDate.now();
+            Invoice first = sendInvoice(firstCustomer, BigDecimal.valueOf(100), today);
+            Invoice second = sendInvoice(firstCustomer, BigDecimal.valueOf(200), today);
+
+            assertThat(second.getJournalEntry().getId()).isNotEqualTo(first.getJournalEntry().getId());
+            assertThat(consolidatedPostingService.isConsolidated(second.getJournalEntry())).isTrue();
+            assertThat(second.getRevenueAccount().getId()).isEqualTo(revenueAccount.getId());
+
+            JournalEntry entry = journalEntryRepository.findByIdWithLines(first.getJournalEntry().getId()).orElseThrow();
+            assertThat(entry.getStatus()).isEqualTo(EntryStatus.POSTED);
+            assertThat(entry.getLines()).hasSize(2);
+            assertThat(entry.getLines())
+                    .filteredOn(line -> line.getCustomer() != null)
+                    .singleElement()
+                    .satisfies(line -> assertThat(line.getDebitAmount()).isEqualByComparingTo(BigDecimal.valueOf(100)));
+
+            assertThat(invoiceService.findByJournalEntryId(entry.getId())).hasSize(1);
+            assertThat(accountService.getBalance(arAccount.getId())).isEqualByComparingTo(BigDecimal.valueOf(300));
+            assertThat(accountService.getBalance(revenueAccount.getId())).isEqualByComparingTo(BigDecimal.valueOf(300));
+        }
+
+        @Test
+        @DisplayName("Should summarize invoices of one day into a line per customer")
+        void summarize_SameDay_OneLinePerCustomer() {
+            LocalDate today = LocalDate.now();
+            List<Invoice> invoices = List.of(
+                    invoice(firstCustomer, BigDecimal.valueOf(100), today),
+                    invoice(firstCustomer, BigDecimal.valueOf(200), today),
+                    invoice(secondCustomer, BigDecimal.valueOf(300), today));
+
+            JournalEntry entry = consolidatedPostingService.summarize(invoices, arAccount, revenueAccount, "JE-SUMMARY");
+
+            assertThat(entry.getLines()).hasSize(3);
+            assertThat(entry.isBalanced()).isTrue();
+            assertThat(entry.getLines())
+                    .filteredOn(line -> line.getCustomer() != null && line.getCustomer().getId().equals(firstCustomer.getId()))
+                    .singleElement()
+                    .satisfies(line -> assertThat(line.getDebitAmount()).isEqualByComparingTo(BigDecimal.valueOf(300)));
+        }
+
+        @Test
+        @DisplayName("Should refuse to summarize invoices of different days")
+        void summarize_DifferentDays_ThrowsException() {
+            List<Invoice> invoices = List.of(
+                    invoice(firstCustomer, BigDecimal.valueOf(100), LocalDate.now()),
+                    invoice(firstCustomer, BigDecimal.valueOf(100), LocalDate.now().minusDays(1)));
+
+            assertThatThrownBy(() -> consolidatedPostingService.summarize(invoices, arAccount, revenueAccount, "JE-SUMMARY"))
+                    .isInstanceOf(AccountingException.class)
+                    .hasMessageContaining("is not dated");
+        }
+    }
+
+    @Nested
+    @DisplayName("Cancel Invoices")
+    class CancelInvoices {
+
+        @Test
+        @DisplayName("Should post a cancellation entry and leave the summary posted")
+        void cancelInvoice_ConsolidatedEntry_PostsCancellation() {
+            LocalDate today = LocalDate.now();
+            sendInvoice(firstCustomer, BigDecimal.valueOf(100), today);
+            Invoice second = sendInvoice(secondCustomer, BigDecimal.valueOf(250), today);
+
+            invoiceService.cancelInvoice(second.getId());
+
+            JournalEntry summary = journalEntryRepository.findByIdWithLines(second.getJournalEntry().getId()).orElseThrow();
+            assertThat(summary.getStatus()).isEqualTo(EntryStatus.POSTED);
+            assertThat(summary.getLines()).hasSize(2);
+            assertThat(summary.getLines()).allSatisfy(line ->
+                    assertThat(line.getAmount()).isEqualByComparingTo(BigDecimal.valueOf(250)));
+
+            JournalEntry cancellation = journalEntryRepository.findPostedByReferenceWithLines(
+                    "CXL-" + second.getInvoiceNumber()).orElseThrow();
+            assertThat(cancellation.getEntryDate()).isEqualTo(today);
+            assertThat(cancellation.isBalanced()).isTrue();
+            assertThat(cancellation.getLines())
+                    .filteredOn(line -> line.getCustomer() != null)
+                    .singleElement()
+                    .satisfies(line -> {
+                        assertThat(line.getCustomer().getId()).isEqualTo(secondCustomer.getId());
+                        assertThat(line.getCreditAmount()).isEqualByComparingTo(BigDecimal.valueOf(250));
+                    });
+            assertThat(accountService.getBalance(arAccount.getId())).isEqualByComparingTo(BigDecimal.valueOf(100));
+            assertThat(accountService.getBalance(revenueAccount.getId())).isEqualByComparingTo(BigDecimal.valueOf(100));
+        }
+
+        @Test
+        @DisplayName("Should net the ledger to zero once every invoice is cancelled")
+        void cancelInvoice_LastInvoice_NetsToZero() {
+            Invoice invoice = sendInvoice(firstCustomer, BigDecimal.valueOf(100), LocalDate.now());
+
+            invoiceService.cancelInvoice(invoice.getId());
+
+            JournalEntry summary = journalEntryRepository.findByIdWithLines(invoice.getJournalEntry().getId()).orElseThrow();
+            assertThat(summary.getStatus()).isEqualTo(EntryStatus.POSTED);
+            assertThat(journalEntryRepository.count()).isEqualTo(2L);
+            assertThat(accountService.getBalance(arAccount.getId())).isEqualByComparingTo(BigDecimal.ZERO);
+        }
+    }
+
+    @Nested
+    @DisplayName("Billing Runs")
+    class BillingRuns {
+
+        private BillingRunDTO createRun(int invoiceCount, int chunkSize) {
+            BillingRunDTO run = new BillingRunDTO();
+            run.setInvoiceDate(LocalDate.now());
+            run.setDueDate(LocalDate.now().plusDays(30));
+            run.setChunkSize(chunkSize);
+            for (int i = 0; i < invoiceCount; i++) {
+                Customer customer = i % 2 == 0 ? firstCustomer : secondCustomer;
+                BillingRunDTO.BillingInvoiceDTO invoice = new BillingRunDTO.BillingInvoiceDTO(customer.getId());
+                invoice.addItem(new BillingRunDTO.BillingItemDTO("Subscription", BigDecimal.ONE,
+                        BigDecimal.valueOf(100), revenueAccount.getId()));
+                run.addInvoice(invoice);
+            }
+            return run;
+        }
+
+        @Test
+        @DisplayName("Should post one summary entry per chunk")
+        void run_Consolidated_PostsOneEntryPerChunk() {
+            BillingRunResultDTO result = billingRunService.run(createRun(5, 3));
+
+            assertThat(result.getJournalEntryCount()).isEqualTo(2);
+            assertThat(journalEntryRepository.countByStatus(EntryStatus.POSTED)).isEqualTo(2L);
+
+            List<Invoice> invoices = invoiceRepository.findByStatus(InvoiceStatus.SENT);
+            assertThat(invoices).hasSize(5);
+            assertThat(invoices).allSatisfy(invoice ->
+                    assertThat(invoice.getRevenueAccount().getId()).isEqualTo(revenueAccount.getId()));
+
+            JournalEntry first = journalEntryRepository.findByIdWithLines(invoices.get(0).getJournalEntry().getId()).orElseThrow();
+            assertThat(consolidatedPostingService.isConsolidated(first)).isTrue();
+            assertThat(first.getLines()).hasSize(3);
+            assertThat(first.isBalanced()).isTrue();
+            assertThat(accountService.getBalance(arAccount.getId())).isEqualByComparingTo(BigDecimal.valueOf(500));
+        }
+
+        @Test
+        @DisplayName("Should cancel an invoice sent by a consolidated run")
+        void cancelInvoice_FromRun_PostsCancellation() {
+            billingRunService.run(createRun(2, 10));
+            Invoice invoice = invoiceRepository.findByStatus(InvoiceStatus.SENT).get(0);
+
+            invoiceService.cancelInvoice(invoice.getId());
+
+            assertThat(journalEntryRepository.countByStatus(EntryStatus.POSTED)).isEqualTo(2L);
+            assertThat(accountService.getBalance(arAccount.getId())).isEqualByComparingTo(BigDecimal.valueOf(100));
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.accounting.integration;
+
+import com.accounting.dto.ArSubledgerDTO;
+import com.accounting.dto.CustomerStatementDTO;
+import com.accounting.model.*;
+import com.accounting.repository.*;
+import com.accounting.service.CustomerStatementService;
+import com.accounting.service.InvoiceService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Customer Statement Integration Tests")
+class CustomerStatementIntegrationTest {
+
+    @Autowired
+    private CustomerStatementService customerStatementService;
+
+    @Autowired
+    private InvoiceService invoiceService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final LocalDate periodStart = LocalDate.now().minusDays(30);
+    private final LocalDate periodEnd = LocalDate.now();
+
+    private Customer firstCustomer;
+    private Customer secondCustomer;
+    private Customer thirdCustomer;
+
+    @BeforeEach
+    void setUp() {
+        createAccount("1000", "Cash", AccountType.ASSET);
+        createAccount("1200", "Accounts Receivable", AccountType.ASSET);
+        createAccount("4000", "Sales Revenue", AccountType.REVENUE);
+        firstCustomer = createCustomer("CUST001", "First Customer");
+        secondCustomer = createCustomer("CUST002", "Second Customer");
+        thirdCustomer = createCustomer("CUST003", "Third Customer");
+
+        Invoice openingInvoice = sendInvoice(firstCustomer, BigDecimal.valueOf(400), periodStart.minusDays(10));
+        invoiceService.markAsPaid(openingInvoice.getId(), periodStart.plusDays(2));
+        sendInvoice(firstCustomer, BigDecimal.valueOf(150), periodStart.plusDays(5));
+        sendInvoice(secondCustomer, BigDecimal.valueOf(75), periodStart.minusDays(5));
+        sendInvoice(thirdCustomer, BigDecimal.valueOf(60), periodStart.plusDays(1));
+        entityManager.flush();
+    }
+
+    private void createAccount(String code, String name, AccountType type) {
+        Account account = new Account();
+        account.setCode(code);
+        account.setName(name);
+        account.setAccountType(type);
+        account.setIsActive(true);
+        accountRepository.save(account);
+    }
+
+    private Customer createCustomer(String code, String name) {
+        Customer customer = new Customer();
+        customer.setCode(code);
+        customer.setName(name);
+        return customerRepository.save(customer);
+    }
+
+    private Invoice sendInvoice(Customer customer, BigDecimal amount, LocalDate invoiceDate) {
+        Invoice invoice = new Invoice();
+        invoice.setCustomer(customer);
+        invoice.setInvoiceDate(invoiceDate);
+        invoice.setDueDate(invoiceDate.plusDays(30));
+        invoice.setItems(new ArrayList<>());
+
+        InvoiceItem item = new InvoiceItem();
+        item.setDescription("Test Service");
+        item.setQuantity(BigDecimal.ONE);
+        item.setUnitPrice(amount);
+        item.setAmount(amount);
+        invoice.addItem(item);
+
+        Invoice created = invoiceService.createInvoice(invoice);
+        return invoiceService.sendInvoice(created.getId());
+    }
+
+    @Nested
+    @DisplayName("Single Customer Statement")
+    class SingleCustomerStatement {
+
+        @Test
+        @DisplayName("Should show opening balance, payments, invoices and running balance")
+        void generateStatement_ReturnsRunningBalance() {
+            CustomerStatementDTO statement = customerStatementService.generateStatement(
+                    firstCustomer.getId(), periodStart, periodEnd);
+
+            assertThat(statement.getOpeningBalance()).isEqualByComparingTo(BigDecimal.valueOf(400));
+            assertThat(statement.getLines()).extracting(CustomerStatementDTO.StatementLineDTO::getType)
+                    .containsExactly("Payment", "Invoice");
+            assertThat(statement.getLines().get(0).getRunningBalance()).isEqualByComparingTo(BigDecimal.ZERO);
+            assertThat(statement.getClosingBalance()).isEqualByComparingTo(BigDecimal.valueOf(150));
+        }
+
+        @Test
+        @DisplayName("Should leave invoices dated the day before the period in the opening balance only")
+        void generateStatement_InvoiceBeforeStart_NotListed() {
+            sendInvoice(thirdCustomer, BigDecimal.valueOf(25), periodStart.minusDays(1));
+
+            CustomerStatementDTO statement = customerStatementService.generateStatement(
+                    thirdCustomer.getId(), periodStart, periodEnd);
+
+            assertThat(statement.getOpeningBalance()).isEqualByComparingTo(BigDecimal.valueOf(25));
+            assertThat(statement.getLines()).hasSize(1);
+            assertThat(statement.getClosingBalance()).isEqualByComparingTo(BigDecimal.valueOf(85));
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulk Statements")
+    class BulkStatements {
+
+        @Test
+        @DisplayName("Should stream one statement per customer with a balance or activity")
+        void streamStatements_EmitsEveryCustomerInOrder() {
+            List<CustomerStatementDTO> statements = new ArrayList<>();
+
+            customerStatementService.streamStatements(periodStart, periodEnd, statements::add);
+
+            assertThat(statements).extracting(CustomerStatementDTO::getCustomerCode)
+                    .containsExactly("CUST001", "CUST002", "CUST003");
+            assertThat(statements).extracting(CustomerStatementDTO::getClosingBalance)
+                    .usingElementComparator(BigDecimal::compareTo)
+                    .containsExactly(BigDecimal.valueOf(150), BigDecimal.valueOf(75), BigDecimal.valueOf(60));
+            assertThat(statements.get(1).getLines()).isEmpty();
+
+            CustomerStatementDTO single = customerStatementService.generateStatement(
+                    firstCustomer.getId(), periodStart, periodEnd);
+            assertThat(statements.get(0).getLines())
+                    .extracting(CustomerStatementDTO.StatementLineDTO::getType, CustomerStatementDTO.StatementLineDTO::getInvoiceNumber)
+                    .isEqualTo(single.getLines().stream()
+                            .map(line -> tuple(line.getType(), line.getInvoiceNumber()))
+                            .toList());
+        }
+    }
+
+    @Nested
+    @DisplayName("AR Subledger")
+    class Subledger {
+
+        @Test
+        @DisplayName("Should reconcile customer balances against the AR control account")
+        void generateSubledger_MatchesControlAccount() {
+            ArSubledgerDTO subledger = customerStatementService.generateSubledger(periodEnd);
+
+            assertThat(subledger.getCustomers()).hasSize(3);
+            assertThat(subledger.getSubledgerTotal()).isEqualByComparingTo(BigDecimal.valueOf(285));
+            assertThat(subledger.getControlAccountBalance()).isEqualByComparingTo(BigDecimal.valueOf(285));
+            assertThat(subledger.isReconciled()).isTrue();
+        }
+    }
+}
@@ -114,8 +114,10 @@ class JournalEntryIntegrationTest {
 
             assertThat(voidedEntry.getStatus()).isEqualTo(EntryStatus.VOID);
 
-            // 5. Verify account balances after voiding (void doesn't reverse, just marks as void)
-            // In this implementation, voided entries still affect balances (only POSTED entries do)
+            // 5. Verify account balances after voiding (only POSTED entries affect balances)
+            assertThat(voidedEntry.getLines()).extracting(JournalEntryLine::getPosted).containsOnly(false);
+            assertThat(accountService.getBalance(cashAccount.getId())).isEqualByComparingTo(BigDecimal.ZERO);
+            assertThat(accountService.getBalance(revenueAccount.getId())).isEqualByComparingTo(BigDecimal.ZERO);
         }
 
         @Test
@@ -0,0 +1,259 @@
+package com.accounting.integration;
+
+import com.accounting.dto.CurrencyBalanceDTO;
+import com.accounting.dto.FiscalYearArchiveResultDTO;
+import com.accounting.dto.LedgerDTO;
+import com.accounting.dto.ProfitLossDTO;
+import com.accounting.dto.TrialBalanceDTO;
+import com.accounting.exception.AccountingException;
+import com.accounting.model.*;
+import com.accounting.repository.AccountRepository;
+import com.accounting.repository.BankAccountRepository;
+import com.accounting.repository.BankStatementRepository;
+import com.accounting.repository.CurrencyRepository;
+import com.accounting.repository.FiscalYearRepository;
+import com.accounting.repository.JournalEntryRepository;
+import com.accounting.repository.RevaluationRepository;
+import com.accounting.service.AccountService;
+import com.accounting.service.BankReconciliationService;
+import com.accounting.service.FiscalYearArchiveService;
+import com.accounting.service.LedgerArchiveService;
+import com.accounting.service.LedgerService;
+import com.accounting.service.LedgerVersionService;
+import com.accounting.service.ReportService;
+import com.accounting.service.YearEndCloseService;
+import com.accounting.util.TestDataBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs against its own database and commits, because archiving removes a closed year's lines for every account.
+ * Every read is captured before archiving and compared with the same read served from the segment file.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:archive;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "accounting.archive.directory=target/archive-integration"
+})
+@ActiveProfiles("test")
+@DisplayName("Ledger Archive Integration Tests")
+class LedgerArchiveIntegrationTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private FiscalYearArchiveService fiscalYearArchiveService;
+
+    @Autowired
+    private LedgerArchiveService ledgerArchiveService;
+
+    @Autowired
+    private YearEndCloseService yearEndCloseService;
+
+    @Autowired
+    private LedgerVersionService ledgerVersionService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private BankReconciliationService bankReconciliationService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private CurrencyRepository currencyRepository;
+
+    @Autowired
+    private FiscalYearRepository fiscalYearRepository;
+
+    @Autowired
+    private JournalEntryRepository journalEntryRepository;
+
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+
+    @Autowired
+    private BankStatementRepository bankStatementRepository;
+
+    @Autowired
+    private RevaluationRepository revaluationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Account createAccount(String code, AccountType type) {
+        Account account = new Account();
+        account.setCode(code);
+        account.setName("Account " + code);
+        account.setAccountType(type);
+        account.setIsActive(true);
+        return accountRepository.save(account);
+    }
+
+    private FiscalYear createFiscalYear(int year) {
+        FiscalYear fiscalYear = new FiscalYear();
+        fiscalYear.setName("FY " + year);
+        fiscalYear.setStartDate(LocalDate.of(year, 1, 1));
+        fiscalYear.setEndDate(LocalDate.of(year, 12, 31));
+        return fiscalYearRepository.save(fiscalYear);
+    }
+
+    private JournalEntry post(LocalDate date, Account debit, Account credit, String amount, Currency currency) {
+        JournalEntry entry = TestDataBuilder.createBalancedJournalEntry(
+                "T-ARCHIVE-" + SEQUENCE.incrementAndGet(), date, EntryStatus.POSTED, debit, credit, new BigDecimal(amount));
+        if (currency != null) {
+            entry.getLines().get(0).setCurrency(currency);
+            entry.getLines().get(0).setExchangeRate(new BigDecimal("0.900000"));
+        }
+        return journalEntryRepository.save(entry);
+    }
+
+    private long linesThrough(LocalDate date) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM journal_entry_lines WHERE entry_date <= ?", Long.class, date);
+    }
+
+    private void assertSameAmounts(Object actual, Object expected) {
+        assertThat(actual).usingRecursiveComparison()
+                .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .isEqualTo(expected);
+    }
+
+    private List<CurrencyBalanceDTO> sorted(List<CurrencyBalanceDTO> balances) {
+        return balances.stream()
+                .sorted(Comparator.comparing(CurrencyBalanceDTO::getCurrencyId, Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .thenComparing(CurrencyBalanceDTO::getFirstEntryDate))
+                .toList();
+    }
+
+    @Nested
+    @DisplayName("Archiving")
+    class Archiving {
+
+        @Test
+        @DisplayName("Should move a closed year's lines into a segment and serve the same reads from it")
+        void archive_ServesIdenticalReadsFromSegment() throws IOException {
+            accountRepository.findByCode("3200").orElseGet(() -> createAccount("3200", AccountType.EQUITY));
+            Account cash = createAccount("C" + SEQUENCE.incrementAndGet(), AccountType.ASSET);
+            Account capital = createAccount("Q" + SEQUENCE.incrementAndGet(), AccountType.EQUITY);
+            Account sales = createAccount("S" + SEQUENCE.incrementAndGet(), AccountType.REVENUE);
+            Account rent = createAccount("X" + SEQUENCE.incrementAndGet(), AccountType.EXPENSE);
+            if (currencyRepository.findByCode("USD").isEmpty()) {
+                currencyRepository.save(TestDataBuilder.createCurrency(null, "USD", "US Dollar", true));
+            }
+            Currency euro = currencyRepository.save(TestDataBuilder.createCurrency(null, "EUA", "Euro A", false));
+            FiscalYear fy2019 = createFiscalYear(2019);
+            FiscalYear fy2020 = createFiscalYear(2020);
+
+            post(LocalDate.of(2019, 1, 4), cash, capital, "1000.00", null);
+            JournalEntry matched = post(LocalDate.of(2019, 5, 10), cash, sales, "500.00", euro);
+            post(LocalDate.of(2019, 8, 1), rent, cash, "200.00", null);
+            post(LocalDate.of(2020, 3, 15), cash, sales, "300.00", euro);
+
+            BankAccount bankAccount = bankAccountRepository.save(TestDataBuilder.createBankAccount(null, "Archive Bank", cash));
+            BankStatement statement = TestDataBuilder.createBankStatement(null, bankAccount, new BigDecimal("500.00"), true);
+            statement.setIsReconciled(true);
+            statement.setMatchedJournalLine(matched.getLines().get(0));
+            bankStatementRepository.save(statement);
+
+            yearEndCloseService.close(fy2019.getId());
+
+            LocalDate yearEnd = fy2019.getEndDate();
+            LocalDate nextYearEnd = fy2020.getEndDate();
+            BigDecimal balance = accountService.getBalance(cash.getId());
+            BigDecimal midYear = accountService.getBalanceAsOfDate(cash.getId(), LocalDate.of(2019, 6, 30));
+            ProfitLossDTO profitLoss = reportService.generateProfitLoss(fy2019.getStartDate(), yearEnd);
+            TrialBalanceDTO trialBalance = reportService.generateTrialBalance(LocalDate.of(2019, 9, 30));
+            LedgerDTO ledger = ledgerService.generateLedger(cash.getId(), LocalDate.of(2019, 3, 1), nextYearEnd);
+            List<CurrencyBalanceDTO> currencyBalances = sorted(
+                    accountService.getCurrencyBalancesBetweenDates(cash.getId(), fy2019.getStartDate(), nextYearEnd));
+            List<CurrencyBalanceDTO> dailyBalances = sorted(accountService.getDailyCurrencyBalancesBetweenDates(
+                    cash.getId(), fy2019.getStartDate(), nextYearEnd));
+            BigDecimal unreconciled = bankReconciliationService.getUnreconciledDifference(bankAccount.getId());
+            RevaluationRepository.OpenBalances openBalances = revaluationRepository.findOpenBalances(nextYearEnd);
+
+            FiscalYearArchiveResultDTO result = fiscalYearArchiveService.archive(fy2019.getId());
+
+            // Three postings and the three-line closing entry; the bank-matched line stays behind for its statement
+            assertThat(result.getArchivedLineCount()).isEqualTo(9);
+            assertThat(result.getDeletedLineCount()).isEqualTo(8);
+            assertThat(result.getFileSize()).isPositive();
+            assertThat(linesThrough(yearEnd)).isEqualTo(1L);
+            assertThat(ledgerArchiveService.getArchivedThrough()).isEqualTo(yearEnd);
+            assertThat(fiscalYearRepository.findById(fy2019.getId()).orElseThrow().isArchived()).isTrue();
+
+            assertThat(accountService.getBalance(cash.getId())).isEqualByComparingTo(balance);
+            assertThat(accountService.getBalanceAsOfDate(cash.getId(), LocalDate.of(2019, 6, 30))).isEqualByComparingTo(midYear);
+            assertSameAmounts(reportService.generateProfitLoss(fy2019.getStartDate(), yearEnd), profitLoss);
+            assertSameAmounts(reportService.generateTrialBalance(LocalDate.of(2019, 9, 30)), trialBalance);
+            assertSameAmounts(ledgerService.generateLedger(cash.getId(), LocalDate.of(2019, 3, 1), nextYearEnd), ledger);
+            assertSameAmounts(sorted(accountService.getCurrencyBalancesBetweenDates(
+                    cash.getId(), fy2019.getStartDate(), nextYearEnd)), currencyBalances);
+            assertSameAmounts(sorted(accountService.getDailyCurrencyBalancesBetweenDates(
+                    cash.getId(), fy2019.getStartDate(), nextYearEnd)), dailyBalances);
+            assertThat(bankReconciliationService.getUnreconciledDifference(bankAccount.getId())).isEqualByComparingTo(unreconciled);
+
+            RevaluationRepository.OpenBalances archivedOpenBalances = revaluationRepository.findOpenBalances(
+                    nextYearEnd, yearEnd.plusDays(1), ledgerArchiveService.findForeignBalances());
+            assertThat(archivedOpenBalances.size()).isEqualTo(openBalances.size());
+            assertThat(archivedOpenBalances.foreignCents()).containsExactly(openBalances.foreignCents());
+            for (int i = 0; i < openBalances.size(); i++) {
+                assertThat(archivedOpenBalances.bookedCents(i)).isEqualTo(openBalances.bookedCents(i));
+            }
+
+            assertThatThrownBy(() -> fiscalYearArchiveService.archive(fy2019.getId()))
+                    .isInstanceOf(AccountingException.class)
+                    .hasMessageContaining("already archived");
+
+            Path file = ledgerArchiveService.resolve(result.getArchiveFile());
+            Path moved = file.resolveSibling(file.getFileName() + ".moved");
+            Files.move(file, moved);
+            try {
+                // Another node archived, or this node's directory is not the shared one: startup logs, reads fail
+                ledgerVersionService.bump(LedgerVersionService.FISCAL_YEARS);
+                ledgerArchiveService.load();
+
+                assertThatThrownBy(() -> accountService.getBalance(cash.getId()))
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessageContaining("is missing");
+            } finally {
+                Files.move(moved, file);
+            }
+            assertThat(accountService.getBalance(cash.getId())).isEqualByComparingTo(balance);
+        }
+
+        @Test
+        @DisplayName("Should reject archiving a fiscal year that is still open")
+        void archive_OpenYear_ThrowsException() {
+            FiscalYear open = createFiscalYear(LocalDate.now().getYear() + 1);
+
+            assertThatThrownBy(() -> fiscalYearArchiveService.archive(open.getId()))
+                    .isInstanceOf(AccountingException.class)
+                    .hasMessageContaining("must be closed");
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.accounting.integration;
+
+import com.accounting.dto.ArSubledgerDTO;
+import com.accounting.dto.DashboardDTO;
+import com.accounting.dto.JournalEntryDTO;
+import com.accounting.dto.TrialBalanceDTO;
+import com.accounting.generator.GeneratorProperties;
+import com.accounting.generator.LedgerDataGenerator;
+import com.accounting.model.EntryStatus;
+import com.accounting.model.JournalEntry;
+import com.accounting.repository.AccountRepository;
+import com.accounting.repository.JournalEntryRepository;
+import com.accounting.service.CustomerStatementService;
+import com.accounting.service.JournalService;
+import com.accounting.service.ReportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:generatortest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "logging.level.com.accounting=INFO"
+})
+@ActiveProfiles("test")
+@DisplayName("Ledger Data Generator Integration Tests")
+class LedgerDataGeneratorIntegrationTest {
+
+    private static Map<String, Long> counts;
+
+    @Autowired
+    private LedgerDataGenerator ledgerDataGenerator;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private CustomerStatementService customerStatementService;
+
+    @Autowired
+    private JournalService journalService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JournalEntryRepository journalEntryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        if (counts == null) {
+            GeneratorProperties properties = new GeneratorProperties();
+            properties.setYears(2);
+            properties.setExtraAccounts(20);
+            properties.setCustomers(50);
+            properties.setJournalEntries(2_000);
+            properties.setInvoices(500);
+            properties.setBankTransactions(300);
+            properties.setBatchSize(250);
+            counts = ledgerDataGenerator.generate(properties);
+        }
+    }
+
+    @Nested
+    @DisplayName("Generated Volume")
+    class GeneratedVolume {
+
+        @Test
+        @DisplayName("Should insert the configured number of rows")
+        void generate_InsertsConfiguredRows() {
+            assertThat(counts.get("accounts")).isEqualTo(60L);
+            assertThat(counts.get("customers")).isEqualTo(50L);
+            assertThat(counts.get("invoices")).isEqualTo(500L);
+            assertThat(counts.get("bank_statements")).isEqualTo(300L);
+            assertThat(counts.get("journal_entries")).isGreaterThan(2_000L);
+            assertThat(counts.get("journal_entry_lines")).isGreaterThanOrEqualTo(2 * counts.get("journal_entries"));
+        }
+
+        @Test
+        @DisplayName("Should skew postings towards a few accounts")
+        void generate_SkewsPostingsTowardsFewAccounts() {
+            List<Long> perAccount = jdbcTemplate.queryForList(
+                    "SELECT COUNT(*) FROM journal_entry_lines GROUP BY account_id ORDER BY COUNT(*) DESC", Long.class);
+            long total = perAccount.stream().mapToLong(Long::longValue).sum();
+
+            assertThat(perAccount.get(0) + perAccount.get(1) + perAccount.get(2)).isGreaterThan(total / 4);
+        }
+    }
+
+    @Nested
+    @DisplayName("Ledger Integrity")
+    class LedgerIntegrity {
+
+        @Test
+        @DisplayName("Should produce a balanced trial balance")
+        void generate_TrialBalanceIsBalanced() {
+            TrialBalanceDTO trialBalance = reportService.generateTrialBalance(LocalDate.now());
+
+            assertThat(trialBalance.isBalanced()).isTrue();
+            assertThat(trialBalance.getTotalDebit()).isPositive();
+        }
+
+        @Test
+        @DisplayName("Should reconcile the AR subledger against the control account")
+        void generate_ArSubledgerReconciles() {
+            ArSubledgerDTO subledger = customerStatementService.generateSubledger(LocalDate.now());
+
+            assertThat(subledger.isReconciled()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should project the generated rows onto the dashboard")
+        void generate_DashboardMatchesLedger() {
+            LocalDate today = LocalDate.now();
+            Map<String, BigDecimal> balances = new HashMap<>();
+            reportService.generateTrialBalance(today).getLines().forEach(line -> balances.put(line.getAccountCode(),
+                    (line.getDebitBalance() != null ? line.getDebitBalance() : BigDecimal.ZERO)
+                            .subtract(line.getCreditBalance() != null ? line.getCreditBalance() : BigDecimal.ZERO)));
+            Long overdue = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM invoices " +
+                    "WHERE status IN ('SENT', 'OVERDUE') AND due_date < ?", Long.class, Date.valueOf(today));
+
+            DashboardDTO dashboard = reportService.generateDashboard();
+
+            assertThat(counts.get("ledger_events")).isPositive();
+            assertThat(dashboard.getCashBalance()).isEqualByComparingTo(balances.get("1000"));
+            assertThat(dashboard.getAccountsReceivable()).isEqualByComparingTo(balances.get("1200"));
+            assertThat(dashboard.getCashBalance()).isNotZero();
+            assertThat(dashboard.getOverdueInvoices()).isEqualTo(overdue).isPositive();
+        }
+
+        @Test
+        @DisplayName("Should leave identities and numbering ready for new entries")
+        void generate_NewEntriesCanBeCreated() {
+            JournalEntryDTO.JournalEntryLineDTO debit = new JournalEntryDTO.JournalEntryLineDTO();
+            debit.setAccountCode("5200");
+            debit.setDebitAmount(BigDecimal.valueOf(1200));
+            JournalEntryDTO.JournalEntryLineDTO credit = new JournalEntryDTO.JournalEntryLineDTO();
+            credit.setAccountCode("1100");
+            credit.setCreditAmount(BigDecimal.valueOf(1200));
+            JournalEntryDTO dto = new JournalEntryDTO();
+            dto.setEntryDate(LocalDate.now());
+            dto.setDescription("Rent");
+            dto.setLines(List.of(debit, credit));
+
+            JournalEntry entry = journalService.postEntry(journalService.createEntry(dto, null).getId());
+
+            assertThat(entry.getStatus()).isEqualTo(EntryStatus.POSTED);
+            assertThat(journalEntryRepository.findByEntryNumber(entry.getEntryNumber())).isPresent();
+            assertThat(accountRepository.findByCode("5200")).isPresent();
+        }
+    }
+}
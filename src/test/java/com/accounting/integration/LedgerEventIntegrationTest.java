@@ -0,0 +1,283 @@
+package com.accounting.integration;
+
+import com.accounting.dto.ArAgingDTO;
+import com.accounting.dto.DashboardDTO;
+import com.accounting.dto.JournalEntryDTO;
+import com.accounting.dto.ProjectionStatusDTO;
+import com.accounting.exception.AccountingException;
+import com.accounting.model.*;
+import com.accounting.projection.AccountBalanceProjection;
+import com.accounting.projection.ReceivableProjection;
+import com.accounting.repository.AccountRepository;
+import com.accounting.repository.BankAccountRepository;
+import com.accounting.repository.BankStatementRepository;
+import com.accounting.repository.CustomerRepository;
+import com.accounting.service.AccountService;
+import com.accounting.service.BankReconciliationService;
+import com.accounting.service.InvoiceService;
+import com.accounting.service.JournalService;
+import com.accounting.service.LedgerEventService;
+import com.accounting.service.ProjectionService;
+import com.accounting.service.ReportService;
+import com.accounting.util.TestDataBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs against its own database and commits, because projections catch up only after the appending transaction commits.
+ * Every projected read is compared with the same figure computed from the journal tables.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:events;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+@ActiveProfiles("test")
+@DisplayName("Ledger Event Integration Tests")
+class LedgerEventIntegrationTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private JournalService journalService;
+
+    @Autowired
+    private InvoiceService invoiceService;
+
+    @Autowired
+    private BankReconciliationService bankReconciliationService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private ProjectionService projectionService;
+
+    @Autowired
+    private LedgerEventService ledgerEventService;
+
+    @Autowired
+    private AccountBalanceProjection accountBalanceProjection;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+
+    @Autowired
+    private BankStatementRepository bankStatementRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Account account(String code, AccountType type) {
+        return accountRepository.findByCode(code).orElseGet(() -> {
+            Account account = new Account();
+            account.setCode(code);
+            account.setName("Account " + code);
+            account.setAccountType(type);
+            account.setIsActive(true);
+            return accountRepository.save(account);
+        });
+    }
+
+    private Customer customer() {
+        int sequence = SEQUENCE.incrementAndGet();
+        return customerRepository.save(TestDataBuilder.createCustomer(null, "EVT" + sequence, "Event Customer " + sequence));
+    }
+
+    private JournalEntry post(String debitCode, String creditCode, String amount) {
+        JournalEntryDTO.JournalEntryLineDTO debit = new JournalEntryDTO.JournalEntryLineDTO();
+        debit.setAccountCode(debitCode);
+        debit.setDebitAmount(new BigDecimal(amount));
+        JournalEntryDTO.JournalEntryLineDTO credit = new JournalEntryDTO.JournalEntryLineDTO();
+        credit.setAccountCode(creditCode);
+        credit.setCreditAmount(new BigDecimal(amount));
+
+        JournalEntryDTO dto = new JournalEntryDTO();
+        dto.setEntryDate(LocalDate.now());
+        dto.setDescription("Event posting");
+        dto.setLines(List.of(debit, credit));
+        JournalEntry entry = journalService.createEntry(dto, null);
+        journalService.postEntry(entry.getId());
+        return entry;
+    }
+
+    private Invoice send(Customer customer, LocalDate invoiceDate, LocalDate dueDate, String amount) {
+        Invoice invoice = new Invoice();
+        invoice.setCustomer(customer);
+        invoice.setInvoiceDate(invoiceDate);
+        invoice.setDueDate(dueDate);
+        invoice.setItems(new ArrayList<>());
+
+        InvoiceItem item = new InvoiceItem();
+        item.setDescription("Event service");
+        item.setQuantity(BigDecimal.ONE);
+        item.setUnitPrice(new BigDecimal(amount));
+        item.setAmount(new BigDecimal(amount));
+        invoice.addItem(item);
+
+        return invoiceService.sendInvoice(invoiceService.createInvoice(invoice).getId());
+    }
+
+    private List<String> eventTypesAfter(long position) {
+        return jdbcTemplate.queryForList(
+                "SELECT event_type FROM ledger_events WHERE position > ? ORDER BY position", String.class, position);
+    }
+
+    private List<Long> positionsAfter(long position) {
+        return jdbcTemplate.queryForList(
+                "SELECT position FROM ledger_events WHERE position > ? ORDER BY position", Long.class, position);
+    }
+
+    // Catch-up runs on a background thread after each commit; drive it here until every projection reaches the head
+    private void awaitProjections() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (projectionService.getStatus().stream().anyMatch(status -> status.getLag() > 0)) {
+            assertThat(System.nanoTime()).as("projections caught up within 10 seconds").isLessThan(deadline);
+            projectionService.catchUp();
+            Thread.sleep(10);
+        }
+    }
+
+    private BigDecimal projectedBalance(Account account) {
+        return accountBalanceProjection.findAccountTotals(LocalDate.now(), LocalDate.now()).stream()
+                .filter(totals -> totals.accountId().equals(account.getId()))
+                .map(AccountBalanceProjection.AccountTotals::balance)
+                .findFirst()
+                .orElse(BigDecimal.ZERO);
+    }
+
+    private ArAgingDTO.CustomerAgingDTO aging(ArAgingDTO aging, Customer customer) {
+        return aging.getCustomers().stream()
+                .filter(row -> row.getCustomerId().equals(customer.getId()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Nested
+    @DisplayName("Event Log")
+    class EventLog {
+
+        @Test
+        @DisplayName("Should append gapless events in commit order and keep every projection caught up")
+        void lifecycle_AppendsEventsAndProjects() throws InterruptedException {
+            Account cash = account("1000", AccountType.ASSET);
+            Account receivable = account("1200", AccountType.ASSET);
+            Account revenue = account("4000", AccountType.REVENUE);
+            Account capital = account("3000", AccountType.EQUITY);
+            account("5000", AccountType.EXPENSE);
+            Customer customer = customer();
+            long head = ledgerEventService.getHead();
+
+            JournalEntry funding = post("1000", "3000", "5000.00");
+            JournalEntry mistake = post("5000", "1000", "75.00");
+            journalService.voidEntry(mistake.getId());
+            LocalDate today = LocalDate.now();
+            send(customer, today.minusDays(50), today.minusDays(40), "400.00");
+            Invoice paid = send(customer, today, today.plusDays(30), "250.00");
+            invoiceService.markAsPaid(paid.getId(), today);
+            Invoice cancelled = send(customer, today, today.plusDays(30), "90.00");
+            invoiceService.cancelInvoice(cancelled.getId());
+
+            BankAccount bankAccount = bankAccountRepository.save(TestDataBuilder.createBankAccount(null, "Event Bank", cash));
+            BankStatement statement = bankStatementRepository.save(
+                    TestDataBuilder.createBankStatement(null, bankAccount, new BigDecimal("5000.00")));
+            bankReconciliationService.reconcileStatement(statement.getId(), funding.getLines().get(0).getId());
+
+            long newHead = ledgerEventService.getHead();
+            awaitProjections();
+            assertThat(positionsAfter(head)).containsExactlyElementsOf(
+                    LongStream.rangeClosed(head + 1, newHead).boxed().toList());
+            assertThat(eventTypesAfter(head)).containsExactly(
+                    "ENTRY_POSTED",
+                    "ENTRY_POSTED", "ENTRY_VOIDED",
+                    "ENTRY_POSTED", "INVOICE_SENT",
+                    "ENTRY_POSTED", "INVOICE_SENT",
+                    "ENTRY_POSTED", "INVOICE_PAID",
+                    "ENTRY_POSTED", "INVOICE_SENT",
+                    "ENTRY_VOIDED", "INVOICE_CANCELLED",
+                    "STATEMENT_RECONCILED");
+            assertThat(projectionService.getStatus()).allSatisfy(status -> {
+                assertThat(status.getPosition()).isEqualTo(newHead);
+                assertThat(status.getLag()).isZero();
+            });
+
+            for (Account account : List.of(cash, receivable, revenue, capital)) {
+                assertThat(projectedBalance(account)).isEqualByComparingTo(accountService.getBalance(account.getId()));
+            }
+            DashboardDTO dashboard = reportService.generateDashboard();
+            assertThat(dashboard.getCashBalance()).isEqualByComparingTo(accountService.getBalance(cash.getId()));
+            assertThat(dashboard.getAccountsReceivable()).isEqualByComparingTo(accountService.getBalance(receivable.getId()));
+
+            ArAgingDTO.CustomerAgingDTO row = aging(reportService.generateArAging(today), customer);
+            assertThat(row.getDays31To60()).isEqualByComparingTo("400.00");
+            assertThat(row.getCurrent()).isEqualByComparingTo("0.00");
+            assertThat(row.getTotal()).isEqualByComparingTo("400.00");
+        }
+    }
+
+    @Nested
+    @DisplayName("Rebuild")
+    class Rebuild {
+
+        @Test
+        @DisplayName("Should replay the log into the same projected state")
+        void rebuild_ReproducesProjection() throws InterruptedException {
+            account("1000", AccountType.ASSET);
+            account("1200", AccountType.ASSET);
+            account("4000", AccountType.REVENUE);
+            Customer customer = customer();
+            LocalDate today = LocalDate.now();
+            send(customer, today.minusDays(100), today.minusDays(95), "120.00");
+            send(customer, today, today.plusDays(10), "80.00");
+            awaitProjections();
+
+            List<AccountBalanceProjection.AccountTotals> totals = accountBalanceProjection.findAccountTotals(today, today);
+            ArAgingDTO aging = reportService.generateArAging(today);
+
+            ProjectionStatusDTO balances = projectionService.rebuild(AccountBalanceProjection.NAME);
+            ProjectionStatusDTO receivables = projectionService.rebuild(ReceivableProjection.NAME);
+
+            assertThat(balances.getLag()).isZero();
+            assertThat(receivables.getLag()).isZero();
+            assertThat(accountBalanceProjection.findAccountTotals(today, today))
+                    .usingRecursiveComparison()
+                    .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                    .ignoringCollectionOrder()
+                    .isEqualTo(totals);
+            assertThat(reportService.generateArAging(today)).usingRecursiveComparison()
+                    .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                    .isEqualTo(aging);
+            assertThat(aging(aging, customer).getOver90()).isEqualByComparingTo("120.00");
+            assertThat(aging(aging, customer).getCurrent()).isEqualByComparingTo("80.00");
+        }
+
+        @Test
+        @DisplayName("Should reject an unknown projection")
+        void rebuild_UnknownProjection_ThrowsException() {
+            assertThatThrownBy(() -> projectionService.rebuild("search-index"))
+                    .isInstanceOf(AccountingException.class)
+                    .hasMessageContaining("Projection not found");
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.accounting.integration;
+
+import com.accounting.model.Account;
+import com.accounting.model.AccountType;
+import com.accounting.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Metrics Integration Tests")
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @BeforeEach
+    void setUp() {
+        Account account = new Account();
+        account.setCode("1000");
+        account.setName("Cash");
+        account.setAccountType(AccountType.ASSET);
+        account.setIsActive(true);
+        accountRepository.save(account);
+    }
+
+    private String scrape() throws Exception {
+        return mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    @Nested
+    @DisplayName("Prometheus Endpoint")
+    class PrometheusEndpoint {
+
+        @Test
+        @DisplayName("Should export service timers, per-request statement counts and pool gauges")
+        void scrape_AfterReportRequest_ExportsMeters() throws Exception {
+            mockMvc.perform(get("/api/v1/reports/trial-balance")
+                            .with(jwt().jwt(token -> token.subject("viewer"))
+                                    .authorities(new SimpleGrantedAuthority("ROLE_VIEWER"))))
+                    .andExpect(status().isOk());
+
+            String metrics = scrape();
+
+            assertThat(metrics)
+                    .contains("accounting_service_seconds_count{application=\"accounting-system-claude\",class=\"com.accounting.service.ReportService\"")
+                    .contains("hibernate_request_statements_count{application=\"accounting-system-claude\",method=\"GET\",uri=\"/api/v1/reports/trial-balance\",}")
+                    .contains("hikaricp_connections_active")
+                    .contains("hibernate_query_executions_total");
+        }
+
+        @Test
+        @DisplayName("Should refuse scrapes from remote addresses")
+        void scrape_FromRemoteAddress_IsForbidden() throws Exception {
+            mockMvc.perform(get("/actuator/prometheus").with(request -> {
+                        request.setRemoteAddr("10.1.2.3");
+                        return request;
+                    }))
+                    .andExpect(status().isForbidden());
+        }
+
+        @Test
+        @DisplayName("Should keep the health endpoint public")
+        void health_FromRemoteAddress_IsAvailable() throws Exception {
+            mockMvc.perform(get("/actuator/health").with(request -> {
+                        request.setRemoteAddr("10.1.2.3");
+                        return request;
+                    }))
+                    .andExpect(status().isOk());
+        }
+    }
+}
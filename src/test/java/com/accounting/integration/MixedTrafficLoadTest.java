@@ -0,0 +1,197 @@
+package com.accounting.integration;
+
+import com.accounting.model.Account;
+import com.accounting.model.AccountType;
+import com.accounting.model.User;
+import com.accounting.repository.AccountRepository;
+import com.accounting.service.ReportExecutor;
+import com.accounting.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "logging.level.com.accounting=INFO"
+        })
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@DisplayName("Mixed Traffic Load Test")
+class MixedTrafficLoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 32);
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("loadtest.requests", 25);
+    private static final int REPORT_PERCENT = Integer.getInteger("loadtest.report-percent", 25);
+    private static final long MAX_ENTRY_P99_MILLIS = Long.getLong("loadtest.max-entry-p99-ms", 5000);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ReportExecutor reportExecutor;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        if (accountRepository.findByCode("1000").isEmpty()) {
+            for (int i = 0; i < 40; i++) {
+                createAccount(String.valueOf(1000 + i * 10), "Asset " + i, AccountType.ASSET);
+                createAccount(String.valueOf(5000 + i * 10), "Expense " + i, AccountType.EXPENSE);
+            }
+            createAccount("3000", "Owner Equity", AccountType.EQUITY);
+            createAccount("4000", "Sales Revenue", AccountType.REVENUE);
+
+            userService.createRoleIfNotExists("ACCOUNTANT");
+            User user = new User();
+            user.setUsername("loadclerk");
+            user.setEmail("loadclerk@example.com");
+            userService.createUser(user, "secret", "ACCOUNTANT");
+        }
+
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(uri("/api/auth/token"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"loadclerk\",\"password\":\"secret\"}"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+        token = objectMapper.readTree(response.body()).get("accessToken").asText();
+    }
+
+    private void createAccount(String code, String name, AccountType type) {
+        Account account = new Account();
+        account.setCode(code);
+        account.setName(name);
+        account.setAccountType(type);
+        account.setIsActive(true);
+        accountRepository.save(account);
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    @Test
+    @DisplayName("Should keep data-entry p99 bounded while reports run concurrently")
+    void mixedReportAndEntryTraffic_ReportsLatencyPercentiles() throws Exception {
+        List<Long> reportLatencies = Collections.synchronizedList(new ArrayList<>());
+        List<Long> entryLatencies = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> failures = Collections.synchronizedList(new ArrayList<>());
+
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        long started = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int c = 0; c < CLIENTS; c++) {
+                futures.add(clients.submit(() -> {
+                    for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                        boolean report = ThreadLocalRandom.current().nextInt(100) < REPORT_PERCENT;
+                        HttpRequest request = report ? reportRequest() : entryRequest();
+                        long start = System.nanoTime();
+                        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                        long elapsed = System.nanoTime() - start;
+                        if (response.statusCode() >= 300) {
+                            failures.add(response.statusCode());
+                        }
+                        (report ? reportLatencies : entryLatencies).add(elapsed);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+        long wallMillis = Duration.ofNanos(System.nanoTime() - started).toMillis();
+
+        Map<String, long[]> summary = Map.of(
+                "report", percentiles(reportLatencies),
+                "entry", percentiles(entryLatencies));
+        log.info("Mixed traffic: {} clients, {} requests, {} ms, virtual threads={}, report concurrency={}",
+                CLIENTS, CLIENTS * REQUESTS_PER_CLIENT, wallMillis,
+                reportExecutor.isVirtualThreads(), reportExecutor.getMaxConcurrency());
+        summary.forEach((name, p) -> log.info("{}: n={} p50={} ms p99={} ms max={} ms", name, p[0], p[1], p[2], p[3]));
+
+        assertThat(failures).isEmpty();
+        assertThat(summary.get("entry")[2]).isLessThanOrEqualTo(MAX_ENTRY_P99_MILLIS);
+    }
+
+    private HttpRequest reportRequest() {
+        return HttpRequest.newBuilder(uri("/api/v1/reports/balance-sheet"))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest entryRequest() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int amount = random.nextInt(1, 1000);
+        String body = "{\"entryDate\":\"" + LocalDate.now().minusDays(random.nextInt(60)) + "\","
+                + "\"description\":\"Load test\",\"lines\":["
+                + "{\"accountCode\":\"" + (5000 + random.nextInt(40) * 10) + "\",\"debitAmount\":" + amount + "},"
+                + "{\"accountCode\":\"" + (1000 + random.nextInt(40) * 10) + "\",\"creditAmount\":" + amount + "}]}";
+        return HttpRequest.newBuilder(uri("/api/v1/journal"))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static long[] percentiles(List<Long> latencies) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        if (sorted.isEmpty()) {
+            return new long[]{0, 0, 0, 0};
+        }
+        return new long[]{
+                sorted.size(),
+                millis(sorted.get((int) Math.ceil(sorted.size() * 0.50) - 1)),
+                millis(sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1)),
+                millis(sorted.get(sorted.size() - 1))
+        };
+    }
+
+    private static long millis(long nanos) {
+        return Duration.ofNanos(nanos).toMillis();
+    }
+}
@@ -0,0 +1,168 @@
+package com.accounting.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Starts the native binary and the JVM jar from mvn -Pnative package against in-memory H2, drives the login page,
+ * the token API and a Thymeleaf page through each, and compares time to first request and resident memory.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "nativetest", matches = "true")
+@EnabledOnOs(OS.LINUX)
+@DisplayName("Native Image Smoke Test")
+class NativeImageSmokeTest {
+
+    private static final Path NATIVE_BINARY = Path.of(System.getProperty("nativetest.binary", "target/accounting-system-claude"));
+    private static final Path JVM_JAR = Path.of(System.getProperty("nativetest.jar", "target/accounting-system-claude-1.0.0-SNAPSHOT.jar"));
+    private static final long MAX_NATIVE_STARTUP_MILLIS = Long.getLong("nativetest.max-startup-ms", 1000);
+    private static final Duration TIMEOUT = Duration.ofMinutes(3);
+    // Seeded by V2__reference_data
+    private static final String USERNAME = "admin";
+    private static final String PASSWORD = "admin123";
+    private static final String JWT_SECRET = randomSecret();
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private record Run(String build, Duration startup, long residentKilobytes) {
+    }
+
+    @Test
+    @DisplayName("Should serve the same pages as the JVM build while starting faster in less memory")
+    void nativeImage_StartsFasterInLessMemory() throws Exception {
+        assertThat(NATIVE_BINARY).as("native binary; build with mvn -Pnative package").isExecutable();
+        assertThat(JVM_JAR).as("JVM jar; build with mvn -Pnative package").isRegularFile();
+
+        Run jvm = run("JVM", List.of(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-jar", JVM_JAR.toAbsolutePath().toString()));
+        Run image = run("native", List.of(NATIVE_BINARY.toAbsolutePath().toString()));
+
+        for (Run run : List.of(jvm, image)) {
+            log.info("{} build: first request after {} ms, {} MB resident", run.build(), run.startup().toMillis(),
+                    run.residentKilobytes() / 1024);
+        }
+        assertThat(image.startup()).isLessThan(jvm.startup());
+        assertThat(image.startup().toMillis()).isLessThanOrEqualTo(MAX_NATIVE_STARTUP_MILLIS);
+        assertThat(image.residentKilobytes()).isLessThan(jvm.residentKilobytes());
+    }
+
+    private Run run(String build, List<String> launcher) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>(launcher);
+        command.addAll(List.of(
+                "--spring.profiles.active=prod",
+                "--spring.datasource.url=jdbc:h2:mem:native;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "--server.port=" + port,
+                "--accounting.archive.directory=" + Path.of("target", "native-smoke", "archive").toAbsolutePath(),
+                "--accounting.security.jwt.secret=" + JWT_SECRET));
+        Path log = Files.createDirectories(Path.of("target", "native-smoke")).resolve(build + ".log");
+
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            assertThat(awaitFirstResponse(process, port)).as("GET /login on the %s build", build).isEqualTo(200);
+            Duration startup = Duration.ofNanos(System.nanoTime() - started);
+
+            String token = requestToken(port);
+            assertThat(send(port, "/api/v1/accounts", "Bearer " + token).body()).contains("\"code\"");
+            String basic = "Basic " + Base64.getEncoder().encodeToString((USERNAME + ":" + PASSWORD).getBytes(StandardCharsets.UTF_8));
+            HttpResponse<String> dashboard = send(port, "/dashboard", basic);
+            assertThat(dashboard.statusCode()).as("GET /dashboard on the %s build", build).isEqualTo(200);
+            assertThat(dashboard.body()).contains("Dashboard");
+
+            return new Run(build, startup, residentKilobytes(process.pid()));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private int awaitFirstResponse(Process process, int port) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/login")).GET().build();
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with " + process.exitValue() + " before serving a request");
+            }
+            try {
+                return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (ConnectException e) {
+                Thread.sleep(5);
+            }
+        }
+        throw new IllegalStateException("No response within " + TIMEOUT);
+    }
+
+    private String requestToken(int port) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/token"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(
+                        Map.of("username", USERNAME, "password", PASSWORD))))
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return objectMapper.readTree(response.body()).get("accessToken").asText();
+    }
+
+    private HttpResponse<String> send(int port, String path, String authorization) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", authorization)
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static long residentKilobytes(long pid) throws IOException {
+        return Files.readAllLines(Path.of("/proc", String.valueOf(pid), "status")).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .map(line -> Long.parseLong(line.replaceAll("\\D", "")))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static String randomSecret() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        return Base64.getEncoder().encodeToString(secret);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
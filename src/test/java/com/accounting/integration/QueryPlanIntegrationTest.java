@@ -0,0 +1,185 @@
+package com.accounting.integration;
+
+import com.accounting.metrics.RequestStatistics;
+import com.accounting.repository.BankStatementRepository;
+import com.accounting.repository.CustomerStatementRepository;
+import com.accounting.repository.InvoiceRepository;
+import com.accounting.repository.JournalEntryLineRepository;
+import com.accounting.repository.JournalEntryRepository;
+import com.accounting.util.SqlStatementCounter;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:queryplans;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Query Plan Integration Tests")
+class QueryPlanIntegrationTest {
+
+    @Autowired
+    private JournalEntryLineRepository journalEntryLineRepository;
+
+    @Autowired
+    private JournalEntryRepository journalEntryRepository;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private CustomerStatementRepository customerStatementRepository;
+
+    @Autowired
+    private BankStatementRepository bankStatementRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Flyway flyway;
+
+    private final LocalDate startDate = LocalDate.of(2026, 1, 1);
+    private final LocalDate endDate = LocalDate.of(2026, 1, 31);
+
+    private String explain(Runnable query) {
+        RequestStatistics statistics = SqlStatementCounter.record(query);
+        assertThat(statistics.getStatementCounts()).as("captured statements").isNotEmpty();
+        StringBuilder plans = new StringBuilder();
+        for (String sql : statistics.getStatementCounts().keySet()) {
+            Object[] parameters = Collections.nCopies((int) sql.chars().filter(c -> c == '?').count(), null).toArray();
+            plans.append(jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters)).append('\n');
+        }
+        return plans.toString().toLowerCase();
+    }
+
+    @Nested
+    @DisplayName("Migrations")
+    class Migrations {
+
+        @Test
+        @DisplayName("Should apply every migration and seed the chart of accounts")
+        void migrations_AppliedInOrder() {
+            assertThat(flyway.info().applied())
+                    .extracting(migration -> migration.getVersion().getVersion())
+                    .containsExactly("1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14");
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM accounts", Long.class)).isEqualTo(41L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Journal Queries")
+    class JournalQueries {
+
+        @Test
+        @DisplayName("Account ledger should seek lines by account, posting and date and entries by primary key")
+        void accountLedger_SeeksLinesByAccount() {
+            String plan = explain(() -> journalEntryLineRepository.findByAccountIdAndPostedBetweenDates(1L, startDate, endDate));
+
+            assertThat(plan).contains("idx_journal_entry_lines_account_posted_date");
+            assertThat(plan).contains("/* public.primary_key_1: id = jel1_0.journal_entry_id */");
+            assertThat(plan).doesNotContain("tablescan");
+        }
+
+        @Test
+        @DisplayName("Account balances should read only the covering line index")
+        void accountBalance_UsesCoveringLineIndex() {
+            String plan = explain(() -> {
+                journalEntryLineRepository.sumDebitByAccountId(1L);
+                journalEntryLineRepository.sumCreditByAccountIdBetweenDates(1L, startDate, endDate);
+                journalEntryLineRepository.sumDebitByAccountIdBeforeDate(1L, startDate);
+            });
+
+            assertThat(plan).contains("idx_journal_entry_lines_account_posted_date");
+            assertThat(plan).doesNotContain("journal_entries", "tablescan");
+        }
+
+        @Test
+        @DisplayName("Posted entries in a period should use the status, date and number index")
+        void postedEntriesBetweenDates_UsesStatusDateIndex() {
+            String plan = explain(() -> journalEntryRepository.findPostedEntriesBetweenDates(startDate, endDate));
+
+            assertThat(plan).contains("idx_journal_entries_status_date_number");
+        }
+
+        @Test
+        @DisplayName("Consolidated posting lookup should use the reference index")
+        void postedByReference_UsesReferenceIndex() {
+            String plan = explain(() -> journalEntryRepository.findPostedByReferenceWithLines("INV-DAY-2026-01-15"));
+
+            assertThat(plan).contains("idx_journal_entries_reference_status");
+        }
+    }
+
+    @Nested
+    @DisplayName("Receivables Queries")
+    class ReceivablesQueries {
+
+        @Test
+        @DisplayName("Overdue sweep should use the status and due date index")
+        void overdueInvoices_UsesStatusDueDateIndex() {
+            String plan = explain(() -> invoiceRepository.findOverdueInvoices(endDate));
+
+            assertThat(plan).contains("idx_invoices_status_due_date");
+        }
+
+        @Test
+        @DisplayName("Customer payments should use the customer and paid date index")
+        void paymentsBetween_UsesCustomerPaidDateIndex() {
+            String plan = explain(() -> invoiceRepository.findPaymentsBetween(1L, startDate, endDate));
+
+            assertThat(plan).contains("idx_invoices_customer_paid_date");
+        }
+
+        @Test
+        @DisplayName("Opening balances should use the status and invoice date index")
+        void balancesBefore_UsesStatusInvoiceDateIndex() {
+            String plan = explain(() -> customerStatementRepository.findBalancesBefore(startDate));
+
+            assertThat(plan).contains("idx_invoices_status_invoice_date");
+        }
+
+        @Test
+        @DisplayName("Statement activity should use the invoice date and paid date indexes")
+        void streamActivity_UsesStatusDateIndexes() {
+            String plan = explain(() -> customerStatementRepository.streamActivity(startDate, endDate, (customerId, line) -> { }));
+
+            assertThat(plan).contains("idx_invoices_status_invoice_date", "idx_invoices_status_paid_date");
+        }
+    }
+
+    @Nested
+    @DisplayName("Reconciliation Queries")
+    class ReconciliationQueries {
+
+        @Test
+        @DisplayName("Unreconciled lines should use the account, reconciled and transaction date index")
+        void unreconciled_UsesReconciledIndex() {
+            String plan = explain(() -> bankStatementRepository.findUnreconciledByBankAccountId(1L));
+
+            assertThat(plan).contains("idx_bank_statements_account_reconciled_date");
+        }
+
+        @Test
+        @DisplayName("Statement period should use the account and statement date index")
+        void dateRange_UsesStatementDateIndex() {
+            String plan = explain(() -> bankStatementRepository.findByBankAccountIdAndDateRange(1L, startDate, endDate));
+
+            assertThat(plan).contains("idx_bank_statements_account_statement_date");
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.accounting.integration;
+
+import com.accounting.datasource.ReadYourWrites;
+import com.accounting.datasource.ReplicaRoutingDataSource;
+import com.accounting.dto.JournalEntryDTO;
+import com.accounting.model.Account;
+import com.accounting.model.EntryStatus;
+import com.accounting.model.JournalEntry;
+import com.accounting.service.AccountService;
+import com.accounting.service.JournalService;
+import com.accounting.service.ReportExecutor;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "accounting.datasource.replica.jdbc-url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "accounting.datasource.replica.username=sa",
+        "accounting.datasource.replica.maximum-pool-size=6",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@ActiveProfiles("test")
+@DisplayName("Replica Routing Integration Tests")
+class ReplicaRoutingIntegrationTest {
+
+    @Autowired
+    private JournalService journalService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private ReportExecutor reportExecutor;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private final Map<String, ReadYourWrites> clients = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        // Stands in for replication: the replica gets the same schema and reference data, but no postings
+        Flyway.configure().dataSource(replicaDataSource).locations("classpath:db/migration/h2").load().migrate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        ReadYourWrites.bind(null);
+    }
+
+    // Each user stands in for a client carrying its own last-write marker, as ReadYourWritesFilter binds it
+    private void loginAs(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(username, null, List.of()));
+        ReadYourWrites.bind(clients.computeIfAbsent(username,
+                name -> new ReadYourWrites(0L, null, Duration.ofSeconds(5))));
+    }
+
+    private JournalEntry postEntry(BigDecimal amount) {
+        Account cash = accountService.findByCode("1000").orElseThrow();
+        Account revenue = accountService.findByCode("4000").orElseThrow();
+
+        JournalEntryDTO dto = new JournalEntryDTO();
+        dto.setEntryDate(LocalDate.now());
+        dto.setDescription("Replica routing entry");
+        dto.setLines(new ArrayList<>());
+        JournalEntryDTO.JournalEntryLineDTO debit = new JournalEntryDTO.JournalEntryLineDTO();
+        debit.setAccountId(cash.getId());
+        debit.setDebitAmount(amount);
+        dto.getLines().add(debit);
+        JournalEntryDTO.JournalEntryLineDTO credit = new JournalEntryDTO.JournalEntryLineDTO();
+        credit.setAccountId(revenue.getId());
+        credit.setCreditAmount(amount);
+        dto.getLines().add(credit);
+
+        return journalService.postEntry(journalService.createEntry(dto, null).getId());
+    }
+
+    @Nested
+    @DisplayName("Routing")
+    class Routing {
+
+        @Test
+        @DisplayName("Should wire the routing data source and size report fan-out from the replica pool")
+        void dataSource_RoutesBetweenPools() throws SQLException {
+            assertThat(dataSource.isWrapperFor(ReplicaRoutingDataSource.class)).isTrue();
+            assertThat(reportExecutor.getMaxConcurrency()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should write to the primary and serve other users' reads from the replica")
+        void postEntry_OtherUserReadsReplica() {
+            loginAs("bob");
+            long before = journalService.countByStatus(EntryStatus.POSTED);
+
+            loginAs("alice");
+            postEntry(BigDecimal.valueOf(250));
+
+            loginAs("bob");
+            assertThat(journalService.countByStatus(EntryStatus.POSTED)).isEqualTo(before);
+        }
+    }
+
+    @Nested
+    @DisplayName("Read-Your-Writes")
+    class Stickiness {
+
+        @Test
+        @DisplayName("Should read the posting user's own writes from the primary")
+        void postEntry_SameUserReadsPrimary() {
+            loginAs("carol");
+            JournalEntry entry = postEntry(BigDecimal.valueOf(100));
+
+            assertThat(journalService.findById(entry.getId())).isPresent();
+            assertThat(accountService.getBalance(entry.getLines().get(0).getAccount().getId()))
+                    .isGreaterThanOrEqualTo(BigDecimal.valueOf(100));
+        }
+
+        @Test
+        @DisplayName("Should read from the primary when the client presents the marker to another node")
+        void postEntry_MarkerOnNextRequest_ReadsPrimary() {
+            loginAs("dave");
+            JournalEntry entry = postEntry(BigDecimal.valueOf(75));
+
+            ReadYourWrites.bind(new ReadYourWrites(clients.get("dave").getLastWrite(), null, Duration.ofSeconds(5)));
+            assertThat(journalService.findById(entry.getId())).isPresent();
+
+            ReadYourWrites.bind(new ReadYourWrites(0L, null, Duration.ofSeconds(5)));
+            assertThat(journalService.findById(entry.getId())).isEmpty();
+        }
+    }
+}
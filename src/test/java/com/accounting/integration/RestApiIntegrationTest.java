@@ -0,0 +1,227 @@
+package com.accounting.integration;
+
+import com.accounting.model.*;
+import com.accounting.repository.AccountRepository;
+import com.accounting.repository.CustomerRepository;
+import com.accounting.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("REST API Integration Tests")
+class RestApiIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private UserService userService;
+
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        createAccount("1000", "Cash", AccountType.ASSET);
+        createAccount("1200", "Accounts Receivable", AccountType.ASSET);
+        createAccount("4000", "Sales Revenue", AccountType.REVENUE);
+        createAccount("5000", "Rent Expense", AccountType.EXPENSE);
+
+        customer = new Customer();
+        customer.setCode("CUST001");
+        customer.setName("First Customer");
+        customer = customerRepository.save(customer);
+
+        userService.createRoleIfNotExists("ACCOUNTANT");
+        User user = new User();
+        user.setUsername("apiclerk");
+        user.setEmail("apiclerk@example.com");
+        userService.createUser(user, "secret", "ACCOUNTANT");
+    }
+
+    // Requests share the test transaction, so apply the counter bumps each request would have made at commit
+    private void commitVersions() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.beforeCommit(false));
+    }
+
+        private void createAccount(String code, String name, AccountType type) {
+        Account account = new Account();
+        account.setCode(code);
+        account.setName(name);
+        account.setAccountType(type);
+        account.setIsActive(true);
+        accountRepository.save(account);
+    }
+
+    private MockHttpServletRequestBuilder authenticated(MockHttpServletRequestBuilder request) {
+        return request.with(jwt()
+                .jwt(token -> token.subject("apiclerk"))
+                .authorities(new SimpleGrantedAuthority("ROLE_ACCOUNTANT")));
+    }
+
+    private MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder request, String body) {
+        return authenticated(request).contentType(MediaType.APPLICATION_JSON).content(body);
+    }
+
+    @Nested
+    @DisplayName("Accounts")
+    class Accounts {
+
+        @Test
+        @DisplayName("Should page and filter account summaries without entity graphs")
+        void listAccounts_FilterByType_ReturnsSummaries() throws Exception {
+            mockMvc.perform(authenticated(get("/api/v1/accounts").param("type", "ASSET").param("size", "1")))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].code").value("1000"))
+                    .andExpect(jsonPath("$.content[0].children").doesNotExist())
+                    .andExpect(jsonPath("$.totalElements").value(2))
+                    .andExpect(jsonPath("$.totalPages").value(2));
+        }
+
+        @Test
+        @DisplayName("Should answer 304 until an account changes")
+        void listAccounts_IfNoneMatch_ReturnsNotModifiedUntilChange() throws Exception {
+            String etag = mockMvc.perform(authenticated(get("/api/v1/accounts")))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists(HttpHeaders.ETAG))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(authenticated(get("/api/v1/accounts")).header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified());
+
+            mockMvc.perform(json(post("/api/v1/accounts"),
+                            "{\"code\":\"6000\",\"name\":\"Utilities\",\"accountType\":\"EXPENSE\"}"))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.id").exists());
+            commitVersions();
+
+            String changed = mockMvc.perform(authenticated(get("/api/v1/accounts")).header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            assertThat(changed).isNotEqualTo(etag);
+        }
+
+        @Test
+        @DisplayName("Should return JSON errors for missing accounts and rule violations")
+        void accountErrors_ReturnJson() throws Exception {
+            mockMvc.perform(authenticated(get("/api/v1/accounts/999999")))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.error").value("Account not found: 999999"));
+
+            mockMvc.perform(json(post("/api/v1/accounts"),
+                            "{\"code\":\"1000\",\"name\":\"Duplicate\",\"accountType\":\"ASSET\"}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("Account code already exists: 1000"));
+        }
+
+        @Test
+        @DisplayName("Should require authentication")
+        void listAccounts_WithoutToken_ReturnsUnauthorized() throws Exception {
+            mockMvc.perform(get("/api/v1/accounts"))
+                    .andExpect(status().isUnauthorized());
+        }
+    }
+
+    @Nested
+    @DisplayName("Journal and Reports")
+    class JournalAndReports {
+
+        @Test
+        @DisplayName("Should create and post an entry by account code and invalidate report ETags")
+        void postEntry_ChangesTrialBalanceEtag() throws Exception {
+            String reportEtag = mockMvc.perform(authenticated(get("/api/v1/reports/trial-balance")))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            String body = "{\"entryDate\":\"" + LocalDate.now() + "\",\"description\":\"Rent\",\"lines\":["
+                    + "{\"accountCode\":\"5000\",\"debitAmount\":250},"
+                    + "{\"accountCode\":\"1000\",\"creditAmount\":250}]}";
+            String location = mockMvc.perform(json(post("/api/v1/journal"), body))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.status").value("DRAFT"))
+                    .andExpect(jsonPath("$.lines", hasSize(2)))
+                    .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+
+            mockMvc.perform(authenticated(post(location + "/post")))
+                    .andExpect(status().isNoContent());
+            commitVersions();
+
+            mockMvc.perform(authenticated(get("/api/v1/journal").param("status", "POSTED")))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].description").value("Rent"))
+                    .andExpect(jsonPath("$.content[0].totalDebit").value(250));
+
+            mockMvc.perform(authenticated(get("/api/v1/reports/trial-balance")).header(HttpHeaders.IF_NONE_MATCH, reportEtag))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalDebit").value(250));
+        }
+    }
+
+    @Nested
+    @DisplayName("Invoices")
+    class Invoices {
+
+        @Test
+        @DisplayName("Should create, send and list invoices filtered by status and customer")
+        void createAndSendInvoice_ListsByStatus() throws Exception {
+            String body = "{\"customerId\":" + customer.getId() + ",\"invoiceDate\":\"" + LocalDate.now() + "\","
+                    + "\"items\":[{\"description\":\"Consulting\",\"quantity\":2,\"unitPrice\":75}]}";
+            String location = mockMvc.perform(json(post("/api/v1/invoices"), body))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.totalAmount").value(150))
+                    .andExpect(jsonPath("$.customerName").value("First Customer"))
+                    .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+
+            mockMvc.perform(authenticated(post(location + "/send")))
+                    .andExpect(status().isNoContent());
+
+            mockMvc.perform(authenticated(get("/api/v1/invoices")
+                            .param("status", "SENT")
+                            .param("customerId", customer.getId().toString())))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].customerName").value("First Customer"))
+                    .andExpect(jsonPath("$.content[0].items").doesNotExist());
+
+            mockMvc.perform(authenticated(get(location)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("SENT"))
+                    .andExpect(jsonPath("$.journalEntryId").exists())
+                    .andExpect(jsonPath("$.items", hasSize(1)));
+        }
+    }
+}
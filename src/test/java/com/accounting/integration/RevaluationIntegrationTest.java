@@ -0,0 +1,176 @@
+package com.accounting.integration;
+
+import com.accounting.dto.ExchangeRateDTO;
+import com.accounting.dto.RevaluationResultDTO;
+import com.accounting.model.*;
+import com.accounting.repository.AccountRepository;
+import com.accounting.repository.CurrencyRepository;
+import com.accounting.repository.JournalEntryRepository;
+import com.accounting.service.ExchangeRateService;
+import com.accounting.service.RevaluationService;
+import com.accounting.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against its own database and commits, because the rate cache only reloads after an import commits.
+ * Each test uses its own currencies and accounts and only asserts on those.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:revaluation;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+@ActiveProfiles("test")
+@DisplayName("Revaluation Integration Tests")
+class RevaluationIntegrationTest {
+
+    private static final LocalDate OPENED = LocalDate.of(2024, 1, 15);
+    private static final LocalDate QUARTER_END = LocalDate.of(2024, 3, 31);
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private RevaluationService revaluationService;
+
+    @Autowired
+    private ExchangeRateService exchangeRateService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private CurrencyRepository currencyRepository;
+
+    @Autowired
+    private JournalEntryRepository journalEntryRepository;
+
+    private Account gainLoss;
+    private Account sales;
+
+    @BeforeEach
+    void setUp() {
+        if (currencyRepository.findByCode("USD").isEmpty()) {
+            Currency usd = new Currency("USD", "US Dollar", "$");
+            usd.setExchangeRate(BigDecimal.ONE);
+            usd.setIsBase(true);
+            currencyRepository.save(usd);
+        }
+        gainLoss = accountRepository.findByCode("4500")
+                .orElseGet(() -> createAccount("4500", AccountType.REVENUE));
+        sales = createAccount("S" + SEQUENCE.incrementAndGet(), AccountType.REVENUE);
+    }
+
+    private Account createAccount(String code, AccountType type) {
+        Account account = new Account();
+        account.setCode(code);
+        account.setName("Account " + code);
+        account.setAccountType(type);
+        account.setIsActive(true);
+        return accountRepository.save(account);
+    }
+
+    private Currency createCurrency(String code, String openingRate, String closingRate) {
+        Currency currency = new Currency(code, code, code);
+        currency.setExchangeRate(new BigDecimal(openingRate));
+        currency.setIsBase(false);
+        currency = currencyRepository.save(currency);
+        exchangeRateService.importRates(List.of(
+                new ExchangeRateDTO(code, LocalDate.of(2024, 1, 1), new BigDecimal(openingRate)),
+                new ExchangeRateDTO(code, QUARTER_END, new BigDecimal(closingRate))));
+        return currency;
+    }
+
+    private void post(LocalDate date, Account account, Currency currency, String rate, String baseAmount,
+                      EntryStatus status) {
+        BigDecimal amount = new BigDecimal(baseAmount);
+        JournalEntry entry = TestDataBuilder.createBalancedJournalEntry("T-REVAL-" + SEQUENCE.incrementAndGet(), date, status,
+                amount.signum() > 0 ? account : sales, amount.signum() > 0 ? sales : account, amount.abs());
+        JournalEntryLine foreign = entry.getLines().get(amount.signum() > 0 ? 0 : 1);
+        foreign.setCurrency(currency);
+        foreign.setExchangeRate(new BigDecimal(rate));
+        journalEntryRepository.save(entry);
+    }
+
+    private RevaluationResultDTO.CurrencyRevaluationDTO revaluation(RevaluationResultDTO result, String code) {
+        return result.getCurrencies().stream()
+                .filter(currency -> currency.getCurrencyCode().equals(code))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private BigDecimal adjustment(JournalEntry entry, Account account) {
+        return entry.getLines().stream()
+                .filter(line -> line.getAccount().getId().equals(account.getId()))
+                .map(line -> line.getDebitAmount().subtract(line.getCreditAmount()))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    @Nested
+    @DisplayName("Period-End Run")
+    class PeriodEndRun {
+
+        @Test
+        @DisplayName("Should post one balanced adjusting entry per currency at the dated rate")
+        void revalue_PostsOneEntryPerCurrency() {
+            Currency euro = createCurrency("EUA", "1.10", "1.00");
+            Currency pound = createCurrency("GBA", "0.80", "0.75");
+            Account euroCash = createAccount("C" + SEQUENCE.incrementAndGet(), AccountType.ASSET);
+            Account euroPayable = createAccount("P" + SEQUENCE.incrementAndGet(), AccountType.LIABILITY);
+            Account poundReceivable = createAccount("R" + SEQUENCE.incrementAndGet(), AccountType.ASSET);
+            Account euroRevenue = createAccount("V" + SEQUENCE.incrementAndGet(), AccountType.REVENUE);
+
+            post(OPENED, euroCash, euro, "1.10", "100.00", EntryStatus.POSTED);
+            post(OPENED, euroPayable, euro, "1.10", "-50.00", EntryStatus.POSTED);
+            post(OPENED, poundReceivable, pound, "0.80", "200.00", EntryStatus.POSTED);
+            post(OPENED, euroRevenue, euro, "1.10", "-300.00", EntryStatus.POSTED);
+            post(OPENED, euroCash, euro, "1.10", "999.00", EntryStatus.DRAFT);
+            post(QUARTER_END.plusDays(1), euroCash, euro, "1.00", "999.00", EntryStatus.POSTED);
+
+            RevaluationResultDTO result = revaluationService.revalue(QUARTER_END);
+
+            // EUR: cash 110.00 EUR is now 110.00 (+10.00), payable 55.00 EUR is now 55.00 (-5.00)
+            assertThat(revaluation(result, "EUA").getGainLoss()).isEqualByComparingTo("5.00");
+            assertThat(revaluation(result, "EUA").getAccountCount()).isEqualTo(2);
+            // GBP: receivable 160.00 GBP is now 213.33 (+13.33)
+            assertThat(revaluation(result, "GBA").getGainLoss()).isEqualByComparingTo("13.33");
+
+            JournalEntry euroEntry = journalEntryRepository.findPostedByReferenceWithLines("FX-REVAL-20240331-EUA")
+                    .orElseThrow();
+            assertThat(euroEntry.getEntryNumber()).isEqualTo(revaluation(result, "EUA").getEntryNumber());
+            assertThat(euroEntry.getEntryDate()).isEqualTo(QUARTER_END);
+            assertThat(euroEntry.getLines()).hasSize(3);
+            assertThat(adjustment(euroEntry, euroCash)).isEqualByComparingTo("10.00");
+            assertThat(adjustment(euroEntry, euroPayable)).isEqualByComparingTo("-5.00");
+            assertThat(adjustment(euroEntry, gainLoss)).isEqualByComparingTo("-5.00");
+            assertThat(adjustment(euroEntry, euroRevenue)).isEqualByComparingTo("0");
+
+            JournalEntry poundEntry = journalEntryRepository.findPostedByReferenceWithLines("FX-REVAL-20240331-GBA")
+                    .orElseThrow();
+            assertThat(adjustment(poundEntry, poundReceivable)).isEqualByComparingTo("13.33");
+            assertThat(adjustment(poundEntry, gainLoss)).isEqualByComparingTo("-13.33");
+        }
+
+        @Test
+        @DisplayName("Should post nothing when the same date is revalued again")
+        void revalue_SameDateTwice_SecondRunPostsNothing() {
+            Currency franc = createCurrency("CHA", "0.90", "0.95");
+            Account francCash = createAccount("C" + SEQUENCE.incrementAndGet(), AccountType.ASSET);
+            post(OPENED, francCash, franc, "0.90", "1000.00", EntryStatus.POSTED);
+
+            RevaluationResultDTO first = revaluationService.revalue(QUARTER_END);
+            RevaluationResultDTO second = revaluationService.revalue(QUARTER_END);
+
+            // 900.00 CHF is now 947.37 base, a loss of 52.63
+            assertThat(revaluation(first, "CHA").getGainLoss()).isEqualByComparingTo("-52.63");
+            assertThat(revaluation(second, "CHA")).isNull();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.accounting.integration;
+
+import com.accounting.dto.CacheRegionStatsDTO;
+import com.accounting.metrics.RequestStatistics;
+import com.accounting.model.*;
+import com.accounting.repository.AccountRepository;
+import com.accounting.repository.JournalEntryRepository;
+import com.accounting.service.AccountService;
+import com.accounting.service.JournalService;
+import com.accounting.service.LedgerService;
+import com.accounting.service.SecondLevelCacheService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.accounting.util.SqlStatementCounter.record;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against its own database and commits, because entities only reach the second-level cache once their
+ * transaction commits. Each page is read once from a cold cache and once warm, and the statement counts compared.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:l2cache;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+@ActiveProfiles("test")
+@DisplayName("Second-Level Cache Integration Tests")
+class SecondLevelCacheIntegrationTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private SecondLevelCacheService secondLevelCacheService;
+
+    @Autowired
+    private JournalService journalService;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JournalEntryRepository journalEntryRepository;
+
+    private List<Account> createAccounts(int count) {
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Account account = new Account();
+            account.setCode("L2-" + SEQUENCE.incrementAndGet());
+            account.setName("Cached account " + i);
+            account.setAccountType(i % 2 == 0 ? AccountType.ASSET : AccountType.EXPENSE);
+            account.setIsActive(true);
+            accounts.add(accountRepository.save(account));
+        }
+        return accounts;
+    }
+
+    private void post(Account debit, Account credit, LocalDate date) {
+        JournalEntry entry = new JournalEntry();
+        entry.setEntryNumber("T-L2-" + SEQUENCE.incrementAndGet());
+        entry.setEntryDate(date);
+        entry.setDescription("Cached posting");
+        entry.setStatus(EntryStatus.POSTED);
+        entry.setPostedAt(LocalDateTime.now());
+
+        JournalEntryLine debitLine = new JournalEntryLine();
+        debitLine.setAccount(debit);
+        debitLine.setDebitAmount(new BigDecimal("10.00"));
+        entry.addLine(debitLine);
+
+        JournalEntryLine creditLine = new JournalEntryLine();
+        creditLine.setAccount(credit);
+        creditLine.setCreditAmount(new BigDecimal("10.00"));
+        entry.addLine(creditLine);
+
+        journalEntryRepository.save(entry);
+    }
+
+    private long statements(Runnable page) {
+        return record(page).getStatements();
+    }
+
+    private CacheRegionStatsDTO region(String name) {
+        return secondLevelCacheService.getRegionStats().stream()
+                .filter(stats -> stats.getRegion().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Nested
+    @DisplayName("Statements Per Page")
+    class StatementsPerPage {
+
+        @Test
+        @DisplayName("Should resolve line accounts on a journal page from the cache once it is warm")
+        void journalPage_WarmCache_SkipsAccountSelects() {
+            List<Account> accounts = createAccounts(10);
+            LocalDate date = LocalDate.now().plusYears(5);
+            for (int i = 0; i < accounts.size(); i++) {
+                post(accounts.get(i), accounts.get((i + 1) % accounts.size()), date);
+            }
+            Pageable page = PageRequest.of(0, accounts.size(), Sort.by(Sort.Direction.DESC, "entryDate", "entryNumber"));
+
+            secondLevelCacheService.evictAll();
+            long cold = statements(() -> journalService.findAllWithLines(page));
+            long hitsBefore = region("accounts").getHitCount();
+            RequestStatistics warm = record(() -> journalService.findAllWithLines(page));
+
+            // The entry query and its count; every line account now comes from the cache
+            assertThat(warm.getStatements()).isEqualTo(2);
+            assertThat(cold).isGreaterThanOrEqualTo(2 + accounts.size());
+            assertThat(region("accounts").getHitCount() - hitsBefore).isGreaterThanOrEqualTo(accounts.size());
+        }
+
+        @Test
+        @DisplayName("Should serve the ledger page's account and active-account list from the cache once it is warm")
+        void ledgerPage_WarmCache_SkipsAccountQueries() {
+            List<Account> accounts = createAccounts(2);
+            LocalDate today = LocalDate.now();
+            post(accounts.get(0), accounts.get(1), today);
+            Long accountId = accounts.get(0).getId();
+            Runnable page = () -> {
+                ledgerService.generateLedger(accountId, today.withDayOfYear(1), today);
+                accountService.findAllActive();
+            };
+
+            secondLevelCacheService.evictAll();
+            long cold = statements(page);
+            long warm = statements(page);
+
+            // The account select and the active-account query are served from the cache
+            assertThat(cold - warm).isEqualTo(2);
+            assertThat(region("account-queries").getHitCount()).isPositive();
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation")
+    class Invalidation {
+
+        @Test
+        @DisplayName("Should drop a deactivated account from the cached active-account query")
+        void deactivate_InvalidatesActiveAccountQuery() {
+            Account account = createAccounts(1).get(0);
+            assertThat(accountService.findAllActive()).extracting(Account::getId).contains(account.getId());
+
+            accountService.deactivate(account.getId());
+
+            assertThat(accountService.findAllActive()).extracting(Account::getId).doesNotContain(account.getId());
+            assertThat(accountService.findById(account.getId()).orElseThrow().getIsActive()).isFalse();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.accounting.integration;
+
+import com.accounting.dto.JournalEntryDTO;
+import com.accounting.model.Account;
+import com.accounting.model.AccountType;
+import com.accounting.model.JournalEntry;
+import com.accounting.repository.AccountRepository;
+import com.accounting.service.JournalService;
+import com.accounting.service.ReportService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.accounting.util.SqlStatementCounter.assertStatementCount;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "accounting.sql.statement-budget=5")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("SQL Statement Budget Integration Tests")
+class StatementBudgetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private JournalService journalService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        createAccount("1000", "Cash", AccountType.ASSET);
+        createAccount("1200", "Accounts Receivable", AccountType.ASSET);
+        createAccount("2000", "Accounts Payable", AccountType.LIABILITY);
+        createAccount("3000", "Owner Equity", AccountType.EQUITY);
+        createAccount("4000", "Sales Revenue", AccountType.REVENUE);
+        createAccount("5000", "Rent Expense", AccountType.EXPENSE);
+
+        JournalEntry entry = journalService.createEntry(entry("5000", "1000", BigDecimal.valueOf(250)), null);
+        journalService.postEntry(entry.getId());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private void createAccount(String code, String name, AccountType type) {
+        Account account = new Account();
+        account.setCode(code);
+        account.setName(name);
+        account.setAccountType(type);
+        account.setIsActive(true);
+        accountRepository.save(account);
+    }
+
+    private JournalEntryDTO entry(String debitCode, String creditCode, BigDecimal amount) {
+        JournalEntryDTO.JournalEntryLineDTO debit = new JournalEntryDTO.JournalEntryLineDTO();
+        debit.setAccountCode(debitCode);
+        debit.setDebitAmount(amount);
+        JournalEntryDTO.JournalEntryLineDTO credit = new JournalEntryDTO.JournalEntryLineDTO();
+        credit.setAccountCode(creditCode);
+        credit.setCreditAmount(amount);
+
+        JournalEntryDTO dto = new JournalEntryDTO();
+        dto.setEntryDate(LocalDate.now());
+        dto.setDescription("Rent");
+        dto.setLines(List.of(debit, credit));
+        return dto;
+    }
+
+    @Nested
+    @DisplayName("Service Statement Counts")
+    class ServiceStatementCounts {
+
+        @Test
+        @DisplayName("Trial balance issues a fixed number of statements per active account")
+        void generateTrialBalance_StatementCount() {
+            long activeAccounts = 6;
+            // Plus one read of the fiscal years version, shared by the closed-year and archive caches
+            assertStatementCount(2 + 2 * activeAccounts, () -> reportService.generateTrialBalance(LocalDate.now()));
+        }
+
+        @Test
+        @DisplayName("Dashboard reads the projections in a fixed number of statements regardless of chart size")
+        void generateDashboard_StatementCount() {
+            // The fiscal years version check, then the entry count and the two projection reads
+            assertStatementCount(4, () -> reportService.generateDashboard());
+        }
+
+        @Test
+        @DisplayName("Creating an entry resolves each line account once and inserts lines in one flush")
+        void createEntry_StatementCount() {
+            // The entry number is an increment and a read of the locked sequence row; the journal version moves at commit.
+            // No fiscal year covers today here, so the period check locks nothing and falls back to the last closed year
+            assertStatementCount(9, () -> {
+                journalService.createEntry(entry("5000", "1000", BigDecimal.TEN), null);
+                entityManager.flush();
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("Request Budget")
+    class RequestBudget {
+
+        @Test
+        @DisplayName("Should count requests that exceed the statement budget")
+        void request_OverBudget_IncrementsCounter() throws Exception {
+            mockMvc.perform(get("/api/v1/reports/trial-balance")
+                            .with(jwt().jwt(token -> token.subject("viewer"))
+                                    .authorities(new SimpleGrantedAuthority("ROLE_VIEWER"))))
+                    .andExpect(status().isOk());
+
+            assertThat(meterRegistry.get("hibernate.request.budget.exceeded")
+                    .tag("uri", "/api/v1/reports/trial-balance")
+                    .counter().count()).isGreaterThanOrEqualTo(1.0);
+        }
+    }
+}
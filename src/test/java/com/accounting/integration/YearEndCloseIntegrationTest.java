@@ -0,0 +1,224 @@
+package com.accounting.integration;
+
+import com.accounting.dto.BalanceSheetDTO;
+import com.accounting.dto.ExchangeRateDTO;
+import com.accounting.dto.FiscalYearCloseResultDTO;
+import com.accounting.dto.JournalEntryDTO;
+import com.accounting.dto.ProfitLossDTO;
+import com.accounting.dto.TrialBalanceDTO;
+import com.accounting.exception.AccountingException;
+import com.accounting.model.*;
+import com.accounting.repository.AccountCurrencySnapshotRepository;
+import com.accounting.repository.AccountRepository;
+import com.accounting.repository.CurrencyRepository;
+import com.accounting.repository.FiscalYearRepository;
+import com.accounting.repository.JournalEntryRepository;
+import com.accounting.service.ExchangeRateService;
+import com.accounting.service.JournalService;
+import com.accounting.service.ReportService;
+import com.accounting.service.YearEndCloseService;
+import com.accounting.util.TestDataBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs against its own database and commits, because closing a year closes the books for every account.
+ * Only one test closes years; the others leave the books open.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:yearend;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+@ActiveProfiles("test")
+@DisplayName("Year-End Close Integration Tests")
+class YearEndCloseIntegrationTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private YearEndCloseService yearEndCloseService;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private JournalService journalService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private FiscalYearRepository fiscalYearRepository;
+
+    @Autowired
+    private JournalEntryRepository journalEntryRepository;
+
+    @Autowired
+    private AccountCurrencySnapshotRepository currencySnapshotRepository;
+
+    @Autowired
+    private CurrencyRepository currencyRepository;
+
+    @Autowired
+    private ExchangeRateService exchangeRateService;
+
+    private Account createAccount(String code, AccountType type) {
+        Account account = new Account();
+        account.setCode(code);
+        account.setName("Account " + code);
+        account.setAccountType(type);
+        account.setIsActive(true);
+        return accountRepository.save(account);
+    }
+
+    private FiscalYear createFiscalYear(int year) {
+        FiscalYear fiscalYear = new FiscalYear();
+        fiscalYear.setName("FY " + year);
+        fiscalYear.setStartDate(LocalDate.of(year, 1, 1));
+        fiscalYear.setEndDate(LocalDate.of(year, 12, 31));
+        return fiscalYearRepository.save(fiscalYear);
+    }
+
+    private void post(LocalDate date, Account debit, Account credit, String amount) {
+        journalEntryRepository.save(TestDataBuilder.createBalancedJournalEntry(
+                "T-CLOSE-" + SEQUENCE.incrementAndGet(), date, EntryStatus.POSTED, debit, credit, new BigDecimal(amount)));
+    }
+
+    private BigDecimal trialBalanceLine(TrialBalanceDTO trialBalance, Account account) {
+        return trialBalance.getLines().stream()
+                .filter(line -> account.getId().equals(line.getAccountId()))
+                .map(line -> line.getDebitBalance().subtract(line.getCreditBalance()))
+                .findFirst()
+                .orElse(BigDecimal.ZERO);
+    }
+
+    private BigDecimal equityLine(BalanceSheetDTO balanceSheet, Account account) {
+        return balanceSheet.getEquityAccounts().stream()
+                .filter(line -> account.getId().equals(line.getAccountId()))
+                .map(BalanceSheetDTO.AccountBalanceDTO::getBalance)
+                .findFirst()
+                .orElse(BigDecimal.ZERO);
+    }
+
+    @Nested
+    @DisplayName("Closing")
+    class Closing {
+
+        @Test
+        @DisplayName("Should close each year into retained earnings and report from the closing snapshots")
+        void close_PostsClosingEntryAndReportsFromSnapshots() {
+            Account retainedEarnings = accountRepository.findByCode("3200")
+                    .orElseGet(() -> createAccount("3200", AccountType.EQUITY));
+            Account cash = createAccount("C" + SEQUENCE.incrementAndGet(), AccountType.ASSET);
+            Account capital = createAccount("Q" + SEQUENCE.incrementAndGet(), AccountType.EQUITY);
+            Account sales = createAccount("S" + SEQUENCE.incrementAndGet(), AccountType.REVENUE);
+            Account rent = createAccount("X" + SEQUENCE.incrementAndGet(), AccountType.EXPENSE);
+            FiscalYear fy2021 = createFiscalYear(2021);
+            FiscalYear fy2022 = createFiscalYear(2022);
+
+            post(LocalDate.of(2021, 1, 4), cash, capital, "1000.00");
+            post(LocalDate.of(2021, 5, 10), cash, sales, "500.00");
+            post(LocalDate.of(2021, 8, 1), rent, cash, "200.00");
+            post(LocalDate.of(2022, 3, 15), cash, sales, "300.00");
+
+            FiscalYearCloseResultDTO first = yearEndCloseService.close(fy2021.getId());
+
+            assertThat(first.getNetIncome()).isEqualByComparingTo("300.00");
+            assertThat(first.getClosedAccountCount()).isEqualTo(2);
+            assertThat(first.getClosingEntryNumber()).isNotNull();
+            assertThat(fiscalYearRepository.findById(fy2021.getId()).orElseThrow().getIsClosed()).isTrue();
+
+            // The closed year's P&L still shows its activity, but the post-closing trial balance does not
+            ProfitLossDTO profitLoss2021 = reportService.generateProfitLoss(fy2021.getStartDate(), fy2021.getEndDate());
+            assertThat(profitLoss2021.getTotalRevenue()).isEqualByComparingTo("500.00");
+            assertThat(profitLoss2021.getNetIncome()).isEqualByComparingTo("300.00");
+            TrialBalanceDTO closing2021 = reportService.generateTrialBalance(fy2021.getEndDate());
+            assertThat(trialBalanceLine(closing2021, sales)).isEqualByComparingTo("0");
+            assertThat(trialBalanceLine(closing2021, retainedEarnings)).isEqualByComparingTo("-300.00");
+            assertThat(closing2021.isBalanced()).isTrue();
+
+            BalanceSheetDTO balanceSheet2022 = reportService.generateBalanceSheet(fy2022.getEndDate());
+            assertThat(balanceSheet2022.getTotalAssets()).isEqualByComparingTo("1600.00");
+            assertThat(equityLine(balanceSheet2022, retainedEarnings)).isEqualByComparingTo("300.00");
+            assertThat(balanceSheet2022.getRetainedEarnings()).isEqualByComparingTo("300.00");
+            assertThat(balanceSheet2022.isBalanced()).isTrue();
+
+            assertThatThrownBy(() -> post2021Entry(cash, sales))
+                    .isInstanceOf(AccountingException.class)
+                    .hasMessageContaining("closed through 2021-12-31");
+            assertThatThrownBy(() -> yearEndCloseService.close(fy2021.getId()))
+                    .isInstanceOf(AccountingException.class)
+                    .hasMessageContaining("already closed");
+
+            FiscalYearCloseResultDTO second = yearEndCloseService.close(fy2022.getId());
+
+            assertThat(second.getNetIncome()).isEqualByComparingTo("300.00");
+            TrialBalanceDTO closing2022 = reportService.generateTrialBalance(fy2022.getEndDate());
+            assertThat(trialBalanceLine(closing2022, cash)).isEqualByComparingTo("1600.00");
+            assertThat(trialBalanceLine(closing2022, retainedEarnings)).isEqualByComparingTo("-600.00");
+            assertThat(closing2022.isBalanced()).isTrue();
+
+            // Translated reports continue from the per-currency balances written at the close
+            assertThat(currencySnapshotRepository.findByFiscalYearId(fy2022.getId()))
+                    .filteredOn(row -> row.getAccount().getId().equals(cash.getId()))
+                    .singleElement()
+                    .satisfies(row -> assertThat(row.getAmount()).isEqualByComparingTo("1600.00"));
+            Currency presentation = createPresentationCurrency("2.00");
+            TrialBalanceDTO translated2022 = reportService.generateTrialBalance(fy2022.getEndDate(), presentation);
+            assertThat(trialBalanceLine(translated2022, cash)).isEqualByComparingTo("3200.00");
+            assertThat(trialBalanceLine(translated2022, sales)).isEqualByComparingTo("0");
+            assertThat(trialBalanceLine(translated2022, retainedEarnings)).isEqualByComparingTo("-1200.00");
+            assertThat(translated2022.isBalanced()).isTrue();
+            BalanceSheetDTO translatedBalanceSheet = reportService.generateBalanceSheet(LocalDate.of(2023, 3, 31), presentation);
+            assertThat(translatedBalanceSheet.getTotalAssets()).isEqualByComparingTo("3200.00");
+            assertThat(equityLine(translatedBalanceSheet, retainedEarnings)).isEqualByComparingTo("1200.00");
+            assertThat(translatedBalanceSheet.isBalanced()).isTrue();
+        }
+
+        private Currency createPresentationCurrency(String rate) {
+            if (currencyRepository.findByCode("USD").isEmpty()) {
+                currencyRepository.save(TestDataBuilder.createCurrency(null, "USD", "US Dollar", true));
+            }
+            currencyRepository.save(TestDataBuilder.createCurrency(null, "YEC", "Year-End Crown", false));
+            exchangeRateService.importRates(List.of(
+                    new ExchangeRateDTO("YEC", LocalDate.of(2020, 1, 1), new BigDecimal(rate))));
+            return currencyRepository.findByCode("YEC").orElseThrow();
+        }
+
+        private void post2021Entry(Account debit, Account credit) {
+            JournalEntryDTO dto = new JournalEntryDTO();
+            dto.setEntryDate(LocalDate.of(2021, 11, 30));
+            dto.setDescription("Back-dated sale");
+            dto.setLines(new ArrayList<>());
+            JournalEntryDTO.JournalEntryLineDTO debitLine = new JournalEntryDTO.JournalEntryLineDTO();
+            debitLine.setAccountId(debit.getId());
+            debitLine.setDebitAmount(BigDecimal.TEN);
+            dto.getLines().add(debitLine);
+            JournalEntryDTO.JournalEntryLineDTO creditLine = new JournalEntryDTO.JournalEntryLineDTO();
+            creditLine.setAccountId(credit.getId());
+            creditLine.setCreditAmount(BigDecimal.TEN);
+            dto.getLines().add(creditLine);
+            journalService.createEntry(dto, null);
+        }
+
+        @Test
+        @DisplayName("Should reject closing a fiscal year that has not ended")
+        void close_YearNotEnded_ThrowsException() {
+            FiscalYear current = createFiscalYear(LocalDate.now().getYear() + 1);
+
+            assertThatThrownBy(() -> yearEndCloseService.close(current.getId()))
+                    .isInstanceOf(AccountingException.class)
+                    .hasMessageContaining("has not ended yet");
+        }
+    }
+}
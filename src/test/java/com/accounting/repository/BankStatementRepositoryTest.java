@@ -1,5 +1,6 @@
 package com.accounting.repository;
 
+import com.accounting.dto.BankStatementSummaryDTO;
 import com.accounting.model.Account;
 import com.accounting.model.AccountType;
 import com.accounting.model.BankAccount;
@@ -11,6 +12,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
@@ -188,6 +192,38 @@ class BankStatementRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("Find Summaries")
+    class FindSummaries {
+
+        @Test
+        @DisplayName("Should page statement summaries within date range")
+        void findSummariesByDateRange_ReturnsRequestedPage() {
+            Page<BankStatementSummaryDTO> result = bankStatementRepository.findSummariesByDateRange(
+                    bankAccount.getId(), LocalDate.now().minusDays(15), LocalDate.now(),
+                    PageRequest.of(1, 3, Sort.by("transactionDate", "id")));
+
+            assertThat(result.getTotalElements()).isEqualTo(4);
+            assertThat(result.getTotalPages()).isEqualTo(2);
+            assertThat(result.getContent()).singleElement().satisfies(summary -> {
+                assertThat(summary.getDescription()).isEqualTo("ATM Withdrawal");
+                assertThat(summary.getNetAmount()).isEqualByComparingTo("-100");
+                assertThat(summary.getIsReconciled()).isFalse();
+            });
+        }
+
+        @Test
+        @DisplayName("Should page unreconciled summaries oldest first")
+        void findUnreconciledSummaries_ReturnsOldestFirst() {
+            Page<BankStatementSummaryDTO> result = bankStatementRepository.findUnreconciledSummaries(
+                    bankAccount.getId(), PageRequest.of(0, 1, Sort.by("transactionDate", "id")));
+
+            assertThat(result.getTotalElements()).isEqualTo(2);
+            assertThat(result.getContent()).extracting(BankStatementSummaryDTO::getId)
+                    .containsExactly(unreconciledStatement1.getId());
+        }
+    }
+
     @Nested
     @DisplayName("Get Reconciled Balance")
     class GetReconciledBalance {
@@ -243,4 +243,37 @@ class InvoiceRepositoryTest {
             assertThat(result.get().getItems()).hasSize(1);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Customer Statement Queries")
+    class CustomerStatementQueries {
+
+        private final List<InvoiceStatus> billed = List.of(InvoiceStatus.SENT, InvoiceStatus.OVERDUE, InvoiceStatus.PAID);
+
+        @Test
+        @DisplayName("Should list billed statement invoices by date and id")
+        void findStatementInvoices_ReturnsBilledInvoicesInOrder() {
+            List<Invoice> result = invoiceRepository.findStatementInvoices(customer.getId(), billed,
+                    LocalDate.now().minusDays(60), LocalDate.now());
+
+            assertThat(result).extracting(Invoice::getInvoiceNumber)
+                    .containsExactly("INV-202601-0003", "INV-202601-0002");
+        }
+
+        @Test
+        @DisplayName("Should sum billed invoices and payments before a date")
+        void sumInvoicedAndPaidBefore_ReturnsOpeningAmounts() {
+            Invoice paid = invoiceRepository.findById(paidInvoice.getId()).get();
+            paid.setPaidDate(LocalDate.now().minusDays(10));
+            entityManager.persist(paid);
+            entityManager.flush();
+
+            assertThat(invoiceRepository.sumInvoicedBefore(customer.getId(), billed, LocalDate.now()))
+                    .isEqualByComparingTo(BigDecimal.valueOf(5000));
+            assertThat(invoiceRepository.sumPaidBefore(customer.getId(), LocalDate.now()))
+                    .isEqualByComparingTo(BigDecimal.valueOf(3000));
+            assertThat(invoiceRepository.findPaymentsBetween(customer.getId(),
+                    LocalDate.now().minusDays(10), LocalDate.now())).hasSize(1);
+        }
+    }
+}
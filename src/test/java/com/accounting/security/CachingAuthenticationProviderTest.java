@@ -0,0 +1,133 @@
+package com.accounting.security;
+
+import com.accounting.model.User;
+import com.accounting.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingAuthenticationProvider Unit Tests")
+class CachingAuthenticationProviderTest {
+
+    @Mock
+    private AuthenticationProvider delegate;
+
+    private AuthenticationCache authenticationCache;
+    private CachingAuthenticationProvider provider;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        authenticationCache = new AuthenticationCache(100, Duration.ofMinutes(5));
+        provider = new CachingAuthenticationProvider(delegate, authenticationCache);
+        user = TestDataBuilder.createDefaultUser();
+        user.setRole(TestDataBuilder.createAdminRole());
+    }
+
+    private Authentication login(String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated("testuser", password);
+    }
+
+    private void delegateAccepts(String password) {
+        when(delegate.authenticate(any())).thenAnswer(invocation -> {
+            Authentication request = invocation.getArgument(0);
+            if (!password.equals(request.getCredentials())) {
+                throw new BadCredentialsException("Bad credentials");
+            }
+            return UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities());
+        });
+    }
+
+    @Nested
+    @DisplayName("Cache Hits")
+    class CacheHits {
+
+        @Test
+        @DisplayName("Should verify credentials once and serve repeat requests from the cache")
+        void authenticate_RepeatedCredentials_DelegatesOnce() {
+            delegateAccepts("secret");
+
+            provider.authenticate(login("secret"));
+            Authentication second = provider.authenticate(login("secret"));
+
+            assertThat(second.isAuthenticated()).isTrue();
+            assertThat(second.getName()).isEqualTo("testuser");
+            assertThat(second.getAuthorities()).extracting("authority").containsExactly("ROLE_ADMIN");
+            verify(delegate, times(1)).authenticate(any());
+            assertThat(authenticationCache.getStats().getHitCount()).isEqualTo(1);
+            assertThat(authenticationCache.getStats().getMissCount()).isEqualTo(1);
+            assertThat(authenticationCache.getStats().getHitRate()).isEqualTo(0.5);
+        }
+
+        @Test
+        @DisplayName("Should cache an immutable snapshot rather than the loaded user")
+        void authenticate_CachedPrincipal_IsSnapshot() {
+            delegateAccepts("secret");
+            Authentication first = provider.authenticate(login("secret"));
+
+            user.setRole(TestDataBuilder.createUserRole());
+            Authentication second = provider.authenticate(login("secret"));
+
+            assertThat(first.getPrincipal()).isNotSameAs(user).isSameAs(second.getPrincipal());
+            assertThat(second.getPrincipal()).isInstanceOf(org.springframework.security.core.userdetails.User.class);
+            assertThat(second.getAuthorities()).extracting("authority").containsExactly("ROLE_ADMIN");
+            assertThat(((UserDetails) second.getPrincipal()).getPassword()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should not accept a different password for a cached user")
+        void authenticate_DifferentPassword_DelegatesAndFails() {
+            delegateAccepts("secret");
+            provider.authenticate(login("secret"));
+
+            assertThatThrownBy(() -> provider.authenticate(login("wrong")))
+                    .isInstanceOf(BadCredentialsException.class);
+            verify(delegate, times(2)).authenticate(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Eviction")
+    class Eviction {
+
+        @Test
+        @DisplayName("Should verify credentials again after the user is evicted")
+        void authenticate_AfterEvict_DelegatesAgain() {
+            delegateAccepts("secret");
+            provider.authenticate(login("secret"));
+
+            authenticationCache.evict("testuser");
+            provider.authenticate(login("secret"));
+
+            verify(delegate, times(2)).authenticate(any());
+            assertThat(authenticationCache.getStats().getSize()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should not cache failed authentications")
+        void authenticate_BadCredentials_NotCached() {
+            delegateAccepts("secret");
+
+            assertThatThrownBy(() -> provider.authenticate(login("wrong")))
+                    .isInstanceOf(BadCredentialsException.class);
+            assertThat(authenticationCache.getStats().getSize()).isZero();
+        }
+    }
+}
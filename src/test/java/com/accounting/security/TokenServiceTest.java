@@ -0,0 +1,104 @@
+package com.accounting.security;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TokenService Unit Tests")
+class TokenServiceTest {
+
+    private static final byte[] KEY = "0123456789abcdef0123456789abcdef".getBytes();
+    private static final String SECRET = Base64.getEncoder().encodeToString(KEY);
+
+    @Nested
+    @DisplayName("Signing Key")
+    class SigningKey {
+
+        @Test
+        @DisplayName("Should refuse to start without a shared key when one is required")
+        void constructor_BlankSecretRequired_ThrowsException() {
+            assertThatThrownBy(() -> new TokenService(" ", true, Duration.ofMinutes(15)))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("accounting.security.jwt.secret");
+        }
+
+        @Test
+        @DisplayName("Should accept tokens issued by another node sharing the key")
+        void decode_SharedSecret_AcceptsOtherNodesToken() {
+            TokenService issuingNode = new TokenService(SECRET, true, Duration.ofMinutes(15));
+            TokenService verifyingNode = new TokenService(SECRET, true, Duration.ofMinutes(15));
+
+            String token = issuingNode.issue(UsernamePasswordAuthenticationToken.authenticated(
+                    "admin", null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))), 0L).getAccessToken();
+
+            assertThat(verifyingNode.getDecoder().decode(token).getSubject()).isEqualTo("admin");
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation")
+    class Validation {
+
+        @Test
+        @DisplayName("Should reject a correctly signed token from another issuer")
+        void decode_ForeignIssuer_Rejected() {
+            TokenService tokenService = new TokenService(SECRET, false, Duration.ofMinutes(15));
+            NimbusJwtEncoder encoder = new NimbusJwtEncoder(new ImmutableSecret<>(new SecretKeySpec(KEY, "HmacSHA256")));
+            Instant now = Instant.now();
+            String token = encoder.encode(JwtEncoderParameters.from(JwsHeader.with(MacAlgorithm.HS256).build(),
+                    JwtClaimsSet.builder()
+                            .issuer("another-system")
+                            .subject("admin")
+                            .issuedAt(now)
+                            .expiresAt(now.plusSeconds(60))
+                            .build())).getTokenValue();
+
+            assertThatThrownBy(() -> tokenService.getDecoder().decode(token))
+                    .isInstanceOf(JwtValidationException.class)
+                    .hasMessageContaining("iss");
+        }
+
+        @Test
+        @DisplayName("Should reject a token once its user's token version has moved or the user is disabled")
+        void decode_StaleTokenVersion_Rejected() {
+            TokenService tokenService = new TokenService(SECRET, false, Duration.ofMinutes(15));
+            Map<String, Long> versions = new HashMap<>(Map.of("clerk", 3L));
+            JwtDecoder decoder = tokenService.getDecoder(username -> Optional.ofNullable(versions.get(username)));
+            String token = tokenService.issue(UsernamePasswordAuthenticationToken.authenticated(
+                    "clerk", null, List.of(new SimpleGrantedAuthority("ROLE_ACCOUNTANT"))), 3L).getAccessToken();
+
+            assertThat(decoder.decode(token).getSubject()).isEqualTo("clerk");
+
+            versions.put("clerk", 4L);
+            assertThatThrownBy(() -> decoder.decode(token))
+                    .isInstanceOf(JwtValidationException.class)
+                    .hasMessageContaining("revoked");
+
+            versions.remove("clerk");
+            assertThatThrownBy(() -> decoder.decode(token))
+                    .isInstanceOf(JwtValidationException.class);
+        }
+    }
+}
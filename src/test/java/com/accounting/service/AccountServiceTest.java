@@ -38,6 +38,12 @@ class AccountServiceTest {
     @Mock
     private JournalEntryLineRepository journalEntryLineRepository;
 
+    @Mock
+    private LedgerVersionService ledgerVersionService;
+
+    @Mock
+    private LedgerArchiveService ledgerArchiveService;
+
     @InjectMocks
     private AccountService accountService;
 
@@ -41,6 +41,12 @@ class BankReconciliationServiceTest {
     @Mock
     private JournalEntryLineRepository journalEntryLineRepository;
 
+    @Mock
+    private LedgerArchiveService ledgerArchiveService;
+
+    @Mock
+    private LedgerEventService ledgerEventService;
+
     @InjectMocks
     private BankReconciliationService bankReconciliationService;
 
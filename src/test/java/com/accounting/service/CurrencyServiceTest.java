@@ -1,5 +1,6 @@
 package com.accounting.service;
 
+import com.accounting.dto.ExchangeRateDTO;
 import com.accounting.exception.AccountingException;
 import com.accounting.model.Currency;
 import com.accounting.repository.CurrencyRepository;
@@ -14,6 +15,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -30,6 +32,9 @@ class CurrencyServiceTest {
     @Mock
     private CurrencyRepository currencyRepository;
 
+    @Mock
+    private ExchangeRateService exchangeRateService;
+
     @InjectMocks
     private CurrencyService currencyService;
 
@@ -181,6 +186,8 @@ class CurrencyServiceTest {
             currencyService.updateExchangeRate(2L, BigDecimal.valueOf(1.25));
 
             assertThat(foreignCurrency.getExchangeRate()).isEqualByComparingTo(BigDecimal.valueOf(1.25));
+            verify(exchangeRateService).importRates(List.of(
+                    new ExchangeRateDTO("EUR", LocalDate.now(), BigDecimal.valueOf(1.25))));
         }
 
         @Test
@@ -0,0 +1,110 @@
+package com.accounting.service;
+
+import com.accounting.dto.CustomerStatementDTO;
+import com.accounting.exception.AccountingException;
+import com.accounting.model.Customer;
+import com.accounting.model.Invoice;
+import com.accounting.model.InvoiceStatus;
+import com.accounting.repository.AccountRepository;
+import com.accounting.repository.CustomerRepository;
+import com.accounting.repository.CustomerStatementRepository;
+import com.accounting.repository.InvoiceRepository;
+import com.accounting.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CustomerStatementService Unit Tests")
+class CustomerStatementServiceTest {
+
+    @Mock
+    private InvoiceRepository invoiceRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private CustomerStatementRepository customerStatementRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountService accountService;
+
+    @InjectMocks
+    private CustomerStatementService customerStatementService;
+
+    private Customer customer;
+    private final LocalDate startDate = LocalDate.of(2026, 1, 1);
+    private final LocalDate endDate = LocalDate.of(2026, 1, 31);
+
+    @BeforeEach
+    void setUp() {
+        customer = TestDataBuilder.createDefaultCustomer();
+    }
+
+    private Invoice invoice(Long id, String number, LocalDate date, BigDecimal amount) {
+        Invoice invoice = TestDataBuilder.createInvoice(id, number, customer, InvoiceStatus.SENT, amount);
+        invoice.setInvoiceDate(date);
+        return invoice;
+    }
+
+    @Nested
+    @DisplayName("Generate Statement")
+    class GenerateStatement {
+
+        @Test
+        @DisplayName("Should merge invoices and payments by date with a running balance")
+        void generateStatement_InvoicesAndPayments_MergedByDate() {
+            Invoice first = invoice(10L, "INV-202601-0001", LocalDate.of(2026, 1, 5), BigDecimal.valueOf(100));
+            Invoice second = invoice(11L, "INV-202601-0002", LocalDate.of(2026, 1, 20), BigDecimal.valueOf(50));
+            Invoice paid = invoice(5L, "INV-202512-0009", LocalDate.of(2025, 12, 10), BigDecimal.valueOf(80));
+            paid.setPaidDate(LocalDate.of(2026, 1, 10));
+
+            when(customerRepository.findById(customer.getId())).thenReturn(Optional.of(customer));
+            when(invoiceRepository.sumInvoicedBefore(eq(customer.getId()), anyList(), eq(startDate)))
+                    .thenReturn(BigDecimal.valueOf(80));
+            when(invoiceRepository.sumPaidBefore(customer.getId(), startDate)).thenReturn(BigDecimal.ZERO);
+            when(invoiceRepository.findStatementInvoices(eq(customer.getId()), anyList(), eq(startDate), eq(endDate)))
+                    .thenReturn(List.of(first, second));
+            when(invoiceRepository.findPaymentsBetween(customer.getId(), startDate, endDate)).thenReturn(List.of(paid));
+
+            CustomerStatementDTO statement = customerStatementService.generateStatement(customer.getId(), startDate, endDate);
+
+            assertThat(statement.getLines()).extracting(CustomerStatementDTO.StatementLineDTO::getInvoiceNumber)
+                    .containsExactly("INV-202601-0001", "INV-202512-0009", "INV-202601-0002");
+            assertThat(statement.getLines()).extracting(CustomerStatementDTO.StatementLineDTO::getRunningBalance)
+                    .usingElementComparator(BigDecimal::compareTo)
+                    .containsExactly(BigDecimal.valueOf(180), BigDecimal.valueOf(100), BigDecimal.valueOf(150));
+            assertThat(statement.getClosingBalance()).isEqualByComparingTo(BigDecimal.valueOf(150));
+        }
+
+        @Test
+        @DisplayName("Should throw exception when customer does not exist")
+        void generateStatement_CustomerNotFound_ThrowsException() {
+            when(customerRepository.findById(99L)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> customerStatementService.generateStatement(99L, startDate, endDate))
+                    .isInstanceOf(AccountingException.class)
+                    .hasMessageContaining("Customer not found: 99");
+        }
+    }
+}
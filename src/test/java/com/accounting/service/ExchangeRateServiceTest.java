@@ -0,0 +1,246 @@
+package com.accounting.service;
+
+import com.accounting.dto.ExchangeRateDTO;
+import com.accounting.exception.AccountingException;
+import com.accounting.model.Currency;
+import com.accounting.model.ExchangeRate;
+import com.accounting.repository.CurrencyRepository;
+import com.accounting.repository.ExchangeRateRepository;
+import com.accounting.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExchangeRateService Unit Tests")
+class ExchangeRateServiceTest {
+
+    @Mock
+    private ExchangeRateRepository exchangeRateRepository;
+
+    @Mock
+    private CurrencyRepository currencyRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private LedgerVersionService ledgerVersionService;
+
+    private ExchangeRateService exchangeRateService;
+
+    private Currency baseCurrency;
+    private Currency euro;
+    private Currency pound;
+
+    @BeforeEach
+    void setUp() {
+        baseCurrency = TestDataBuilder.createBaseCurrency();
+        euro = TestDataBuilder.createForeignCurrency();
+        pound = TestDataBuilder.createCurrency(3L, "GBP", "British Pound", false);
+        pound.setExchangeRate(new BigDecimal("0.85"));
+
+        when(currencyRepository.findAll()).thenReturn(List.of(pound, baseCurrency, euro));
+        when(exchangeRateRepository.findAllOrderedByCurrencyAndDate()).thenReturn(List.of(
+                new ExchangeRate(1L, euro, LocalDate.of(2024, 1, 1), new BigDecimal("1.10"), null),
+                new ExchangeRate(2L, euro, LocalDate.of(2024, 6, 1), new BigDecimal("1.20"), null)));
+
+        exchangeRateService = new ExchangeRateService(exchangeRateRepository, currencyRepository, transactionManager,
+                ledgerVersionService);
+        exchangeRateService.reload();
+    }
+
+    @Nested
+    @DisplayName("Rate Lookups")
+    class RateLookups {
+
+        @Test
+        @DisplayName("Should return the rate in effect on the as-of date")
+        void getRate_ReturnsRateEffectiveOnDate() {
+            assertThat(exchangeRateService.getRate(2L, LocalDate.of(2024, 3, 15))).isEqualByComparingTo("1.10");
+            assertThat(exchangeRateService.getRate(2L, LocalDate.of(2024, 6, 1))).isEqualByComparingTo("1.20");
+            assertThat(exchangeRateService.getRate(2L, LocalDate.of(2030, 1, 1))).isEqualByComparingTo("1.20");
+        }
+
+        @Test
+        @DisplayName("Should fall back to the earliest rate before history starts and to the currency rate without history")
+        void getRate_OutsideHistory_FallsBack() {
+            assertThat(exchangeRateService.getRate(2L, LocalDate.of(2023, 1, 1))).isEqualByComparingTo("1.10");
+            assertThat(exchangeRateService.getRate(3L, LocalDate.of(2024, 3, 15))).isEqualByComparingTo("0.85");
+            assertThat(exchangeRateService.getRate(null, LocalDate.of(2024, 3, 15))).isEqualByComparingTo("1");
+        }
+
+        @Test
+        @DisplayName("Should throw exception for unknown currency")
+        void getRate_UnknownCurrency_ThrowsException() {
+            assertThatThrownBy(() -> exchangeRateService.getRate(99L, LocalDate.now()))
+                    .isInstanceOf(AccountingException.class)
+                    .hasMessageContaining("Currency not found");
+        }
+
+        @Test
+        @DisplayName("Should reload once another node moves the exchange rate version")
+        void getRate_VersionMoved_Reloads() {
+            assertThat(exchangeRateService.getRate(2L, LocalDate.of(2030, 1, 1))).isEqualByComparingTo("1.20");
+            verify(exchangeRateRepository, times(1)).findAllOrderedByCurrencyAndDate();
+
+            when(exchangeRateRepository.findAllOrderedByCurrencyAndDate()).thenReturn(List.of(
+                    new ExchangeRate(3L, euro, LocalDate.of(2025, 1, 1), new BigDecimal("1.30"), null)));
+            when(ledgerVersionService.version(LedgerVersionService.EXCHANGE_RATES)).thenReturn(1L);
+
+            assertThat(exchangeRateService.getRate(2L, LocalDate.of(2030, 1, 1))).isEqualByComparingTo("1.30");
+            assertThat(exchangeRateService.getRate(2L, LocalDate.of(2030, 1, 1))).isEqualByComparingTo("1.30");
+            verify(exchangeRateRepository, times(2)).findAllOrderedByCurrencyAndDate();
+        }
+    }
+
+    @Nested
+    @DisplayName("Conversions")
+    class Conversions {
+
+        @Test
+        @DisplayName("Should convert through the base currency using dated cross rates")
+        void convert_CrossRate_UsesRatesAsOfDate() {
+            BigDecimal amount = new BigDecimal("100.00");
+
+            assertThat(exchangeRateService.convert(amount, 2L, 3L, LocalDate.of(2024, 3, 15)))
+                    .isEqualByComparingTo("77.27");
+            assertThat(exchangeRateService.convert(amount, 2L, 3L, LocalDate.of(2024, 7, 1)))
+                    .isEqualByComparingTo("70.83");
+            assertThat(exchangeRateService.convert(amount, 2L, 2L, LocalDate.of(2024, 7, 1)))
+                    .isSameAs(amount);
+        }
+
+        @Test
+        @DisplayName("Should convert to base currency using the dated rate")
+        void toBase_UsesRateAsOfDate() {
+            assertThat(exchangeRateService.toBase(new BigDecimal("110.00"), 2L, LocalDate.of(2024, 3, 15)))
+                    .isEqualByComparingTo("100.00");
+            assertThat(exchangeRateService.toBase(new BigDecimal("110.00"), 1L, LocalDate.of(2024, 3, 15)))
+                    .isEqualByComparingTo("110.00");
+        }
+
+        @Test
+        @DisplayName("Should match BigDecimal rounding in the bulk cents conversion")
+        void toBase_Bulk_MatchesBigDecimalConversion() {
+            Random random = new Random(41);
+            int size = 10_000;
+            long[] currencyIds = new long[size];
+            int[] epochDays = new int[size];
+            long[] cents = new long[size];
+            long[] baseCents = new long[size];
+            int start = (int) LocalDate.of(2023, 12, 1).toEpochDay();
+            for (int i = 0; i < size; i++) {
+                currencyIds[i] = 1 + random.nextInt(3);
+                epochDays[i] = start + random.nextInt(365);
+                cents[i] = random.nextLong(-100_000_000L, 100_000_000L);
+            }
+            cents[0] = Long.MAX_VALUE / 2;
+            currencyIds[0] = 2L;
+
+            exchangeRateService.toBase(currencyIds, epochDays, cents, baseCents);
+
+            for (int i = 0; i < size; i++) {
+                LocalDate date = LocalDate.ofEpochDay(epochDays[i]);
+                BigDecimal expected = BigDecimal.valueOf(cents[i], 2)
+                        .divide(exchangeRateService.getRate(currencyIds[i], date), 2, RoundingMode.HALF_UP);
+                assertThat(baseCents[i]).as("line %d", i).isEqualTo(expected.unscaledValue().longValueExact());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Translation")
+    class Translations {
+
+        @Test
+        @DisplayName("Should translate at the cross rate on a date and memoize each rate")
+        void translation_AtDate_MemoizesRates() {
+            ExchangeRateService.Translation translation = exchangeRateService.translation(3L);
+            LocalDate date = LocalDate.of(2024, 3, 15);
+
+            assertThat(translation.atDate(2L, new BigDecimal("100.00"), date)).isEqualByComparingTo("77.27");
+            assertThat(translation.atDate(2L, new BigDecimal("-200.00"), date)).isEqualByComparingTo("-154.55");
+            assertThat(translation.atDate(3L, new BigDecimal("100.00"), date)).isEqualByComparingTo("100.00");
+            assertThat(translation.getRateLookups()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should weight the average rate by the days each rate was in effect")
+        void translation_Average_WeightsByDays() {
+            ExchangeRateService.Translation translation = exchangeRateService.translation(3L);
+
+            // 10 days at 0.85 / 1.10 and 10 days at 0.85 / 1.20
+            assertThat(translation.average(2L, new BigDecimal("100.00"), LocalDate.of(2024, 5, 22), LocalDate.of(2024, 6, 10)))
+                    .isEqualByComparingTo("74.05");
+            assertThat(translation.average(null, new BigDecimal("100.00"), LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)))
+                    .isEqualByComparingTo("85.00");
+        }
+    }
+
+    @Nested
+    @DisplayName("Rate Import")
+    class RateImport {
+
+        @Test
+        @DisplayName("Should upsert dated rates and sync the current currency rate")
+        void importRates_SavesRatesAndReloadsCache() {
+            LocalDate today = LocalDate.now();
+            ExchangeRate imported = new ExchangeRate(3L, euro, today, new BigDecimal("1.300000"), null);
+            when(currencyRepository.findByCode("EUR")).thenReturn(Optional.of(euro));
+            when(exchangeRateRepository.findByCurrencyIdAndEffectiveDate(2L, today)).thenReturn(Optional.empty());
+            when(exchangeRateRepository.save(any(ExchangeRate.class))).thenAnswer(i -> i.getArgument(0));
+            when(exchangeRateRepository.findFirstByCurrencyIdAndEffectiveDateLessThanEqualOrderByEffectiveDateDesc(2L, today))
+                    .thenReturn(Optional.of(imported));
+
+            List<ExchangeRate> saved = exchangeRateService.importRates(
+                    List.of(new ExchangeRateDTO("EUR", today, new BigDecimal("1.3"))));
+
+            assertThat(saved).singleElement().satisfies(rate -> {
+                assertThat(rate.getRate()).isEqualByComparingTo("1.3");
+                assertThat(rate.getRate().scale()).isEqualTo(6);
+            });
+            assertThat(euro.getExchangeRate()).isEqualByComparingTo("1.3");
+            verify(exchangeRateRepository, times(2)).findAllOrderedByCurrencyAndDate();
+            verify(ledgerVersionService).bump(LedgerVersionService.EXCHANGE_RATES);
+        }
+
+        @Test
+        @DisplayName("Should reject rates for the base currency")
+        void importRates_BaseCurrency_ThrowsException() {
+            when(currencyRepository.findByCode("USD")).thenReturn(Optional.of(baseCurrency));
+
+            assertThatThrownBy(() -> exchangeRateService.importRates(
+                    List.of(new ExchangeRateDTO("USD", LocalDate.now(), BigDecimal.ONE))))
+                    .isInstanceOf(AccountingException.class)
+                    .hasMessageContaining("Cannot change exchange rate of base currency");
+        }
+
+        @Test
+        @DisplayName("Should reject non-positive rates")
+        void importRates_NonPositiveRate_ThrowsException() {
+            when(currencyRepository.findByCode("EUR")).thenReturn(Optional.of(euro));
+
+            assertThatThrownBy(() -> exchangeRateService.importRates(
+                    List.of(new ExchangeRateDTO("EUR", LocalDate.now(), BigDecimal.ZERO))))
+                    .isInstanceOf(AccountingException.class)
+                    .hasMessageContaining("must be positive");
+        }
+    }
+}
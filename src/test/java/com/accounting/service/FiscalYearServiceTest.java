@@ -0,0 +1,206 @@
+package com.accounting.service;
+
+import com.accounting.dto.CurrencyBalanceDTO;
+import com.accounting.exception.AccountingException;
+import com.accounting.model.Account;
+import com.accounting.model.AccountBalanceSnapshot;
+import com.accounting.model.AccountCurrencySnapshot;
+import com.accounting.model.Currency;
+import com.accounting.model.FiscalYear;
+import com.accounting.repository.AccountBalanceSnapshotRepository;
+import com.accounting.repository.AccountCurrencySnapshotRepository;
+import com.accounting.repository.FiscalYearRepository;
+import com.accounting.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FiscalYearService Unit Tests")
+class FiscalYearServiceTest {
+
+    @Mock
+    private FiscalYearRepository fiscalYearRepository;
+
+    @Mock
+    private AccountBalanceSnapshotRepository snapshotRepository;
+
+    @Mock
+    private AccountCurrencySnapshotRepository currencySnapshotRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private LedgerVersionService ledgerVersionService;
+
+    private FiscalYearService fiscalYearService;
+
+    private FiscalYear fy2023;
+    private FiscalYear fy2024;
+    private Account cashAccount;
+    private Account revenueAccount;
+
+    @BeforeEach
+    void setUp() {
+        fy2023 = closedYear(1L, "FY 2023", 2023);
+        fy2024 = closedYear(2L, "FY 2024", 2024);
+        cashAccount = TestDataBuilder.createCashAccount();
+        revenueAccount = TestDataBuilder.createSalesRevenue();
+
+        fiscalYearService = new FiscalYearService(fiscalYearRepository, snapshotRepository, currencySnapshotRepository,
+                transactionManager, ledgerVersionService);
+    }
+
+    private FiscalYear closedYear(Long id, String name, int year) {
+        return new FiscalYear(id, name, LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31), true,
+                LocalDateTime.now(), null, null, null, null);
+    }
+
+    private AccountBalanceSnapshot snapshot(FiscalYear fiscalYear, Account account, String balance, String closingAmount) {
+        return new AccountBalanceSnapshot(null, fiscalYear, account, fiscalYear.getEndDate(),
+                new BigDecimal(balance), new BigDecimal(closingAmount), null);
+    }
+
+    @Nested
+    @DisplayName("Period Guard")
+    class PeriodGuard {
+
+        @Test
+        @DisplayName("Should reject dates in a closed fiscal year read under lock from the database")
+        void assertOpen_ClosedYear_ThrowsException() {
+            when(fiscalYearRepository.findByDateForShare(LocalDate.of(2024, 12, 31))).thenReturn(Optional.of(fy2024));
+
+            assertThatThrownBy(() -> fiscalYearService.assertOpen(LocalDate.of(2024, 12, 31)))
+                    .isInstanceOf(AccountingException.class)
+                    .hasMessageContaining("closed through 2024-12-31 (FY 2024)");
+            verify(fiscalYearRepository, never()).findAllClosedOrderByEndDate();
+        }
+
+        @Test
+        @DisplayName("Should reject dates outside any fiscal year on or before the last closed one")
+        void assertOpen_UncoveredDateBeforeClose_ThrowsException() {
+            when(fiscalYearRepository.findByDateForShare(any())).thenReturn(Optional.empty());
+            when(fiscalYearRepository.findFirstByIsClosedTrueOrderByEndDateDesc()).thenReturn(Optional.of(fy2024));
+
+            assertThatThrownBy(() -> fiscalYearService.assertOpen(LocalDate.of(2022, 6, 30)))
+                    .isInstanceOf(AccountingException.class);
+            assertThatCode(() -> fiscalYearService.assertOpen(LocalDate.of(2026, 1, 1))).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("Should allow dates in an open fiscal year")
+        void assertOpen_OpenYear_Allows() {
+            FiscalYear fy2025 = new FiscalYear(3L, "FY 2025", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31),
+                    false, null, null, null, null, null);
+            when(fiscalYearRepository.findByDateForShare(LocalDate.of(2025, 1, 1))).thenReturn(Optional.of(fy2025));
+
+            assertThatCode(() -> fiscalYearService.assertOpen(LocalDate.of(2025, 1, 1))).doesNotThrowAnyException();
+            verify(fiscalYearRepository, never()).findFirstByIsClosedTrueOrderByEndDateDesc();
+        }
+    }
+
+    @Nested
+    @DisplayName("Closing Snapshots")
+    class ClosingSnapshots {
+
+        @Test
+        @DisplayName("Should start from the latest fiscal year closed on or before the as-of date")
+        void findSnapshot_UsesLatestClosedYear() {
+            when(fiscalYearRepository.findAllClosedOrderByEndDate()).thenReturn(List.of(fy2023, fy2024));
+            when(snapshotRepository.findByFiscalYearIds(List.of(1L))).thenReturn(List.of(
+                    snapshot(fy2023, cashAccount, "1500.00", "0.00"),
+                    snapshot(fy2023, revenueAccount, "0.00", "900.00")));
+
+            FiscalYearService.ClosingSnapshot snapshot = fiscalYearService.findSnapshot(LocalDate.of(2024, 6, 30))
+                    .orElseThrow();
+
+            assertThat(snapshot.getAsOfDate()).isEqualTo(LocalDate.of(2023, 12, 31));
+            assertThat(snapshot.getBalance(cashAccount)).isEqualByComparingTo("1500.00");
+            assertThat(snapshot.getBalances()).doesNotContainKey(revenueAccount.getId());
+            assertThat(fiscalYearService.findSnapshot(LocalDate.of(2023, 12, 30))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should load per-currency balances from the latest close and copy them for each read")
+        void findCurrencySnapshot_UsesLatestClosedYear() {
+            Currency euro = TestDataBuilder.createForeignCurrency();
+            when(fiscalYearRepository.findAllClosedOrderByEndDate()).thenReturn(List.of(fy2023, fy2024));
+            when(currencySnapshotRepository.findByFiscalYearId(1L)).thenReturn(List.of(
+                    new AccountCurrencySnapshot(null, fy2023, cashAccount, null, LocalDate.of(2023, 2, 1),
+                            new BigDecimal("1000.00"), new BigDecimal("1000.00"), null),
+                    new AccountCurrencySnapshot(null, fy2023, cashAccount, euro, LocalDate.of(2023, 3, 1),
+                            new BigDecimal("500.00"), new BigDecimal("550.00"), null)));
+
+            FiscalYearService.CurrencySnapshot snapshot = fiscalYearService.findCurrencySnapshot(LocalDate.of(2024, 6, 30))
+                    .orElseThrow();
+            snapshot.getBalances(cashAccount).get(0).setAmount(BigDecimal.ZERO);
+
+            assertThat(snapshot.getAsOfDate()).isEqualTo(LocalDate.of(2023, 12, 31));
+            assertThat(snapshot.getBalances(cashAccount)).extracting(CurrencyBalanceDTO::getCurrencyId)
+                    .containsExactly(null, euro.getId());
+            assertThat(snapshot.getBalances(cashAccount).get(0).getAmount()).isEqualByComparingTo("1000.00");
+            assertThat(snapshot.getBalances(revenueAccount)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should have no per-currency snapshot for a year closed before they were recorded")
+        void findCurrencySnapshot_NoRows_ReturnsEmpty() {
+            when(fiscalYearRepository.findAllClosedOrderByEndDate()).thenReturn(List.of(fy2023, fy2024));
+            when(currencySnapshotRepository.findByFiscalYearId(2L)).thenReturn(List.of());
+
+            assertThat(fiscalYearService.findCurrencySnapshot(LocalDate.of(2025, 6, 30))).isEmpty();
+            assertThat(fiscalYearService.findCurrencySnapshot(LocalDate.of(2023, 12, 30))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should load closing amounts only for fiscal years ending inside the period")
+        void getClosingAmounts_OnlyYearsEndingInPeriod() {
+            when(fiscalYearRepository.findAllClosedOrderByEndDate()).thenReturn(List.of(fy2023, fy2024));
+            when(snapshotRepository.findByFiscalYearIds(List.of(2L))).thenReturn(List.of(
+                    snapshot(fy2024, cashAccount, "1500.00", "0.00"),
+                    snapshot(fy2024, revenueAccount, "0.00", "900.00")));
+
+            Map<Long, BigDecimal> amounts = fiscalYearService.getClosingAmounts(
+                    LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+
+            assertThat(amounts).containsOnlyKeys(revenueAccount.getId());
+            assertThat(amounts.get(revenueAccount.getId())).isEqualByComparingTo("900.00");
+            assertThat(fiscalYearService.getClosingAmounts(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 6, 30)))
+                    .isEmpty();
+            verify(snapshotRepository, times(1)).findByFiscalYearIds(any());
+        }
+
+        @Test
+        @DisplayName("Should reload closed years once another node moves the fiscal year version")
+        void findSnapshot_VersionMoved_Reloads() {
+            when(fiscalYearRepository.findAllClosedOrderByEndDate()).thenReturn(List.of(fy2023));
+            assertThat(fiscalYearService.findSnapshot(LocalDate.of(2025, 6, 30)).orElseThrow().getAsOfDate())
+                    .isEqualTo(LocalDate.of(2023, 12, 31));
+
+            when(fiscalYearRepository.findAllClosedOrderByEndDate()).thenReturn(List.of(fy2023, fy2024));
+            when(ledgerVersionService.version(LedgerVersionService.FISCAL_YEARS)).thenReturn(1L);
+
+            assertThat(fiscalYearService.findSnapshot(LocalDate.of(2025, 6, 30)).orElseThrow().getAsOfDate())
+                    .isEqualTo(LocalDate.of(2024, 12, 31));
+        }
+    }
+}
@@ -46,6 +46,21 @@ class InvoiceServiceTest {
     @Mock
     private JournalEntryRepository journalEntryRepository;
 
+    @Mock
+    private ConsolidatedPostingService consolidatedPostingService;
+
+    @Mock
+    private LedgerVersionService ledgerVersionService;
+
+    @Mock
+    private FiscalYearService fiscalYearService;
+
+    @Mock
+    private LedgerEventService ledgerEventService;
+
+    @Mock
+    private NumberSequenceService numberSequenceService;
+
     @InjectMocks
     private InvoiceService invoiceService;
 
@@ -158,7 +173,7 @@ class InvoiceServiceTest {
             InvoiceItem item = TestDataBuilder.createInvoiceItem(null, "Service", BigDecimal.ONE, BigDecimal.valueOf(1000));
             newInvoice.addItem(item);
 
-            when(invoiceRepository.findMaxInvoiceNumberByPrefix(anyString())).thenReturn(null);
+            when(numberSequenceService.next(NumberSequenceService.INVOICE)).thenReturn("INV-202601-0001");
             when(invoiceRepository.save(any(Invoice.class))).thenAnswer(invocation -> {
                 Invoice inv = invocation.getArgument(0);
                 inv.setId(1L);
@@ -185,7 +200,7 @@ class InvoiceServiceTest {
             newInvoice.addItem(item1);
             newInvoice.addItem(item2);
 
-            when(invoiceRepository.findMaxInvoiceNumberByPrefix(anyString())).thenReturn(null);
+            when(numberSequenceService.next(NumberSequenceService.INVOICE)).thenReturn("INV-202601-0001");
             when(invoiceRepository.save(any(Invoice.class))).thenAnswer(i -> i.getArgument(0));
 
             Invoice result = invoiceService.createInvoice(newInvoice);
@@ -258,7 +273,7 @@ class InvoiceServiceTest {
             when(invoiceRepository.findByIdWithItems(1L)).thenReturn(Optional.of(draftInvoice));
             when(accountRepository.findByCode("1200")).thenReturn(Optional.of(arAccount));
             when(accountRepository.findByCode("4000")).thenReturn(Optional.of(revenueAccount));
-            when(journalEntryRepository.findMaxEntryNumberByPrefix(anyString())).thenReturn(null);
+            when(numberSequenceService.next(NumberSequenceService.JOURNAL_ENTRY)).thenReturn("JE-202601-0001");
             when(journalEntryRepository.save(any(JournalEntry.class))).thenAnswer(i -> {
                 JournalEntry entry = i.getArgument(0);
                 entry.setId(1L);
@@ -321,7 +336,7 @@ class InvoiceServiceTest {
             when(invoiceRepository.findById(2L)).thenReturn(Optional.of(sentInvoice));
             when(accountRepository.findByCode("1000")).thenReturn(Optional.of(cashAccount));
             when(accountRepository.findByCode("1200")).thenReturn(Optional.of(arAccount));
-            when(journalEntryRepository.findMaxEntryNumberByPrefix(anyString())).thenReturn(null);
+            when(numberSequenceService.next(NumberSequenceService.JOURNAL_ENTRY)).thenReturn("JE-202601-0001");
             when(journalEntryRepository.save(any(JournalEntry.class))).thenAnswer(i -> {
                 JournalEntry entry = i.getArgument(0);
                 entry.setId(2L);
@@ -343,7 +358,7 @@ class InvoiceServiceTest {
             when(invoiceRepository.findById(3L)).thenReturn(Optional.of(overdueInvoice));
             when(accountRepository.findByCode("1000")).thenReturn(Optional.of(cashAccount));
             when(accountRepository.findByCode("1200")).thenReturn(Optional.of(arAccount));
-            when(journalEntryRepository.findMaxEntryNumberByPrefix(anyString())).thenReturn(null);
+            when(numberSequenceService.next(NumberSequenceService.JOURNAL_ENTRY)).thenReturn("JE-202601-0001");
             when(journalEntryRepository.save(any(JournalEntry.class))).thenAnswer(i -> i.getArgument(0));
             when(invoiceRepository.save(any(Invoice.class))).thenAnswer(i -> i.getArgument(0));
 
@@ -404,6 +419,24 @@ class InvoiceServiceTest {
             assertThat(result.getJournalEntry().getStatus()).isEqualTo(EntryStatus.VOID);
         }
 
+        @Test
+        @DisplayName("Should post a cancellation against a consolidated entry instead of voiding it")
+        void cancelInvoice_ConsolidatedEntry_ReversesInvoiceAmount() {
+            JournalEntry journalEntry = TestDataBuilder.createPostedEntry();
+            sentInvoice.setJournalEntry(journalEntry);
+
+            when(invoiceRepository.findById(2L)).thenReturn(Optional.of(sentInvoice));
+            when(consolidatedPostingService.isConsolidated(journalEntry)).thenReturn(true);
+            when(accountRepository.findByCode("1200")).thenReturn(Optional.of(arAccount));
+            when(invoiceRepository.save(any(Invoice.class))).thenAnswer(i -> i.getArgument(0));
+
+            Invoice result = invoiceService.cancelInvoice(2L);
+
+            assertThat(result.getStatus()).isEqualTo(InvoiceStatus.CANCELLED);
+            assertThat(journalEntry.getStatus()).isEqualTo(EntryStatus.POSTED);
+            verify(consolidatedPostingService).reverse(sentInvoice, arAccount);
+        }
+
         @Test
         @DisplayName("Should throw exception when cancelling paid invoice")
         void cancelInvoice_PaidInvoice_ThrowsException() {
@@ -43,6 +43,18 @@ class JournalServiceTest {
     @Mock
     private AccountRepository accountRepository;
 
+    @Mock
+    private LedgerVersionService ledgerVersionService;
+
+    @Mock
+    private FiscalYearService fiscalYearService;
+
+    @Mock
+    private LedgerEventService ledgerEventService;
+
+    @Mock
+    private NumberSequenceService numberSequenceService;
+
     @InjectMocks
     private JournalService journalService;
 
@@ -161,7 +173,7 @@ class JournalServiceTest {
 
             when(accountRepository.findById(1L)).thenReturn(Optional.of(cashAccount));
             when(accountRepository.findById(4L)).thenReturn(Optional.of(revenueAccount));
-            when(journalEntryRepository.findMaxEntryNumberByPrefix(anyString())).thenReturn(null);
+            when(numberSequenceService.next(NumberSequenceService.JOURNAL_ENTRY)).thenReturn("JE-202601-0001");
             when(journalEntryRepository.save(any(JournalEntry.class))).thenAnswer(invocation -> {
                 JournalEntry entry = invocation.getArgument(0);
                 entry.setId(1L);
@@ -194,7 +206,7 @@ class JournalServiceTest {
 
             when(accountRepository.findById(1L)).thenReturn(Optional.of(cashAccount));
             when(accountRepository.findById(4L)).thenReturn(Optional.of(revenueAccount));
-            when(journalEntryRepository.findMaxEntryNumberByPrefix(anyString())).thenReturn(5);
+            when(numberSequenceService.next(NumberSequenceService.JOURNAL_ENTRY)).thenReturn("JE-202601-0006");
             when(journalEntryRepository.save(any(JournalEntry.class))).thenAnswer(i -> i.getArgument(0));
 
             JournalEntry result = journalService.createEntry(dto, testUser);
@@ -285,6 +297,21 @@ class JournalServiceTest {
                     .isInstanceOf(AccountingException.class)
                     .hasMessageContaining("Journal entry not found");
         }
+
+        @Test
+        @DisplayName("Should throw exception when posting into a closed fiscal year")
+        void postEntry_ClosedPeriod_ThrowsException() {
+            JournalEntry balancedEntry = TestDataBuilder.createBalancedJournalEntry(
+                    cashAccount, revenueAccount, BigDecimal.valueOf(1000));
+            when(journalEntryRepository.findByIdWithLines(1L)).thenReturn(Optional.of(balancedEntry));
+            doThrow(new AccountingException("the books are closed through 2024-12-31"))
+                    .when(fiscalYearService).assertOpen(balancedEntry.getEntryDate());
+
+            assertThatThrownBy(() -> journalService.postEntry(1L))
+                    .isInstanceOf(AccountingException.class)
+                    .hasMessageContaining("closed");
+            verify(journalEntryRepository, never()).save(any(JournalEntry.class));
+        }
     }
 
     @Nested
@@ -37,6 +37,9 @@ class LedgerServiceTest {
     @Mock
     private JournalEntryLineRepository journalEntryLineRepository;
 
+    @Mock
+    private LedgerArchiveService ledgerArchiveService;
+
     @InjectMocks
     private LedgerService ledgerService;
 
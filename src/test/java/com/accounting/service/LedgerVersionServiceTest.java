@@ -0,0 +1,174 @@
+package com.accounting.service;
+
+import com.accounting.dto.LedgerVersionDTO;
+import com.accounting.model.LedgerVersion;
+import com.accounting.repository.LedgerVersionRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LedgerVersionService Unit Tests")
+class LedgerVersionServiceTest {
+
+    @Mock
+    private LedgerVersionRepository ledgerVersionRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private LedgerVersionService ledgerVersionService;
+
+    @Nested
+    @DisplayName("Bump")
+    class Bump {
+
+        @Test
+        @DisplayName("Should increment existing counters in place")
+        void bump_ExistingCounter_Increments() {
+            when(ledgerVersionRepository.increment(eq(LedgerVersionService.JOURNAL), any())).thenReturn(1);
+
+            ledgerVersionService.bump(LedgerVersionService.JOURNAL);
+
+            verify(ledgerVersionRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should create the counter on first bump")
+        void bump_MissingCounter_CreatesVersionOne() {
+            when(ledgerVersionRepository.increment(eq(LedgerVersionService.ACCOUNTS), any())).thenReturn(0);
+
+            ledgerVersionService.bump(LedgerVersionService.ACCOUNTS);
+
+            ArgumentCaptor<LedgerVersion> captor = ArgumentCaptor.forClass(LedgerVersion.class);
+            verify(ledgerVersionRepository).save(captor.capture());
+            assertThat(captor.getValue().getName()).isEqualTo(LedgerVersionService.ACCOUNTS);
+            assertThat(captor.getValue().getVersion()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("Should defer counters to commit and increment them once each in lock order")
+        void bump_InTransaction_IncrementsAtCommitInLockOrder() {
+            when(ledgerVersionRepository.increment(any(), any())).thenReturn(1);
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                ledgerVersionService.bump(LedgerVersionService.INVOICES, LedgerVersionService.JOURNAL);
+                ledgerVersionService.bump(LedgerVersionService.ACCOUNTS, LedgerVersionService.INVOICES);
+                verifyNoInteractions(ledgerVersionRepository);
+
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(synchronization -> synchronization.beforeCommit(false));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            InOrder inOrder = inOrder(entityManager, ledgerVersionRepository);
+            inOrder.verify(entityManager).flush();
+            inOrder.verify(ledgerVersionRepository).increment(eq(LedgerVersionService.ACCOUNTS), any());
+            inOrder.verify(ledgerVersionRepository).increment(eq(LedgerVersionService.JOURNAL), any());
+            inOrder.verify(ledgerVersionRepository).increment(eq(LedgerVersionService.INVOICES), any());
+            verifyNoMoreInteractions(ledgerVersionRepository);
+        }
+
+        @Test
+        @DisplayName("Should take event positions at commit after every bump")
+        void advanceAtCommit_InTransaction_AdvancesAfterBumps() {
+            when(ledgerVersionRepository.increment(any(), any())).thenReturn(1);
+            when(ledgerVersionRepository.advance(eq(LedgerVersionService.EVENTS), eq(2L), any())).thenReturn(1);
+            when(ledgerVersionRepository.findVersion(LedgerVersionService.EVENTS)).thenReturn(42L);
+            long[] reserved = new long[1];
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                ledgerVersionService.advanceAtCommit(LedgerVersionService.EVENTS, 2, last -> reserved[0] = last);
+                ledgerVersionService.bump(LedgerVersionService.JOURNAL);
+                verifyNoInteractions(ledgerVersionRepository);
+
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(synchronization -> synchronization.beforeCommit(false));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            InOrder inOrder = inOrder(ledgerVersionRepository);
+            inOrder.verify(ledgerVersionRepository).increment(eq(LedgerVersionService.JOURNAL), any());
+            inOrder.verify(ledgerVersionRepository).advance(eq(LedgerVersionService.EVENTS), eq(2L), any());
+            assertThat(reserved[0]).isEqualTo(42L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Version")
+    class Version {
+
+        @Test
+        @DisplayName("Should read a counter once per transaction and again after the transaction moves it")
+        void version_InTransaction_ReadsOnceUntilBumped() {
+            when(ledgerVersionRepository.findVersion(LedgerVersionService.FISCAL_YEARS)).thenReturn(4L, 5L);
+            when(ledgerVersionRepository.increment(any(), any())).thenReturn(1);
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                assertThat(ledgerVersionService.version(LedgerVersionService.FISCAL_YEARS)).isEqualTo(4L);
+                assertThat(ledgerVersionService.version(LedgerVersionService.FISCAL_YEARS)).isEqualTo(4L);
+
+                ledgerVersionService.bump(LedgerVersionService.FISCAL_YEARS);
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(synchronization -> synchronization.beforeCommit(false));
+
+                assertThat(ledgerVersionService.version(LedgerVersionService.FISCAL_YEARS)).isEqualTo(5L);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            verify(ledgerVersionRepository, times(2)).findVersion(LedgerVersionService.FISCAL_YEARS);
+        }
+    }
+
+    @Nested
+    @DisplayName("Current")
+    class Current {
+
+        @Test
+        @DisplayName("Should combine counters into one ETag and use the latest change as Last-Modified")
+        void current_MultipleScopes_CombinesVersions() {
+            LocalDateTime earlier = LocalDateTime.of(2026, 1, 1, 9, 0);
+            LocalDateTime later = LocalDateTime.of(2026, 1, 2, 9, 0);
+            when(ledgerVersionRepository.findCurrent(List.of(LedgerVersionService.ACCOUNTS, LedgerVersionService.JOURNAL)))
+                    .thenReturn(List.of(new LedgerVersion(LedgerVersionService.ACCOUNTS, 3L, earlier),
+                            new LedgerVersion(LedgerVersionService.JOURNAL, 12L, later)));
+
+            LedgerVersionDTO version = ledgerVersionService.current(LedgerVersionService.ACCOUNTS, LedgerVersionService.JOURNAL);
+
+            assertThat(version.getEtag()).isEqualTo("\"accounts.3-journal.12\"");
+            assertThat(version.getLastModified()).isNotNull();
+            assertThat(version.getLastModifiedMillis()).isGreaterThan(0L);
+        }
+
+        @Test
+        @DisplayName("Should report version zero before anything has changed")
+        void current_NoCounters_ReturnsZero() {
+            when(ledgerVersionRepository.findCurrent(List.of(LedgerVersionService.INVOICES))).thenReturn(List.of());
+
+            LedgerVersionDTO version = ledgerVersionService.current(LedgerVersionService.INVOICES);
+
+            assertThat(version.getEtag()).isEqualTo("\"invoices.0\"");
+            assertThat(version.getLastModifiedMillis()).isEqualTo(-1L);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.accounting.service;
+
+import com.accounting.repository.InvoiceRepository;
+import com.accounting.repository.JournalEntryRepository;
+import com.accounting.repository.NumberSequenceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NumberSequenceService Unit Tests")
+class NumberSequenceServiceTest {
+
+    private static final LocalDate MARCH = LocalDate.of(2026, 3, 15);
+
+    @Mock
+    private NumberSequenceRepository numberSequenceRepository;
+
+    @Mock
+    private InvoiceRepository invoiceRepository;
+
+    @Mock
+    private JournalEntryRepository journalEntryRepository;
+
+    @InjectMocks
+    private NumberSequenceService numberSequenceService;
+
+    @Nested
+    @DisplayName("Allocate")
+    class Allocate {
+
+        @Test
+        @DisplayName("Should hand out the block ending at the incremented value")
+        void allocate_ExistingSequence_ReturnsBlock() {
+            when(numberSequenceRepository.increment("JE-202603", 3)).thenReturn(true);
+            when(numberSequenceRepository.findLastValue("JE-202603")).thenReturn(12);
+
+            List<String> numbers = numberSequenceService.allocate(NumberSequenceService.JOURNAL_ENTRY, MARCH, 3);
+
+            assertThat(numbers).containsExactly("JE-202603-0010", "JE-202603-0011", "JE-202603-0012");
+            verify(journalEntryRepository, never()).findMaxEntryNumberByPrefix(anyString());
+        }
+
+        @Test
+        @DisplayName("Should start a new month after numbers already in use")
+        void allocate_NewSequence_SeedsFromExistingNumbers() {
+            when(numberSequenceRepository.increment("INV-202603", 2)).thenReturn(false);
+            when(invoiceRepository.findMaxInvoiceNumberByPrefix("INV-202603")).thenReturn(4);
+            when(numberSequenceRepository.insert("INV-202603", 6)).thenReturn(true);
+            when(numberSequenceRepository.findLastValue("INV-202603")).thenReturn(6);
+
+            List<String> numbers = numberSequenceService.allocate(NumberSequenceService.INVOICE, MARCH, 2);
+
+            assertThat(numbers).containsExactly("INV-202603-0005", "INV-202603-0006");
+        }
+
+        @Test
+        @DisplayName("Should fall back to incrementing when another transaction created the row first")
+        void allocate_LostInsertRace_Increments() {
+            when(numberSequenceRepository.increment("JE-202603", 1)).thenReturn(false, true);
+            when(journalEntryRepository.findMaxEntryNumberByPrefix("JE-202603")).thenReturn(null);
+            when(numberSequenceRepository.insert("JE-202603", 1)).thenReturn(false);
+            when(numberSequenceRepository.findLastValue("JE-202603")).thenReturn(2);
+
+            List<String> numbers = numberSequenceService.allocate(NumberSequenceService.JOURNAL_ENTRY, MARCH, 1);
+
+            assertThat(numbers).containsExactly("JE-202603-0002");
+            verify(numberSequenceRepository, times(2)).increment("JE-202603", 1);
+        }
+    }
+}
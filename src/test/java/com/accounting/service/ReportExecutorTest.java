@@ -0,0 +1,116 @@
+package com.accounting.service;
+
+import com.accounting.exception.AccountingException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ReportExecutor Unit Tests")
+class ReportExecutorTest {
+
+    private final ExecutorService threads = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        threads.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("Map")
+    class Map {
+
+        @Test
+        @DisplayName("Should return results in input order")
+        void map_MultipleItems_PreservesOrder() {
+            ReportExecutor executor = new ReportExecutor(threads, 4, Duration.ofSeconds(1));
+
+            List<Integer> results = executor.map(List.of(5, 1, 3, 2), value -> {
+                sleep(value * 5L);
+                return value * 10;
+            });
+
+            assertThat(results).containsExactly(50, 10, 30, 20);
+            assertThat(executor.getAvailablePermits()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("Should never run more tasks than the connection budget allows")
+        void map_LimitedPermits_CapsConcurrency() {
+            ReportExecutor executor = new ReportExecutor(threads, 2, Duration.ofSeconds(5));
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger peak = new AtomicInteger();
+
+            executor.map(List.of(1, 2, 3, 4, 5, 6, 7, 8), value -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(10);
+                running.decrementAndGet();
+                return value;
+            });
+
+            assertThat(peak.get()).isLessThanOrEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should rethrow the task exception")
+        void map_TaskFails_RethrowsCause() {
+            ReportExecutor executor = new ReportExecutor(threads, 4, Duration.ofSeconds(1));
+
+            assertThatThrownBy(() -> executor.map(List.of(1, 2), value -> {
+                throw new AccountingException("Account not found: " + value);
+            }))
+                    .isInstanceOf(AccountingException.class)
+                    .hasMessageStartingWith("Account not found");
+            assertThat(executor.getAvailablePermits()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("Should fail fast when no capacity frees up in time")
+        void map_CapacityExhausted_ThrowsException() throws InterruptedException {
+            ReportExecutor executor = new ReportExecutor(threads, 1, Duration.ofMillis(50));
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            threads.submit(() -> executor.map(List.of(1), value -> {
+                started.countDown();
+                await(release);
+                return value;
+            }));
+            assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+            try {
+                assertThatThrownBy(() -> executor.map(List.of(1, 2), value -> value))
+                        .isInstanceOf(AccountingException.class)
+                        .hasMessageContaining("Report capacity exhausted");
+            } finally {
+                release.countDown();
+            }
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
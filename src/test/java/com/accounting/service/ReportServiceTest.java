@@ -1,12 +1,14 @@
 package com.accounting.service;
 
 import com.accounting.dto.BalanceSheetDTO;
+import com.accounting.dto.CurrencyBalanceDTO;
 import com.accounting.dto.DashboardDTO;
 import com.accounting.dto.ProfitLossDTO;
 import com.accounting.dto.TrialBalanceDTO;
 import com.accounting.model.*;
+import com.accounting.projection.AccountBalanceProjection;
+import com.accounting.projection.ReceivableProjection;
 import com.accounting.repository.AccountRepository;
-import com.accounting.repository.InvoiceRepository;
 import com.accounting.repository.JournalEntryRepository;
 import com.accounting.util.TestDataBuilder;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,12 +18,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -44,7 +50,19 @@ class ReportServiceTest {
     private JournalEntryRepository journalEntryRepository;
 
     @Mock
-    private InvoiceRepository invoiceRepository;
+    private AccountBalanceProjection accountBalanceProjection;
+
+    @Mock
+    private ReceivableProjection receivableProjection;
+
+    @Mock
+    private ExchangeRateService exchangeRateService;
+
+    @Mock
+    private FiscalYearService fiscalYearService;
+
+    @Spy
+    private ReportExecutor reportExecutor = new ReportExecutor(Runnable::run, 2, Duration.ofSeconds(1));
 
     @InjectMocks
     private ReportService reportService;
@@ -135,6 +153,26 @@ class ReportServiceTest {
             assertThat(result.getTotalCredit()).isEqualByComparingTo(BigDecimal.valueOf(5000));
             assertThat(result.isBalanced()).isTrue();
         }
+
+        @Test
+        @DisplayName("Should start balances from the latest closing snapshot")
+        void generateTrialBalance_AfterYearEndClose_StartsFromSnapshot() {
+            LocalDate closedThrough = LocalDate.of(2024, 12, 31);
+            LocalDate asOfDate = LocalDate.of(2025, 3, 31);
+            when(accountRepository.findAllActive()).thenReturn(Arrays.asList(cashAccount, equityAccount));
+            when(fiscalYearService.findSnapshot(asOfDate)).thenReturn(Optional.of(new FiscalYearService.ClosingSnapshot(
+                    closedThrough, Map.of(1L, BigDecimal.valueOf(4000), 6L, BigDecimal.valueOf(-4000)))));
+            when(accountService.getBalanceBetweenDates(1L, closedThrough.plusDays(1), asOfDate))
+                    .thenReturn(BigDecimal.valueOf(500));
+            when(accountService.getBalanceBetweenDates(6L, closedThrough.plusDays(1), asOfDate))
+                    .thenReturn(BigDecimal.valueOf(500));
+
+            TrialBalanceDTO result = reportService.generateTrialBalance(asOfDate);
+
+            assertThat(result.getTotalDebit()).isEqualByComparingTo(BigDecimal.valueOf(4500));
+            assertThat(result.getTotalCredit()).isEqualByComparingTo(BigDecimal.valueOf(4500));
+            verify(accountService, never()).getBalanceAsOfDate(anyLong(), any());
+        }
     }
 
     @Nested
@@ -187,6 +225,29 @@ class ReportServiceTest {
             assertThat(result.isProfitable()).isFalse();
         }
 
+        @Test
+        @DisplayName("Should exclude year-end closing entries from a closed year")
+        void generateProfitLoss_ClosedYear_ExcludesClosingEntry() {
+            LocalDate startDate = LocalDate.of(2024, 1, 1);
+            LocalDate endDate = LocalDate.of(2024, 12, 31);
+
+            when(accountRepository.findActiveByType(AccountType.REVENUE))
+                    .thenReturn(Arrays.asList(revenueAccount));
+            when(accountRepository.findActiveByType(AccountType.EXPENSE))
+                    .thenReturn(Arrays.asList(expenseAccount));
+            when(accountService.getBalanceBetweenDates(4L, startDate, endDate)).thenReturn(BigDecimal.ZERO);
+            when(accountService.getBalanceBetweenDates(5L, startDate, endDate)).thenReturn(BigDecimal.ZERO);
+            // Closing debited revenue by 10000 and credited expenses by 3000
+            when(fiscalYearService.getClosingAmounts(startDate, endDate))
+                    .thenReturn(Map.of(4L, BigDecimal.valueOf(10000), 5L, BigDecimal.valueOf(-3000)));
+
+            ProfitLossDTO result = reportService.generateProfitLoss(startDate, endDate);
+
+            assertThat(result.getTotalRevenue()).isEqualByComparingTo(BigDecimal.valueOf(10000));
+            assertThat(result.getTotalExpenses()).isEqualByComparingTo(BigDecimal.valueOf(3000));
+            assertThat(result.getNetIncome()).isEqualByComparingTo(BigDecimal.valueOf(7000));
+        }
+
         @Test
         @DisplayName("Should exclude zero balance accounts from P&L")
         void generateProfitLoss_ExcludesZeroBalanceAccounts() {
@@ -283,40 +344,168 @@ class ReportServiceTest {
     }
 
     @Nested
-    @DisplayName("Dashboard Report")
-    class DashboardReport {
+    @DisplayName("Presentation Currency")
+    class PresentationCurrency {
+
+        private static final LocalDate OPENED = LocalDate.of(2024, 1, 15);
+        private static final LocalDate YEAR_END = LocalDate.of(2024, 12, 31);
+
+        private Currency euro;
+        private Currency pound;
+
+        @BeforeEach
+        void setUp() {
+            Currency dollar = TestDataBuilder.createBaseCurrency();
+            euro = TestDataBuilder.createForeignCurrency();
+            pound = TestDataBuilder.createCurrency(3L, "GBP", "British Pound", false);
+            pound.setExchangeRate(new BigDecimal("0.80"));
+
+            // EUR moves from 1.10 to 1.20 per USD on 1 June; GBP stays at 0.80
+            ExchangeRateService.RateTable rates = new ExchangeRateService.RateTable(List.of(dollar, euro, pound), List.of(
+                    new ExchangeRate(1L, euro, LocalDate.of(2024, 1, 1), new BigDecimal("1.10"), null),
+                    new ExchangeRate(2L, euro, LocalDate.of(2024, 6, 1), new BigDecimal("1.20"), null)));
+            lenient().when(exchangeRateService.translation(3L)).thenAnswer(i -> new ExchangeRateService.Translation(rates, 2));
+        }
+
+        private CurrencyBalanceDTO balance(Currency currency, LocalDate firstEntryDate, String amount, String currencyAmount) {
+            return new CurrencyBalanceDTO(currency != null ? currency.getId() : null, firstEntryDate,
+                    new BigDecimal(amount), new BigDecimal(currencyAmount));
+        }
 
         @Test
-        @DisplayName("Should generate dashboard with all metrics")
-        void generateDashboard_ReturnsAllMetrics() {
-            when(accountRepository.findActiveByType(AccountType.ASSET))
-                    .thenReturn(Arrays.asList(cashAccount, arAccount));
-            when(accountRepository.findActiveByType(AccountType.LIABILITY))
-                    .thenReturn(Arrays.asList(apAccount));
-            when(accountRepository.findActiveByType(AccountType.EQUITY))
-                    .thenReturn(Arrays.asList(equityAccount));
-            when(accountRepository.findActiveByType(AccountType.REVENUE))
-                    .thenReturn(Arrays.asList(revenueAccount));
-            when(accountRepository.findActiveByType(AccountType.EXPENSE))
-                    .thenReturn(Arrays.asList(expenseAccount));
+        @DisplayName("Should translate balance sheet items at the closing rate and P&L items at the average rate")
+        void generateTrialBalance_TranslatesEachCurrencyAggregateOnce() {
+            when(accountRepository.findAllActive()).thenReturn(Arrays.asList(cashAccount, revenueAccount));
+            when(accountService.getCurrencyBalancesBetweenDates(1L, FiscalYear.START_OF_TIME, YEAR_END))
+                    .thenReturn(List.of(balance(null, OPENED, "1000.00", "1000.00"),
+                            balance(euro, OPENED, "100.00", "110.00")));
+            when(accountService.getCurrencyBalancesBetweenDates(4L, FiscalYear.START_OF_TIME, YEAR_END))
+                    .thenReturn(List.of(balance(null, OPENED, "-1000.00", "-1000.00"),
+                            balance(euro, OPENED, "-100.00", "-110.00")));
+
+            TrialBalanceDTO result = reportService.generateTrialBalance(YEAR_END, pound);
+
+            assertThat(result.getCurrencyCode()).isEqualTo("GBP");
+            // Cash: 1000 USD x 0.80 + 110 EUR x 0.80 / 1.20
+            assertThat(result.getLines().get(0).getDebitBalance()).isEqualByComparingTo("873.33");
+            // Revenue: 1000 USD x 0.80 + 110 EUR at the day-weighted average EUR/GBP rate since 15 January
+            assertThat(result.getLines().get(1).getCreditBalance()).isEqualByComparingTo("875.95");
+            assertThat(result.getLines().get(2).getAccountCode()).isEqualTo(ReportService.TRANSLATION_ADJUSTMENT_CODE);
+            assertThat(result.getLines().get(2).getDebitBalance()).isEqualByComparingTo("2.62");
+            assertThat(result.isBalanced()).isTrue();
+            verify(accountService, never()).getBalanceAsOfDate(anyLong(), any());
+        }
 
-            when(accountService.getBalance(1L)).thenReturn(BigDecimal.valueOf(10000));
-            when(accountService.getBalance(2L)).thenReturn(BigDecimal.valueOf(5000));
-            when(accountService.getBalance(3L)).thenReturn(BigDecimal.valueOf(3000));
-            when(accountService.getBalance(6L)).thenReturn(BigDecimal.valueOf(12000));
+        @Test
+        @DisplayName("Should translate equity at historical rates and balance with a translation adjustment")
+        void generateBalanceSheet_TranslatesEquityAtHistoricalRates() {
+            when(accountRepository.findActiveByType(AccountType.ASSET)).thenReturn(List.of(cashAccount));
+            when(accountRepository.findActiveByType(AccountType.LIABILITY)).thenReturn(Collections.emptyList());
+            when(accountRepository.findActiveByType(AccountType.EQUITY)).thenReturn(List.of(equityAccount));
+            when(accountRepository.findActiveByType(AccountType.REVENUE)).thenReturn(Collections.emptyList());
+            when(accountRepository.findActiveByType(AccountType.EXPENSE)).thenReturn(Collections.emptyList());
+            when(accountService.getCurrencyBalancesBetweenDates(1L, FiscalYear.START_OF_TIME, YEAR_END))
+                    .thenReturn(List.of(balance(euro, OPENED, "1000.00", "1100.00")));
+            when(accountService.getDailyCurrencyBalancesBetweenDates(6L, FiscalYear.START_OF_TIME, YEAR_END))
+                    .thenReturn(List.of(balance(euro, OPENED, "-1000.00", "-1100.00")));
+
+            BalanceSheetDTO result = reportService.generateBalanceSheet(YEAR_END, pound);
+
+            // Cash at the closing rate 0.80 / 1.20, equity at the contribution-date rate 0.80 / 1.10
+            assertThat(result.getTotalAssets()).isEqualByComparingTo("733.33");
+            assertThat(result.getTotalEquity()).isEqualByComparingTo("800.00");
+            assertThat(result.getTranslationAdjustment()).isEqualByComparingTo("-66.67");
+            assertThat(result.isBalanced()).isTrue();
+        }
 
-            when(accountService.getBalanceBetweenDates(eq(4L), any(), any()))
-                    .thenReturn(BigDecimal.valueOf(20000));
-            when(accountService.getBalanceBetweenDates(eq(5L), any(), any()))
-                    .thenReturn(BigDecimal.valueOf(8000));
+        @Test
+        @DisplayName("Should keep unclosed prior-year earnings in retained earnings and derive the adjustment from rates")
+        void generateBalanceSheet_PriorYearEarnings_StayInRetainedEarnings() {
+            LocalDate asOfDate = LocalDate.of(2025, 6, 30);
+            when(accountRepository.findActiveByType(AccountType.ASSET)).thenReturn(List.of(cashAccount));
+            when(accountRepository.findActiveByType(AccountType.LIABILITY)).thenReturn(Collections.emptyList());
+            when(accountRepository.findActiveByType(AccountType.EQUITY)).thenReturn(Collections.emptyList());
+            when(accountRepository.findActiveByType(AccountType.REVENUE)).thenReturn(List.of(revenueAccount));
+            when(accountRepository.findActiveByType(AccountType.EXPENSE)).thenReturn(Collections.emptyList());
+            when(accountService.getCurrencyBalancesBetweenDates(1L, FiscalYear.START_OF_TIME, asOfDate))
+                    .thenReturn(List.of(balance(euro, OPENED, "100.00", "110.00")));
+            when(accountService.getCurrencyBalancesBetweenDates(4L, FiscalYear.START_OF_TIME, asOfDate))
+                    .thenReturn(List.of(balance(euro, OPENED, "-100.00", "-110.00")));
+
+            BalanceSheetDTO result = reportService.generateBalanceSheet(asOfDate, pound);
+
+            // 2024 revenue was never closed, so it belongs in retained earnings at its average rate
+            assertThat(result.getTotalAssets()).isEqualByComparingTo("73.33");
+            assertThat(result.getRetainedEarnings()).isGreaterThan(new BigDecimal("73.33"));
+            assertThat(result.getTranslationAdjustment())
+                    .isEqualByComparingTo(new BigDecimal("73.33").subtract(result.getRetainedEarnings()));
+            assertThat(result.isBalanced()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should continue from the per-currency balances at the latest close")
+        void generateTrialBalance_AfterYearEndClose_StartsFromCurrencySnapshot() {
+            LocalDate asOfDate = LocalDate.of(2025, 6, 30);
+            LocalDate from = YEAR_END.plusDays(1);
+            when(fiscalYearService.findCurrencySnapshot(asOfDate)).thenReturn(Optional.of(
+                    new FiscalYearService.CurrencySnapshot(YEAR_END, Map.of(
+                            cashAccount.getId(), List.of(balance(euro, OPENED, "100.00", "110.00")),
+                            equityAccount.getId(), List.of(balance(euro, OPENED, "-100.00", "-110.00"))))));
+            when(accountRepository.findAllActive()).thenReturn(List.of(cashAccount, revenueAccount, equityAccount));
+            when(accountService.getCurrencyBalancesBetweenDates(1L, from, asOfDate))
+                    .thenReturn(List.of(balance(euro, LocalDate.of(2025, 2, 1), "50.00", "60.00")));
+            when(accountService.getCurrencyBalancesBetweenDates(4L, from, asOfDate))
+                    .thenReturn(List.of(balance(euro, LocalDate.of(2025, 2, 1), "-50.00", "-60.00")));
+            when(accountService.getDailyCurrencyBalancesBetweenDates(6L, from, asOfDate)).thenReturn(List.of());
+
+            TrialBalanceDTO result = reportService.generateTrialBalance(asOfDate, pound);
+
+            // Cash: 170 EUR at the closing rate; revenue since the close at its average; equity at the 1.10 it was paid in at
+            assertThat(result.getLines().get(0).getDebitBalance()).isEqualByComparingTo("113.33");
+            assertThat(result.getLines().get(1).getCreditBalance()).isEqualByComparingTo("40.00");
+            assertThat(result.getLines().get(2).getCreditBalance()).isEqualByComparingTo("80.00");
+            assertThat(result.isBalanced()).isTrue();
+            verify(accountService, never()).getCurrencyBalancesBetweenDates(anyLong(), eq(FiscalYear.START_OF_TIME), any());
+            verify(accountService, never()).getDailyCurrencyBalancesBetweenDates(anyLong(), eq(FiscalYear.START_OF_TIME), any());
+        }
+
+        @Test
+        @DisplayName("Should use the untranslated report for the base currency")
+        void generateTrialBalance_BaseCurrency_UsesLedgerAmounts() {
+            LocalDate asOfDate = LocalDate.now();
+            when(accountRepository.findAllActive()).thenReturn(List.of(cashAccount));
+            when(accountService.getBalanceAsOfDate(1L, asOfDate)).thenReturn(BigDecimal.valueOf(1000));
+
+            TrialBalanceDTO result = reportService.generateTrialBalance(asOfDate, TestDataBuilder.createBaseCurrency());
+
+            assertThat(result.getCurrencyCode()).isNull();
+            assertThat(result.getTotalDebit()).isEqualByComparingTo("1000");
+            verifyNoInteractions(exchangeRateService);
+        }
+    }
 
-            when(accountRepository.findByCode("1000")).thenReturn(Optional.of(cashAccount));
-            when(accountRepository.findByCode("1200")).thenReturn(Optional.of(arAccount));
-            when(accountRepository.findByCode("2000")).thenReturn(Optional.of(apAccount));
+    @Nested
+    @DisplayName("Dashboard Report")
+    class DashboardReport {
 
+        private AccountBalanceProjection.AccountTotals totals(Account account, long balance, long periodBalance) {
+            return new AccountBalanceProjection.AccountTotals(account.getId(), account.getCode(), account.getAccountType(),
+                    account.getIsActive(), BigDecimal.valueOf(balance), BigDecimal.valueOf(periodBalance));
+        }
+
+        @Test
+        @DisplayName("Should generate dashboard with all metrics from the projections")
+        void generateDashboard_ReturnsAllMetrics() {
+            when(accountBalanceProjection.findAccountTotals(any(), any())).thenReturn(List.of(
+                    totals(cashAccount, 10000, 1000),
+                    totals(arAccount, 5000, 500),
+                    totals(apAccount, 3000, 300),
+                    totals(equityAccount, 12000, 0),
+                    totals(revenueAccount, 50000, 20000),
+                    totals(expenseAccount, 30000, 8000)));
             when(journalEntryRepository.countByStatus(EntryStatus.DRAFT)).thenReturn(5L);
-            when(invoiceRepository.findOverdueInvoices(any())).thenReturn(Collections.emptyList());
-            when(invoiceRepository.sumTotalByStatus(InvoiceStatus.OVERDUE)).thenReturn(BigDecimal.valueOf(2500));
+            when(receivableProjection.findOverdue(any()))
+                    .thenReturn(new ReceivableProjection.Overdue(2L, BigDecimal.valueOf(2500)));
 
             DashboardDTO result = reportService.generateDashboard();
 
@@ -330,16 +519,38 @@ class ReportServiceTest {
             assertThat(result.getAccountsReceivable()).isEqualByComparingTo(BigDecimal.valueOf(5000));
             assertThat(result.getAccountsPayable()).isEqualByComparingTo(BigDecimal.valueOf(3000));
             assertThat(result.getPendingJournalEntries()).isEqualTo(5L);
+            assertThat(result.getOverdueInvoices()).isEqualTo(2L);
+            assertThat(result.getOverdueAmount()).isEqualByComparingTo(BigDecimal.valueOf(2500));
+            verifyNoInteractions(accountService);
+        }
+
+        @Test
+        @DisplayName("Should leave inactive accounts and closing entries out of the totals")
+        void generateDashboard_InactiveAccountsAndClosing_Excluded() {
+            Account inactive = TestDataBuilder.createAccount(7L, "1010", "Petty Cash", AccountType.ASSET);
+            inactive.setIsActive(false);
+            when(fiscalYearService.getClosingAmounts(any(), any()))
+                    .thenReturn(Map.of(revenueAccount.getId(), BigDecimal.valueOf(4000)));
+            when(accountBalanceProjection.findAccountTotals(any(), any())).thenReturn(List.of(
+                    totals(cashAccount, 10000, 1000),
+                    totals(inactive, 700, 0),
+                    totals(revenueAccount, 0, 0)));
+            when(receivableProjection.findOverdue(any()))
+                    .thenReturn(new ReceivableProjection.Overdue(0L, BigDecimal.ZERO));
+
+            DashboardDTO result = reportService.generateDashboard();
+
+            assertThat(result.getTotalAssets()).isEqualByComparingTo(BigDecimal.valueOf(10000));
+            assertThat(result.getTotalRevenue()).isEqualByComparingTo(BigDecimal.valueOf(4000));
         }
 
         @Test
         @DisplayName("Should handle missing standard accounts gracefully")
         void generateDashboard_MissingAccounts_HandlesGracefully() {
-            when(accountRepository.findActiveByType(any())).thenReturn(Collections.emptyList());
-            when(accountRepository.findByCode(anyString())).thenReturn(Optional.empty());
+            when(accountBalanceProjection.findAccountTotals(any(), any())).thenReturn(Collections.emptyList());
             when(journalEntryRepository.countByStatus(EntryStatus.DRAFT)).thenReturn(0L);
-            when(invoiceRepository.findOverdueInvoices(any())).thenReturn(Collections.emptyList());
-            when(invoiceRepository.sumTotalByStatus(InvoiceStatus.OVERDUE)).thenReturn(null);
+            when(receivableProjection.findOverdue(any()))
+                    .thenReturn(new ReceivableProjection.Overdue(0L, BigDecimal.ZERO));
 
             DashboardDTO result = reportService.generateDashboard();
 
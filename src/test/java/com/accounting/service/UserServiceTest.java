@@ -5,6 +5,7 @@ import com.accounting.model.Role;
 import com.accounting.model.User;
 import com.accounting.repository.RoleRepository;
 import com.accounting.repository.UserRepository;
+import com.accounting.security.AuthenticationCache;
 import com.accounting.util.TestDataBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -41,6 +42,9 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private AuthenticationCache authenticationCache;
+
     @InjectMocks
     private UserService userService;
 
@@ -228,6 +232,7 @@ class UserServiceTest {
 
             assertThat(result.getEmail()).isEqualTo("updated@example.com");
             assertThat(result.getFullName()).isEqualTo("Updated Name");
+            verify(authenticationCache).evict("testuser");
         }
 
         @Test
@@ -284,7 +289,9 @@ class UserServiceTest {
             userService.changePassword(1L, "newPassword");
 
             assertThat(testUser.getPassword()).isEqualTo("newEncodedPassword");
+            assertThat(testUser.getTokenVersion()).isEqualTo(1L);
             verify(passwordEncoder).encode("newPassword");
+            verify(authenticationCache).evict(testUser.getUsername());
         }
 
         @Test
@@ -312,6 +319,8 @@ class UserServiceTest {
             userService.changeRole(1L, "ADMIN");
 
             assertThat(testUser.getRole()).isEqualTo(adminRole);
+            assertThat(testUser.getTokenVersion()).isEqualTo(1L);
+            verify(authenticationCache).evict(testUser.getUsername());
         }
 
         @Test
@@ -376,6 +385,8 @@ class UserServiceTest {
             userService.disableUser(1L);
 
             assertThat(testUser.getEnabled()).isFalse();
+            assertThat(testUser.getTokenVersion()).isEqualTo(1L);
+            verify(authenticationCache).evict(testUser.getUsername());
         }
 
         @Test
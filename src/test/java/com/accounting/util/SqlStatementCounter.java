@@ -0,0 +1,35 @@
+package com.accounting.util;
+
+import com.accounting.metrics.RequestStatistics;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class SqlStatementCounter {
+
+    public static RequestStatistics record(Runnable action) {
+        RequestStatistics statistics = new RequestStatistics();
+        RequestStatistics previous = RequestStatistics.bind(statistics);
+        try {
+            action.run();
+        } finally {
+            RequestStatistics.bind(previous);
+        }
+        return statistics;
+    }
+
+    public static void assertStatementCount(long expected, Runnable action) {
+        RequestStatistics statistics = record(action);
+        if (statistics.getStatements() != expected) {
+            throw new AssertionError("Expected " + expected + " SQL statements but " + statistics.getStatements()
+                    + " were executed:\n" + describe(statistics));
+        }
+    }
+
+    private static String describe(RequestStatistics statistics) {
+        return statistics.getStatementCounts().entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .map(entry -> "  " + entry.getValue() + "x " + entry.getKey())
+                .collect(Collectors.joining("\n"));
+    }
+}
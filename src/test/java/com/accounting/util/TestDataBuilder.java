@@ -94,6 +94,16 @@ public class TestDataBuilder {
         return entry;
     }
 
+    public static JournalEntry createBalancedJournalEntry(String entryNumber, LocalDate entryDate, EntryStatus status,
+            Account debitAccount, Account creditAccount, BigDecimal amount) {
+        JournalEntry entry = createJournalEntry(null, entryNumber, status);
+        entry.setEntryDate(entryDate);
+        entry.setPostedAt(status == EntryStatus.POSTED ? LocalDateTime.now() : null);
+        entry.addLine(createJournalEntryLine(null, debitAccount, amount, BigDecimal.ZERO));
+        entry.addLine(createJournalEntryLine(null, creditAccount, BigDecimal.ZERO, amount));
+        return entry;
+    }
+
     public static JournalEntryDTO createJournalEntryDTO(Long debitAccountId, Long creditAccountId,
             BigDecimal amount) {
         JournalEntryDTO dto = new JournalEntryDTO();